@@ -5,7 +5,6 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
-import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -26,10 +25,6 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 		"com.heungbuja.song.repository.mongo", // <-- 수정된 경로
 		"com.heungbuja.game.repository.mongo"
 })
-@EnableRedisRepositories(basePackages = {
-		"com.heungbuja.context.repository", // <-- Redis Repository가 있는 실제 경로로 수정 필요
-		"com.heungbuja.session"
-})
 @EnableScheduling
 public class HeungbujaBeApplication {
 
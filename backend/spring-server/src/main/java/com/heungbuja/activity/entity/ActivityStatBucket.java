@@ -0,0 +1,45 @@
+package com.heungbuja.activity.entity;
+
+import com.heungbuja.activity.enums.ActivityType;
+import com.heungbuja.activity.enums.StatGranularity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 활동 통계 버킷 (시간별 / 일별 집계)
+ * 쓰기는 ActivityStatBucketService의 JDBC upsert로만 수행
+ */
+@Entity
+@Table(name = "user_activity_stat_buckets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_bucket",
+                columnNames = {"granularity", "bucket_start", "user_id", "activity_type"}),
+        indexes = @Index(name = "idx_user_bucket", columnList = "user_id, granularity, bucket_start"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ActivityStatBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private StatGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "activity_type", nullable = false, length = 30)
+    private ActivityType activityType;
+
+    @Column(name = "activity_count", nullable = false)
+    private Long activityCount;
+}
@@ -0,0 +1,33 @@
+package com.heungbuja.activity.enums;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 활동 통계 버킷 단위
+ */
+public enum StatGranularity {
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    StatGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * 시각이 속한 버킷의 시작 시각
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    /**
+     * 시각 이후 첫 버킷 경계 (경계 위면 그대로)
+     */
+    public LocalDateTime ceil(LocalDateTime time) {
+        LocalDateTime truncated = truncate(time);
+        return truncated.equals(time) ? time : truncated.plus(1, unit);
+    }
+}
@@ -0,0 +1,47 @@
+package com.heungbuja.activity.repository;
+
+import com.heungbuja.activity.entity.ActivityStatBucket;
+import com.heungbuja.activity.enums.StatGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 활동 통계 버킷 Repository (조회 전용)
+ */
+@Repository
+public interface ActivityStatBucketRepository extends JpaRepository<ActivityStatBucket, Long> {
+
+    /**
+     * 활동 타입별 버킷 합계
+     */
+    @Query("SELECT b.activityType, SUM(b.activityCount) " +
+            "FROM ActivityStatBucket b " +
+            "WHERE b.granularity = :granularity " +
+            "AND b.bucketStart >= :startDate AND b.bucketStart < :endDate " +
+            "GROUP BY b.activityType")
+    List<Object[]> sumByActivityType(
+            @Param("granularity") StatGranularity granularity,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * 특정 사용자의 활동 타입별 버킷 합계
+     */
+    @Query("SELECT b.activityType, SUM(b.activityCount) " +
+            "FROM ActivityStatBucket b " +
+            "WHERE b.userId = :userId AND b.granularity = :granularity " +
+            "AND b.bucketStart >= :startDate AND b.bucketStart < :endDate " +
+            "GROUP BY b.activityType")
+    List<Object[]> sumByUserAndActivityType(
+            @Param("userId") Long userId,
+            @Param("granularity") StatGranularity granularity,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+}
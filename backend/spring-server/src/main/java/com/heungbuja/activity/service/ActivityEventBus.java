@@ -0,0 +1,471 @@
+package com.heungbuja.activity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heungbuja.activity.enums.ActivityType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 활동 로그 / 음성 명령 로그 비동기 일괄 저장
+ *
+ * 음성 명령 처리 중에는 이벤트를 큐에 넣기만 하고, 단일 writer 스레드가 모아서 JDBC batch insert로 저장한다.
+ * (datasource URL의 rewriteBatchedStatements=true로 multi-row INSERT 한 번에 전송)
+ * - flush: batch-size개가 모이거나 flush-interval-ms가 지나면
+ * - 역압: 큐가 high-watermark를 넘으면 저가치 이벤트(음악 제어/모드 변경/인식 불가)는 사용자·내용별로 하나로 합침
+ * - 통계: 활동 로그와 같은 트랜잭션에서 시간별/일별 버킷 upsert (ActivityStatBucketService)
+ * - 유실 방지: 큐가 가득 찼거나 DB 저장에 실패한 이벤트, 종료 시 남은 이벤트는 spill 파일에 기록 → 다음 시작 시 다시 저장
+ *   큐가 가득 찬 이벤트는 overflow 큐에 넘기고 writer 스레드가 spill한다. (요청 스레드에서 fsync 하지 않음)
+ * - 불량 행: 제약 위반(삭제된 사용자, 요약 길이 초과 등)으로 batch가 실패하면 한 건씩 다시 저장하고,
+ *   그래도 실패한 행만 dead-letter 파일에 남긴다. (spill → 복구 → spill 반복 방지)
+ *
+ * enabled=false면 호출 스레드에서 바로 저장한다. (비동기 저장 효과 비교용)
+ */
+@Slf4j
+@Component
+public class ActivityEventBus {
+
+    private static final String INSERT_ACTIVITY_LOG_SQL =
+            "INSERT INTO user_activity_logs (user_id, activity_type, activity_summary, created_at) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_VOICE_COMMAND_SQL =
+            "INSERT INTO voice_commands (user_id, raw_text, intent, created_at) VALUES (?, ?, ?, ?)";
+
+    /** 역압 시 합쳐도 되는 활동 타입 */
+    private static final Set<String> LOW_VALUE_ACTIVITY_TYPES = Set.of(
+            ActivityType.MUSIC_CONTROL.name(), ActivityType.MODE_CHANGE.name(), ActivityType.UNKNOWN.name());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ActivityStatBucketService statBucketService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${activity.event-bus.enabled:true}")
+    private boolean enabled;
+
+    @Value("${activity.event-bus.queue-capacity:10000}")
+    private int queueCapacity;
+
+    /** 이 비율 이상 차면 저가치 이벤트를 합침 */
+    @Value("${activity.event-bus.coalesce-watermark:0.8}")
+    private double coalesceWatermark;
+
+    @Value("${activity.event-bus.batch-size:200}")
+    private int batchSize;
+
+    @Value("${activity.event-bus.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${activity.event-bus.spill-path:./activity-spill.jsonl}")
+    private String spillPath;
+
+    /** 다시 저장해도 실패할 행 (복구 대상 아님, 확인용) */
+    @Value("${activity.event-bus.dead-letter-path:./activity-dead-letter.jsonl}")
+    private String deadLetterPath;
+
+    /** 큐가 가득 찼을 때 writer 스레드가 spill할 이벤트 최대 개수 (넘으면 버림) */
+    @Value("${activity.event-bus.overflow-capacity:10000}")
+    private int overflowCapacity;
+
+    @Value("${activity.event-bus.shutdown-timeout-ms:5000}")
+    private long shutdownTimeoutMs;
+
+    private BlockingQueue<ActivityEvent> queue;
+    /** 역압 중 합쳐진 저가치 이벤트 (같은 키는 처음 것만 유지) */
+    private final Map<String, ActivityEvent> coalesced = new ConcurrentHashMap<>();
+    /** 큐가 가득 차 spill 파일로 보낼 이벤트 */
+    private final ConcurrentLinkedQueue<ActivityEvent> overflow = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger overflowSize = new AtomicInteger();
+    /** spill / dead-letter 파일 쓰기 (writer 스레드, 종료 스레드) */
+    private final ReentrantLock fileLock = new ReentrantLock();
+    private Thread writer;
+    private volatile boolean running;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder spilledCount = new LongAdder();
+    private final LongAdder deadLetterCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+
+    public ActivityEventBus(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                            ActivityStatBucketService statBucketService,
+                            PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.statBucketService = statBucketService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void start() {
+        replaySpillFile();
+        if (!enabled) {
+            log.info("활동 로그 비동기 저장 비활성화 (동기 저장)");
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::runWriter, "activity-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("활동 로그 writer 시작: queueCapacity={}, batchSize={}, flushIntervalMs={}",
+                queueCapacity, batchSize, flushIntervalMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.interrupt();
+        try {
+            writer.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 시간 안에 저장하지 못한 이벤트는 다음 시작 시 저장
+        List<ActivityEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        drainCoalesced(remaining);
+        drainOverflow(remaining);
+        if (!remaining.isEmpty()) {
+            spill(remaining);
+        }
+        log.info("활동 로그 writer 종료: published={}, written={}, coalesced={}, spilled={}, deadLetter={}, dropped={}",
+                published.sum(), written.sum(), coalescedCount.sum(), spilledCount.sum(),
+                deadLetterCount.sum(), droppedCount.sum());
+    }
+
+    // ===== 발행 =====
+
+    /**
+     * 활동 로그 (관리자 페이지용 익명화 요약)
+     */
+    public void publishActivity(Long userId, ActivityType activityType, String summary) {
+        publish(new ActivityEvent(ActivityEvent.Kind.ACTIVITY, userId, activityType.name(), summary, LocalDateTime.now()));
+    }
+
+    /**
+     * 음성 명령 원문 로그
+     */
+    public void publishVoiceCommand(Long userId, String rawText, String intent) {
+        publish(new ActivityEvent(ActivityEvent.Kind.VOICE_COMMAND, userId, intent, rawText, LocalDateTime.now()));
+    }
+
+    private void publish(ActivityEvent event) {
+        published.increment();
+        if (!enabled) {
+            write(List.of(event));
+            return;
+        }
+
+        if (event.isLowValue() && queue.size() >= queueCapacity * coalesceWatermark) {
+            coalesced.putIfAbsent(event.coalesceKey(), event);
+            coalescedCount.increment();
+            return;
+        }
+        if (!queue.offer(event)) {
+            if (overflowSize.incrementAndGet() > overflowCapacity) {
+                overflowSize.decrementAndGet();
+                droppedCount.increment();
+                log.warn("활동 로그 큐와 overflow 모두 가득 참, 유실: kind={}, userId={}", event.kind(), event.userId());
+                return;
+            }
+            overflow.add(event);
+        }
+    }
+
+    // ===== writer =====
+
+    private void runWriter() {
+        List<ActivityEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty() || !overflow.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // 종료 신호: 남은 큐는 아래에서 한 번 더 모아 저장
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+            drainCoalesced(batch);
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+            spillOverflow();
+        }
+    }
+
+    /**
+     * batchSize개가 모이거나 flushIntervalMs가 지날 때까지 수집
+     */
+    private void collect(List<ActivityEvent> batch) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + flushIntervalMs;
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return;
+            }
+            ActivityEvent event = queue.poll(remaining, TimeUnit.MILLISECONDS);
+            if (event == null) {
+                return;
+            }
+            batch.add(event);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    private void drainCoalesced(List<ActivityEvent> batch) {
+        if (coalesced.isEmpty()) {
+            return;
+        }
+        for (String key : coalesced.keySet()) {
+            ActivityEvent event = coalesced.remove(key);
+            if (event != null) {
+                batch.add(event);
+            }
+        }
+    }
+
+    private void drainOverflow(List<ActivityEvent> events) {
+        ActivityEvent event;
+        while ((event = overflow.poll()) != null) {
+            overflowSize.decrementAndGet();
+            events.add(event);
+        }
+    }
+
+    private void spillOverflow() {
+        if (overflow.isEmpty()) {
+            return;
+        }
+        List<ActivityEvent> events = new ArrayList<>();
+        drainOverflow(events);
+        log.warn("활동 로그 큐 가득 참, spill 파일에 기록: count={}", events.size());
+        spill(events);
+    }
+
+    private void flush(List<ActivityEvent> batch) {
+        try {
+            write(batch);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("활동 로그 일괄 저장 중 제약 위반, 한 건씩 다시 저장: count={}, error={}",
+                    batch.size(), e.getMostSpecificCause().getMessage());
+            writeEach(batch);
+        } catch (Exception e) {
+            log.error("활동 로그 일괄 저장 실패, spill 파일에 기록: count={}, error={}", batch.size(), e.getMessage());
+            spill(batch);
+        }
+    }
+
+    /**
+     * 한 건씩 저장: 제약 위반 행은 dead-letter, 그 외 오류(DB 연결 등)가 나면 남은 행을 spill
+     */
+    private void writeEach(List<ActivityEvent> batch) {
+        List<DeadLetter> rejected = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            ActivityEvent event = batch.get(i);
+            try {
+                write(List.of(event));
+            } catch (DataIntegrityViolationException e) {
+                rejected.add(new DeadLetter(event, e.getMostSpecificCause().getMessage(), LocalDateTime.now()));
+            } catch (Exception e) {
+                log.error("활동 로그 저장 실패, 남은 {}건 spill 파일에 기록: error={}", batch.size() - i, e.getMessage());
+                spill(batch.subList(i, batch.size()));
+                break;
+            }
+        }
+        if (!rejected.isEmpty()) {
+            log.error("활동 로그 {}건 저장 불가, dead-letter 파일에 기록: path={}", rejected.size(), deadLetterPath);
+            if (append(deadLetterPath, rejected)) {
+                deadLetterCount.add(rejected.size());
+            }
+        }
+    }
+
+    private void write(List<ActivityEvent> events) {
+        List<Object[]> activityRows = new ArrayList<>();
+        List<Object[]> voiceCommandRows = new ArrayList<>();
+        for (ActivityEvent event : events) {
+            Object[] row = {event.userId(), event.type(), event.text(), Timestamp.valueOf(event.createdAt())};
+            if (event.kind() == ActivityEvent.Kind.ACTIVITY) {
+                activityRows.add(row);
+            } else {
+                // voice_commands 컬럼 순서: raw_text, intent
+                voiceCommandRows.add(new Object[]{row[0], row[2], row[1], row[3]});
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!activityRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_ACTIVITY_LOG_SQL, activityRows);
+                statBucketService.accumulate(events);
+            }
+            if (!voiceCommandRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_VOICE_COMMAND_SQL, voiceCommandRows);
+            }
+        });
+        written.add(events.size());
+    }
+
+    // ===== spill 파일 =====
+
+    private void spill(List<ActivityEvent> events) {
+        if (append(spillPath, events)) {
+            spilledCount.add(events.size());
+        }
+    }
+
+    /**
+     * JSON Lines로 추가 기록 후 fsync
+     */
+    private boolean append(String file, List<?> records) {
+        Path path = Paths.get(file);
+        fileLock.lock();
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileOutputStream out = new FileOutputStream(path.toFile(), true);
+                 Writer fileWriter = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+                for (Object record : records) {
+                    fileWriter.write(objectMapper.writeValueAsString(record));
+                    fileWriter.write('\n');
+                }
+                fileWriter.flush();
+                out.getFD().sync();
+            }
+            return true;
+        } catch (IOException e) {
+            log.error("활동 로그 파일 기록 실패, {}건 유실: path={}, error={}", records.size(), file, e.getMessage());
+            return false;
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    /**
+     * 이전 실행에서 남긴 spill 파일을 저장
+     * 저장 도중 다시 실패한 배치는 새 spill 파일에 기록되므로, 읽은 파일은 항상 지운다.
+     */
+    private void replaySpillFile() {
+        Path path = Paths.get(spillPath);
+        if (!Files.exists(path)) {
+            return;
+        }
+        Path replaying = path.resolveSibling(path.getFileName() + ".replay");
+        int restored = 0;
+        try {
+            Files.move(path, replaying, StandardCopyOption.REPLACE_EXISTING);
+            List<ActivityEvent> batch = new ArrayList<>(batchSize);
+            try (BufferedReader reader = Files.newBufferedReader(replaying, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    batch.add(objectMapper.readValue(line, ActivityEvent.class));
+                    if (batch.size() >= batchSize) {
+                        flush(batch);
+                        restored += batch.size();
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                restored += batch.size();
+            }
+            Files.delete(replaying);
+            log.info("활동 로그 spill 파일 복구: {}건", restored);
+        } catch (IOException e) {
+            log.error("활동 로그 spill 파일 복구 실패: path={}, error={}", replaying, e.getMessage());
+        }
+    }
+
+    // ===== 통계 =====
+
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    public long getSpilledCount() {
+        return spilledCount.sum();
+    }
+
+    public long getDeadLetterCount() {
+        return deadLetterCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * 큐에 쌓인 이벤트
+     *
+     * @param kind ACTIVITY: user_activity_logs, VOICE_COMMAND: voice_commands
+     * @param type 활동 타입 또는 Intent 이름
+     * @param text 활동 요약 또는 음성 명령 원문
+     */
+    public record ActivityEvent(Kind kind, Long userId, String type, String text, LocalDateTime createdAt) {
+
+        public enum Kind {
+            ACTIVITY, VOICE_COMMAND
+        }
+
+        boolean isLowValue() {
+            return kind == Kind.ACTIVITY && LOW_VALUE_ACTIVITY_TYPES.contains(type);
+        }
+
+        String coalesceKey() {
+            return userId + ":" + type + ":" + text;
+        }
+    }
+
+    /**
+     * dead-letter 파일 한 줄 (저장 불가 이벤트와 DB 오류)
+     */
+    record DeadLetter(ActivityEvent event, String error, LocalDateTime failedAt) {
+    }
+}
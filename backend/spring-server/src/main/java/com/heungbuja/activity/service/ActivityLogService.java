@@ -23,6 +23,14 @@ public interface ActivityLogService {
      */
     void saveActivityLog(User user, Intent intent);
 
+    /**
+     * 활동 로그 저장 (Intent 기반, 사용자 조회 없이)
+     *
+     * @param userId 사용자 ID
+     * @param intent 음성 명령 의도
+     */
+    void saveActivityLog(Long userId, Intent intent);
+
     /**
      * 전체 활동 로그 조회 (페이징)
      */
@@ -0,0 +1,290 @@
+package com.heungbuja.activity.service;
+
+import com.heungbuja.activity.enums.ActivityType;
+import com.heungbuja.activity.enums.StatGranularity;
+import com.heungbuja.activity.repository.ActivityStatBucketRepository;
+import com.heungbuja.activity.repository.UserActivityLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 사용자 활동 통계 버킷 (시간별 / 일별)
+ *
+ * - 증분: ActivityEventBus가 활동 로그를 저장하는 트랜잭션 안에서 accumulate() 호출 → 배치를 메모리에서 합산 후 upsert
+ * - 조회: 기간을 [시간 경계 전 원본 | 시간 버킷 | 일 버킷 | 시간 버킷 | 시간 경계 후 원본]으로 나눠 합산
+ *   (경계 밖 1시간 미만 구간만 원본 로그 인덱스(created_at)로 조회)
+ * - 재집계: 매일 지난 날짜 버킷을 원본 로그로 다시 계산 (spill 복구, 수동 수정 등으로 생긴 차이 보정)
+ *   오늘 버킷은 진행 중인 증분 upsert와 겹치지 않도록 다시 계산하지 않는다.
+ * - 초기 채우기: 최초 배포 시 지난 날짜 버킷을 모두 계산하고 완료 표시를 Redis에 남김
+ *   (증분 upsert나 spill 복구로 버킷이 먼저 생겨도 건너뛰지 않도록 버킷 유무가 아니라 완료 표시로 판단)
+ * 재집계/초기 채우기는 Redis 락으로 한 노드에서만 실행한다.
+ */
+@Slf4j
+@Service
+public class ActivityStatBucketService {
+
+    private static final String UPSERT_BUCKET_SQL =
+            "INSERT INTO user_activity_stat_buckets (granularity, bucket_start, user_id, activity_type, activity_count) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE activity_count = activity_count + VALUES(activity_count)";
+
+    private static final String DELETE_BUCKETS_SQL =
+            "DELETE FROM user_activity_stat_buckets WHERE bucket_start >= ? AND bucket_start < ?";
+
+    private static final String REBUILD_HOUR_BUCKETS_SQL =
+            "INSERT INTO user_activity_stat_buckets (granularity, bucket_start, user_id, activity_type, activity_count) " +
+            "SELECT 'HOUR', DATE_FORMAT(created_at, '%Y-%m-%d %H:00:00'), user_id, activity_type, COUNT(*) " +
+            "FROM user_activity_logs WHERE created_at >= ? AND created_at < ? " +
+            "GROUP BY DATE_FORMAT(created_at, '%Y-%m-%d %H:00:00'), user_id, activity_type";
+
+    private static final String REBUILD_DAY_BUCKETS_SQL =
+            "INSERT INTO user_activity_stat_buckets (granularity, bucket_start, user_id, activity_type, activity_count) " +
+            "SELECT 'DAY', ?, user_id, activity_type, COUNT(*) " +
+            "FROM user_activity_logs WHERE created_at >= ? AND created_at < ? " +
+            "GROUP BY user_id, activity_type";
+
+    private static final String LOCK_KEY = "activity:stats:lock";
+    private static final String BACKFILL_DONE_KEY = "activity:stats:backfill-done";
+
+    private final ActivityStatBucketRepository bucketRepository;
+    private final UserActivityLogRepository activityLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /** 재집계할 지난 날짜 수 (어제부터) */
+    @Value("${activity.stats.rebuild-days:2}")
+    private int rebuildDays;
+
+    /** 재집계 락 유지 시간 (하루치 재집계마다 연장) */
+    @Value("${activity.stats.lock-ttl-minutes:10}")
+    private long lockTtlMinutes;
+
+    public ActivityStatBucketService(ActivityStatBucketRepository bucketRepository,
+                                     UserActivityLogRepository activityLogRepository,
+                                     JdbcTemplate jdbcTemplate,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     PlatformTransactionManager transactionManager) {
+        this.bucketRepository = bucketRepository;
+        this.activityLogRepository = activityLogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // ===== 증분 =====
+
+    /**
+     * 저장할 활동 로그 배치를 버킷에 반영 (호출자 트랜잭션 안에서 실행)
+     */
+    public void accumulate(List<ActivityEventBus.ActivityEvent> events) {
+        Map<BucketKey, Long> counts = new HashMap<>();
+        for (ActivityEventBus.ActivityEvent event : events) {
+            if (event.kind() != ActivityEventBus.ActivityEvent.Kind.ACTIVITY) {
+                continue;
+            }
+            for (StatGranularity granularity : StatGranularity.values()) {
+                BucketKey key = new BucketKey(granularity, granularity.truncate(event.createdAt()),
+                        event.userId(), event.type());
+                counts.merge(key, 1L, Long::sum);
+            }
+        }
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> rows.add(new Object[]{
+                key.granularity().name(), Timestamp.valueOf(key.bucketStart()), key.userId(), key.activityType(), count}));
+        jdbcTemplate.batchUpdate(UPSERT_BUCKET_SQL, rows);
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 기간 내 활동 타입별 수
+     *
+     * @param userId null이면 전체 사용자
+     */
+    public Map<ActivityType, Long> count(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
+        Map<ActivityType, Long> totals = new EnumMap<>(ActivityType.class);
+        if (!startDate.isBefore(endDate)) {
+            return totals;
+        }
+
+        LocalDateTime hourStart = StatGranularity.HOUR.ceil(startDate);
+        LocalDateTime hourEnd = StatGranularity.HOUR.truncate(endDate);
+        if (!hourStart.isBefore(hourEnd)) {
+            // 1시간 경계를 포함하지 않는 짧은 기간
+            addRaw(totals, userId, startDate, endDate);
+            return totals;
+        }
+        addRaw(totals, userId, startDate, hourStart);
+        addRaw(totals, userId, hourEnd, endDate);
+
+        LocalDateTime dayStart = StatGranularity.DAY.ceil(hourStart);
+        LocalDateTime dayEnd = StatGranularity.DAY.truncate(hourEnd);
+        if (dayStart.isBefore(dayEnd)) {
+            addBuckets(totals, userId, StatGranularity.HOUR, hourStart, dayStart);
+            addBuckets(totals, userId, StatGranularity.DAY, dayStart, dayEnd);
+            addBuckets(totals, userId, StatGranularity.HOUR, dayEnd, hourEnd);
+        } else {
+            addBuckets(totals, userId, StatGranularity.HOUR, hourStart, hourEnd);
+        }
+        return totals;
+    }
+
+    private void addRaw(Map<ActivityType, Long> totals, Long userId, LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            return;
+        }
+        List<Object[]> rows = userId == null
+                ? activityLogRepository.countByActivityTypeAndDateRange(start, end)
+                : activityLogRepository.countByUserAndActivityTypeAndDateRange(userId, start, end);
+        merge(totals, rows);
+    }
+
+    private void addBuckets(Map<ActivityType, Long> totals, Long userId, StatGranularity granularity,
+                            LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            return;
+        }
+        List<Object[]> rows = userId == null
+                ? bucketRepository.sumByActivityType(granularity, start, end)
+                : bucketRepository.sumByUserAndActivityType(userId, granularity, start, end);
+        merge(totals, rows);
+    }
+
+    private void merge(Map<ActivityType, Long> totals, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            totals.merge((ActivityType) row[0], ((Number) row[1]).longValue(), Long::sum);
+        }
+    }
+
+    // ===== 재집계 =====
+
+    /**
+     * 지난 날짜 버킷 재집계 (어제부터 rebuild-days일)
+     */
+    @Scheduled(cron = "${activity.stats.rebuild-cron:0 30 3 * * *}")
+    public void rebuildRecentDays() {
+        String owner = tryLock();
+        if (owner == null) {
+            log.debug("다른 노드에서 활동 통계 재집계 중, 건너뜀");
+            return;
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            for (int i = 1; i <= rebuildDays; i++) {
+                rebuildDay(today.minusDays(i));
+                renewLock(owner);
+            }
+        } finally {
+            unlock(owner);
+        }
+    }
+
+    /**
+     * 지난 날짜 버킷을 기존 로그로 채움 (최초 배포 시 한 번, 완료 표시가 없으면 다시 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(BACKFILL_DONE_KEY))) {
+                return;
+            }
+            String owner = tryLock();
+            if (owner == null) {
+                log.info("다른 노드에서 활동 통계 재집계 중, 초기 채우기 건너뜀 (다음 시작 시 다시 확인)");
+                return;
+            }
+            try {
+                backfill(owner);
+            } finally {
+                unlock(owner);
+            }
+        } catch (Exception e) {
+            log.error("활동 통계 버킷 초기 채우기 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void backfill(String owner) {
+        LocalDateTime oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(created_at) FROM user_activity_logs", LocalDateTime.class);
+        LocalDate today = LocalDate.now();
+        int days = 0;
+        if (oldest != null) {
+            for (LocalDate day = oldest.toLocalDate(); day.isBefore(today); day = day.plusDays(1)) {
+                if (!rebuildDay(day)) {
+                    log.warn("활동 통계 버킷 초기 채우기 중단: day={} (다음 시작 시 다시 실행)", day);
+                    return;
+                }
+                renewLock(owner);
+                days++;
+            }
+        }
+        stringRedisTemplate.opsForValue().set(BACKFILL_DONE_KEY, today.toString());
+        log.info("활동 통계 버킷 초기 채우기 완료: {}일 (배포 전 오늘 로그는 다음 재집계에서 반영)", days);
+    }
+
+    private String tryLock() {
+        String owner = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(LOCK_KEY, owner, Duration.ofMinutes(lockTtlMinutes));
+        return Boolean.TRUE.equals(acquired) ? owner : null;
+    }
+
+    private void renewLock(String owner) {
+        if (owner.equals(stringRedisTemplate.opsForValue().get(LOCK_KEY))) {
+            stringRedisTemplate.expire(LOCK_KEY, Duration.ofMinutes(lockTtlMinutes));
+        }
+    }
+
+    private void unlock(String owner) {
+        if (owner.equals(stringRedisTemplate.opsForValue().get(LOCK_KEY))) {
+            stringRedisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    /**
+     * 하루치 시간/일 버킷을 원본 로그로 다시 계산
+     */
+    public boolean rebuildDay(LocalDate day) {
+        Timestamp start = Timestamp.valueOf(day.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(day.plusDays(1).atStartOfDay());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(DELETE_BUCKETS_SQL, start, end);
+                jdbcTemplate.update(REBUILD_HOUR_BUCKETS_SQL, start, end);
+                jdbcTemplate.update(REBUILD_DAY_BUCKETS_SQL, start, start, end);
+            });
+            log.debug("활동 통계 버킷 재집계: day={}", day);
+            return true;
+        } catch (Exception e) {
+            log.error("활동 통계 버킷 재집계 실패: day={}, error={}", day, e.getMessage());
+            return false;
+        }
+    }
+
+    private record BucketKey(StatGranularity granularity, LocalDateTime bucketStart, Long userId, String activityType) {
+    }
+}
@@ -3,7 +3,9 @@ package com.heungbuja.activity.service.impl;
 import com.heungbuja.activity.entity.UserActivityLog;
 import com.heungbuja.activity.enums.ActivityType;
 import com.heungbuja.activity.repository.UserActivityLogRepository;
+import com.heungbuja.activity.service.ActivityEventBus;
 import com.heungbuja.activity.service.ActivityLogService;
+import com.heungbuja.activity.service.ActivityStatBucketService;
 import com.heungbuja.user.entity.User;
 import com.heungbuja.voice.enums.Intent;
 import lombok.RequiredArgsConstructor;
@@ -15,9 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * 사용자 활동 로그 서비스 구현체
@@ -29,6 +29,8 @@ import java.util.stream.Collectors;
 public class ActivityLogServiceImpl implements ActivityLogService {
 
     private final UserActivityLogRepository activityLogRepository;
+    private final ActivityEventBus activityEventBus;
+    private final ActivityStatBucketService statBucketService;
 
     /**
      * Intent -> ActivityType 및 요약 메시지 매핑
@@ -98,8 +100,15 @@ public class ActivityLogServiceImpl implements ActivityLogService {
     }
 
     @Override
-    @Transactional
     public void saveActivityLog(User user, Intent intent) {
+        saveActivityLog(user.getId(), intent);
+    }
+
+    /**
+     * 큐에 넣기만 하고 반환 (ActivityEventBus가 일괄 저장)
+     */
+    @Override
+    public void saveActivityLog(Long userId, Intent intent) {
         ActivityMapping mapping = INTENT_ACTIVITY_MAP.get(intent);
 
         if (mapping == null) {
@@ -107,16 +116,10 @@ public class ActivityLogServiceImpl implements ActivityLogService {
             mapping = new ActivityMapping(ActivityType.UNKNOWN, "알 수 없는 활동");
         }
 
-        UserActivityLog activityLog = UserActivityLog.builder()
-                .user(user)
-                .activityType(mapping.type)
-                .activitySummary(mapping.summary)
-                .build();
-
-        activityLogRepository.save(activityLog);
+        activityEventBus.publishActivity(userId, mapping.type, mapping.summary);
 
         log.debug("활동 로그 저장: userId={}, activityType={}, summary='{}'",
-                user.getId(), mapping.type, mapping.summary);
+                userId, mapping.type, mapping.summary);
     }
 
     @Override
@@ -162,18 +165,14 @@ public class ActivityLogServiceImpl implements ActivityLogService {
                 userId, startDate, endDate, pageable);
     }
 
+    /**
+     * 시간별/일별 버킷 합산 (원본 로그 GROUP BY는 경계 밖 1시간 미만 구간만)
+     */
     @Override
     public Map<ActivityType, Long> getStatsByDateRange(
             LocalDateTime startDate,
             LocalDateTime endDate) {
-        List<Object[]> results = activityLogRepository.countByActivityTypeAndDateRange(
-                startDate, endDate);
-
-        return results.stream()
-                .collect(Collectors.toMap(
-                        row -> (ActivityType) row[0],
-                        row -> (Long) row[1]
-                ));
+        return statBucketService.count(null, startDate, endDate);
     }
 
     @Override
@@ -181,13 +180,6 @@ public class ActivityLogServiceImpl implements ActivityLogService {
             Long userId,
             LocalDateTime startDate,
             LocalDateTime endDate) {
-        List<Object[]> results = activityLogRepository.countByUserAndActivityTypeAndDateRange(
-                userId, startDate, endDate);
-
-        return results.stream()
-                .collect(Collectors.toMap(
-                        row -> (ActivityType) row[0],
-                        row -> (Long) row[1]
-                ));
+        return statBucketService.count(userId, startDate, endDate);
     }
 }
@@ -7,11 +7,23 @@ import com.heungbuja.common.exception.ErrorCode;
 import com.heungbuja.common.security.AdminPrincipal;
 import com.heungbuja.s3.entity.Media;
 import com.heungbuja.s3.service.MediaService;
+import com.heungbuja.song.dto.SongAnalysisJobResponse;
+import com.heungbuja.song.dto.SongBulkImportJobResponse;
+import com.heungbuja.song.domain.SongBeat;
 import com.heungbuja.song.dto.SongGameData;
+import com.heungbuja.song.dto.SongGameReadModelCheckPageResponse;
+import com.heungbuja.song.dto.SongGameReadModelCheckResponse;
+import com.heungbuja.song.dto.SongGameReadModelRebuildResponse;
+import com.heungbuja.song.dto.SongGameReadModelRepairJob;
 import com.heungbuja.song.entity.Song;
 import com.heungbuja.song.repository.jpa.SongRepository;
+import com.heungbuja.song.repository.mongo.SongBeatRepository;
 import com.heungbuja.song.service.MusicServerClient;
+import com.heungbuja.song.service.SongAnalysisJobService;
+import com.heungbuja.song.service.SongBulkImportService;
 import com.heungbuja.song.service.SongGameDataCache;
+import com.heungbuja.song.service.SongGameReadModelRepairJobService;
+import com.heungbuja.song.service.SongGameReadModelService;
 import com.heungbuja.song.service.SongRegistrationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,6 +52,11 @@ public class AdminSongController {
     private final MediaService mediaService;
     private final SongRegistrationService songRegistrationService;
     private final MusicServerClient musicServerClient;
+    private final SongAnalysisJobService songAnalysisJobService;
+    private final SongBulkImportService songBulkImportService;
+    private final SongGameReadModelService songGameReadModelService;
+    private final SongGameReadModelRepairJobService songGameReadModelRepairJobService;
+    private final SongBeatRepository songBeatRepository;
 
     /**
      * 곡 목록 조회
@@ -93,8 +110,12 @@ public class AdminSongController {
         // SongGameData 조회 (캐시 우선)
         SongGameData gameData = songGameDataCache.getOrLoadSongGameData(songId);
 
+        // 비트 원본 조회 (시각화 전용)
+        SongBeat songBeat = songBeatRepository.findBySongId(songId)
+                .orElseThrow(() -> new CustomException(ErrorCode.GAME_METADATA_NOT_FOUND, "비트 정보를 찾을 수 없습니다"));
+
         // Response DTO로 변환
-        SongVisualizationResponse response = SongVisualizationResponse.from(gameData);
+        SongVisualizationResponse response = SongVisualizationResponse.from(gameData, songBeat);
 
         return ResponseEntity.ok(response);
     }
@@ -166,6 +187,9 @@ public class AdminSongController {
                             "artist", artist
                     ));
 
+        } catch (CustomException e) {
+            // JSON 검증 실패 등은 원래 오류 코드 그대로 응답
+            throw e;
         } catch (Exception e) {
             log.error("곡 등록 중 오류 발생: {}", e.getMessage(), e);
             throw new CustomException(ErrorCode.SONG_REGISTRATION_FAILED, "곡 등록에 실패했습니다: " + e.getMessage());
@@ -288,6 +312,9 @@ public class AdminSongController {
                             "artist", artist
                     ));
 
+        } catch (CustomException e) {
+            // JSON 검증 실패 등은 원래 오류 코드 그대로 응답
+            throw e;
         } catch (Exception e) {
             log.error("곡 등록 중 오류 발생: {}", e.getMessage(), e);
             throw new CustomException(ErrorCode.SONG_REGISTRATION_FAILED, "곡 등록에 실패했습니다: " + e.getMessage());
@@ -355,4 +382,244 @@ public class AdminSongController {
             throw new CustomException(ErrorCode.SONG_REGISTRATION_FAILED, "곡 분석에 실패했습니다: " + e.getMessage());
         }
     }
+
+    /**
+     * 곡 등록 비동기 작업 (music-server 분석 + 기본 안무 자동 생성)
+     * - /auto 와 동일한 입력, 분석 완료를 기다리지 않고 작업 ID를 즉시 반환
+     * - 진행 상황은 GET /admins/songs/jobs/{jobId} 또는 STOMP /topic/admin/{adminId}/song-jobs 로 확인
+     *
+     * @return 작업 정보 (jobId, status)
+     */
+    @PostMapping("/auto/jobs")
+    public ResponseEntity<SongAnalysisJobResponse> submitSongRegistrationJob(
+            @AuthenticationPrincipal AdminPrincipal principal,
+            @RequestParam("title") String title,
+            @RequestParam("artist") String artist,
+            @RequestParam("s3Key") String s3Key,
+            @RequestParam("audioFile") MultipartFile audioFile,
+            @RequestParam("lyricsFile") MultipartFile lyricsFile) {
+
+        log.info("관리자 {}가 곡 등록 작업 요청 (비동기): title={}, artist={}, s3Key={}",
+                principal.getId(), title, artist, s3Key);
+
+        if (audioFile.isEmpty() || lyricsFile.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "오디오 파일과 가사 파일을 업로드해주세요.");
+        }
+        validateAudioAndLyricsFiles(audioFile, lyricsFile);
+
+        SongAnalysisJobResponse response = songAnalysisJobService.submitRegistration(
+                principal.getId(), title, artist, s3Key, audioFile, readLyricsText(lyricsFile));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * 곡 분석 비동기 작업 (등록하지 않고 분석 결과만)
+     * - /analyze-only 와 동일한 입력, 작업 ID를 즉시 반환
+     *
+     * @return 작업 정보 (jobId, status)
+     */
+    @PostMapping("/analyze-only/jobs")
+    public ResponseEntity<SongAnalysisJobResponse> submitSongAnalysisJob(
+            @AuthenticationPrincipal AdminPrincipal principal,
+            @RequestParam("title") String title,
+            @RequestParam("audioFile") MultipartFile audioFile,
+            @RequestParam("lyricsFile") MultipartFile lyricsFile) {
+
+        log.info("관리자 {}가 곡 분석 작업 요청 (비동기): title={}", principal.getId(), title);
+
+        if (audioFile.isEmpty() || lyricsFile.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "오디오 파일과 가사 파일을 업로드해주세요.");
+        }
+        validateAudioAndLyricsFiles(audioFile, lyricsFile);
+
+        SongAnalysisJobResponse response = songAnalysisJobService.submitAnalysis(
+                principal.getId(), title, audioFile, readLyricsText(lyricsFile));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * 곡 분석 작업 상태 조회
+     * - SUPER_ADMIN은 모든 작업, ADMIN은 본인 작업만 조회 가능
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<SongAnalysisJobResponse> getSongAnalysisJob(
+            @AuthenticationPrincipal AdminPrincipal principal,
+            @PathVariable String jobId) {
+        Long ownerId = principal.isSuperAdmin() ? null : principal.getId();
+        return ResponseEntity.ok(songAnalysisJobService.getJob(jobId, ownerId));
+    }
+
+    /**
+     * 곡 대량 가져오기 (ZIP 업로드)
+     * - ZIP 최상위의 manifest.json에 나열된 곡을 업로드 → 분석 → 기본 안무 생성 → 등록
+     * - 진행 상황은 GET /admins/songs/bulk/jobs/{jobId} 또는 STOMP /topic/admin/{adminId}/song-import-jobs 로 확인
+     *
+     * @param archive manifest.json, 오디오 파일, 가사 텍스트 파일을 담은 ZIP
+     * @return 작업 정보 (jobId, status)
+     */
+    @PostMapping("/bulk/jobs")
+    public ResponseEntity<SongBulkImportJobResponse> submitBulkImportJob(
+            @AuthenticationPrincipal AdminPrincipal principal,
+            @RequestParam("archive") MultipartFile archive) {
+
+        log.info("관리자 {}가 곡 대량 가져오기 요청 (ZIP): fileName={}", principal.getId(), archive.getOriginalFilename());
+
+        String fileName = archive.getOriginalFilename();
+        if (fileName == null || !fileName.endsWith(".zip")) {
+            throw new CustomException(ErrorCode.INVALID_FILE_FORMAT, "가져오기 파일은 .zip 형식이어야 합니다.");
+        }
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(songBulkImportService.submitZip(principal.getId(), archive));
+    }
+
+    /**
+     * 곡 대량 가져오기 (서버 디렉터리)
+     * - song.bulk-import.source-root 아래 디렉터리의 manifest.json 사용
+     * - SUPER_ADMIN 권한 필요
+     *
+     * @param directory source-root 기준 상대 경로
+     * @return 작업 정보 (jobId, status)
+     */
+    @PostMapping("/bulk/jobs/directory")
+    public ResponseEntity<SongBulkImportJobResponse> submitBulkImportDirectoryJob(
+            @AuthenticationPrincipal AdminPrincipal principal,
+            @RequestParam("directory") String directory) {
+
+        log.info("관리자 {}가 곡 대량 가져오기 요청 (디렉터리): directory={}", principal.getId(), directory);
+
+        if (!principal.isSuperAdmin()) {
+            throw new CustomException(ErrorCode.FORBIDDEN, "서버 디렉터리 가져오기는 SUPER_ADMIN만 가능합니다.");
+        }
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(songBulkImportService.submitDirectory(principal.getId(), directory));
+    }
+
+    /**
+     * 곡 대량 가져오기 재개 (등록 완료된 곡은 건너뜀)
+     */
+    @PostMapping("/bulk/jobs/{jobId}/resume")
+    public ResponseEntity<SongBulkImportJobResponse> resumeBulkImportJob(
+            @AuthenticationPrincipal AdminPrincipal principal,
+            @PathVariable String jobId) {
+        Long ownerId = principal.isSuperAdmin() ? null : principal.getId();
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(songBulkImportService.resume(jobId, ownerId));
+    }
+
+    /**
+     * 곡 대량 가져오기 상태 / 단계별 처리량 조회
+     * - SUPER_ADMIN은 모든 작업, ADMIN은 본인 작업만 조회 가능
+     */
+    @GetMapping("/bulk/jobs/{jobId}")
+    public ResponseEntity<SongBulkImportJobResponse> getBulkImportJob(
+            @AuthenticationPrincipal AdminPrincipal principal,
+            @PathVariable String jobId) {
+        Long ownerId = principal.isSuperAdmin() ? null : principal.getId();
+        return ResponseEntity.ok(songBulkImportService.getJob(jobId, ownerId));
+    }
+
+    /**
+     * 게임 읽기 모델 전체 재생성
+     * - 원본 컬렉션(박자 / 가사 / 안무 / 안무 패턴)을 직접 수정한 뒤 사용
+     * - SUPER_ADMIN 권한 필요
+     */
+    @PostMapping("/game-read-model/rebuild")
+    public ResponseEntity<SongGameReadModelRebuildResponse> rebuildGameReadModels(
+            @AuthenticationPrincipal AdminPrincipal principal) {
+
+        log.info("관리자 {}가 게임 읽기 모델 전체 재생성 요청", principal.getId());
+
+        if (!principal.isSuperAdmin()) {
+            throw new CustomException(ErrorCode.FORBIDDEN, "게임 읽기 모델 재생성은 SUPER_ADMIN만 가능합니다.");
+        }
+        return ResponseEntity.ok(songGameReadModelService.rebuildAll());
+    }
+
+    /**
+     * 곡 하나의 게임 읽기 모델 재생성
+     * - SUPER_ADMIN 권한 필요
+     */
+    @PostMapping("/{songId}/game-read-model/rebuild")
+    public ResponseEntity<SongGameReadModelCheckResponse> rebuildGameReadModel(
+            @AuthenticationPrincipal AdminPrincipal principal,
+            @PathVariable Long songId) {
+
+        log.info("관리자 {}가 곡 {} 게임 읽기 모델 재생성 요청", principal.getId(), songId);
+
+        if (!principal.isSuperAdmin()) {
+            throw new CustomException(ErrorCode.FORBIDDEN, "게임 읽기 모델 재생성은 SUPER_ADMIN만 가능합니다.");
+        }
+        songGameReadModelService.materialize(songId);
+        return ResponseEntity.ok(songGameReadModelService.check(songId));
+    }
+
+    /**
+     * 게임 읽기 모델 불일치 복구 작업 등록 (정합성 검사에서 STALE / MISSING인 곡만 재생성)
+     * - 원본 컬렉션을 직접 수정한 뒤 정합성 검사 결과로 바로 복구할 때 사용
+     * - 전체 곡을 백그라운드에서 페이지 단위로 처리, 진행 상황은 GET /game-read-model/consistency/repair/{jobId}
+     * - SUPER_ADMIN 권한 필요
+     */
+    @PostMapping("/game-read-model/consistency/repair")
+    public ResponseEntity<SongGameReadModelRepairJob> repairGameReadModels(
+            @AuthenticationPrincipal AdminPrincipal principal) {
+
+        log.info("관리자 {}가 게임 읽기 모델 불일치 복구 요청", principal.getId());
+
+        if (!principal.isSuperAdmin()) {
+            throw new CustomException(ErrorCode.FORBIDDEN, "게임 읽기 모델 재생성은 SUPER_ADMIN만 가능합니다.");
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(songGameReadModelRepairJobService.submit(principal.getId()));
+    }
+
+    /**
+     * 게임 읽기 모델 불일치 복구 작업 상태 조회
+     * - SUPER_ADMIN 권한 필요
+     */
+    @GetMapping("/game-read-model/consistency/repair/{jobId}")
+    public ResponseEntity<SongGameReadModelRepairJob> getGameReadModelRepairJob(
+            @AuthenticationPrincipal AdminPrincipal principal,
+            @PathVariable String jobId) {
+        if (!principal.isSuperAdmin()) {
+            throw new CustomException(ErrorCode.FORBIDDEN, "게임 읽기 모델 재생성은 SUPER_ADMIN만 가능합니다.");
+        }
+        return ResponseEntity.ok(songGameReadModelRepairJobService.getJob(jobId));
+    }
+
+    /**
+     * 게임 읽기 모델 정합성 검사 (곡 id 순 한 페이지, 원본과 일치하지 않는 곡만 반환)
+     * - 다음 페이지는 응답의 nextAfterSongId를 afterSongId로 넘겨 요청 (null이면 끝)
+     * - STALE / MISSING은 POST /game-read-model/consistency/repair 로 복구
+     */
+    @GetMapping("/game-read-model/consistency")
+    public ResponseEntity<SongGameReadModelCheckPageResponse> checkGameReadModels(
+            @AuthenticationPrincipal AdminPrincipal principal,
+            @RequestParam(value = "afterSongId", defaultValue = "0") long afterSongId,
+            @RequestParam(value = "size", defaultValue = "200") int size) {
+        return ResponseEntity.ok(songGameReadModelService.checkPage(afterSongId, size));
+    }
+
+    /**
+     * 곡 하나의 게임 읽기 모델 정합성 검사
+     * - STALE / MISSING은 POST /{songId}/game-read-model/rebuild 로 복구
+     */
+    @GetMapping("/{songId}/game-read-model/consistency")
+    public ResponseEntity<SongGameReadModelCheckResponse> checkGameReadModel(
+            @AuthenticationPrincipal AdminPrincipal principal,
+            @PathVariable Long songId) {
+        return ResponseEntity.ok(songGameReadModelService.check(songId));
+    }
+
+    /**
+     * 가사 텍스트 파일 읽기
+     */
+    private String readLyricsText(MultipartFile lyricsFile) {
+        try {
+            return new String(lyricsFile.getBytes(), java.nio.charset.StandardCharsets.UTF_8);
+        } catch (java.io.IOException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "가사 파일을 읽을 수 없습니다.");
+        }
+    }
 }
@@ -83,12 +83,12 @@ public class SongVisualizationResponse {
     private com.heungbuja.game.dto.GameStartResponse.SectionPatterns sectionPatterns;
 
     /**
-     * SongGameData로부터 변환
+     * SongGameData로부터 변환 (비트 원본은 게임 데이터에 없어 따로 전달)
      */
-    public static SongVisualizationResponse from(SongGameData gameData) {
+    public static SongVisualizationResponse from(SongGameData gameData, SongBeat songBeat) {
         return SongVisualizationResponse.builder()
                 .songId(gameData.getSongId())
-                .songBeat(gameData.getSongBeat())
+                .songBeat(songBeat)
                 .lyricsInfo(gameData.getLyricsInfo())
                 .sectionInfo(gameData.getSectionInfo())
                 .bpm(gameData.getBpm())
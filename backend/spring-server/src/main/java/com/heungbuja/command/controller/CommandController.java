@@ -1,14 +1,25 @@
 package com.heungbuja.command.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.heungbuja.command.dto.CommandRequest;
 import com.heungbuja.command.dto.CommandResponse;
 import com.heungbuja.command.service.CommandService;
+import com.heungbuja.command.service.VoiceCommandPipeline;
 import com.heungbuja.common.exception.CustomException;
+import com.heungbuja.common.exception.ErrorCode;
 import com.heungbuja.voice.service.SttService;
+import com.heungbuja.voice.service.TtsAudioStore;
 import com.heungbuja.voice.service.TtsService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -16,7 +27,21 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 통합 음성 명령 컨트롤러
@@ -30,6 +55,28 @@ public class CommandController {
     private final CommandService commandService;
     private final SttService sttService;
     private final TtsService ttsService;
+    private final TtsAudioStore ttsAudioStore;
+    private final VoiceCommandPipeline voiceCommandPipeline;
+    private final ObjectMapper objectMapper;
+
+    /** TTS 파일 캐시 기간 (내용 주소라 바뀌지 않음) */
+    private static final Duration TTS_AUDIO_MAX_AGE = Duration.ofDays(365);
+
+    /** Tomcat sendfile 요청 속성 (org.apache.catalina.Globals) */
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    /** 스트리밍 응답 청크 크기 */
+    private static final int AUDIO_CHUNK_SIZE = 16 * 1024;
+
+    /** TTS 합성 결과를 기다리는 최대 시간 (넘으면 텍스트 응답으로 대체) */
+    @Value("${command.pipeline.tts-wait-timeout-ms:8000}")
+    private long ttsWaitTimeoutMs;
+
+    /** X-Screen-Data 헤더 최대 길이 (Tomcat 기본 응답 헤더 한도 8KB 이내) */
+    private static final int MAX_SCREEN_DATA_HEADER_LENGTH = 4 * 1024;
 
     /**
      * 음성 파일로 명령 처리 (통합 엔드포인트)
@@ -68,22 +115,7 @@ public class CommandController {
 
             CommandResponse response = commandService.processTextCommand(request);
 
-            // MCP 방식에서는 ttsAudioUrl이 null이므로 자동 생성 (파일 저장 없이 base64로 반환)
-            if (response.getTtsAudioUrl() == null && response.getResponseText() != null) {
-                byte[] audioData = ttsService.synthesizeBytes(response.getResponseText(), "default");
-                String base64Audio = java.util.Base64.getEncoder().encodeToString(audioData);
-                response = CommandResponse.builder()
-                        .success(response.isSuccess())
-                        .intent(response.getIntent())
-                        .responseText(response.getResponseText())
-                        .ttsAudioUrl("data:audio/mpeg;base64," + base64Audio)
-                        .songInfo(response.getSongInfo())
-                        .screenTransition(response.getScreenTransition())
-                        .build();
-                log.info("TTS 자동 생성 완료 (base64): 크기={} bytes", audioData.length);
-            }
-
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(withTtsAudioUrl(response));
 
         } catch (Exception e) {
             log.error("음성 명령 처리 실패: {} - {}", e.getClass().getSimpleName(), e.getMessage());
@@ -103,22 +135,7 @@ public class CommandController {
 
         CommandResponse response = commandService.processTextCommand(request);
 
-        // MCP 방식에서는 ttsAudioUrl이 null이므로 자동 생성 (파일 저장 없이 base64로 반환)
-        if (response.getTtsAudioUrl() == null && response.getResponseText() != null) {
-            byte[] audioData = ttsService.synthesizeBytes(response.getResponseText(), "default");
-            String base64Audio = java.util.Base64.getEncoder().encodeToString(audioData);
-            response = CommandResponse.builder()
-                    .success(response.isSuccess())
-                    .intent(response.getIntent())
-                    .responseText(response.getResponseText())
-                    .ttsAudioUrl("data:audio/mpeg;base64," + base64Audio)
-                    .songInfo(response.getSongInfo())
-                    .screenTransition(response.getScreenTransition())
-                    .build();
-            log.info("TTS 자동 생성 완료 (base64): 크기={} bytes", audioData.length);
-        }
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(withTtsAudioUrl(response));
     }
 
     /**
@@ -251,24 +268,227 @@ public class CommandController {
         }
     }
 
+    /**
+     * 음성 파일로 명령 처리 (파이프라인, 음성 스트리밍 응답)
+     * STT → Intent 분석 → Tool 실행과 TTS 합성을 겹쳐서 수행하고, MP3를 청크 단위로 전송
+     * 메타데이터와 단계별 소요 시간은 HTTP 헤더로 전송
+     * TTS 합성에 실패하거나 제한 시간을 넘으면 음성 대신 텍스트 응답(JSON, X-Tts-Error 헤더)을 보낸다.
+     * TTS 대기는 비동기 응답으로 처리해 요청 스레드를 점유하지 않는다.
+     * JWT 인증 필요 (Authorization: Bearer <token>)
+     */
+    @PostMapping(value = "/process-stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> processVoiceCommandStreaming(
+            @RequestParam("audioFile") MultipartFile audioFile) {
+
+        // JWT 토큰에서 userId 추출 (비동기 스트리밍 전에 요청 스레드에서 추출)
+        Long userId = getCurrentUserId();
+
+        log.info("음성 명령 처리 요청 (파이프라인): userId={}, 파일크기={} bytes", userId, audioFile.getSize());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("audio/mpeg"));
+
+        // 1. STT: 음성 → 텍스트
+        long sttStart = System.currentTimeMillis();
+        String transcribedText;
+        try {
+            transcribedText = sttService.transcribe(audioFile);
+        } catch (CustomException e) {
+            return streamingErrorResponse(headers, e.getErrorCode().getStatus(), e.getErrorCode().name(), e.getMessage());
+        }
+        headers.set("X-Stt-Ms", String.valueOf(System.currentTimeMillis() - sttStart));
+        log.info("STT 변환 완료: text='{}'", transcribedText);
+
+        // 1-1. Whisper 오인식 필터링
+        if (isWhisperHallucination(transcribedText)) {
+            log.warn("⚠️ Whisper 오인식 감지, 무시: '{}'", transcribedText);
+            return streamingErrorResponse(headers, HttpStatus.OK, null, "음성이 명확하지 않습니다. 다시 말씀해주세요.");
+        }
+
+        // 2. 명령 처리 (예상 응답 문구가 나오면 Tool 실행 중에 TTS 선행)
+        VoiceCommandPipeline.Result result;
+        try {
+            result = voiceCommandPipeline.execute(userId, transcribedText);
+        } catch (CustomException e) {
+            log.info("음성 명령 처리 (파이프라인): errorCode={}, message={}", e.getErrorCode(), e.getMessage());
+            return streamingErrorResponse(headers, e.getErrorCode().getStatus(), e.getErrorCode().name(), e.getMessage());
+        } catch (Exception e) {
+            log.error("음성 명령 처리 실패 (파이프라인)", e);
+            return streamingErrorResponse(headers, HttpStatus.INTERNAL_SERVER_ERROR, null, "처리 중 오류가 발생했습니다");
+        }
+
+        CommandResponse response = result.response();
+        headers.set("X-Command-Ms", String.valueOf(result.commandMillis()));
+        headers.set("X-Tts-Prefetched", String.valueOf(result.ttsPrefetched()));
+        headers.set("X-Success", String.valueOf(response.isSuccess()));
+        if (response.getIntent() != null) {
+            headers.set("X-Intent", response.getIntent().name());
+        }
+        headers.set("X-Response-Text", urlEncode(response.getResponseText()));
+
+        if (response.getSongInfo() != null) {
+            headers.set("X-Song-Title", urlEncode(response.getSongInfo().getTitle()));
+            headers.set("X-Song-Artist", urlEncode(response.getSongInfo().getArtist()));
+        }
+
+        if (response.getScreenTransition() != null) {
+            CommandResponse.ScreenTransition screen = response.getScreenTransition();
+            headers.set("X-Screen-Target", screen.getTargetScreen());
+            headers.set("X-Screen-Action", screen.getAction());
+            String encodedData = encodeScreenData(screen.getData());
+            if (encodedData != null) {
+                headers.set("X-Screen-Data", encodedData);
+            }
+        }
+
+        // 3. TTS: 합성 결과를 청크 전송 (실패 시 텍스트 응답)
+        return audioResponse(headers, HttpStatus.OK, result.audio(), response);
+    }
+
     /**
      * TTS 음성 파일 다운로드
+     * 파일 ID가 내용 해시라 파일이 바뀌지 않으므로 강한 ETag + Cache-Control: immutable
+     * - If-None-Match 일치: 304 (본문 없음)
+     * - Range 요청: 부분 응답 206 (ResponseEntity<Resource> 처리)
+     * - 전체 요청: Tomcat sendfile 지원 시 커널에서 바로 전송 (애플리케이션 버퍼 복사 없음)
      */
     @GetMapping("/tts/{fileId}")
-    public ResponseEntity<byte[]> getTtsAudio(@PathVariable String fileId) {
+    public ResponseEntity<Resource> getTtsAudio(@PathVariable String fileId,
+                                                ServletWebRequest webRequest,
+                                                HttpServletRequest request,
+                                                HttpServletResponse response) throws IOException {
+        Path filePath;
         try {
-            byte[] audioData = ttsService.getAudioFile(fileId);
+            filePath = ttsAudioStore.path(fileId);
+        } catch (CustomException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        if (!Files.isRegularFile(filePath)) {
+            log.warn("TTS 파일 없음: fileId={}", fileId);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("audio/mpeg"));
-            headers.setContentDispositionFormData("attachment", fileId + ".mp3");
+        String eTag = "\"" + fileId + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
 
-            return new ResponseEntity<>(audioData, headers, HttpStatus.OK);
+        CacheControl cacheControl = CacheControl.maxAge(TTS_AUDIO_MAX_AGE).cachePublic().immutable();
+        long contentLength = Files.size(filePath);
+
+        if (request.getHeader(HttpHeaders.RANGE) == null
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            response.setContentType("audio/mpeg");
+            response.setContentLengthLong(contentLength);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            request.setAttribute(SENDFILE_FILENAME_ATTR, filePath.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, 0L);
+            request.setAttribute(SENDFILE_END_ATTR, contentLength);
+            return null;
+        }
 
-        } catch (Exception e) {
-            log.error("TTS 파일 다운로드 실패: fileId={}", fileId, e);
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("audio/mpeg"))
+                .contentLength(contentLength)
+                .cacheControl(cacheControl)
+                .eTag(eTag)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .body(new FileSystemResource(filePath));
+    }
+
+    /**
+     * 응답 음성을 내용 주소 URL로 연결 (MCP 방식에서는 ttsAudioUrl이 null)
+     * 본문에 base64로 넣지 않으므로 기기는 이미 받은 문구를 다시 내려받지 않는다.
+     */
+    private CommandResponse withTtsAudioUrl(CommandResponse response) {
+        if (response.getTtsAudioUrl() != null || response.getResponseText() == null) {
+            return response;
         }
+        String fileId = ttsService.synthesize(response.getResponseText(), "default");
+        return CommandResponse.builder()
+                .success(response.isSuccess())
+                .intent(response.getIntent())
+                .responseText(response.getResponseText())
+                .ttsAudioUrl(ttsAudioStore.url(fileId))
+                .songInfo(response.getSongInfo())
+                .screenTransition(response.getScreenTransition())
+                .build();
+    }
+
+    /**
+     * 오류 안내 음성 스트리밍 응답
+     */
+    private CompletableFuture<ResponseEntity<StreamingResponseBody>> streamingErrorResponse(
+            HttpHeaders headers, HttpStatus status, String errorCode, String message) {
+        headers.set("X-Success", "false");
+        headers.set("X-Response-Text", urlEncode(message));
+        if (errorCode != null) {
+            headers.set("X-Error-Code", errorCode);
+        }
+        CommandResponse textResponse = CommandResponse.builder()
+                .success(false)
+                .responseText(message)
+                .build();
+        return audioResponse(headers, status, voiceCommandPipeline.synthesizeAsync(message), textResponse);
+    }
+
+    /**
+     * 음성 합성 결과가 나오면 응답 (응답이 커밋되기 전에 TTS 실패 여부를 알 수 있도록)
+     * 요청 스레드는 바로 반환하고, 합성이 끝나면 비동기로 응답을 완성한다.
+     * - 성공: MP3를 청크 단위로 전송
+     * - 실패 / 제한 시간 초과 / 취소: 텍스트 응답(JSON)으로 대체하고 X-Tts-Error 헤더로 알림 (빈 음성을 성공으로 보내지 않음)
+     */
+    private CompletableFuture<ResponseEntity<StreamingResponseBody>> audioResponse(
+            HttpHeaders headers, HttpStatus status, CompletableFuture<byte[]> audio, CommandResponse textResponse) {
+        long waitStart = System.currentTimeMillis();
+        return audio.orTimeout(ttsWaitTimeoutMs, TimeUnit.MILLISECONDS)
+                .handle((audioData, error) -> {
+                    headers.set("X-Tts-Wait-Ms", String.valueOf(System.currentTimeMillis() - waitStart));
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        log.error("파이프라인 TTS 생성 실패, 텍스트 응답으로 대체: {}", cause.toString());
+                        headers.setContentType(MediaType.APPLICATION_JSON);
+                        headers.set("X-Tts-Error", ErrorCode.TTS_SERVICE_ERROR.name());
+                        return new ResponseEntity<StreamingResponseBody>(
+                                outputStream -> objectMapper.writeValue(outputStream, textResponse), headers, status);
+                    }
+                    return new ResponseEntity<StreamingResponseBody>(outputStream -> {
+                        for (int offset = 0; offset < audioData.length; offset += AUDIO_CHUNK_SIZE) {
+                            outputStream.write(audioData, offset,
+                                    Math.min(AUDIO_CHUNK_SIZE, audioData.length - offset));
+                            outputStream.flush();
+                        }
+                        log.info("파이프라인 음성 응답 완료: 오디오 크기={} bytes", audioData.length);
+                    }, headers, status);
+                });
+    }
+
+    /**
+     * 화면 전환 data를 헤더용 Base64URL(JSON)로 변환
+     * 응답 헤더 크기 제한을 넘으면 null (게임 시작 등 큰 data는 /commands/process 사용)
+     */
+    private String encodeScreenData(Map<String, Object> data) {
+        if (data == null || data.isEmpty()) {
+            return null;
+        }
+        try {
+            String encoded = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(objectMapper.writeValueAsBytes(data));
+            if (encoded.length() > MAX_SCREEN_DATA_HEADER_LENGTH) {
+                log.warn("화면 전환 data가 커서 헤더에서 제외: {} chars", encoded.length());
+                return null;
+            }
+            return encoded;
+        } catch (JsonProcessingException e) {
+            log.error("화면 전환 data 직렬화 실패", e);
+            return null;
+        }
+    }
+
+    private String urlEncode(String value) {
+        return value == null ? "" : URLEncoder.encode(value, StandardCharsets.UTF_8);
     }
 
     /**
@@ -0,0 +1,70 @@
+package com.heungbuja.command.mcp;
+
+import com.heungbuja.gpt.prompt.PromptTemplate;
+import com.heungbuja.gpt.prompt.PromptTemplateEngine;
+import com.heungbuja.gpt.prompt.TokenEstimator;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MCP Tool 선택 프롬프트
+ *
+ * 템플릿(prompts/mcp-tool-selection.txt)은 시작 시 한 번 파싱하고,
+ * Tool 설명과 Few-shot 예시는 그때 고정 문자열로 채워 둔다.
+ * 요청마다 바뀌는 값(응급 경고, 현재 상황, 사용자 명령, userId)은 모두 프롬프트 끝에 있어
+ * 앞부분이 항상 같으므로 GPT 제공자 측 프롬프트 캐시가 적용된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ToolSelectionPrompt {
+
+    private final PromptTemplateEngine promptTemplateEngine;
+
+    /** Few-shot 예시 토큰 예산 (초과하는 뒤쪽 예시는 제외) */
+    @Value("${gpt.prompt.tool-selection.example-token-budget:950}")
+    private int exampleTokenBudget;
+
+    private PromptTemplate template;
+
+    @PostConstruct
+    public void init() {
+        String tools = promptTemplateEngine.loadText("prompts/mcp-tools.txt").strip();
+        List<String> examples = promptTemplateEngine.loadBlocks("prompts/mcp-tool-selection-examples.txt");
+        List<String> selected = promptTemplateEngine.fitToBudget(examples, exampleTokenBudget);
+
+        this.template = promptTemplateEngine.load("prompts/mcp-tool-selection.txt")
+                .bind(Map.of(
+                        "tools", tools,
+                        "examples", String.join("\n\n", selected)
+                ));
+
+        String staticPrefix = template.getStaticPrefix();
+        log.info("MCP Tool 선택 프롬프트 준비: 예시 {}/{}개, 고정 prefix {}자 (약 {} 토큰)",
+                selected.size(), examples.size(), staticPrefix.length(), TokenEstimator.estimate(staticPrefix));
+    }
+
+    /**
+     * 프롬프트 렌더링
+     *
+     * @param emergencyWarning 응급 상황 경고 (없으면 빈 문자열)
+     * @param contextInfo 대화 컨텍스트
+     * @param userMessage 사용자 명령
+     * @param userId 사용자 ID
+     */
+    public String render(String emergencyWarning, String contextInfo, String userMessage, Long userId) {
+        Map<String, Object> values = new HashMap<>(8);
+        values.put("emergencyWarning", emergencyWarning);
+        values.put("context", contextInfo);
+        values.put("userMessage", userMessage);
+        values.put("userId", userId);
+        return template.render(values);
+    }
+}
@@ -0,0 +1,17 @@
+package com.heungbuja.command.service;
+
+/**
+ * 명령 처리 중간 진행 상황 리스너
+ * 파이프라인 엔드포인트에서 응답 문구가 확정되기 전에 TTS를 미리 시작하기 위해 사용
+ */
+@FunctionalInterface
+public interface CommandProgressListener {
+
+    /**
+     * Tool 선택 직후 예상되는 응답 문구가 정해졌을 때 호출
+     * (최종 응답과 다를 수 있으므로 호출한 쪽에서 최종 응답과 비교해야 함)
+     *
+     * @param expectedResponseText 예상 응답 문구
+     */
+    void onResponseTextPredicted(String expectedResponseText);
+}
@@ -18,4 +18,12 @@ public interface CommandService {
      * 텍스트 명령어 처리 (통합 엔드포인트)
      */
     CommandResponse processTextCommand(CommandRequest request);
+
+    /**
+     * 텍스트 명령어 처리 (진행 상황 알림)
+     * 응답 문구를 미리 알 수 있는 구현체는 Tool 실행 전에 listener를 호출한다.
+     */
+    default CommandResponse processTextCommand(CommandRequest request, CommandProgressListener listener) {
+        return processTextCommand(request);
+    }
 }
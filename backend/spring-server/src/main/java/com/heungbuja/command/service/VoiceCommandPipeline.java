@@ -0,0 +1,108 @@
+package com.heungbuja.command.service;
+
+import com.heungbuja.command.dto.CommandRequest;
+import com.heungbuja.command.dto.CommandResponse;
+import com.heungbuja.voice.service.TtsService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 음성 명령 파이프라인 (명령 처리와 TTS 병렬화)
+ *
+ * 기존 /commands/process는 명령 처리 → TTS를 순서대로 수행하지만,
+ * 여기서는 Tool 선택 직후 예상 응답 문구로 TTS를 먼저 시작하고 그동안 Tool을 실행한다.
+ * (게임 시작처럼 곡 데이터 로딩/Presigned URL 발급이 오래 걸리는 Tool에서 효과가 큼)
+ *
+ * 예상 문구가 최종 응답과 다르면 최종 응답으로 다시 합성한다.
+ * 먼저 합성한 음성은 버려지지만 TTS 캐시에는 남는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoiceCommandPipeline {
+
+    private final CommandService commandService;
+    private final TtsService ttsService;
+
+    /** 파이프라인 응답은 Intent와 무관하게 기본 음성 사용 (예상 문구 시점에는 Intent를 모름) */
+    private static final String VOICE_TYPE = "default";
+
+    @Value("${command.pipeline.tts-threads:4}")
+    private int ttsThreads;
+
+    private ThreadPoolTaskExecutor ttsExecutor;
+
+    @PostConstruct
+    public void init() {
+        ttsExecutor = new ThreadPoolTaskExecutor();
+        ttsExecutor.setCorePoolSize(ttsThreads);
+        ttsExecutor.setMaxPoolSize(ttsThreads);
+        ttsExecutor.setThreadNamePrefix("command-tts-");
+        ttsExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ttsExecutor.shutdown();
+    }
+
+    /**
+     * 텍스트 명령 처리 + TTS 합성 시작
+     * 명령 처리가 끝나면 바로 반환하며, 음성은 {@link Result#audio()}로 받는다.
+     */
+    public Result execute(Long userId, String text) {
+        AtomicReference<SpeculativeTts> speculative = new AtomicReference<>();
+
+        long commandStart = System.currentTimeMillis();
+        CommandResponse response = commandService.processTextCommand(
+                CommandRequest.builder().userId(userId).text(text).build(),
+                predicted -> speculative.set(new SpeculativeTts(predicted, synthesizeAsync(predicted))));
+        long commandMillis = System.currentTimeMillis() - commandStart;
+
+        String responseText = response.getResponseText();
+        SpeculativeTts prefetched = speculative.get();
+        boolean prefetchHit = prefetched != null && prefetched.text().equals(responseText);
+
+        CompletableFuture<byte[]> audio;
+        if (prefetchHit) {
+            audio = prefetched.audio();
+        } else if (responseText != null) {
+            if (prefetched != null) {
+                log.info("예상 응답 문구 불일치, TTS 재합성: predicted='{}', actual='{}'", prefetched.text(), responseText);
+            }
+            audio = synthesizeAsync(responseText);
+        } else {
+            audio = CompletableFuture.completedFuture(new byte[0]);
+        }
+
+        return new Result(response, commandMillis, prefetchHit, audio);
+    }
+
+    /**
+     * 안내 문구 TTS 합성 (오인식, 오류 응답용)
+     */
+    public CompletableFuture<byte[]> synthesizeAsync(String text) {
+        return CompletableFuture.supplyAsync(() -> ttsService.synthesizeBytes(text, VOICE_TYPE), ttsExecutor);
+    }
+
+    /**
+     * @param response 명령 처리 결과 (ttsAudioUrl 없음)
+     * @param commandMillis 명령 처리 소요 시간
+     * @param ttsPrefetched 예상 문구로 미리 시작한 TTS를 그대로 사용했는지 여부
+     * @param audio MP3 음성 (합성 중일 수 있음)
+     */
+    public record Result(CommandResponse response, long commandMillis, boolean ttsPrefetched,
+                         CompletableFuture<byte[]> audio) {
+    }
+
+    private record SpeculativeTts(String text, CompletableFuture<byte[]> audio) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.heungbuja.command.service.impl;
 
+import com.heungbuja.activity.service.ActivityEventBus;
 import com.heungbuja.command.dto.CommandRequest;
 import com.heungbuja.command.dto.CommandResponse;
 import com.heungbuja.command.dto.IntentResult;
@@ -17,9 +18,7 @@ import com.heungbuja.song.service.ListeningHistoryService;
 import com.heungbuja.song.service.SongService;
 import com.heungbuja.user.entity.User;
 import com.heungbuja.user.service.UserService;
-import com.heungbuja.voice.entity.VoiceCommand;
 import com.heungbuja.voice.enums.Intent;
-import com.heungbuja.voice.repository.VoiceCommandRepository;
 import com.heungbuja.voice.service.TtsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -64,7 +63,7 @@ public class CommandServiceImpl implements CommandService {
     private final com.heungbuja.song.service.SongGameDataCache songGameDataCache;
 
     // 기타
-    private final VoiceCommandRepository voiceCommandRepository;
+    private final ActivityEventBus activityEventBus;
     private final ResponseGenerator responseGenerator;
 
     // 활동 로그
@@ -580,16 +579,10 @@ public class CommandServiceImpl implements CommandService {
     }
 
     /**
-     * 음성 명령 로그 저장
+     * 음성 명령 로그 저장 (ActivityEventBus가 비동기 일괄 저장)
      */
     private void saveVoiceCommand(User user, String text, Intent intent) {
-        VoiceCommand command = VoiceCommand.builder()
-                .user(user)
-                .rawText(text)
-                .intent(intent.name())
-                .build();
-
-        voiceCommandRepository.save(command);
+        activityEventBus.publishVoiceCommand(user.getId(), text, intent.name());
     }
 
     /**
@@ -2,24 +2,27 @@ package com.heungbuja.command.service.impl;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heungbuja.activity.service.ActivityEventBus;
 import com.heungbuja.command.dto.CommandRequest;
+import com.heungbuja.command.dto.IntentResult;
 import com.heungbuja.command.dto.CommandResponse;
 import com.heungbuja.performance.annotation.MeasurePerformance;
 import com.heungbuja.command.mcp.McpToolService;
+import com.heungbuja.command.mcp.ToolSelectionPrompt;
 import com.heungbuja.command.mcp.dto.McpToolCall;
 import com.heungbuja.command.mcp.dto.McpToolDefinition;
 import com.heungbuja.command.mcp.dto.McpToolResult;
+import com.heungbuja.command.service.CommandProgressListener;
 import com.heungbuja.command.service.CommandService;
 import com.heungbuja.common.exception.CustomException;
 import com.heungbuja.common.exception.ErrorCode;
 import com.heungbuja.context.service.ConversationContextService;
 import com.heungbuja.gpt.dto.GptMessage;
 import com.heungbuja.gpt.service.GptService;
+import com.heungbuja.song.dto.SongInfoDto;
 import com.heungbuja.user.entity.User;
 import com.heungbuja.user.service.UserService;
-import com.heungbuja.voice.entity.VoiceCommand;
 import com.heungbuja.voice.enums.Intent;
-import com.heungbuja.voice.repository.VoiceCommandRepository;
 import com.heungbuja.voice.service.TtsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,8 +31,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * MCP 기반 명령 처리 서비스 구현체
@@ -52,13 +57,31 @@ public class McpCommandServiceImpl implements CommandService {
     private final ConversationContextService conversationContextService;
     private final com.heungbuja.session.service.SessionStateService sessionStateService;
     private final TtsService ttsService;
-    private final VoiceCommandRepository voiceCommandRepository;
+    private final ActivityEventBus activityEventBus;
+    private final ToolSelectionPrompt toolSelectionPrompt;
+    private final KeywordBasedIntentClassifier keywordBasedIntentClassifier;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    /** 실행 결과와 무관하게 응답 문구가 정해지는 Tool (Tool 실행 전 TTS 선행 가능) */
+    private static final Set<String> RESULT_INDEPENDENT_TOOLS = Set.of(
+            "start_game", "control_playback", "change_mode",
+            "handle_emergency", "cancel_emergency", "confirm_emergency");
+
     @Override
     @MeasurePerformance(component = "Command")
     @Transactional(noRollbackFor = {CustomException.class, Exception.class})
     public CommandResponse processTextCommand(CommandRequest request) {
+        return process(request, null);
+    }
+
+    @Override
+    @MeasurePerformance(component = "Command")
+    @Transactional(noRollbackFor = {CustomException.class, Exception.class})
+    public CommandResponse processTextCommand(CommandRequest request, CommandProgressListener listener) {
+        return process(request, listener);
+    }
+
+    private CommandResponse process(CommandRequest request, CommandProgressListener listener) {
         User user = userService.findById(request.getUserId());
         String text = request.getText().trim();
 
@@ -99,6 +122,9 @@ public class McpCommandServiceImpl implements CommandService {
                 return handleDirectGptResponse(user, text);
             }
 
+            // 2-1. 응답 문구를 Tool 호출만으로 알 수 있으면 미리 알림 (Tool 실행과 TTS 병렬화)
+            notifyPredictedResponse(listener, toolCalls);
+
             // 3. Tool 실행
             List<McpToolResult> toolResults = executeTools(toolCalls);
 
@@ -125,7 +151,71 @@ public class McpCommandServiceImpl implements CommandService {
     private List<McpToolCall> requestGptWithTools(String userMessage, String contextInfo, Long userId) {
         log.debug("[MCP] GPT에게 Tools 전달: message='{}'", userMessage);
 
-        return parseToolCallsFromGptResponse(userMessage, contextInfo, userId);
+        try {
+            return parseToolCallsFromGptResponse(userMessage, contextInfo, userId);
+        } catch (CustomException e) {
+            if (e.getErrorCode() != ErrorCode.GPT_UNAVAILABLE) {
+                throw e;
+            }
+            // GPT 과부하/서킷 OPEN → 키워드 기반 분석으로 Tool 선택
+            log.warn("[MCP] GPT 사용 불가, 키워드 기반 Tool 선택으로 대체: text='{}', reason={}", userMessage, e.getMessage());
+            List<McpToolCall> fallbackCalls = keywordFallbackToolCalls(userMessage, userId);
+            if (fallbackCalls.isEmpty()) {
+                throw new CustomException(ErrorCode.GPT_UNAVAILABLE, "지금은 명령을 이해하기 어려워요. 잠시 후 다시 말씀해주세요");
+            }
+            return fallbackCalls;
+        }
+    }
+
+    /**
+     * 키워드 기반 Intent → Tool 호출 변환 (GPT 사용 불가 시)
+     * 템플릿 응답이 있는 Tool만 만들어 최종 응답 생성에도 GPT가 필요 없게 한다.
+     */
+    private List<McpToolCall> keywordFallbackToolCalls(String text, Long userId) {
+        IntentResult intentResult = keywordBasedIntentClassifier.classify(text, userId);
+
+        Map<String, Object> args = new HashMap<>();
+        args.put("userId", userId);
+
+        String toolName = switch (intentResult.getIntent()) {
+            case EMERGENCY -> {
+                args.put("keyword", intentResult.getEntity("keyword"));
+                args.put("fullText", text);
+                yield "handle_emergency";
+            }
+            case EMERGENCY_CANCEL -> "cancel_emergency";
+            case EMERGENCY_CONFIRM -> "confirm_emergency";
+            case MUSIC_PAUSE, MUSIC_RESUME, MUSIC_NEXT, MUSIC_STOP -> {
+                args.put("action", intentResult.getIntent().name().substring("MUSIC_".length()));
+                yield "control_playback";
+            }
+            case MODE_HOME, MODE_LISTENING -> {
+                args.put("mode", intentResult.getIntent().name().substring("MODE_".length()));
+                yield "change_mode";
+            }
+            case MODE_EXERCISE_NO_SONG -> "start_game";
+            case SELECT_BY_ARTIST, SELECT_BY_TITLE, SELECT_BY_ARTIST_TITLE -> {
+                if (intentResult.getEntity("artist") != null) {
+                    args.put("artist", intentResult.getEntity("artist"));
+                }
+                if (intentResult.getEntity("title") != null) {
+                    args.put("title", intentResult.getEntity("title"));
+                }
+                yield "search_song";
+            }
+            default -> null;
+        };
+
+        if (toolName == null) {
+            return List.of();
+        }
+
+        log.info("[MCP] 키워드 기반 Tool 선택: intent={}, tool={}", intentResult.getIntent(), toolName);
+        return List.of(McpToolCall.builder()
+                .id("call_" + System.currentTimeMillis() + "_fallback")
+                .name(toolName)
+                .arguments(args)
+                .build());
     }
 
     /**
@@ -138,7 +228,7 @@ public class McpCommandServiceImpl implements CommandService {
         log.debug("[MCP] GPT에게 Tool 선택 요청");
 
         // GPT 호출
-        var gptResponse = gptService.chat(toolSelectionPrompt);
+        var gptResponse = gptService.classify(toolSelectionPrompt);
 
         if (gptResponse == null || gptResponse.getContent() == null) {
             log.warn("[MCP] GPT 응답 없음");
@@ -219,246 +309,8 @@ public class McpCommandServiceImpl implements CommandService {
             log.debug("일반 상황 명령 입력: userId={}, text='{}'", userId, userMessage);
         }
 
-        // Tools 설명
-        String toolsDescription = """
-                [사용 가능한 Tools]
-
-                1. search_song
-                   - 설명: 가수명, 제목, 연대, 장르, 분위기로 노래 검색
-                   - 파라미터:
-                     * userId (필수): 사용자 ID
-                     * artist: 가수명
-                     * title: 곡명
-                     * era: 연대 (1980s, 1990s 등)
-                     * genre: 장르 (발라드, 댄스, 트로트 등)
-                     * mood: 분위기 (슬픈, 경쾌한 등)
-                     * excludeSongId: 제외할 곡 ID
-
-                2. control_playback
-                   - 설명: 재생 제어 (일시정지, 재생, 다음곡, 정지)
-                   - 파라미터:
-                     * userId (필수): 사용자 ID
-                     * action (필수): PAUSE, RESUME, NEXT, STOP 중 하나
-
-                // 3. add_to_queue (사용 안 함 - 노인 사용자에게 복잡함)
-                //    - 설명: 대기열에 곡 추가
-                //    - 파라미터:
-                //      * userId (필수): 사용자 ID
-                //      * artist (필수): 가수명
-                //      * count: 추가할 곡 개수 (기본값: 1)
-
-                // 4. get_current_context (사용 안 함 - 이미 contextInfo로 제공됨)
-                //    - 설명: 현재 재생 상태, 대기열 정보 조회
-                //    - 파라미터:
-                //      * userId (필수): 사용자 ID
-
-                3. handle_emergency
-                   - 설명: **최초** 응급 상황 감지 및 신고 생성
-                   - 파라미터:
-                     * userId (필수): 사용자 ID
-                     * keyword (필수): 응급 키워드
-                     * fullText (필수): 전체 발화 텍스트
-                   - 사용 시점: "살려줘", "도와줘", "아파요" 등 응급 키워드를 **처음** 말할 때
-                   - 참고: 응급 신고가 이미 진행 중이라면 즉시 확정됨
-
-                4. cancel_emergency
-                   - 설명: 진행 중인 응급 신고 취소
-                   - 파라미터:
-                     * userId (필수): 사용자 ID
-                   - 사용 시점: 응급 신고 진행 중 사용자가 괜찮다고 응답할 때
-                   - 인식 키워드: "괜찮아", "괜찮습니다", "괜찮아요", "괜찮네요", "아니야", "아니에요", "취소", "취소해", "잘못 눌렀어", "실수야", "실수였어"
-
-                5. confirm_emergency
-                   - 설명: **진행 중인** 응급 신고를 즉시 확정 (60초 대기 건너뛰기)
-                   - 파라미터:
-                     * userId (필수): 사용자 ID
-                   - 사용 시점: 응급 신고 진행 중 "안 괜찮아", "안괜찮아", "빨리 신고해", "신고해", "위급해", "심각해" 등으로 응답할 때
-                   - ⚠️ 주의: handle_emergency와 명확히 구분! confirm_emergency는 **이미 신고가 진행 중**일 때만 사용
-
-                6. change_mode
-                   - 설명: 모드 변경 (홈, 감상, 체조)
-                   - 파라미터:
-                     * userId (필수): 사용자 ID
-                     * mode (필수): HOME, LISTENING, EXERCISE 중 하나
-
-                7. start_game
-                   - 설명: 게임(체조)을 시작합니다. 현재 선택된 노래 또는 랜덤 노래로 시작합니다.
-                   - 파라미터:
-                     * userId (필수): 사용자 ID
-                     * songId: 게임에 사용할 노래 ID (선택적)
-
-                8. start_game_with_song
-                   - 설명: 특정 노래로 게임(체조)을 시작합니다. 노래 검색과 게임 시작을 한 번에 처리합니다.
-                   - 파라미터:
-                     * userId (필수): 사용자 ID
-                     * title: 노래 제목
-                     * artist: 가수명 (선택적)
-                   - 사용 시점: 사용자가 "특정 노래로 체조/게임/운동"을 요청할 때
-                """;
-
-        return String.format("""
-                당신은 노인을 위한 음성 인터페이스 AI입니다.
-                사용자의 음성 명령을 분석하여 적절한 Tool을 선택하세요.
-                %s
-                [현재 상황]
-                %s
-
-                %s
-
-                [사용자 명령]
-                "%s"
-
-                [명령 분석 절차]
-                STEP 1: 사용자 명령에서 키워드 추출
-                  - 노래 이름이 있는가? (가수명, 곡명 등)
-                  - 체조/게임/운동 키워드가 있는가?
-                  - 재생 키워드가 있는가? (틀어/들려/듣고)
-
-                STEP 2: 패턴 결정
-                  ⚠️⚠️⚠️ 매우 중요: 하나의 명령에는 반드시 하나의 Tool만 호출! ⚠️⚠️⚠️
-                  ⚠️ 특히 응급 상황에서는 절대 여러 Tool 호출 금지!
-
-                  - 패턴 A (노래로 체조): 노래 이름 + "체조/게임/운동" → start_game_with_song (한 번에!)
-                  - 패턴 B (노래만 듣기): 노래 이름 + "틀어/들려/듣고" → search_song만
-                  - 패턴 C (랜덤 체조): "체조/게임/운동"만 → start_game만
-                  - 패턴 D (응급 취소): "괜찮아" 포함 → cancel_emergency만! (뒤에 다른 말이 있어도 무시!)
-                  - 패턴 E (응급 확정): "안괜찮아" 포함 → confirm_emergency만!
-
-                STEP 3: Tool 호출 생성
-                  - 패턴에 맞는 Tool 정확히 하나만 호출
-                  - 응급 상황에서 "괜찮아 XXX해줘"는 cancel_emergency만 호출! XXX 무시!
-
-                [패턴 A 예시: 노래로 체조 - start_game_with_song 사용]
-                "당돌한 여자로 체조하고 싶어" → start_game_with_song(title="당돌한 여자")
-                "당돌한 여자로 게임해줘" → start_game_with_song(title="당돌한 여자")
-                "서주경의 당돌한 여자로 운동할래" → start_game_with_song(artist="서주경", title="당돌한 여자")
-
-                [패턴 B 예시: 노래만 듣기 - search_song 사용]
-                "당돌한 여자 틀어줘" → search_song(title="당돌한 여자")
-                "당돌한 여자 들려줘" → search_song(title="당돌한 여자")
-                "당돌한 여자 듣고 싶어" → search_song(title="당돌한 여자")
-
-                [패턴 C 예시: 랜덤 체조 - start_game 사용]
-                "체조하고 싶어" → start_game()
-                "게임할래" → start_game()
-
-                [패턴 D 예시: 응급 상황 처리]
-                ⚠️ 응급 Tool 구분 규칙:
-                - handle_emergency: 처음 응급 키워드를 말할 때 (신고 생성)
-                - cancel_emergency: 신고 진행 중 취소 의사를 밝힐 때
-                - confirm_emergency: 신고 진행 중 확정 의사를 밝힐 때
-
-                시나리오 1 (최초 응급 신고):
-                "살려줘" → handle_emergency(keyword="살려줘", fullText="살려줘")
-                "아파요 도와주세요" → handle_emergency(keyword="아파요", fullText="아파요 도와주세요")
-
-                시나리오 2 (신고 진행 중 - 취소):
-                (이미 신고 진행 중) "괜찮아" → cancel_emergency()
-                (이미 신고 진행 중) "괜찮습니다" → cancel_emergency()
-                (이미 신고 진행 중) "괜찮아요" → cancel_emergency()
-                (이미 신고 진행 중) "아니야" → cancel_emergency()
-                (이미 신고 진행 중) "취소해" → cancel_emergency()
-                (이미 신고 진행 중) "잘못 눌렀어" → cancel_emergency()
-
-                시나리오 3 (신고 진행 중 - 즉시 확정):
-                (이미 신고 진행 중) "안괜찮아" → confirm_emergency()
-                (이미 신고 진행 중) "빨리 신고해" → confirm_emergency()
-                (이미 신고 진행 중) "신고해줘" → confirm_emergency()
-
-                시나리오 4 (신고 진행 중 - 중복 응급 키워드 = 즉시 확정):
-                (이미 신고 진행 중) "도와줘" → handle_emergency(keyword="도와줘", fullText="도와줘")
-                → 시스템이 자동으로 기존 신고를 즉시 확정 처리
-
-                [JSON 예시]
-                입력: "당돌한 여자로 체조하고 싶어"
-                응답:
-                {
-                  "tool_calls": [
-                    {"name": "start_game_with_song", "arguments": {"userId": 1, "title": "당돌한 여자"}}
-                  ]
-                }
-
-                입력: "당돌한 여자 들려줘"
-                응답:
-                {
-                  "tool_calls": [
-                    {"name": "search_song", "arguments": {"userId": 1, "title": "당돌한 여자"}}
-                  ]
-                }
-
-                입력: "체조하고 싶어"
-                응답:
-                {
-                  "tool_calls": [
-                    {"name": "start_game", "arguments": {"userId": 1}}
-                  ]
-                }
-
-                입력: "살려줘" (최초 응급 신고)
-                응답:
-                {
-                  "tool_calls": [
-                    {"name": "handle_emergency", "arguments": {"userId": 1, "keyword": "살려줘", "fullText": "살려줘"}}
-                  ]
-                }
-
-                입력: "안괜찮아" (신고 진행 중)
-                응답:
-                {
-                  "tool_calls": [
-                    {"name": "confirm_emergency", "arguments": {"userId": 1}}
-                  ]
-                }
-
-                입력: "괜찮아" (신고 진행 중)
-                응답:
-                {
-                  "tool_calls": [
-                    {"name": "cancel_emergency", "arguments": {"userId": 1}}
-                  ]
-                }
-
-                입력: "괜찮습니다" (신고 진행 중)
-                응답:
-                {
-                  "tool_calls": [
-                    {"name": "cancel_emergency", "arguments": {"userId": 1}}
-                  ]
-                }
-
-                입력: "아니야" (신고 진행 중)
-                응답:
-                {
-                  "tool_calls": [
-                    {"name": "cancel_emergency", "arguments": {"userId": 1}}
-                  ]
-                }
-
-                입력: "괜찮아 체조해줘" (신고 진행 중 - 복합 명령)
-                응답:
-                {
-                  "tool_calls": [
-                    {"name": "cancel_emergency", "arguments": {"userId": 1}}
-                  ]
-                }
-                ⚠️ 주의: "체조해줘"는 무시하고 cancel_emergency만 호출!
-
-                입력: "괜찮아요 노래 틀어줘" (신고 진행 중 - 복합 명령)
-                응답:
-                {
-                  "tool_calls": [
-                    {"name": "cancel_emergency", "arguments": {"userId": 1}}
-                  ]
-                }
-                ⚠️ 주의: "노래 틀어줘"는 무시하고 cancel_emergency만 호출!
-
-                [응답 형식]
-                - userId는 %d로 설정
-                - 반드시 JSON만 출력 (설명 금지)
-                - tool_calls는 배열이지만 대부분 하나의 Tool만 호출
-
-                JSON만 출력:
-                """, emergencyWarning, contextInfo, toolsDescription, userMessage, userId);
+        // 고정 부분(Tool 설명, 예시)은 시작 시 준비됨 → 요청마다 바뀌는 값만 채움
+        return toolSelectionPrompt.render(emergencyWarning, contextInfo, userMessage, userId);
     }
 
     /**
@@ -511,11 +363,42 @@ public class McpCommandServiceImpl implements CommandService {
 
         log.debug("[MCP] 템플릿 응답 생성 시도: toolName={}", toolName);
 
+        return templateFor(toolName, lastResult.getData(), lastResult.getSongInfo());
+    }
+
+    /**
+     * Tool 실행 전 응답 문구 예측
+     * 실행 결과에 의존하지 않는 Tool만 예측하며, 나머지는 null
+     */
+    private String predictTemplateResponse(List<McpToolCall> toolCalls) {
+        McpToolCall lastCall = toolCalls.get(toolCalls.size() - 1);
+        if (!RESULT_INDEPENDENT_TOOLS.contains(lastCall.getName())) {
+            return null;
+        }
+        // control_playback(action), change_mode(mode)는 arguments와 결과 data의 키가 같음
+        return templateFor(lastCall.getName(), lastCall.getArguments(), null);
+    }
+
+    private void notifyPredictedResponse(CommandProgressListener listener, List<McpToolCall> toolCalls) {
+        if (listener == null) {
+            return;
+        }
+        String predicted = predictTemplateResponse(toolCalls);
+        if (predicted != null) {
+            log.debug("[MCP] 응답 문구 예측: '{}'", predicted);
+            listener.onResponseTextPredicted(predicted);
+        }
+    }
+
+    /**
+     * Tool 이름과 data(또는 arguments)로 템플릿 응답 문구 생성
+     */
+    private String templateFor(String toolName, Object toolData, SongInfoDto songInfo) {
         return switch (toolName) {
             case "search_song" -> {
-                if (lastResult.getSongInfo() != null) {
-                    String artist = lastResult.getSongInfo().getArtist();
-                    String title = lastResult.getSongInfo().getTitle();
+                if (songInfo != null) {
+                    String artist = songInfo.getArtist();
+                    String title = songInfo.getTitle();
 
                     if (artist != null && !artist.isEmpty()) {
                         yield artist + "의 " + title + " 들려드릴게요";
@@ -530,9 +413,9 @@ public class McpCommandServiceImpl implements CommandService {
 
             case "start_game_with_song" -> {
                 // Tool arguments에서 곡명 추출 시도
-                if (lastResult.getData() instanceof Map) {
+                if (toolData instanceof Map) {
                     @SuppressWarnings("unchecked")
-                    Map<String, Object> data = (Map<String, Object>) lastResult.getData();
+                    Map<String, Object> data = (Map<String, Object>) toolData;
                     Object songTitle = data.get("songTitle");
                     if (songTitle != null) {
                         yield songTitle + "로 게임을 시작할게요";
@@ -542,9 +425,9 @@ public class McpCommandServiceImpl implements CommandService {
             }
 
             case "control_playback" -> {
-                if (lastResult.getData() instanceof Map) {
+                if (toolData instanceof Map) {
                     @SuppressWarnings("unchecked")
-                    Map<String, Object> data = (Map<String, Object>) lastResult.getData();
+                    Map<String, Object> data = (Map<String, Object>) toolData;
                     String action = (String) data.get("action");
 
                     if (action != null) {
@@ -569,9 +452,9 @@ public class McpCommandServiceImpl implements CommandService {
             case "confirm_emergency" -> "즉시 신고할게요";
 
             case "change_mode" -> {
-                if (lastResult.getData() instanceof Map) {
+                if (toolData instanceof Map) {
                     @SuppressWarnings("unchecked")
-                    Map<String, Object> data = (Map<String, Object>) lastResult.getData();
+                    Map<String, Object> data = (Map<String, Object>) toolData;
                     String mode = (String) data.get("mode");
 
                     if (mode != null) {
@@ -910,16 +793,10 @@ public class McpCommandServiceImpl implements CommandService {
     }
 
     /**
-     * 음성 명령 로그 저장
+     * 음성 명령 로그 저장 (ActivityEventBus가 비동기 일괄 저장)
      */
     private void saveVoiceCommand(User user, String text, Intent intent) {
-        VoiceCommand command = VoiceCommand.builder()
-                .user(user)
-                .rawText(text)
-                .intent(intent.name())
-                .build();
-
-        voiceCommandRepository.save(command);
+        activityEventBus.publishVoiceCommand(user.getId(), text, intent.name());
     }
 
     /**
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.heungbuja.command.dto.IntentResult;
 import com.heungbuja.command.service.IntentClassifier;
+import com.heungbuja.common.exception.CustomException;
+import com.heungbuja.common.exception.ErrorCode;
 import com.heungbuja.gpt.service.GptService;
 import com.heungbuja.voice.enums.Intent;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +30,7 @@ import java.util.Map;
 public class RagBasedIntentClassifier implements IntentClassifier {
 
     private final GptService gptService;
+    private final KeywordBasedIntentClassifier keywordBasedIntentClassifier;
     private final com.heungbuja.context.service.ConversationContextService conversationContextService;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -45,6 +48,18 @@ public class RagBasedIntentClassifier implements IntentClassifier {
             // JSON 응답 파싱
             return parseGptResponse(jsonResponse, text);
 
+        } catch (CustomException e) {
+            if (e.getErrorCode() == ErrorCode.GPT_UNAVAILABLE) {
+                // GPT 과부하/서킷 OPEN → 키워드 기반 분석으로 대체
+                log.warn("GPT 사용 불가, 키워드 기반 분석으로 대체: text={}, reason={}", text, e.getMessage());
+                return keywordBasedIntentClassifier.classify(text, userId);
+            }
+            log.error("Intent 분석 실패 (최적화): text={}", text, e);
+            return IntentResult.builder()
+                    .intent(Intent.UNKNOWN)
+                    .rawText(text)
+                    .confidence(0.0)
+                    .build();
         } catch (Exception e) {
             log.error("Intent 분석 실패 (최적화): text={}", text, e);
 
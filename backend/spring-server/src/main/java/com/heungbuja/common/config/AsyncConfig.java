@@ -1,19 +1,40 @@
 package com.heungbuja.common.config;
 
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import java.util.concurrent.Executor;
+
 /**
  * 비동기 및 스케줄링 설정
+ *
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true, Java 21 이상)에서는
+ * Tomcat 요청 처리와 함께 @Async 작업도 가상 스레드에서 실행한다.
  */
 @Configuration
-public class AsyncConfig {
+public class AsyncConfig implements AsyncConfigurer {
+
+    private final Environment environment;
+
+    /** 종료 시 실행 중인 @Async 작업 대기 시간 (가상 스레드 모드) */
+    private static final long ASYNC_TERMINATION_TIMEOUT_MS = 15_000;
+
+    private SimpleAsyncTaskExecutor virtualAsyncExecutor;
+
+    public AsyncConfig(Environment environment) {
+        this.environment = environment;
+    }
 
     /**
      * TaskScheduler Bean 등록
-     * EmergencyService의 10초 후 자동 confirm에 사용
+     * @Scheduled 작업(응급 신고 자동 확정 폴러 등)에 사용
      */
     @Bean
     public TaskScheduler taskScheduler() {
@@ -25,4 +46,30 @@ public class AsyncConfig {
         scheduler.initialize();
         return scheduler;
     }
+
+    /**
+     * @Async 실행기
+     * 가상 스레드 모드가 아니면 null → 기존과 같이 Spring 기본 실행기 사용
+     */
+    @Override
+    public Executor getAsyncExecutor() {
+        if (!Threading.VIRTUAL.isActive(environment)) {
+            return null;
+        }
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-vt-");
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(ASYNC_TERMINATION_TIMEOUT_MS);
+        virtualAsyncExecutor = executor;
+        return executor;
+    }
+
+    /**
+     * 빈으로 등록되지 않은 실행기이므로 직접 닫아 실행 중인 작업(성능 로그 저장 등)을 기다림
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (virtualAsyncExecutor != null) {
+            virtualAsyncExecutor.close();
+        }
+    }
 }
@@ -0,0 +1,34 @@
+package com.heungbuja.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * java.net.http HttpClient 설정
+ * OpenAI(GMS) STT/TTS 호출이 하나의 클라이언트를 공유하여 커넥션을 재사용
+ */
+@Configuration
+public class HttpClientConfig {
+
+    /**
+     * OpenAI API 공용 HttpClient
+     * - 고정 크기 executor (비동기 응답 처리 스레드 수 제한)
+     * - 인스턴스를 공유해야 keep-alive 커넥션 풀이 재사용됨
+     */
+    @Bean
+    public HttpClient openAiHttpClient(@Value("${openai.http.executor-threads:8}") int executorThreads) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("openai-http-");
+        threadFactory.setDaemon(true);
+
+        return HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(Executors.newFixedThreadPool(executorThreads, threadFactory))
+                .build();
+    }
+}
@@ -95,7 +95,15 @@ public class SecurityConfig {
                 "X-Response-Text",
                 "X-Song-Title",
                 "X-Song-Artist",
-                "X-Error-Code"
+                "X-Error-Code",
+                "X-Stt-Ms",
+                "X-Command-Ms",
+                "X-Tts-Prefetched",
+                "X-Tts-Wait-Ms",
+                "X-Tts-Error",
+                "X-Screen-Target",
+                "X-Screen-Action",
+                "X-Screen-Data"
         ));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -1,26 +1,142 @@
 package com.heungbuja.common.config;
 
+import com.heungbuja.common.websocket.InboundMessageDispatcher;
+import com.heungbuja.common.websocket.InboundRateLimitInterceptor;
+import com.heungbuja.common.websocket.RedisBrokerBridge;
+import com.heungbuja.game.replay.GameSessionRecorder;
+import com.heungbuja.game.service.FrameAdmissionInterceptor;
+import com.heungbuja.game.service.GameDrainCoordinator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.server.HandshakeInterceptor;
 
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Map;
+
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final Environment environment;
+    private final ObjectProvider<RedisBrokerBridge> redisBrokerBridge;
+    private final InboundMessageDispatcher inboundMessageDispatcher;
+    private final InboundRateLimitInterceptor inboundRateLimitInterceptor;
+    private final FrameAdmissionInterceptor frameAdmissionInterceptor;
+    private final ObjectProvider<GameSessionRecorder> gameSessionRecorder;
+
+    @Value("${app.websocket.outbound.threads:4}")
+    private int outboundThreads;
+
+    /**
+     * 브로커 모드
+     * - simple: 인메모리 SimpleBroker (단일 노드, 기본값)
+     * - relay: 외부 STOMP 브로커(RabbitMQ 등)로 중계, 연결 불가 시 simple로 대체
+     * - redis: SimpleBroker + Redis Pub/Sub 브릿지 (외부 브로커 없이 여러 노드)
+     */
+    @Value("${app.websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${app.websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${app.websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${app.websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${app.websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${app.websocket.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    /** 로드밸런서 세션 고정(sticky)용 노드 식별자 */
+    @Value("${app.websocket.node-id}")
+    private String nodeId;
+
+    /** relay 모드 시작 시 브로커 연결 확인 타임아웃 */
+    private static final int RELAY_PROBE_TIMEOUT_MS = 2000;
+
+    public WebSocketConfig(Environment environment,
+                           ObjectProvider<RedisBrokerBridge> redisBrokerBridge,
+                           InboundMessageDispatcher inboundMessageDispatcher,
+                           InboundRateLimitInterceptor inboundRateLimitInterceptor,
+                           FrameAdmissionInterceptor frameAdmissionInterceptor,
+                           ObjectProvider<GameSessionRecorder> gameSessionRecorder) {
+        this.environment = environment;
+        this.redisBrokerBridge = redisBrokerBridge;
+        this.inboundMessageDispatcher = inboundMessageDispatcher;
+        this.inboundRateLimitInterceptor = inboundRateLimitInterceptor;
+        this.frameAdmissionInterceptor = frameAdmissionInterceptor;
+        this.gameSessionRecorder = gameSessionRecorder;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        if ("relay".equals(brokerMode) && isRelayReachable()) {
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+            if (!relayVirtualHost.isBlank()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+            log.info("STOMP 브로커 모드: relay ({}:{})", relayHost, relayPort);
+        } else {
+            config.enableSimpleBroker("/topic");
+
+            RedisBrokerBridge bridge = redisBrokerBridge.getIfAvailable();
+            if (bridge != null) {
+                config.configureBrokerChannel().interceptors(bridge);
+                log.info("STOMP 브로커 모드: simple + Redis 브릿지 (nodeId={})", nodeId);
+            } else {
+                log.info("STOMP 브로커 모드: simple");
+            }
+        }
         config.setApplicationDestinationPrefixes("/app");
+        config.setPreservePublishOrder(true);
+    }
+
+    /**
+     * 외부 브로커 연결 가능 여부 (불가하면 SimpleBroker로 대체하여 단일 노드로라도 동작)
+     */
+    private boolean isRelayReachable() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(relayHost, relayPort), RELAY_PROBE_TIMEOUT_MS);
+            return true;
+        } catch (IOException e) {
+            log.warn("STOMP 브로커({}:{}) 연결 불가, simple 브로커로 대체: {}", relayHost, relayPort, e.getMessage());
+            return false;
+        }
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
+                .addInterceptors(new NodeAffinityHandshakeInterceptor())
                 .withSockJS()
                 .setStreamBytesLimit(10 * 1024 * 1024)  // SockJS 스트림 크기 제한: 10MB
                 .setHttpMessageCacheSize(10000)         // 메시지 캐시 크기
@@ -33,4 +149,61 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registration.setSendBufferSizeLimit(20 * 1024 * 1024); // 20MB (10MB에서 증가)
         registration.setSendTimeLimit(30 * 1000); // 30초 (20초에서 증가)
     }
+
+    /**
+     * 수신 채널: 제어/세션 레인 분리 실행기 + 수집 구간 밖 프레임 차단 + 세션별 프레임 속도 제한
+     * (가상 스레드 모드 여부는 실행기 내부에서 처리)
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // 기록기는 차단 전에 두어 클라이언트가 실제로 보낸 메시지를 그대로 남김
+        gameSessionRecorder.ifAvailable(registration::interceptors);
+        registration.interceptors(frameAdmissionInterceptor, inboundRateLimitInterceptor);
+        registration.executor(inboundMessageDispatcher);
+    }
+
+    /**
+     * 송신 채널: 게임 피드백 브로드캐스트용 고정 크기 풀
+     * (세션별 송신 순서는 setPreservePublishOrder로 보장)
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("stomp-outbound-vt-");
+            executor.setVirtualThreads(true);
+            registration.executor(executor);
+        } else {
+            registration.taskExecutor()
+                    .corePoolSize(outboundThreads)
+                    .maxPoolSize(outboundThreads);
+        }
+    }
+
+    /**
+     * 종료 시 GameDrainCoordinator가 클라이언트에 SERVER_DRAINING을 보낼 수 있도록
+     * 브로커/세션 처리 빈은 그보다 나중에 멈춤
+     */
+    @Override
+    public Integer getPhase() {
+        return GameDrainCoordinator.PHASE - 1;
+    }
+
+    /**
+     * 핸드셰이크 응답에 노드 ID 헤더 추가 (X-Ws-Node)
+     * 여러 노드 운영 시 로드밸런서가 이 값으로 세션을 고정할 수 있다.
+     */
+    private class NodeAffinityHandshakeInterceptor implements HandshakeInterceptor {
+
+        @Override
+        public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                       WebSocketHandler wsHandler, Map<String, Object> attributes) {
+            response.getHeaders().set("X-Ws-Node", nodeId);
+            return true;
+        }
+
+        @Override
+        public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Exception exception) {
+        }
+    }
 }
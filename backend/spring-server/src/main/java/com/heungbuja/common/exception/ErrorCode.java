@@ -44,11 +44,14 @@ public enum ErrorCode {
     INVALID_FILE_FORMAT(HttpStatus.BAD_REQUEST, "Invalid file format"),
     FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "File upload failed"),
     SONG_REGISTRATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "Song registration failed"),
+    SONG_ANALYSIS_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "Song analysis job not found"),
+    SONG_READ_MODEL_REPAIR_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "Game read model repair job not found"),
 
     // Game
     GAME_SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "Game session not found or has expired"),  // Redis에서 GameState를 찾지 못했을 때
     GAME_SESSION_INVALID(HttpStatus.BAD_REQUEST, "Invalid session for this request"),  // session id는 유효하지만, 함께 온 song id가 세션의  song id와 다를 때
     GAME_METADATA_NOT_FOUND(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to load essential game metadata"),  // startGame 시점에서 MongoDB에서 비트, 가사, 안무 정보 중 하나라도 찾지 못했을 때
+    SERVER_DRAINING(HttpStatus.SERVICE_UNAVAILABLE, "Server is shutting down, please retry shortly"),  // 종료 중인 노드에서 새 게임 시작 요청
 
     // Voice & Command
     STT_SERVICE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Speech-to-text service error"),
@@ -56,6 +59,7 @@ public enum ErrorCode {
     VOICE_RECOGNITION_FAILED(HttpStatus.BAD_REQUEST, "Voice recognition failed"),
     INTENT_UNKNOWN(HttpStatus.BAD_REQUEST, "Unable to understand the command"),
     COMMAND_EXECUTION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "Command execution failed"),
+    GPT_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "GPT service temporarily unavailable"),
 
     // Emergency
     EMERGENCY_NOT_FOUND(HttpStatus.NOT_FOUND, "Emergency report not found"),
@@ -0,0 +1,149 @@
+package com.heungbuja.common.util;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 실패율 기반 서킷 브레이커
+ *
+ * - CLOSED: 최근 windowSize개 호출 중 실패율이 threshold 이상이면 OPEN
+ * - OPEN: openDuration 동안 모든 호출을 즉시 거절
+ * - HALF_OPEN: 시험 호출 1개만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationMillis;
+
+    /** 가상 스레드 요청에서도 carrier 스레드를 고정하지 않도록 monitor 대신 사용 */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final boolean[] outcomes;
+    private int recorded;
+    private int next;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean trialInProgress;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openDurationMillis) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 가능 여부 (HALF_OPEN에서는 시험 호출 1개만 true)
+     */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (System.currentTimeMillis() - openedAt < openDurationMillis) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInProgress = false;
+            }
+            if (state == State.HALF_OPEN) {
+                if (trialInProgress) {
+                    return false;
+                }
+                trialInProgress = true;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                reset();
+                return;
+            }
+            record(false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                open();
+                return;
+            }
+            record(true);
+            if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+                open();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 허가받았지만 실제로 호출하지 않은 경우 (HALF_OPEN 시험 호출 반납)
+     */
+    public void onIgnored() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                trialInProgress = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean failure) {
+        if (recorded == windowSize && outcomes[next]) {
+            failures--;
+        }
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % windowSize;
+        if (recorded < windowSize) {
+            recorded++;
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        trialInProgress = false;
+    }
+
+    private void reset() {
+        state = State.CLOSED;
+        trialInProgress = false;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+        Arrays.fill(outcomes, false);
+    }
+}
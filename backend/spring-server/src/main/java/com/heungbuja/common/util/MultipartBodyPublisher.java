@@ -0,0 +1,90 @@
+package com.heungbuja.common.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * multipart/form-data 스트리밍 BodyPublisher
+ *
+ * 파트 헤더/텍스트는 작은 byte[]로, 파일은 InputStream으로 이어 붙여
+ * 전송 시점에 순서대로 읽는다. 파일 내용을 중간 버퍼에 복사하지 않는다.
+ * 전체 길이를 미리 계산하므로 chunked 인코딩 없이 Content-Length로 전송된다.
+ */
+public class MultipartBodyPublisher {
+
+    private static final String CRLF = "\r\n";
+
+    private final String boundary;
+    private final List<HttpRequest.BodyPublisher> publishers = new ArrayList<>();
+    private long contentLength = 0;
+
+    public MultipartBodyPublisher(String boundary) {
+        this.boundary = boundary;
+    }
+
+    /**
+     * 텍스트 파트 추가
+     */
+    public MultipartBodyPublisher addText(String name, String value) {
+        addBytes(("--" + boundary + CRLF
+                + "Content-Disposition: form-data; name=\"" + name + "\"" + CRLF + CRLF
+                + value + CRLF).getBytes(StandardCharsets.UTF_8));
+        return this;
+    }
+
+    /**
+     * 파일 파트 추가 (InputStream은 전송 시점에 열림)
+     *
+     * @param size 파일 크기 (bytes)
+     */
+    public MultipartBodyPublisher addFile(String name, String filename, String contentType,
+                                          long size, InputStreamSource source) {
+        addBytes(("--" + boundary + CRLF
+                + "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + filename + "\"" + CRLF
+                + "Content-Type: " + contentType + CRLF + CRLF).getBytes(StandardCharsets.UTF_8));
+
+        publishers.add(HttpRequest.BodyPublishers.ofInputStream(() -> {
+            try {
+                return source.open();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+        contentLength += size;
+
+        addBytes(CRLF.getBytes(StandardCharsets.UTF_8));
+        return this;
+    }
+
+    /**
+     * 종료 boundary를 붙여 BodyPublisher 생성
+     */
+    public HttpRequest.BodyPublisher build() {
+        addBytes(("--" + boundary + "--" + CRLF).getBytes(StandardCharsets.UTF_8));
+        HttpRequest.BodyPublisher concatenated = HttpRequest.BodyPublishers.concat(
+                publishers.toArray(new HttpRequest.BodyPublisher[0]));
+        return HttpRequest.BodyPublishers.fromPublisher(concatenated, contentLength);
+    }
+
+    public String getContentType() {
+        return "multipart/form-data; boundary=" + boundary;
+    }
+
+    private void addBytes(byte[] bytes) {
+        publishers.add(HttpRequest.BodyPublishers.ofByteArray(bytes));
+        contentLength += bytes.length;
+    }
+
+    /**
+     * 파일 InputStream 공급자 (MultipartFile::getInputStream 등)
+     */
+    @FunctionalInterface
+    public interface InputStreamSource {
+        InputStream open() throws IOException;
+    }
+}
@@ -0,0 +1,248 @@
+package com.heungbuja.common.websocket;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * clientInboundChannel 실행기
+ *
+ * 기본 실행기는 모든 메시지를 하나의 풀에서 처리하므로, 큰 Base64 프레임이 몰리면
+ * ping/구독 같은 가벼운 메시지까지 뒤로 밀린다. 여기서는 메시지를 두 갈래로 나눈다.
+ * - 제어 레인: SEND 외 메시지(CONNECT/SUBSCRIBE/DISCONNECT 등)와 /app/game/ping → 별도 풀에서 바로 실행
+ * - 세션 레인: 그 외 SEND → 세션별 큐에서 순서대로 하나씩 실행 (전역 락 없음, 세션 간에는 병렬)
+ *
+ * 세션 큐에 쌓인 메시지가 한도를 넘으면 가장 오래된 프레임(/app/game/frame, /app/game/pose)부터 버린다.
+ * (실시간 판정에서는 밀린 옛 프레임보다 최신 프레임이 중요함)
+ */
+@Slf4j
+@Component
+public class InboundMessageDispatcher implements Executor {
+
+    /** 제어 레인으로 보내는 SEND 목적지 */
+    private static final Set<String> CONTROL_DESTINATIONS = Set.of("/app/game/ping");
+
+    /** 큐 초과 시 버려도 되는 SEND 목적지 */
+    static final Set<String> DROPPABLE_DESTINATIONS = Set.of("/app/game/frame", "/app/game/pose");
+
+    private final Environment environment;
+
+    @Value("${app.websocket.inbound.control-threads:2}")
+    private int controlThreads;
+
+    @Value("${app.websocket.inbound.worker-threads:8}")
+    private int workerThreads;
+
+    /** 세션별 대기 메시지 한도 */
+    @Value("${app.websocket.inbound.session-queue-limit:4}")
+    private int sessionQueueLimit;
+
+    private Executor controlExecutor;
+    private Executor workerExecutor;
+
+    private final Map<String, SessionLane> lanes = new ConcurrentHashMap<>();
+    private final LongAdder droppedFrames = new LongAdder();
+
+    public InboundMessageDispatcher(Environment environment) {
+        this.environment = environment;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // 가상 스레드 모드: 풀 크기 제한 없이 블로킹 I/O 허용 (세션 내 순서는 레인이 보장)
+            controlExecutor = virtualExecutor("stomp-control-vt-");
+            workerExecutor = virtualExecutor("stomp-inbound-vt-");
+        } else {
+            controlExecutor = pooledExecutor("stomp-control-", controlThreads);
+            workerExecutor = pooledExecutor("stomp-inbound-", workerThreads);
+        }
+        log.info("STOMP 수신 실행기 초기화: control={}, worker={}, sessionQueueLimit={}",
+                controlThreads, workerThreads, sessionQueueLimit);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (controlExecutor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+        if (workerExecutor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!(task instanceof MessageHandlingRunnable handlingTask)) {
+            workerExecutor.execute(task);
+            return;
+        }
+
+        MessageHeaders headers = handlingTask.getMessage().getHeaders();
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(headers);
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+
+        if (messageType == SimpMessageType.DISCONNECT && sessionId != null) {
+            // 남은 큐는 레인 객체가 계속 처리하고, 맵에서만 제거
+            lanes.remove(sessionId);
+        }
+
+        if (messageType != SimpMessageType.MESSAGE || sessionId == null
+                || CONTROL_DESTINATIONS.contains(destination)) {
+            controlExecutor.execute(task);
+            return;
+        }
+
+        lanes.computeIfAbsent(sessionId, SessionLane::new)
+                .submit(handlingTask, DROPPABLE_DESTINATIONS.contains(destination));
+    }
+
+    /**
+     * 큐 초과로 버린 프레임 수 (누적)
+     */
+    public long getDroppedFrames() {
+        return droppedFrames.sum();
+    }
+
+    private Executor pooledExecutor(String threadNamePrefix, int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        // 종료 시 이미 받은 프레임은 처리하고 멈춤
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    private Executor virtualExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    /**
+     * 세션별 순차 실행 큐
+     * 한 번에 메시지 하나만 실행하고 다시 스케줄하므로, 프레임이 많은 세션이 워커를 독점하지 않는다.
+     */
+    private class SessionLane implements Runnable {
+
+        private final String sessionId;
+        private final ArrayDeque<Entry> queue = new ArrayDeque<>();
+        /** 가상 스레드 모드에서 carrier 스레드를 고정하지 않도록 monitor 대신 사용 */
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean scheduled;
+
+        SessionLane(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        void submit(MessageHandlingRunnable task, boolean droppable) {
+            boolean schedule;
+            lock.lock();
+            try {
+                // 같은 메시지를 여러 핸들러가 구독하므로 핸들러별 태스크를 한 항목으로 묶음
+                Entry last = queue.peekLast();
+                if (last != null && last.message == task.getMessage()) {
+                    last.tasks.add(task);
+                } else {
+                    queue.addLast(new Entry(task.getMessage(), droppable, task));
+                    if (queue.size() > sessionQueueLimit) {
+                        dropOldestFrame();
+                    }
+                }
+                schedule = !scheduled;
+                scheduled = true;
+            } finally {
+                lock.unlock();
+            }
+            if (schedule) {
+                workerExecutor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            Entry entry;
+            lock.lock();
+            try {
+                entry = queue.pollFirst();
+                if (entry == null) {
+                    scheduled = false;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            for (Runnable task : entry.tasks) {
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    log.error("STOMP 메시지 처리 실패: sessionId={}, error={}", sessionId, e.getMessage(), e);
+                }
+            }
+
+            boolean reschedule;
+            lock.lock();
+            try {
+                reschedule = !queue.isEmpty();
+                scheduled = reschedule;
+            } finally {
+                lock.unlock();
+            }
+            if (reschedule) {
+                workerExecutor.execute(this);
+            }
+        }
+
+        private void dropOldestFrame() {
+            Iterator<Entry> iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().droppable) {
+                    iterator.remove();
+                    droppedFrames.increment();
+                    log.debug("세션 큐 초과로 프레임 폐기: sessionId={}, queued={}", sessionId, queue.size());
+                    return;
+                }
+            }
+        }
+    }
+
+    private static class Entry {
+
+        private final Message<?> message;
+        private final boolean droppable;
+        private final List<Runnable> tasks = new ArrayList<>(2);
+
+        Entry(Message<?> message, boolean droppable, Runnable task) {
+            this.message = message;
+            this.droppable = droppable;
+            this.tasks.add(task);
+        }
+    }
+}
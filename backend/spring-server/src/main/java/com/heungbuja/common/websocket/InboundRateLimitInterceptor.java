@@ -0,0 +1,100 @@
+package com.heungbuja.common.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 세션별 프레임 수신 속도 제한 (clientInboundChannel 인터셉터)
+ *
+ * /app/game/frame, /app/game/pose 메시지를 세션마다 토큰 버킷으로 제한하고,
+ * 초과분은 핸들러로 넘기지 않고 버린다. (클라이언트가 과도한 FPS로 보내도 서버 처리량은 일정)
+ */
+@Slf4j
+@Component
+public class InboundRateLimitInterceptor implements ChannelInterceptor {
+
+    /** 세션별 초당 허용 프레임 수 */
+    @Value("${app.websocket.inbound.max-frames-per-second:30}")
+    private double maxFramesPerSecond;
+
+    /** 순간적으로 허용하는 프레임 수 (버킷 크기) */
+    @Value("${app.websocket.inbound.frame-burst:10}")
+    private double frameBurst;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final LongAdder rejectedFrames = new LongAdder();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(headers);
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        if (sessionId == null) {
+            return message;
+        }
+
+        if (messageType == SimpMessageType.DISCONNECT) {
+            buckets.remove(sessionId);
+            return message;
+        }
+
+        if (messageType != SimpMessageType.MESSAGE
+                || !InboundMessageDispatcher.DROPPABLE_DESTINATIONS.contains(SimpMessageHeaderAccessor.getDestination(headers))) {
+            return message;
+        }
+
+        if (buckets.computeIfAbsent(sessionId, id -> new TokenBucket(frameBurst)).tryConsume()) {
+            return message;
+        }
+
+        rejectedFrames.increment();
+        log.trace("프레임 수신 속도 초과로 폐기: sessionId={}", sessionId);
+        return null;
+    }
+
+    /**
+     * 속도 제한으로 버린 프레임 수 (누적)
+     */
+    public long getRejectedFrames() {
+        return rejectedFrames.sum();
+    }
+
+    private class TokenBucket {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private double tokens;
+        private long lastRefillNanos = System.nanoTime();
+
+        TokenBucket(double tokens) {
+            this.tokens = tokens;
+        }
+
+        boolean tryConsume() {
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                tokens = Math.min(frameBurst, tokens + (now - lastRefillNanos) / 1_000_000_000.0 * maxFramesPerSecond);
+                lastRefillNanos = now;
+                if (tokens < 1) {
+                    return false;
+                }
+                tokens -= 1;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
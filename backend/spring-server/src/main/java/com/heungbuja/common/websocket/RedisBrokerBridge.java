@@ -0,0 +1,270 @@
+package com.heungbuja.common.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.web.socket.messaging.AbstractSubProtocolEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis Pub/Sub 기반 STOMP 브로커 브릿지 (app.websocket.broker.mode=redis)
+ *
+ * 외부 STOMP 브로커 없이 여러 노드를 운영할 때 사용한다.
+ * - 이 노드에서 /topic으로 보내는 메시지는 로컬 SimpleBroker로 전달하면서 Redis 채널(목적지별)에도 발행
+ * - 다른 노드의 메시지는 이 노드에 해당 목적지 구독자가 있을 때만 받아서 로컬 SimpleBroker로 전달
+ *   (목적지별 채널을 구독자 수에 따라 구독/해제하므로 관계없는 노드로는 퍼지지 않음)
+ * - 수신 처리는 단일 스레드로 하므로 같은 목적지(게임 세션)의 메시지 순서가 유지됨
+ * - Redis 장애 시 발행만 실패하고 로컬 전달은 그대로 동작 (단일 노드 SimpleBroker와 동일)
+ * - 채널 구독/해제(Redis I/O)는 구독 이벤트 스레드가 아니라 별도 단일 스레드에서 현재 구독 수에 맞춰 반영
+ *
+ * 발행 비용: /topic 메시지는 다른 노드의 구독 여부와 관계없이 모두 Redis에 PUBLISH 한다. (메시지당 직렬화 + 왕복 1회)
+ * 구독자가 없는 채널의 메시지는 Redis가 바로 버리므로 다른 노드에는 부하가 없다.
+ * 원격 구독 여부를 노드마다 캐시하면 다른 노드로 막 재연결한 구독자의 메시지를 놓칠 수 있어 두지 않았다.
+ * 게임 피드백은 세션당 초당 몇 건 수준이므로, 발행량이 문제가 되면 app.websocket.broker.mode=relay(외부 브로커)를 쓴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.websocket.broker.mode", havingValue = "redis")
+public class RedisBrokerBridge implements ChannelInterceptor, MessageListener {
+
+    /** Redis 채널 접두사 (뒤에 STOMP 목적지가 붙음) */
+    private static final String CHANNEL_PREFIX = "ws:topic:";
+
+    /** 다른 노드에서 받아 로컬로 다시 보내는 메시지 표시 (재발행 방지) */
+    private static final String BRIDGED_HEADER = "wsBridged";
+
+    private final RedisConnectionFactory connectionFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MessageChannel brokerChannel;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+    private final String destinationPrefix;
+
+    private RedisMessageListenerContainer listenerContainer;
+    private ThreadPoolTaskExecutor dispatchExecutor;
+    private ThreadPoolTaskExecutor subscriptionExecutor;
+
+    /** 목적지별 로컬 구독 수 */
+    private final Map<String, Integer> localSubscriptions = new ConcurrentHashMap<>();
+
+    /** 실제로 Redis 채널을 구독 중인 목적지 (subscriptionExecutor에서만 변경) */
+    private final Set<String> subscribedDestinations = ConcurrentHashMap.newKeySet();
+
+    /** 세션별 구독 (subscriptionId → 목적지), 연결 종료 시 정리용 */
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    public RedisBrokerBridge(RedisConnectionFactory connectionFactory,
+                             StringRedisTemplate stringRedisTemplate,
+                             @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+                             ObjectMapper objectMapper,
+                             @Value("${app.websocket.node-id}") String nodeId,
+                             @Value("${app.websocket.broker.destination-prefix:/topic}") String destinationPrefix) {
+        this.connectionFactory = connectionFactory;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.brokerChannel = brokerChannel;
+        this.objectMapper = objectMapper;
+        this.nodeId = nodeId;
+        this.destinationPrefix = destinationPrefix;
+    }
+
+    @PostConstruct
+    public void init() {
+        // 단일 스레드 디스패치 → 수신 순서 = 발행 순서
+        dispatchExecutor = new ThreadPoolTaskExecutor();
+        dispatchExecutor.setCorePoolSize(1);
+        dispatchExecutor.setMaxPoolSize(1);
+        dispatchExecutor.setThreadNamePrefix("ws-bridge-");
+        dispatchExecutor.initialize();
+
+        // 채널 구독/해제 반영용 단일 스레드 (구독 이벤트 스레드에서 Redis I/O를 하지 않음)
+        subscriptionExecutor = new ThreadPoolTaskExecutor();
+        subscriptionExecutor.setCorePoolSize(1);
+        subscriptionExecutor.setMaxPoolSize(1);
+        subscriptionExecutor.setThreadNamePrefix("ws-bridge-sub-");
+        subscriptionExecutor.initialize();
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.setTaskExecutor(dispatchExecutor);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        log.info("Redis STOMP 브릿지 시작: nodeId={}, prefix={}", nodeId, destinationPrefix);
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        subscriptionExecutor.shutdown();
+        listenerContainer.destroy();
+        dispatchExecutor.shutdown();
+    }
+
+    // ===== 발행: brokerChannel 인터셉터 =====
+
+    @Override
+    public org.springframework.messaging.Message<?> preSend(org.springframework.messaging.Message<?> message,
+                                                          MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (headers.containsKey(BRIDGED_HEADER)
+                || SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null || !destination.startsWith(destinationPrefix)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        try {
+            Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+            BridgeEnvelope envelope = new BridgeEnvelope(nodeId, destination,
+                    contentType != null ? contentType.toString() : null,
+                    Base64.getEncoder().encodeToString(payload));
+            stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + destination, objectMapper.writeValueAsString(envelope));
+        } catch (Exception e) {
+            // 다른 노드 전달만 실패, 로컬 구독자에게는 그대로 전달
+            log.warn("Redis STOMP 브릿지 발행 실패: destination={}, error={}", destination, e.getMessage());
+        }
+        return message;
+    }
+
+    // ===== 수신: 다른 노드 메시지를 로컬 브로커로 =====
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            BridgeEnvelope envelope = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), BridgeEnvelope.class);
+            if (nodeId.equals(envelope.origin())) {
+                return;
+            }
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(envelope.destination());
+            if (envelope.contentType() != null) {
+                accessor.setContentType(MimeType.valueOf(envelope.contentType()));
+            }
+            accessor.setHeader(BRIDGED_HEADER, envelope.origin());
+            accessor.setLeaveMutable(true);
+
+            brokerChannel.send(MessageBuilder.createMessage(
+                    Base64.getDecoder().decode(envelope.payload()), accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.warn("Redis STOMP 브릿지 수신 처리 실패: channel={}, error={}",
+                    new String(message.getChannel(), StandardCharsets.UTF_8), e.getMessage());
+        }
+    }
+
+    // ===== 로컬 구독 추적 → 목적지별 Redis 채널 구독/해제 =====
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = accessorOf(event);
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(destinationPrefix)
+                || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        sessionSubscriptions.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), destination);
+
+        if (localSubscriptions.merge(destination, 1, Integer::sum) == 1) {
+            reconcile(destination);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = accessorOf(event);
+        Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions != null && accessor.getSubscriptionId() != null) {
+            release(subscriptions.remove(accessor.getSubscriptionId()));
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    private void release(String destination) {
+        if (destination == null) {
+            return;
+        }
+        if (localSubscriptions.computeIfPresent(destination, (key, count) -> count > 1 ? count - 1 : null) == null) {
+            reconcile(destination);
+        }
+    }
+
+    /**
+     * 목적지의 Redis 채널 구독 상태를 현재 로컬 구독 수에 맞춤
+     * 단일 스레드에서 실행 시점의 구독 수를 보고 판단하므로, 구독/해제가 빠르게 반복돼도 마지막 상태로 수렴한다.
+     */
+    private void reconcile(String destination) {
+        subscriptionExecutor.execute(() -> {
+            ChannelTopic topic = new ChannelTopic(CHANNEL_PREFIX + destination);
+            boolean wanted = localSubscriptions.containsKey(destination);
+            try {
+                if (wanted && subscribedDestinations.add(destination)) {
+                    listenerContainer.addMessageListener(this, topic);
+                    log.debug("Redis STOMP 브릿지 채널 구독: {}", destination);
+                } else if (!wanted && subscribedDestinations.remove(destination)) {
+                    listenerContainer.removeMessageListener(this, topic);
+                    log.debug("Redis STOMP 브릿지 채널 구독 해제: {}", destination);
+                }
+            } catch (Exception e) {
+                // 다음 구독 변경 때 다시 시도
+                if (wanted) {
+                    subscribedDestinations.remove(destination);
+                } else {
+                    subscribedDestinations.add(destination);
+                }
+                log.warn("Redis STOMP 브릿지 채널 구독 변경 실패: destination={}, error={}", destination, e.getMessage());
+            }
+        });
+    }
+
+    private SimpMessageHeaderAccessor accessorOf(AbstractSubProtocolEvent event) {
+        return SimpMessageHeaderAccessor.wrap(event.getMessage());
+    }
+
+    /**
+     * 노드 간 전달 메시지 (payload는 Base64)
+     */
+    record BridgeEnvelope(String origin, String destination, String contentType, String payload) {
+    }
+}
@@ -5,10 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.TimeToLive;
-import org.springframework.data.redis.core.index.Indexed;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -24,24 +20,23 @@ import java.util.List;
  * - 마지막 상호작용 시각
  *
  * TTL: 30분 (1800초) - 30분간 상호작용이 없으면 세션 만료
+ *
+ * 저장 / 필드 단위 갱신은 ConversationContextStore가 담당 (이 객체는 조회 결과 스냅샷)
  */
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@RedisHash(value = "conversation_context")
 public class ConversationContext {
 
     /**
      * Redis Key: user:{userId}
      */
-    @Id
     private String id;  // "user:{userId}" 형식
 
     /**
-     * 사용자 ID (인덱스 추가 - findByUserId 지원)
+     * 사용자 ID
      */
-    @Indexed
     private Long userId;
 
     /**
@@ -67,14 +62,6 @@ public class ConversationContext {
     @Builder.Default
     private LocalDateTime lastInteractionAt = LocalDateTime.now();
 
-    /**
-     * TTL (Time To Live): 30분 = 1800초
-     * 30분간 상호작용이 없으면 Redis에서 자동 삭제
-     */
-    @TimeToLive
-    @Builder.Default
-    private Long ttl = 1800L;
-
     /**
      * Redis Key 생성 헬퍼
      */
@@ -0,0 +1,374 @@
+package com.heungbuja.context.repository;
+
+import com.heungbuja.context.entity.ConversationContext;
+import com.heungbuja.song.enums.PlaybackMode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 대화 컨텍스트 Redis 저장소 (필드 단위 갱신)
+ *
+ * - 필드: Hash conversation_context:user:{userId} (HSET으로 바뀐 필드만 기록)
+ * - 대기열: List conversation_context:user:{userId}:queue (RPUSH / LPOP / LRANGE)
+ * - TTL: 같은 파이프라인에서 두 키에 EXPIRE → 명령당 Redis 왕복 1회
+ * - 보조 인덱스(userId Set 등)는 쓰지 않는다. 키가 userId로 정해지므로 조회에 필요 없음
+ *
+ * 이전 방식(Spring Data Redis 객체 통째 저장)으로 만들어진 Hash와 필드 이름 / 값 형식이 같아 그대로 읽을 수 있고,
+ * Hash 안에 펼쳐 저장된 대기열(playlistQueue.[i])은 처음 접근할 때 List로 옮기고 이전 인덱스 키를 정리한다.
+ * 옮기기는 Lua 스크립트 하나로 확인 → 필드 삭제 → List 추가를 수행하므로 동시에 접근해도 한 번만 옮겨진다.
+ */
+@Slf4j
+@Component
+public class ConversationContextStore {
+
+    private static final String KEY_PREFIX = "conversation_context";
+    private static final String QUEUE_SUFFIX = ":queue";
+
+    private static final String FIELD_USER_ID = "userId";
+    private static final String FIELD_MODE = "currentMode";
+    private static final String FIELD_SONG_ID = "currentSongId";
+    private static final String FIELD_LAST_INTERACTION = "lastInteractionAt";
+
+    /** 이전 방식 Hash의 대기열 필드 (playlistQueue.[0], playlistQueue.[1] ...) */
+    private static final String LEGACY_QUEUE_MARKER = "playlistQueue.[0]";
+
+    /**
+     * 이전 방식 대기열 옮기기 (Lua 함수, 아래 스크립트들이 앞에 붙여 사용)
+     * KEYS[1]: Hash, KEYS[2]: 대기열 List, ttl: List 만료 시간(초)
+     * playlistQueue.[0]이 없으면 아무것도 하지 않고, 있으면 인덱스 순으로 List 앞쪽에 넣고 이전 필드를 지운다.
+     * 반환값: 옮긴 곡 ID (인덱스 순, 옮기지 않았으면 빈 배열)
+     */
+    private static final String MIGRATE_LEGACY_FUNCTION = """
+            local function migrate(hashKey, queueKey, ttl)
+                if redis.call('HEXISTS', hashKey, 'playlistQueue.[0]') == 0 then
+                    return {}
+                end
+                local fields = redis.call('HGETALL', hashKey)
+                local removed = {'_class', 'id', 'ttl'}
+                local byIndex = {}
+                local indices = {}
+                for i = 1, #fields, 2 do
+                    local field = fields[i]
+                    if string.sub(field, 1, 15) == 'playlistQueue.[' then
+                        table.insert(removed, field)
+                        local index = tonumber(string.match(field, '^playlistQueue%.%[(%d+)%]$'))
+                        if index then
+                            byIndex[index] = fields[i + 1]
+                            table.insert(indices, index)
+                        end
+                    end
+                end
+                table.sort(indices)
+                local queue = {}
+                for _, index in ipairs(indices) do
+                    table.insert(queue, byIndex[index])
+                end
+                redis.call('HDEL', hashKey, unpack(removed))
+                for i = #queue, 1, -1 do
+                    redis.call('LPUSH', queueKey, queue[i])
+                end
+                if #queue > 0 then
+                    redis.call('EXPIRE', queueKey, ttl)
+                end
+                return queue
+            end
+            """;
+
+    /**
+     * 이전 방식 대기열 옮기기
+     * ARGV[1]: TTL(초)
+     */
+    private static final RedisScript<List> MIGRATE_LEGACY_SCRIPT = new DefaultRedisScript<>(
+            MIGRATE_LEGACY_FUNCTION + "return migrate(KEYS[1], KEYS[2], ARGV[1])", List.class);
+
+    /**
+     * 대기열 맨 앞 곡 꺼내기 (이전 방식 옮기기 → 상호작용 필드 갱신 → LPOP → 두 키 TTL 갱신)
+     * ARGV[1]: TTL(초), ARGV[2]: userId, ARGV[3]: lastInteractionAt
+     * 반환값: 꺼낸 곡 ID (비어 있으면 nil)
+     */
+    private static final RedisScript<String> POP_QUEUE_SCRIPT = new DefaultRedisScript<>(
+            MIGRATE_LEGACY_FUNCTION + """
+            migrate(KEYS[1], KEYS[2], ARGV[1])
+            redis.call('HSET', KEYS[1], 'userId', ARGV[2], 'lastInteractionAt', ARGV[3])
+            local popped = redis.call('LPOP', KEYS[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return popped
+            """, String.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /** 마지막 상호작용 후 세션 유지 시간 */
+    @Value("${conversation-context.ttl-seconds:1800}")
+    private long ttlSeconds;
+
+    public ConversationContextStore(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 컨텍스트 조회 (HGETALL + LRANGE 한 번에)
+     */
+    public Optional<ConversationContext> find(Long userId) {
+        String key = key(userId);
+        List<Object> results = pipeline(connection -> {
+            connection.hGetAll(key);
+            connection.lRange(queueKey(userId), 0, -1);
+        });
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> fields = (Map<String, String>) results.get(0);
+        if (fields == null || fields.isEmpty()) {
+            return Optional.empty();
+        }
+        List<Long> queue = toSongIds(results.get(1));
+        if (fields.containsKey(LEGACY_QUEUE_MARKER)) {
+            // 다른 요청이 먼저 옮겼을 수도 있으므로 옮긴 뒤의 List를 다시 읽음
+            migrateLegacy(userId);
+            queue = toSongIds(stringRedisTemplate.opsForList().range(queueKey(userId), 0, -1));
+        }
+        return Optional.of(toContext(userId, fields, queue));
+    }
+
+    /**
+     * 컨텍스트가 없으면 기본값(HOME)으로 생성
+     */
+    public ConversationContext create(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_USER_ID, String.valueOf(userId));
+        fields.put(FIELD_MODE, PlaybackMode.HOME.name());
+        fields.put(FIELD_LAST_INTERACTION, now.toString());
+
+        String key = key(userId);
+        pipeline(connection -> {
+            connection.hMSet(key, fields);
+            connection.expire(key, ttlSeconds);
+        });
+
+        return ConversationContext.builder()
+                .id(ConversationContext.createKey(userId))
+                .userId(userId)
+                .currentMode(PlaybackMode.HOME)
+                .lastInteractionAt(now)
+                .build();
+    }
+
+    // ===== 필드 갱신 =====
+
+    /**
+     * 모드 변경
+     */
+    public void updateMode(Long userId, PlaybackMode mode) {
+        Map<String, String> fields = touchedFields(userId);
+        fields.put(FIELD_MODE, mode.name());
+        write(userId, connection -> connection.hMSet(key(userId), fields));
+    }
+
+    /**
+     * 현재 재생 곡 변경 (null이면 필드 삭제)
+     */
+    public void updateCurrentSong(Long userId, Long songId) {
+        Map<String, String> fields = touchedFields(userId);
+        if (songId != null) {
+            fields.put(FIELD_SONG_ID, String.valueOf(songId));
+        }
+        write(userId, connection -> {
+            connection.hMSet(key(userId), fields);
+            if (songId == null) {
+                connection.hDel(key(userId), FIELD_SONG_ID);
+            }
+        });
+    }
+
+    /**
+     * 컨텍스트 전체 덮어쓰기 (이전 방식 필드 / 인덱스도 함께 제거)
+     */
+    public void save(ConversationContext context) {
+        Long userId = context.getUserId();
+        Map<String, String> fields = touchedFields(userId);
+        fields.put(FIELD_MODE, context.getCurrentMode().name());
+        if (context.getCurrentSongId() != null) {
+            fields.put(FIELD_SONG_ID, String.valueOf(context.getCurrentSongId()));
+        }
+        String[] queue = toValues(context.getPlaylistQueue());
+
+        String key = key(userId);
+        String queueKey = queueKey(userId);
+        pipeline(connection -> {
+            connection.del(key, queueKey);
+            connection.hMSet(key, fields);
+            if (queue.length > 0) {
+                connection.rPush(queueKey, queue);
+            }
+            connection.expire(key, ttlSeconds);
+            connection.expire(queueKey, ttlSeconds);
+            deleteLegacyIndexes(connection, userId);
+        });
+    }
+
+    // ===== 대기열 =====
+
+    /**
+     * 대기열 끝에 추가 (RPUSH)
+     */
+    public void pushToQueue(Long userId, List<Long> songIds) {
+        String[] values = toValues(songIds);
+        if (values.length == 0) {
+            return;
+        }
+        Map<String, String> fields = touchedFields(userId);
+        write(userId, connection -> {
+            connection.hMSet(key(userId), fields);
+            connection.rPush(queueKey(userId), values);
+        });
+    }
+
+    /**
+     * 대기열 맨 앞 곡 꺼내기 (LPOP), 비어 있으면 null
+     * 이전 방식 Hash라면 같은 스크립트 안에서 먼저 List로 옮긴 뒤 꺼낸다.
+     */
+    public Long popQueue(Long userId) {
+        String popped = stringRedisTemplate.execute(POP_QUEUE_SCRIPT,
+                List.of(key(userId), queueKey(userId)),
+                String.valueOf(ttlSeconds), String.valueOf(userId), LocalDateTime.now().toString());
+        return popped == null ? null : Long.valueOf(popped);
+    }
+
+    /**
+     * 대기열 비우기
+     */
+    public void clearQueue(Long userId) {
+        Map<String, String> fields = touchedFields(userId);
+        write(userId, connection -> {
+            connection.hMSet(key(userId), fields);
+            connection.del(queueKey(userId));
+        });
+    }
+
+    /**
+     * 컨텍스트 삭제 (이전 방식 인덱스 키 포함)
+     */
+    public void delete(Long userId) {
+        pipeline(connection -> {
+            connection.del(key(userId), queueKey(userId));
+            deleteLegacyIndexes(connection, userId);
+        });
+    }
+
+    // ===== 내부 =====
+
+    /**
+     * 갱신 파이프라인: [HEXISTS 이전 대기열 필드, ...갱신 명령, EXPIRE Hash, EXPIRE List]
+     * 이전 방식 Hash로 확인되면 대기열을 List로 옮긴다 (세션당 최초 1회).
+     */
+    private void write(Long userId, Consumer<StringRedisConnection> commands) {
+        String key = key(userId);
+        String queueKey = queueKey(userId);
+        List<Object> results = pipeline(connection -> {
+            connection.hExists(key, LEGACY_QUEUE_MARKER);
+            commands.accept(connection);
+            connection.expire(key, ttlSeconds);
+            connection.expire(queueKey, ttlSeconds);
+        });
+
+        if (Boolean.TRUE.equals(results.get(0))) {
+            migrateLegacy(userId);
+        }
+    }
+
+    /**
+     * Hash에 펼쳐진 이전 대기열 필드를 List 앞쪽으로 옮김 (이전 대기열이 먼저 재생되도록)
+     * 동시에 호출되어도 스크립트가 원자적으로 확인하므로 한 번만 옮겨진다.
+     */
+    @SuppressWarnings("unchecked")
+    private void migrateLegacy(Long userId) {
+        List<Object> migrated = stringRedisTemplate.execute(MIGRATE_LEGACY_SCRIPT,
+                List.of(key(userId), queueKey(userId)), String.valueOf(ttlSeconds));
+        if (migrated == null || migrated.isEmpty()) {
+            return;
+        }
+        pipeline(connection -> deleteLegacyIndexes(connection, userId));
+        log.info("이전 방식 대화 컨텍스트 변환: userId={}, 대기열 {}곡", userId, migrated.size());
+    }
+
+    /**
+     * Spring Data Redis가 만들던 보조 인덱스 키 정리
+     */
+    private void deleteLegacyIndexes(StringRedisConnection connection, Long userId) {
+        String id = ConversationContext.createKey(userId);
+        connection.sRem(KEY_PREFIX, id);
+        connection.sRem(KEY_PREFIX + ":" + FIELD_USER_ID + ":" + userId, id);
+        connection.del(key(userId) + ":idx", key(userId) + ":phantom");
+    }
+
+    private Map<String, String> touchedFields(Long userId) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_USER_ID, String.valueOf(userId));
+        fields.put(FIELD_LAST_INTERACTION, LocalDateTime.now().toString());
+        return fields;
+    }
+
+    private ConversationContext toContext(Long userId, Map<String, String> fields, List<Long> queue) {
+        String mode = fields.get(FIELD_MODE);
+        String songId = fields.get(FIELD_SONG_ID);
+        String lastInteraction = fields.get(FIELD_LAST_INTERACTION);
+        return ConversationContext.builder()
+                .id(ConversationContext.createKey(userId))
+                .userId(userId)
+                .currentMode(mode != null ? PlaybackMode.valueOf(mode) : PlaybackMode.HOME)
+                .currentSongId(songId != null ? Long.valueOf(songId) : null)
+                .playlistQueue(queue)
+                .lastInteractionAt(lastInteraction != null ? LocalDateTime.parse(lastInteraction) : LocalDateTime.now())
+                .build();
+    }
+
+    private List<Long> toSongIds(Object values) {
+        List<Long> songIds = new ArrayList<>();
+        if (values instanceof List<?> list) {
+            for (Object value : list) {
+                songIds.add(Long.valueOf(value.toString()));
+            }
+        }
+        return songIds;
+    }
+
+    private String[] toValues(List<Long> songIds) {
+        if (songIds == null) {
+            return new String[0];
+        }
+        return songIds.stream().map(String::valueOf).toArray(String[]::new);
+    }
+
+    private List<Object> pipeline(Consumer<StringRedisConnection> commands) {
+        return stringRedisTemplate.executePipelined((RedisCallback<Object>) (RedisConnection connection) -> {
+            commands.accept((StringRedisConnection) connection);
+            return null;
+        });
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + ":" + ConversationContext.createKey(userId);
+    }
+
+    private String queueKey(Long userId) {
+        return key(userId) + QUEUE_SUFFIX;
+    }
+}
@@ -1,9 +1,8 @@
 package com.heungbuja.context.service.impl;
 
 import com.heungbuja.context.entity.ConversationContext;
-import com.heungbuja.context.repository.ConversationContextRepository;
+import com.heungbuja.context.repository.ConversationContextStore;
 import com.heungbuja.context.service.ConversationContextService;
-import com.heungbuja.song.entity.Song;
 import com.heungbuja.song.enums.PlaybackMode;
 import com.heungbuja.song.repository.jpa.SongRepository;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +10,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 대화 컨텍스트 관리 서비스 구현체
@@ -20,59 +21,52 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ConversationContextServiceImpl implements ConversationContextService {
 
-    private final ConversationContextRepository contextRepository;
+    private final ConversationContextStore contextStore;
     private final SongRepository songRepository;
 
+    /** GPT 컨텍스트용 곡 표시명 캐시 (곡 정보는 거의 바뀌지 않음) */
+    private final Map<Long, SongLabel> songLabelCache = new ConcurrentHashMap<>();
+    private static final long SONG_LABEL_TTL_MILLIS = 10 * 60 * 1000L;
+    private static final int SONG_LABEL_CACHE_MAX_SIZE = 1000;
+
     @Override
     public ConversationContext getOrCreate(Long userId) {
-        String key = ConversationContext.createKey(userId);
-
-        // ID로 직접 조회 (더 확실함)
-        return contextRepository.findById(key)
+        return contextStore.find(userId)
                 .map(context -> {
                     log.debug("기존 컨텍스트 조회 성공: userId={}, currentSongId={}", userId, context.getCurrentSongId());
                     return context;
                 })
                 .orElseGet(() -> {
-                    ConversationContext newContext = ConversationContext.builder()
-                            .id(key)
-                            .userId(userId)
-                            .currentMode(PlaybackMode.HOME)
-                            .build();
-
                     log.info("새 대화 컨텍스트 생성: userId={}", userId);
-                    return contextRepository.save(newContext);
+                    return contextStore.create(userId);
                 });
     }
 
     @Override
     public ConversationContext save(ConversationContext context) {
-        return contextRepository.save(context);
+        contextStore.save(context);
+        return context;
     }
 
+    // 아래 갱신은 컨텍스트를 읽지 않고 바뀐 필드 / 대기열만 기록 (Redis 왕복 1회)
+
     @Override
     public void changeMode(Long userId, PlaybackMode newMode) {
-        ConversationContext context = getOrCreate(userId);
-        context.changeMode(newMode);
-        contextRepository.save(context);
+        contextStore.updateMode(userId, newMode);
 
         log.info("모드 변경: userId={}, mode={}", userId, newMode);
     }
 
     @Override
     public void setCurrentSong(Long userId, Long songId) {
-        ConversationContext context = getOrCreate(userId);
-        context.setCurrentSong(songId);
-        contextRepository.save(context);
+        contextStore.updateCurrentSong(userId, songId);
 
         log.info("현재 재생 곡 설정: userId={}, songId={}", userId, songId);
     }
 
     @Override
     public void addToQueue(Long userId, Long songId) {
-        ConversationContext context = getOrCreate(userId);
-        context.addToQueue(songId);
-        contextRepository.save(context);
+        contextStore.pushToQueue(userId, List.of(songId));
 
         log.debug("대기열에 곡 추가: userId={}, songId={}", userId, songId);
     }
@@ -83,18 +77,14 @@ public class ConversationContextServiceImpl implements ConversationContextServic
             return;
         }
 
-        ConversationContext context = getOrCreate(userId);
-        songIds.forEach(context::addToQueue);
-        contextRepository.save(context);
+        contextStore.pushToQueue(userId, songIds);
 
         log.info("대기열에 {} 곡 추가: userId={}", songIds.size(), userId);
     }
 
     @Override
     public Long pollNextSong(Long userId) {
-        ConversationContext context = getOrCreate(userId);
-        Long nextSongId = context.pollNextSong();
-        contextRepository.save(context);
+        Long nextSongId = contextStore.popQueue(userId);
 
         log.debug("대기열에서 다음 곡 가져오기: userId={}, songId={}", userId, nextSongId);
         return nextSongId;
@@ -102,16 +92,14 @@ public class ConversationContextServiceImpl implements ConversationContextServic
 
     @Override
     public void clearQueue(Long userId) {
-        ConversationContext context = getOrCreate(userId);
-        context.clearQueue();
-        contextRepository.save(context);
+        contextStore.clearQueue(userId);
 
         log.info("대기열 초기화: userId={}", userId);
     }
 
     @Override
     public void delete(Long userId) {
-        contextRepository.deleteByUserId(userId);
+        contextStore.delete(userId);
         log.info("대화 컨텍스트 삭제: userId={}", userId);
     }
 
@@ -119,19 +107,12 @@ public class ConversationContextServiceImpl implements ConversationContextServic
     public String formatContextForGpt(Long userId) {
         ConversationContext context = getOrCreate(userId);
 
-        // 현재 재생 중인 곡 정보
+        // 현재 재생 중인 곡 정보 (곡 제목/가수는 캐시에서 한 번만 조회)
         String currentSongInfo = "없음";
         if (context.getCurrentSongId() != null) {
-            songRepository.findById(context.getCurrentSongId())
-                    .ifPresent(song -> {
-                        // Use mutable holder pattern to modify in lambda
-                    });
-
-            // 람다 외부에서 처리하기 위해 다시 조회
-            var songOpt = songRepository.findById(context.getCurrentSongId());
-            if (songOpt.isPresent()) {
-                Song song = songOpt.get();
-                currentSongInfo = String.format("%s - %s", song.getArtist(), song.getTitle());
+            String songLabel = getSongLabel(context.getCurrentSongId());
+            if (songLabel != null) {
+                currentSongInfo = songLabel;
             }
         }
 
@@ -154,6 +135,30 @@ public class ConversationContextServiceImpl implements ConversationContextServic
         );
     }
 
+    /**
+     * "가수 - 제목" 조회 (TTL 동안 DB 재조회 없음, 없는 곡은 null)
+     */
+    private String getSongLabel(Long songId) {
+        long now = System.currentTimeMillis();
+        SongLabel cached = songLabelCache.get(songId);
+        if (cached != null && now - cached.loadedAt() < SONG_LABEL_TTL_MILLIS) {
+            return cached.label();
+        }
+
+        String label = songRepository.findById(songId)
+                .map(song -> String.format("%s - %s", song.getArtist(), song.getTitle()))
+                .orElse(null);
+
+        if (songLabelCache.size() >= SONG_LABEL_CACHE_MAX_SIZE) {
+            songLabelCache.clear();
+        }
+        songLabelCache.put(songId, new SongLabel(label, now));
+        return label;
+    }
+
+    private record SongLabel(String label, long loadedAt) {
+    }
+
     /**
      * 모드 설명 텍스트 변환
      */
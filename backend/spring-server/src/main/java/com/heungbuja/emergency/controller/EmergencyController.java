@@ -6,13 +6,15 @@ import com.heungbuja.emergency.dto.EmergencyResponse;
 import com.heungbuja.emergency.service.EmergencyService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/emergency")
@@ -42,10 +44,18 @@ public class EmergencyController {
 
     // 관리자용 API
     @GetMapping("/admins/reports")
-    public ResponseEntity<List<EmergencyResponse>> getConfirmedReports(Authentication authentication) {
+    public ResponseEntity<List<EmergencyResponse>> getConfirmedReports(
+            @AuthenticationPrincipal AdminPrincipal principal,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorReportedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(required = false) Integer size) {
         try {
-            // TODO: 관리자 권한 확인
-            List<EmergencyResponse> responses = emergencyService.getConfirmedReports();
+            // 슈퍼관리자는 전체, 일반 관리자는 담당 어르신의 신고만 조회
+            Long adminId = principal.isSuperAdmin() ? null : principal.getId();
+            List<EmergencyResponse> responses = emergencyService.getConfirmedReports(
+                    adminId, from, to, cursorReportedAt, cursorId, size);
             return ResponseEntity.ok(responses);
         } catch (Exception e) {
             // 명시적 로깅
@@ -55,6 +65,15 @@ public class EmergencyController {
         }
     }
 
+    @GetMapping("/admins/reports/unresolved-count")
+    public ResponseEntity<Map<String, Long>> getUnresolvedCount(
+            @AuthenticationPrincipal AdminPrincipal principal) {
+        // 슈퍼관리자는 전체 미처리 개수
+        Long adminId = principal.isSuperAdmin() ? null : principal.getId();
+        long count = emergencyService.getUnresolvedCount(adminId);
+        return ResponseEntity.ok(Map.of("count", count));
+    }
+
     @PutMapping("/admins/reports/{id}")
     public ResponseEntity<EmergencyResponse> handleReport(
             @AuthenticationPrincipal AdminPrincipal principal,
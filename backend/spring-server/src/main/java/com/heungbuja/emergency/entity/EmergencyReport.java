@@ -9,7 +9,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "emergency_reports")
+@Table(name = "emergency_reports", indexes = {
+        @Index(name = "idx_admin_status_reported", columnList = "admin_id, status, reported_at"),
+        @Index(name = "idx_status_reported", columnList = "status, reported_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -24,6 +27,13 @@ public class EmergencyReport {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    /**
+     * 담당 관리자 ID (users.admin_id 비정규화)
+     * 관리자별 신고 목록을 인덱스만으로 조회하기 위해 신고 생성 시점에 복사
+     */
+    @Column(name = "admin_id")
+    private Long adminId;
+
     @Column(name = "trigger_word", nullable = false, length = 100)
     private String triggerWord;
 
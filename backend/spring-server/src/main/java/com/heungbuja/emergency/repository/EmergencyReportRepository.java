@@ -2,10 +2,14 @@ package com.heungbuja.emergency.repository;
 
 import com.heungbuja.emergency.entity.EmergencyReport;
 import com.heungbuja.emergency.entity.EmergencyReport.ReportStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.Query;  // <-- 추가
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;                       // <-- 추가
 import java.util.List;
 
@@ -34,10 +38,56 @@ public interface EmergencyReportRepository extends JpaRepository<EmergencyReport
     @Query("SELECT r FROM EmergencyReport r JOIN FETCH r.user")
     List<EmergencyReport> findAllWithUser();
 
+    /**
+     * 관리자별 신고 목록 (키셋 페이지네이션, idx_admin_status_reported 사용)
+     * [from, to) 구간에서 (reportedAt, id) < (cursorReportedAt, cursorId) 인 신고를 최신순으로 조회
+     */
+    @Query("SELECT r FROM EmergencyReport r JOIN FETCH r.user " +
+            "WHERE r.status IN :statuses AND r.adminId = :adminId " +
+            "AND r.reportedAt >= :from AND r.reportedAt < :to " +
+            "AND (r.reportedAt < :cursorReportedAt " +
+            "     OR (r.reportedAt = :cursorReportedAt AND r.id < :cursorId)) " +
+            "ORDER BY r.reportedAt DESC, r.id DESC")
+    List<EmergencyReport> findPageByAdmin(@Param("adminId") Long adminId,
+                                          @Param("statuses") Collection<ReportStatus> statuses,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to,
+                                          @Param("cursorReportedAt") LocalDateTime cursorReportedAt,
+                                          @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
+
+    /**
+     * 전체 신고 목록 (슈퍼관리자용, 키셋 페이지네이션, idx_status_reported 사용)
+     */
+    @Query("SELECT r FROM EmergencyReport r JOIN FETCH r.user " +
+            "WHERE r.status IN :statuses " +
+            "AND r.reportedAt >= :from AND r.reportedAt < :to " +
+            "AND (r.reportedAt < :cursorReportedAt " +
+            "     OR (r.reportedAt = :cursorReportedAt AND r.id < :cursorId)) " +
+            "ORDER BY r.reportedAt DESC, r.id DESC")
+    List<EmergencyReport> findPage(@Param("statuses") Collection<ReportStatus> statuses,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to,
+                                   @Param("cursorReportedAt") LocalDateTime cursorReportedAt,
+                                   @Param("cursorId") Long cursorId,
+                                   Pageable pageable);
+
+    // 관리자별 특정 상태 신고 개수 (미처리 카운터 초기화용)
+    long countByAdminIdAndStatus(Long adminId, ReportStatus status);
+
     // 특정 사용자의 가장 최근 PENDING 신고 조회
     Optional<EmergencyReport> findFirstByUserIdAndStatusOrderByReportedAtDesc(Long userId, ReportStatus status);
 
     // 특정 사용자의 특정 상태 신고 모두 조회 (중복 생성 방지용)
     List<EmergencyReport> findAllByUserIdAndStatus(Long userId, ReportStatus status);
 
+    // 현재 상태가 일치할 때만 상태 변경 (자동 확정 멱등 처리용)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EmergencyReport r " +
+            "SET r.status = :next, r.isConfirmed = true " +
+            "WHERE r.id = :id AND r.status = :current")
+    int updateStatusIfCurrent(@Param("id") Long id,
+                              @Param("current") ReportStatus current,
+                              @Param("next") ReportStatus next);
+
 }
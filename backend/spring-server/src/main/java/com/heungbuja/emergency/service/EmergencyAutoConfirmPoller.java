@@ -0,0 +1,58 @@
+package com.heungbuja.emergency.service;
+
+import com.heungbuja.common.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 응급 신고 자동 확정 폴러
+ * 모든 노드에서 실행되며, 지연 큐에서 원자적으로 가져간 신고만 확정한다.
+ * 처리 중 실패하면 visibility timeout 이후 다시 가져가서 재시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmergencyAutoConfirmPoller {
+
+    private final EmergencyAutoConfirmQueue autoConfirmQueue;
+    private final EmergencyService emergencyService;
+
+    @Value("${emergency.auto-confirm.max-attempts:5}")
+    private int maxAttempts;
+
+    @Scheduled(fixedDelayString = "${emergency.auto-confirm.poll-interval-ms:50}")
+    public void pollDueReports() {
+        try {
+            for (EmergencyAutoConfirmQueue.ClaimedReport claimed : autoConfirmQueue.claimDue()) {
+                process(claimed);
+            }
+        } catch (Exception e) {
+            log.error("응급 신고 자동 확정 폴링 실패: {}", e.getMessage());
+        }
+    }
+
+    private void process(EmergencyAutoConfirmQueue.ClaimedReport claimed) {
+        Long reportId = claimed.reportId();
+        try {
+            emergencyService.autoConfirm(reportId);
+            autoConfirmQueue.acknowledge(reportId);
+        } catch (CustomException e) {
+            // 신고가 존재하지 않는 등 재시도해도 의미 없는 경우
+            log.warn("응급 신고 자동 확정 불가, 큐에서 제거: reportId={}, error={}", reportId, e.getMessage());
+            autoConfirmQueue.acknowledge(reportId);
+        } catch (Exception e) {
+            if (claimed.attempts() >= maxAttempts) {
+                log.error("응급 신고 자동 확정 재시도 초과, 큐에서 제거: reportId={}, attempts={}",
+                        reportId, claimed.attempts(), e);
+                autoConfirmQueue.acknowledge(reportId);
+            } else {
+                // acknowledge 하지 않으면 visibility timeout 이후 재시도됨
+                log.warn("응급 신고 자동 확정 실패, 재시도 예정: reportId={}, attempts={}, error={}",
+                        reportId, claimed.attempts(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.heungbuja.emergency.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 응급 신고 자동 확정 지연 큐 (Redis 기반)
+ *
+ * - delayed ZSET: reportId → 확정 예정 시각(ms)
+ * - processing ZSET: reportId → 처리 만료 시각(ms, visibility timeout)
+ * - attempts HASH: reportId → 처리 시도 횟수
+ *
+ * 서버가 재시작되어도 대기 중인 신고가 유지되고,
+ * 어느 노드에서 취소하더라도 ZREM 한 번으로 모든 노드에 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmergencyAutoConfirmQueue {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /** Redis 키 */
+    private static final String DELAYED_KEY = "emergency:auto-confirm:delayed";
+    private static final String PROCESSING_KEY = "emergency:auto-confirm:processing";
+    private static final String ATTEMPTS_KEY = "emergency:auto-confirm:attempts";
+
+    /**
+     * 만료된 처리 항목(재시도)과 기한이 된 대기 항목을 원자적으로 processing으로 이동
+     * 반환값: [reportId1, attempts1, reportId2, attempts2, ...]
+     */
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local claimed = {}
+            local limit = tonumber(ARGV[3])
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, limit)
+            for _, id in ipairs(expired) do
+                redis.call('ZADD', KEYS[2], ARGV[2], id)
+                table.insert(claimed, id)
+                table.insert(claimed, tostring(redis.call('HINCRBY', KEYS[3], id, 1)))
+            end
+            local remaining = limit - #expired
+            if remaining > 0 then
+                local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, remaining)
+                for _, id in ipairs(due) do
+                    redis.call('ZREM', KEYS[1], id)
+                    redis.call('ZADD', KEYS[2], ARGV[2], id)
+                    table.insert(claimed, id)
+                    table.insert(claimed, tostring(redis.call('HINCRBY', KEYS[3], id, 1)))
+                end
+            end
+            return claimed
+            """, List.class);
+
+    @Value("${emergency.auto-confirm.visibility-timeout-ms:30000}")
+    private long visibilityTimeoutMs;
+
+    @Value("${emergency.auto-confirm.claim-batch-size:20}")
+    private int claimBatchSize;
+
+    /**
+     * 자동 확정 예약 (ZADD)
+     */
+    public void schedule(Long reportId, long delayMillis) {
+        long dueAt = System.currentTimeMillis() + delayMillis;
+        stringRedisTemplate.opsForZSet().add(DELAYED_KEY, String.valueOf(reportId), dueAt);
+        log.info("응급 신고 자동 확정 예약: reportId={}, dueAt={}", reportId, dueAt);
+    }
+
+    /**
+     * 자동 확정 예약 취소 (ZREM)
+     * @return true: 대기 중이던 예약을 제거함
+     */
+    public boolean cancel(Long reportId) {
+        String member = String.valueOf(reportId);
+        Long removed = stringRedisTemplate.opsForZSet().remove(DELAYED_KEY, member);
+        stringRedisTemplate.opsForZSet().remove(PROCESSING_KEY, member);
+        stringRedisTemplate.opsForHash().delete(ATTEMPTS_KEY, member);
+        log.info("응급 신고 자동 확정 예약 취소: reportId={}, removed={}", reportId, removed);
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * 기한이 된 항목을 가져간다 (다른 노드와 중복 없이)
+     */
+    @SuppressWarnings("unchecked")
+    public List<ClaimedReport> claimDue() {
+        long now = System.currentTimeMillis();
+        List<Object> result = stringRedisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(DELAYED_KEY, PROCESSING_KEY, ATTEMPTS_KEY),
+                String.valueOf(now),
+                String.valueOf(now + visibilityTimeoutMs),
+                String.valueOf(claimBatchSize)
+        );
+
+        if (result == null || result.isEmpty()) {
+            return List.of();
+        }
+
+        List<ClaimedReport> claimed = new ArrayList<>(result.size() / 2);
+        for (int i = 0; i + 1 < result.size(); i += 2) {
+            claimed.add(new ClaimedReport(
+                    Long.valueOf(result.get(i).toString()),
+                    Integer.parseInt(result.get(i + 1).toString())
+            ));
+        }
+        return claimed;
+    }
+
+    /**
+     * 처리 완료 확인 (processing에서 제거)
+     */
+    public void acknowledge(Long reportId) {
+        String member = String.valueOf(reportId);
+        stringRedisTemplate.opsForZSet().remove(PROCESSING_KEY, member);
+        stringRedisTemplate.opsForHash().delete(ATTEMPTS_KEY, member);
+    }
+
+    /**
+     * 가져간 항목 (reportId + 시도 횟수)
+     */
+    public record ClaimedReport(Long reportId, int attempts) {
+    }
+}
@@ -4,6 +4,7 @@ import com.heungbuja.emergency.dto.EmergencyRequest;
 import com.heungbuja.emergency.dto.EmergencyResponse;
 import com.heungbuja.emergency.entity.EmergencyReport;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -21,6 +22,11 @@ public interface EmergencyService {
      */
     void scheduleAutoConfirm(Long reportId, int secondsDelay);
 
+    /**
+     * 자동 확정 실행 (지연 큐 폴러 호출, 멱등)
+     */
+    void autoConfirm(Long reportId);
+
     /**
      * 신고 취소 (ID 기반)
      */
@@ -47,9 +53,23 @@ public interface EmergencyService {
     EmergencyResponse handleReport(Long adminId, Long reportId, String notes);
 
     /**
-     * 신고 목록 조회 (관리자용, PENDING 제외)
+     * 신고 목록 조회 (관리자용, PENDING 제외, 최신순 키셋 페이지네이션)
+     * 커서/크기를 모두 생략하면 구간 전체를 반환한다 (기존 호출 호환)
+     * @param adminId 담당 관리자 ID (null이면 전체)
+     * @param from 조회 구간 시작 (포함, null이면 제한 없음)
+     * @param to 조회 구간 끝 (미포함, null이면 제한 없음)
+     * @param cursorReportedAt 커서 시각: 이전 페이지 마지막 신고의 reportedAt
+     * @param cursorId 커서 ID: 이전 페이지 마지막 신고의 reportId
+     * @param size 페이지 크기 (커서만 지정하면 기본값)
+     */
+    List<EmergencyResponse> getConfirmedReports(Long adminId, LocalDateTime from, LocalDateTime to,
+                                                LocalDateTime cursorReportedAt, Long cursorId, Integer size);
+
+    /**
+     * 관리자별 미처리(CONFIRMED) 신고 개수 (배지용, Redis 카운터)
+     * @param adminId 담당 관리자 ID (null이면 전체)
      */
-    List<EmergencyResponse> getConfirmedReports();
+    long getUnresolvedCount(Long adminId);
 
     /**
      * 신고 조회
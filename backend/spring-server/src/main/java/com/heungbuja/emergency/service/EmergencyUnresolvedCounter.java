@@ -0,0 +1,109 @@
+package com.heungbuja.emergency.service;
+
+import com.heungbuja.emergency.entity.EmergencyReport;
+import com.heungbuja.emergency.repository.EmergencyReportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 관리자별 미처리(CONFIRMED) 응급 신고 개수 카운터 (Redis)
+ * 관리자 배지는 DB 조회 없이 이 값을 읽는다.
+ *
+ * 상태 전이 시점에 관리자 키와 전체 키(슈퍼관리자용)를 함께 증감하며,
+ * 키가 없으면 DB에서 한 번 계산해 채운다.
+ * TTL이 지나면 다시 DB 값으로 보정된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmergencyUnresolvedCounter {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EmergencyReportRepository emergencyReportRepository;
+
+    private static final String UNRESOLVED_COUNT_PREFIX = "emergency:unresolved:";
+    private static final String ALL_ADMINS_KEY = UNRESOLVED_COUNT_PREFIX + "all";
+    private static final Duration COUNTER_TTL = Duration.ofDays(1);
+
+    /** 키가 있을 때만 증감 (없으면 다음 조회 때 DB 값으로 채움) */
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return redis.call('INCRBY', KEYS[1], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 미처리 개수 조회
+     * @param adminId 담당 관리자 ID (null이면 전체)
+     */
+    public long get(Long adminId) {
+        String key = adminId != null ? UNRESOLVED_COUNT_PREFIX + adminId : ALL_ADMINS_KEY;
+        String cached = stringRedisTemplate.opsForValue().get(key);
+        if (cached != null) {
+            return Math.max(0, Long.parseLong(cached));
+        }
+
+        long count = adminId != null
+                ? emergencyReportRepository.countByAdminIdAndStatus(adminId, EmergencyReport.ReportStatus.CONFIRMED)
+                : emergencyReportRepository.countByStatus(EmergencyReport.ReportStatus.CONFIRMED);
+        // SETNX로 채우고 다시 읽음: 다른 노드가 먼저 채운 뒤 증감했다면 그 값을 그대로 사용
+        stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), COUNTER_TTL);
+        String seeded = stringRedisTemplate.opsForValue().get(key);
+        return seeded != null ? Math.max(0, Long.parseLong(seeded)) : count;
+    }
+
+    /**
+     * PENDING/RESOLVED → CONFIRMED (트랜잭션 커밋 후 반영)
+     */
+    public void increment(Long adminId) {
+        afterCommit(adminId, 1);
+    }
+
+    /**
+     * CONFIRMED → RESOLVED/FALSE_ALARM (트랜잭션 커밋 후 반영)
+     */
+    public void decrement(Long adminId) {
+        afterCommit(adminId, -1);
+    }
+
+    private void afterCommit(Long adminId, long delta) {
+        if (adminId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(adminId, delta);
+                }
+            });
+        } else {
+            apply(adminId, delta);
+        }
+    }
+
+    private void apply(Long adminId, long delta) {
+        apply(UNRESOLVED_COUNT_PREFIX + adminId, adminId, delta);
+        apply(ALL_ADMINS_KEY, adminId, delta);
+    }
+
+    private void apply(String key, Long adminId, long delta) {
+        try {
+            stringRedisTemplate.execute(INCREMENT_IF_EXISTS_SCRIPT, List.of(key), String.valueOf(delta));
+        } catch (Exception e) {
+            // 카운터 실패가 신고 처리를 막지 않도록 키를 지워 다음 조회 때 재계산
+            log.warn("미처리 신고 카운터 갱신 실패: adminId={}, error={}", adminId, e.getMessage());
+            stringRedisTemplate.delete(key);
+        }
+    }
+}
@@ -8,8 +8,10 @@ import com.heungbuja.emergency.dto.EmergencyRequest;
 import com.heungbuja.emergency.dto.EmergencyResponse;
 import com.heungbuja.emergency.entity.EmergencyReport;
 import com.heungbuja.emergency.repository.EmergencyReportRepository;
+import com.heungbuja.emergency.service.EmergencyAutoConfirmQueue;
 import com.heungbuja.emergency.service.EmergencyNotificationService;
 import com.heungbuja.emergency.service.EmergencyService;
+import com.heungbuja.emergency.service.EmergencyUnresolvedCounter;
 import com.heungbuja.game.service.GameService;
 import com.heungbuja.session.enums.ActivityType;
 import com.heungbuja.session.service.SessionStateService;
@@ -18,15 +20,17 @@ import com.heungbuja.user.entity.User;
 import com.heungbuja.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.TaskScheduler;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.Optional;
 
@@ -43,9 +47,20 @@ public class EmergencyServiceImpl implements EmergencyService {
     private final AdminService adminService;
     private final SessionStateService sessionStateService;
     private final EmergencyNotificationService notificationService;
-    private final TaskScheduler taskScheduler;
+    private final EmergencyAutoConfirmQueue autoConfirmQueue;
+    private final EmergencyUnresolvedCounter unresolvedCounter;
     private final GameService gameService;
 
+    /** 관리자 목록에 노출되는 상태 (PENDING 제외) */
+    private static final Set<EmergencyReport.ReportStatus> LISTED_STATUSES = EnumSet.of(
+            EmergencyReport.ReportStatus.CONFIRMED,
+            EmergencyReport.ReportStatus.RESOLVED,
+            EmergencyReport.ReportStatus.FALSE_ALARM);
+
+    /** 신고 목록 페이지 기본/최대 개수 */
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+
     @Override
     @Transactional
     public EmergencyResponse detectEmergencyWithSchedule(EmergencyRequest request) {
@@ -136,6 +151,7 @@ public class EmergencyServiceImpl implements EmergencyService {
     private EmergencyReport createEmergencyReport(User user, EmergencyRequest request) {
         EmergencyReport report = EmergencyReport.builder()
                 .user(user)
+                .adminId(user.getAdmin().getId())
                 .triggerWord(request.getTriggerWord())
                 .fullText(request.getFullText())  // 전체 발화 텍스트 저장
                 .isConfirmed(false)
@@ -159,48 +175,76 @@ public class EmergencyServiceImpl implements EmergencyService {
         });
     }
 
+    /**
+     * 트랜잭션 커밋 후 자동 확정 예약 취소
+     * (롤백되면 PENDING 상태가 유지되므로 예약도 남겨둔다)
+     */
+    private void cancelAutoConfirmAfterCommit(Long reportId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                autoConfirmQueue.cancel(reportId);
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션 커밋 후 관리자에게 WebSocket 알림 전송
+     * (롤백되면 보내지 않음, 미처리 카운터는 EmergencyUnresolvedCounter가 커밋 후 반영)
+     */
+    private void sendAlertAfterCommit(EmergencyReport report) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notificationService.sendEmergencyAlert(report);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                notificationService.sendEmergencyAlert(report);
+                log.info("관리자에게 WebSocket 알림 전송 완료: reportId={}", report.getId());
+            }
+        });
+    }
+
     @Override
-    @Async
     public void scheduleAutoConfirm(Long reportId, int secondsDelay) {
         log.info("응급 신고 자동 확정 스케줄 등록: reportId={}, delay={}초", reportId, secondsDelay);
-        taskScheduler.schedule(
-                () -> autoConfirm(reportId),
-                java.util.Date.from(java.time.Instant.now().plusSeconds(secondsDelay))
-        );
+        // Redis 지연 큐에 등록 → 재시작/다중 노드에서도 유지되고, 어느 노드든 폴러가 확정
+        autoConfirmQueue.schedule(reportId, secondsDelay * 1000L);
     }
 
-    /**
-     * 자동 확정 실행 (스케줄러 호출)
-     */
+    @Override
     @Transactional
     public void autoConfirm(Long reportId) {
         log.info("응급 신고 자동 확정 실행: reportId={}", reportId);
 
-        // LazyInitializationException 방지: User와 Admin까지 fetch
-        EmergencyReport report = emergencyReportRepository.findByIdWithUserAndAdmin(reportId)
-                .orElseThrow(() -> new CustomException(ErrorCode.EMERGENCY_NOT_FOUND));
-
-        // 이미 취소되었으면 confirm하지 않음
-        if (report.getStatus() == EmergencyReport.ReportStatus.FALSE_ALARM) {
-            log.info("응급 신고가 이미 취소됨: reportId={}, status={}", reportId, report.getStatus());
+        // PENDING → CONFIRMED 조건부 갱신: 재시도/중복 실행되어도 한 번만 확정됨
+        if (!confirmIfPending(reportId)) {
+            log.info("응급 신고가 이미 처리됨 (취소 또는 확정): reportId={}", reportId);
             return;
         }
 
-        report.confirm(); // confirm + 상태 변경
-        emergencyReportRepository.save(report); // 명시적 저장 (TaskScheduler 스레드에서 트랜잭션 보장)
+        // LazyInitializationException 방지: User와 Admin까지 fetch
+        EmergencyReport report = emergencyReportRepository.findByIdWithUserAndAdmin(reportId)
+                .orElseThrow(() -> new CustomException(ErrorCode.EMERGENCY_NOT_FOUND));
         log.info("응급 신고 확정됨: reportId={}, status={}", reportId, report.getStatus());
 
-        // WebSocket으로 관리자에게 알림 전송
-        notificationService.sendEmergencyAlert(report);
-        log.info("관리자에게 WebSocket 알림 전송 완료: reportId={}", reportId);
+        // 카운터 / WebSocket 알림은 커밋 후 반영 (커밋 실패 후 폴러가 재시도해도 한 번만 전송)
+        unresolvedCounter.increment(adminIdOf(report));
+        sendAlertAfterCommit(report);
     }
 
     @Override
     @Transactional
     public void cancelReport(Long reportId) {
         EmergencyReport report = findById(reportId);
+        boolean wasUnresolved = report.getStatus() == EmergencyReport.ReportStatus.CONFIRMED;
         report.cancel();
         emergencyReportRepository.save(report);
+        cancelAutoConfirmAfterCommit(reportId);
+        if (wasUnresolved) {
+            unresolvedCounter.decrement(adminIdOf(report));
+        }
     }
 
     @Override
@@ -215,6 +259,7 @@ public class EmergencyServiceImpl implements EmergencyService {
 
         report.cancel();
         emergencyReportRepository.save(report);
+        cancelAutoConfirmAfterCommit(report.getId());
         log.info("응급 신고 취소됨: reportId={}, status={}", report.getId(), report.getStatus());
 
         // 응급 상태 해제 (IDLE로 전환)
@@ -233,13 +278,20 @@ public class EmergencyServiceImpl implements EmergencyService {
                 .findFirstByUserIdAndStatusOrderByReportedAtDesc(userId, EmergencyReport.ReportStatus.PENDING)
                 .orElseThrow(() -> new CustomException(ErrorCode.EMERGENCY_NOT_FOUND,
                         "확정할 응급 신고가 없습니다"));
+        Long reportId = report.getId();
+        cancelAutoConfirmAfterCommit(reportId);
 
-        report.confirm();
-        emergencyReportRepository.save(report);
-        log.info("응급 신고 확정됨: reportId={}, status={}", report.getId(), report.getStatus());
+        // 폴러와 동시에 확정하더라도 알림은 한 번만 전송
+        boolean confirmed = confirmIfPending(reportId);
+        report = emergencyReportRepository.findByIdWithUserAndAdmin(reportId)
+                .orElseThrow(() -> new CustomException(ErrorCode.EMERGENCY_NOT_FOUND));
+        log.info("응급 신고 확정됨: reportId={}, status={}", reportId, report.getStatus());
 
-        // 관리자에게 알림 전송
-        notificationService.sendEmergencyAlert(report);
+        // 관리자에게 알림 전송 (커밋 후)
+        if (confirmed) {
+            unresolvedCounter.increment(adminIdOf(report));
+            sendAlertAfterCommit(report);
+        }
 
         return EmergencyResponse.from(report, "알겠습니다. 지금 바로 신고하겠습니다");
     }
@@ -250,9 +302,14 @@ public class EmergencyServiceImpl implements EmergencyService {
         // Lazy Loading 방지: User와 Admin까지 fetch
         EmergencyReport report = emergencyReportRepository.findByIdWithUserAndAdmin(reportId)
                 .orElseThrow(() -> new CustomException(ErrorCode.EMERGENCY_NOT_FOUND));
+        boolean wasUnresolved = report.getStatus() == EmergencyReport.ReportStatus.CONFIRMED;
         report.confirm();
         emergencyReportRepository.save(report);
-        notificationService.sendEmergencyAlert(report);
+        cancelAutoConfirmAfterCommit(reportId);
+        if (!wasUnresolved) {
+            unresolvedCounter.increment(adminIdOf(report));
+        }
+        sendAlertAfterCommit(report);
 
         return EmergencyResponse.from(report, "관리자에게 알림이 전송되었습니다");
     }
@@ -264,24 +321,70 @@ public class EmergencyServiceImpl implements EmergencyService {
         EmergencyReport report = emergencyReportRepository.findByIdWithUserAndAdmin(reportId)
                 .orElseThrow(() -> new CustomException(ErrorCode.EMERGENCY_NOT_FOUND));
         Admin admin = adminService.findById(adminId);
+        boolean wasUnresolved = report.getStatus() == EmergencyReport.ReportStatus.CONFIRMED;
 
         report.handle(admin, notes);
         EmergencyReport savedReport = emergencyReportRepository.save(report);
+        if (wasUnresolved) {
+            unresolvedCounter.decrement(adminIdOf(report));
+        }
 
         return EmergencyResponse.from(savedReport, null);
     }
 
     @Override
-    public List<EmergencyResponse> getConfirmedReports() {
-        return emergencyReportRepository
-                .findAllWithUser()  // User를 함께 fetch하여 LazyInitializationException 방지
-                .stream()
-                .filter(report -> report.getStatus() != EmergencyReport.ReportStatus.PENDING)  // PENDING 제외
-                .sorted((a, b) -> b.getReportedAt().compareTo(a.getReportedAt()))  // 최신순 정렬
+    @Transactional(readOnly = true)
+    public List<EmergencyResponse> getConfirmedReports(Long adminId, LocalDateTime from, LocalDateTime to,
+                                                       LocalDateTime cursorReportedAt, Long cursorId, Integer size) {
+        // 필터/정렬/페이지 모두 DB에서 처리 (idx_admin_status_reported / idx_status_reported)
+        LocalDateTime windowFrom = from != null ? from : LocalDateTime.of(2000, 1, 1, 0, 0);
+        LocalDateTime windowTo = to != null ? to : LocalDateTime.of(9999, 12, 31, 0, 0);
+        LocalDateTime cursorAt = cursorReportedAt != null ? cursorReportedAt : windowTo;
+        Long cursor = cursorId != null ? cursorId : Long.MAX_VALUE;
+
+        // 페이지 파라미터가 없으면 구간 전체 (기존 호출 호환)
+        boolean paged = size != null || cursorReportedAt != null || cursorId != null;
+        Pageable limit = paged
+                ? PageRequest.of(0, size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE)))
+                : Pageable.unpaged();
+
+        List<EmergencyReport> reports = adminId != null
+                ? emergencyReportRepository.findPageByAdmin(
+                        adminId, LISTED_STATUSES, windowFrom, windowTo, cursorAt, cursor, limit)
+                : emergencyReportRepository.findPage(
+                        LISTED_STATUSES, windowFrom, windowTo, cursorAt, cursor, limit);
+
+        return reports.stream()
                 .map(report -> EmergencyResponse.from(report, null))
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public long getUnresolvedCount(Long adminId) {
+        return unresolvedCounter.get(adminId);
+    }
+
+    /**
+     * 신고의 담당 관리자 ID (admin_id가 비어 있는 기존 신고는 User에서 조회)
+     */
+    private Long adminIdOf(EmergencyReport report) {
+        if (report.getAdminId() != null) {
+            return report.getAdminId();
+        }
+        return report.getUser().getAdmin() != null ? report.getUser().getAdmin().getId() : null;
+    }
+
+    /**
+     * PENDING 상태일 때만 확정 (멱등)
+     * @return true: 이번 호출로 확정됨
+     */
+    private boolean confirmIfPending(Long reportId) {
+        return emergencyReportRepository.updateStatusIfCurrent(
+                reportId,
+                EmergencyReport.ReportStatus.PENDING,
+                EmergencyReport.ReportStatus.CONFIRMED) > 0;
+    }
+
     @Override
     public EmergencyReport findById(Long reportId) {
         return emergencyReportRepository.findById(reportId)
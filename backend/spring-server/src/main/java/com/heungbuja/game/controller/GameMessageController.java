@@ -1,5 +1,6 @@
 package com.heungbuja.game.controller;
 
+import com.heungbuja.game.dto.GameWebSocketMessage;
 import com.heungbuja.game.dto.WebSocketFrameRequest;
 import com.heungbuja.game.dto.WebSocketPoseRequest;
 import com.heungbuja.game.service.GameService;
@@ -7,6 +8,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 import java.util.Map;
 
@@ -16,6 +19,7 @@ import java.util.Map;
 public class GameMessageController {
 
     private final GameService gameService;
+    private final SimpMessagingTemplate messagingTemplate;
 
     /**
      * 프론트엔드로부터 실시간 프레임 데이터를 받는 WebSocket 엔드포인트.
@@ -36,9 +40,27 @@ public class GameMessageController {
         gameService.processFrame(request);
     }
 
-    @MessageMapping("/game/ping") // <-- 파라미터 없는 간단한 주소
-    public void handlePing() {
-        log.info("!!!!!!!! PING 메시지 수신 성공 !!!!!!!!");
+    /**
+     * 연결 확인용 ping (제어 레인에서 처리되므로 프레임이 몰려도 밀리지 않음)
+     * 본문: { sessionId, sentAt(숫자, 클라이언트 시각 또는 nonce) }
+     * 진행 중인 게임 세션일 때만 /topic/game/{sessionId}로 PONG { sentAt, serverTime }을 보낸다.
+     * (STOMP 연결에는 사용자 정보가 없으므로 /game/start에서 발급된 sessionId를 소유 증명으로 보고,
+     *  본문을 그대로 돌려주지 않아 다른 세션 토픽에 임의 내용을 보낼 수 없게 함)
+     */
+    @MessageMapping("/game/ping")
+    public void handlePing(@Payload(required = false) Map<String, Object> payload) {
+        log.debug("PING 메시지 수신");
+
+        if (payload == null || !(payload.get("sessionId") instanceof String sessionId) || sessionId.isBlank()
+                || !(payload.get("sentAt") instanceof Number sentAt)) {
+            return;
+        }
+        if (!gameService.isActiveSession(sessionId)) {
+            log.debug("진행 중이 아닌 세션의 PING 무시: sessionId={}", sessionId);
+            return;
+        }
+        messagingTemplate.convertAndSend("/topic/game/" + sessionId, new GameWebSocketMessage<>("PONG",
+                Map.of("sentAt", sentAt.longValue(), "serverTime", System.currentTimeMillis())));
     }
 
     /**
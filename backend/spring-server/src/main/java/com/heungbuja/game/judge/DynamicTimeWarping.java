@@ -0,0 +1,71 @@
+package com.heungbuja.game.judge;
+
+import java.util.Arrays;
+
+/**
+ * 특징 시퀀스 간 DTW 거리
+ *
+ * 동작 속도 차이(같은 동작을 조금 빠르거나 늦게 수행)를 흡수하기 위해 시간축을 정렬한 뒤 거리를 잰다.
+ * 시퀀스가 8프레임 안팎이므로 밴드 제한 없이 전체 행렬을 계산해도 수 마이크로초 수준이다.
+ */
+public final class DynamicTimeWarping {
+
+    private DynamicTimeWarping() {
+    }
+
+    /**
+     * @return 정렬 경로 길이로 나눈 평균 프레임 거리 (시퀀스가 비어 있으면 +∞)
+     */
+    public static double distance(float[][] a, float[][] b) {
+        int n = a.length;
+        int m = b.length;
+        if (n == 0 || m == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        // 누적 비용과 경로 길이를 두 행만 유지
+        double[] previousCost = new double[m + 1];
+        double[] currentCost = new double[m + 1];
+        int[] previousSteps = new int[m + 1];
+        int[] currentSteps = new int[m + 1];
+        Arrays.fill(previousCost, Double.POSITIVE_INFINITY);
+        previousCost[0] = 0;
+
+        for (int i = 1; i <= n; i++) {
+            currentCost[0] = Double.POSITIVE_INFINITY;
+            for (int j = 1; j <= m; j++) {
+                double cost = frameDistance(a[i - 1], b[j - 1]);
+
+                double best = previousCost[j - 1];
+                int steps = previousSteps[j - 1];
+                if (previousCost[j] < best) {
+                    best = previousCost[j];
+                    steps = previousSteps[j];
+                }
+                if (currentCost[j - 1] < best) {
+                    best = currentCost[j - 1];
+                    steps = currentSteps[j - 1];
+                }
+                currentCost[j] = best + cost;
+                currentSteps[j] = steps + 1;
+            }
+
+            double[] costSwap = previousCost;
+            previousCost = currentCost;
+            currentCost = costSwap;
+            int[] stepSwap = previousSteps;
+            previousSteps = currentSteps;
+            currentSteps = stepSwap;
+        }
+        return previousCost[m] / previousSteps[m];
+    }
+
+    private static double frameDistance(float[] a, float[] b) {
+        double sum = 0;
+        for (int k = 0; k < a.length; k++) {
+            double diff = a[k] - b[k];
+            sum += diff * diff;
+        }
+        return Math.sqrt(sum);
+    }
+}
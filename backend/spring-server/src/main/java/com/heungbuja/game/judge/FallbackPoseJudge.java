@@ -0,0 +1,172 @@
+package com.heungbuja.game.judge;
+
+import com.heungbuja.common.util.CircuitBreaker;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * motion-server 대체 판정기 (JVM 내부)
+ *
+ * motion-server가 느리거나 장애일 때 판정이 0점으로 기록되어 1절 평균(레벨 결정)이 왜곡되는 것을 막는다.
+ * - 서킷 브레이커: 지연 예산 초과/오류가 잦으면 motion-server 호출을 잠시 건너뛰고 바로 대체 판정
+ * - 대체 판정: 관절 특징 시퀀스를 동작별 기준 템플릿과 DTW로 비교
+ *   (목표 동작 템플릿이 가장 가까우면 거리로 1~3점, 다른 동작이 더 가까우면 1점)
+ *
+ * 템플릿은 PoseTemplateExporter로 PoseTrainingData에서 미리 만들어 둔 바이너리 파일을 읽는다.
+ * 템플릿이 없으면 대체할 판정이 없으므로 서킷 브레이커와 지연 예산을 쓰지 않고
+ * 기존처럼 motion-server 응답을 끝까지 기다린다 (느린 응답을 0점으로 만들지 않도록).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FallbackPoseJudge {
+
+    private static final int JUDGMENT_PERFECT = 3;
+    private static final int JUDGMENT_GOOD = 2;
+    private static final int JUDGMENT_BAD = 1;
+
+    private final ResourceLoader resourceLoader;
+
+    @Value("${game.fallback-judge.enabled:true}")
+    private boolean enabled;
+
+    @Value("${game.fallback-judge.template-location:classpath:judge/pose-templates.bin}")
+    private String templateLocation;
+
+    /** motion-server 판정 응답 지연 예산 (초과 시 실패로 보고 대체 판정) */
+    @Value("${game.fallback-judge.latency-budget-ms:1500}")
+    private long latencyBudgetMs;
+
+    /** 이 거리 미만이면 PERFECT */
+    @Value("${game.fallback-judge.perfect-distance:0.08}")
+    private double perfectDistance;
+
+    /** 이 거리 미만이면 GOOD, 이상이면 BAD */
+    @Value("${game.fallback-judge.good-distance:0.16}")
+    private double goodDistance;
+
+    @Value("${game.fallback-judge.circuit.window-size:20}")
+    private int circuitWindowSize;
+
+    @Value("${game.fallback-judge.circuit.minimum-calls:5}")
+    private int circuitMinimumCalls;
+
+    @Value("${game.fallback-judge.circuit.failure-rate-threshold:0.5}")
+    private double circuitFailureRateThreshold;
+
+    @Value("${game.fallback-judge.circuit.open-duration-ms:10000}")
+    private long circuitOpenDurationMillis;
+
+    private CircuitBreaker circuitBreaker;
+    private volatile PoseTemplates templates = PoseTemplates.empty();
+
+    @PostConstruct
+    public void init() {
+        circuitBreaker = new CircuitBreaker(circuitWindowSize, circuitMinimumCalls,
+                circuitFailureRateThreshold, circuitOpenDurationMillis);
+        if (enabled) {
+            templates = loadTemplates();
+        }
+    }
+
+    // ===== motion-server 호출 보호 =====
+
+    /**
+     * 대체 판정 가능 여부 (활성화되어 있고 템플릿이 로드됨)
+     * false면 서킷 브레이커와 지연 예산을 적용하지 않는다.
+     */
+    public boolean isAvailable() {
+        return enabled && !templates.isEmpty();
+    }
+
+    /**
+     * motion-server 호출 여부 (false면 바로 대체 판정, 대체 판정이 없으면 항상 호출)
+     */
+    public boolean allowRemote() {
+        return !isAvailable() || circuitBreaker.tryAcquire();
+    }
+
+    public void onRemoteSuccess() {
+        if (isAvailable()) {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    public void onRemoteFailure() {
+        if (isAvailable()) {
+            circuitBreaker.onFailure();
+        }
+    }
+
+    /**
+     * motion-server 응답 제한 시간 (대체 판정이 없으면 empty: 제한 없이 기다림)
+     */
+    public Optional<Duration> getLatencyBudget() {
+        return isAvailable() ? Optional.of(Duration.ofMillis(latencyBudgetMs)) : Optional.empty();
+    }
+
+    // ===== 대체 판정 =====
+
+    /**
+     * @return 판정 (1~3), 템플릿이 없거나 좌표가 부족하면 empty
+     */
+    public OptionalInt judge(int actionCode, List<List<List<Double>>> poseFrames) {
+        if (!enabled || templates.isEmpty() || poseFrames == null) {
+            return OptionalInt.empty();
+        }
+        float[][] target = templates.asMap().get(actionCode);
+        if (target == null) {
+            return OptionalInt.empty();
+        }
+        float[][] features = PoseFeatures.extract(poseFrames);
+        if (features.length == 0) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(score(templates, actionCode, target, features));
+    }
+
+    /**
+     * 주어진 템플릿으로 판정 (PoseTemplateExporter의 오프라인 정확도 비교용)
+     */
+    int score(PoseTemplates candidates, int actionCode, float[][] target, float[][] features) {
+        double targetDistance = DynamicTimeWarping.distance(features, target);
+        for (Map.Entry<Integer, float[][]> other : candidates.asMap().entrySet()) {
+            if (other.getKey() != actionCode && DynamicTimeWarping.distance(features, other.getValue()) < targetDistance) {
+                return JUDGMENT_BAD;
+            }
+        }
+        if (targetDistance < perfectDistance) {
+            return JUDGMENT_PERFECT;
+        }
+        return targetDistance < goodDistance ? JUDGMENT_GOOD : JUDGMENT_BAD;
+    }
+
+    private PoseTemplates loadTemplates() {
+        Resource resource = resourceLoader.getResource(templateLocation);
+        if (!resource.exists()) {
+            log.warn("Pose 기준 템플릿 없음 ({}), motion-server 장애 시 대체 판정 비활성", templateLocation);
+            return PoseTemplates.empty();
+        }
+        try (InputStream inputStream = resource.getInputStream()) {
+            PoseTemplates loaded = PoseTemplates.read(inputStream);
+            log.info("Pose 기준 템플릿 로드: {}개 동작 ({})", loaded.asMap().size(), templateLocation);
+            return loaded;
+        } catch (IOException e) {
+            log.error("Pose 기준 템플릿 로드 실패 ({}): {}", templateLocation, e.getMessage());
+            return PoseTemplates.empty();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.heungbuja.game.judge;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MediaPipe Pose 33개 랜드마크 → 정규화된 관절 특징 벡터
+ *
+ * 카메라 거리/위치에 영향을 덜 받도록 좌표 대신 관절 각도와 어깨 너비 기준 거리를 쓴다.
+ * - 0~5: 왼/오른 팔꿈치, 어깨, 골반 각도 (0~1, π 기준)
+ * - 6: 양 손목 사이 거리 (어깨 너비 기준)
+ * - 7~8: 왼/오른 손목 높이 (어깨선 기준, 위가 +)
+ */
+public final class PoseFeatures {
+
+    public static final int DIMENSIONS = 9;
+
+    private static final int LANDMARK_COUNT = 33;
+
+    private static final int NOSE = 0;
+    private static final int LEFT_SHOULDER = 11;
+    private static final int RIGHT_SHOULDER = 12;
+    private static final int LEFT_ELBOW = 13;
+    private static final int RIGHT_ELBOW = 14;
+    private static final int LEFT_WRIST = 15;
+    private static final int RIGHT_WRIST = 16;
+    private static final int LEFT_HIP = 23;
+    private static final int RIGHT_HIP = 24;
+    private static final int LEFT_KNEE = 25;
+    private static final int RIGHT_KNEE = 26;
+
+    /** 거리 특징 최대값 (어깨 너비 배수), 이 값으로 나눠 -1~1로 맞춤 */
+    private static final double DISTANCE_SCALE = 3.0;
+
+    private PoseFeatures() {
+    }
+
+    /**
+     * 프레임 시퀀스 → 특징 시퀀스 (랜드마크가 부족한 프레임은 제외)
+     */
+    public static float[][] extract(List<List<List<Double>>> poseFrames) {
+        List<float[]> features = new ArrayList<>(poseFrames.size());
+        for (List<List<Double>> frame : poseFrames) {
+            float[] vector = extractFrame(frame);
+            if (vector != null) {
+                features.add(vector);
+            }
+        }
+        return features.toArray(new float[0][]);
+    }
+
+    /**
+     * @return 특징 벡터, 랜드마크가 부족하면 null
+     */
+    public static float[] extractFrame(List<List<Double>> landmarks) {
+        if (landmarks == null || landmarks.size() < LANDMARK_COUNT) {
+            return null;
+        }
+        double[] xs = new double[LANDMARK_COUNT];
+        double[] ys = new double[LANDMARK_COUNT];
+        for (int i = 0; i < LANDMARK_COUNT; i++) {
+            List<Double> point = landmarks.get(i);
+            if (point == null || point.size() < 2 || point.get(0) == null || point.get(1) == null) {
+                return null;
+            }
+            xs[i] = point.get(0);
+            ys[i] = point.get(1);
+        }
+
+        double shoulderWidth = Math.hypot(xs[LEFT_SHOULDER] - xs[RIGHT_SHOULDER], ys[LEFT_SHOULDER] - ys[RIGHT_SHOULDER]);
+        if (shoulderWidth < 1e-6) {
+            return null;
+        }
+        double shoulderY = (ys[LEFT_SHOULDER] + ys[RIGHT_SHOULDER]) / 2;
+
+        float[] vector = new float[DIMENSIONS];
+        vector[0] = angle(xs, ys, LEFT_SHOULDER, LEFT_ELBOW, LEFT_WRIST);
+        vector[1] = angle(xs, ys, RIGHT_SHOULDER, RIGHT_ELBOW, RIGHT_WRIST);
+        vector[2] = angle(xs, ys, LEFT_HIP, LEFT_SHOULDER, LEFT_ELBOW);
+        vector[3] = angle(xs, ys, RIGHT_HIP, RIGHT_SHOULDER, RIGHT_ELBOW);
+        vector[4] = angle(xs, ys, LEFT_SHOULDER, LEFT_HIP, LEFT_KNEE);
+        vector[5] = angle(xs, ys, RIGHT_SHOULDER, RIGHT_HIP, RIGHT_KNEE);
+        vector[6] = scaled(Math.hypot(xs[LEFT_WRIST] - xs[RIGHT_WRIST], ys[LEFT_WRIST] - ys[RIGHT_WRIST]) / shoulderWidth);
+        // 이미지 좌표는 아래로 갈수록 y가 커지므로 부호 반전
+        vector[7] = scaled((shoulderY - ys[LEFT_WRIST]) / shoulderWidth);
+        vector[8] = scaled((shoulderY - ys[RIGHT_WRIST]) / shoulderWidth);
+        return vector;
+    }
+
+    /**
+     * b를 꼭짓점으로 하는 a-b-c 각도 (0~1)
+     */
+    private static float angle(double[] xs, double[] ys, int a, int b, int c) {
+        double v1x = xs[a] - xs[b];
+        double v1y = ys[a] - ys[b];
+        double v2x = xs[c] - xs[b];
+        double v2y = ys[c] - ys[b];
+        double norm = Math.hypot(v1x, v1y) * Math.hypot(v2x, v2y);
+        if (norm < 1e-9) {
+            return 0.5f;
+        }
+        double cos = Math.max(-1, Math.min(1, (v1x * v2x + v1y * v2y) / norm));
+        return (float) (Math.acos(cos) / Math.PI);
+    }
+
+    private static float scaled(double value) {
+        return (float) Math.max(-1, Math.min(1, value / DISTANCE_SCALE));
+    }
+}
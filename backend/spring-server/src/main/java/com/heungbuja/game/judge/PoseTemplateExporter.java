@@ -0,0 +1,177 @@
+package com.heungbuja.game.judge;
+
+import com.heungbuja.game.domain.PoseTrainingData;
+import com.heungbuja.game.entity.Action;
+import com.heungbuja.game.repository.jpa.ActionRepository;
+import com.heungbuja.game.repository.mongo.PoseTrainingDataRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pose 기준 템플릿 생성 (오프라인 작업)
+ *
+ * game.fallback-judge.export-path를 지정해 실행하면 시작 시 한 번 수행한다.
+ * - 동작별 PoseTrainingData에서 샘플을 뽑아 DTW 거리 합이 가장 작은 시퀀스(medoid)를 기준 템플릿으로 선택
+ * - 만든 템플릿으로 전체 샘플을 다시 판정해 동작 분류 정확도, 기록된 AI 판정과의 일치율, 판정 소요 시간을 로그로 남김
+ *
+ * 결과 파일은 src/main/resources/judge/pose-templates.bin에 넣거나 template-location으로 지정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "game.fallback-judge.export-path")
+public class PoseTemplateExporter implements ApplicationRunner {
+
+    private final PoseTrainingDataRepository poseTrainingDataRepository;
+    private final ActionRepository actionRepository;
+    private final FallbackPoseJudge fallbackPoseJudge;
+
+    @Value("${game.fallback-judge.export-path}")
+    private String exportPath;
+
+    /** 동작별 medoid 계산에 쓰는 최대 샘플 수 (DTW 쌍 계산이 제곱으로 늘어나므로 제한) */
+    @Value("${game.fallback-judge.export-max-samples:60}")
+    private int maxSamples;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Map<Integer, List<PoseTrainingData>> samplesByAction = new LinkedHashMap<>();
+        Map<Integer, float[][]> templates = new LinkedHashMap<>();
+
+        for (Action action : actionRepository.findAll()) {
+            List<PoseTrainingData> samples = poseTrainingDataRepository.findByActionCode(action.getActionCode());
+            if (samples.isEmpty()) {
+                continue;
+            }
+            samplesByAction.put(action.getActionCode(), samples);
+
+            float[][] medoid = medoid(samples);
+            if (medoid != null) {
+                templates.put(action.getActionCode(), medoid);
+                log.info("Pose 기준 템플릿 생성: actionCode={}, name={}, samples={}, frames={}",
+                        action.getActionCode(), action.getName(), samples.size(), medoid.length);
+            }
+        }
+
+        PoseTemplates poseTemplates = new PoseTemplates(templates);
+        Path path = Paths.get(exportPath);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            poseTemplates.write(outputStream);
+        }
+        log.info("Pose 기준 템플릿 저장 완료: {} ({}개 동작)", path.toAbsolutePath(), templates.size());
+
+        evaluate(poseTemplates, samplesByAction);
+    }
+
+    private float[][] medoid(List<PoseTrainingData> samples) {
+        List<float[][]> sequences = new ArrayList<>();
+        int step = Math.max(1, samples.size() / maxSamples);
+        for (int i = 0; i < samples.size() && sequences.size() < maxSamples; i += step) {
+            List<List<List<Double>>> frames = samples.get(i).getPoseFrames();
+            if (frames != null) {
+                float[][] features = PoseFeatures.extract(frames);
+                if (features.length > 0) {
+                    sequences.add(features);
+                }
+            }
+        }
+
+        float[][] best = null;
+        double bestTotal = Double.POSITIVE_INFINITY;
+        for (float[][] candidate : sequences) {
+            double total = 0;
+            for (float[][] other : sequences) {
+                total += DynamicTimeWarping.distance(candidate, other);
+            }
+            if (total < bestTotal) {
+                bestTotal = total;
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 오프라인 정확도 비교
+     * - 분류 정확도: 가장 가까운 템플릿이 실제 동작과 같은 비율
+     * - AI 판정 일치율: judgment가 기록된 샘플에서 대체 판정과 AI 판정이 같은 비율
+     */
+    private void evaluate(PoseTemplates templates, Map<Integer, List<PoseTrainingData>> samplesByAction) {
+        long evaluated = 0;
+        long classifiedCorrectly = 0;
+        long compared = 0;
+        long agreed = 0;
+        long totalNanos = 0;
+
+        for (Map.Entry<Integer, List<PoseTrainingData>> entry : samplesByAction.entrySet()) {
+            float[][] target = templates.asMap().get(entry.getKey());
+            if (target == null) {
+                continue;
+            }
+            for (PoseTrainingData sample : entry.getValue()) {
+                if (sample.getPoseFrames() == null) {
+                    continue;
+                }
+                long start = System.nanoTime();
+                float[][] features = PoseFeatures.extract(sample.getPoseFrames());
+                if (features.length == 0) {
+                    continue;
+                }
+                int judgment = fallbackPoseJudge.score(templates, entry.getKey(), target, features);
+                totalNanos += System.nanoTime() - start;
+
+                evaluated++;
+                if (nearestAction(templates, features) == entry.getKey()) {
+                    classifiedCorrectly++;
+                }
+                if (sample.getJudgment() != null) {
+                    compared++;
+                    if (sample.getJudgment() == judgment) {
+                        agreed++;
+                    }
+                }
+            }
+        }
+
+        if (evaluated == 0) {
+            log.warn("Pose 템플릿 평가할 샘플이 없습니다.");
+            return;
+        }
+        log.info("Pose 대체 판정 평가: 샘플 {}개, 분류 정확도 {}%, AI 판정 일치율 {}% ({}개 비교), 평균 판정 시간 {}μs",
+                evaluated,
+                String.format("%.1f", classifiedCorrectly * 100.0 / evaluated),
+                compared > 0 ? String.format("%.1f", agreed * 100.0 / compared) : "-",
+                compared,
+                String.format("%.1f", totalNanos / 1000.0 / evaluated));
+    }
+
+    private int nearestAction(PoseTemplates templates, float[][] features) {
+        int nearest = -1;
+        double nearestDistance = Double.POSITIVE_INFINITY;
+        for (Map.Entry<Integer, float[][]> entry : templates.asMap().entrySet()) {
+            double distance = DynamicTimeWarping.distance(features, entry.getValue());
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = entry.getKey();
+            }
+        }
+        return nearest;
+    }
+}
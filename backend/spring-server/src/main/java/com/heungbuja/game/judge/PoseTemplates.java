@@ -0,0 +1,109 @@
+package com.heungbuja.game.judge;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 동작별 기준 특징 시퀀스 (바이너리 리소스 입출력)
+ *
+ * 형식 (big-endian):
+ * magic(int) version(int) dimensions(int) count(int)
+ * 반복 count회: actionCode(int) frames(int) frames×dimensions개의 float
+ *
+ * 잘못된 파일이 큰 배열 할당을 일으키지 않도록 동작 수와 템플릿 프레임 수에 상한을 둔다.
+ */
+public final class PoseTemplates {
+
+    private static final int MAGIC = 0x48505431; // "HPT1"
+    private static final int VERSION = 1;
+
+    /** 템플릿 하나의 최대 프레임 수 (판정 입력은 8프레임 안팎) */
+    static final int MAX_FRAMES = 256;
+
+    /** 최대 동작 수 */
+    static final int MAX_TEMPLATES = 1024;
+
+    private final Map<Integer, float[][]> templates;
+
+    public PoseTemplates(Map<Integer, float[][]> templates) {
+        this.templates = Collections.unmodifiableMap(new LinkedHashMap<>(templates));
+    }
+
+    public static PoseTemplates empty() {
+        return new PoseTemplates(Map.of());
+    }
+
+    public Map<Integer, float[][]> asMap() {
+        return templates;
+    }
+
+    public boolean isEmpty() {
+        return templates.isEmpty();
+    }
+
+    public static PoseTemplates read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Pose 템플릿 형식이 아닙니다.");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 Pose 템플릿 버전: " + version);
+        }
+        int dimensions = in.readInt();
+        if (dimensions != PoseFeatures.DIMENSIONS) {
+            throw new IOException("특징 차원 불일치: " + dimensions + " (현재 " + PoseFeatures.DIMENSIONS + ")");
+        }
+
+        int count = in.readInt();
+        if (count < 0 || count > MAX_TEMPLATES) {
+            throw new IOException("Pose 템플릿 동작 수가 범위를 벗어났습니다: " + count);
+        }
+        Map<Integer, float[][]> templates = new LinkedHashMap<>();
+        for (int t = 0; t < count; t++) {
+            int actionCode = in.readInt();
+            int frames = in.readInt();
+            if (frames < 1 || frames > MAX_FRAMES) {
+                throw new IOException("Pose 템플릿 프레임 수가 범위를 벗어났습니다: actionCode=" + actionCode + ", frames=" + frames);
+            }
+            float[][] sequence = new float[frames][dimensions];
+            for (float[] frame : sequence) {
+                for (int k = 0; k < dimensions; k++) {
+                    frame[k] = in.readFloat();
+                }
+            }
+            templates.put(actionCode, sequence);
+        }
+        return new PoseTemplates(templates);
+    }
+
+    public void write(OutputStream outputStream) throws IOException {
+        for (Map.Entry<Integer, float[][]> entry : templates.entrySet()) {
+            int frames = entry.getValue().length;
+            if (frames < 1 || frames > MAX_FRAMES) {
+                throw new IOException("Pose 템플릿 프레임 수가 범위를 벗어났습니다: actionCode=" + entry.getKey() + ", frames=" + frames);
+            }
+        }
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(PoseFeatures.DIMENSIONS);
+        out.writeInt(templates.size());
+        for (Map.Entry<Integer, float[][]> entry : templates.entrySet()) {
+            out.writeInt(entry.getKey());
+            out.writeInt(entry.getValue().length);
+            for (float[] frame : entry.getValue()) {
+                for (float value : frame) {
+                    out.writeFloat(value);
+                }
+            }
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,139 @@
+package com.heungbuja.game.replay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게임 WebSocket 수신 메시지 기록 형식 (GZIP 압축 바이너리)
+ *
+ * 헤더: magic(int) version(int) startEpochMillis(long) gameSessionId(UTF) songId(long, 모름 = -1)
+ * 레코드: deltaMillis(int, 이전 레코드 이후) destination(byte 코드, OTHER면 뒤에 UTF) payloadLength(int) payload
+ *
+ * 재생 도구(src/replay)와 GameSessionRecorder가 함께 사용한다.
+ */
+public final class GameSessionLog {
+
+    private static final int MAGIC = 0x48475231; // "HGR1"
+    private static final int VERSION = 1;
+
+    private static final String[] DESTINATIONS = {"/app/game/frame", "/app/game/pose", "/app/game/ping"};
+    private static final byte OTHER = (byte) 0xFF;
+
+    private GameSessionLog() {
+    }
+
+    public record Header(long startEpochMillis, String gameSessionId, long songId) {
+    }
+
+    /**
+     * @param offsetMillis 기록 시작 이후 경과 시간
+     */
+    public record Entry(long offsetMillis, String destination, byte[] payload) {
+    }
+
+    /**
+     * 기록 파일 쓰기 (스레드 안전하지 않음, 호출 측에서 동기화)
+     */
+    public static class Writer implements Closeable {
+
+        private final DataOutputStream out;
+        private long lastMillis;
+        private long bytesWritten;
+
+        public Writer(OutputStream outputStream, Header header) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(outputStream)));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(header.startEpochMillis());
+            out.writeUTF(header.gameSessionId());
+            out.writeLong(header.songId());
+            this.lastMillis = header.startEpochMillis();
+        }
+
+        public void append(long epochMillis, String destination, byte[] payload) throws IOException {
+            out.writeInt((int) Math.max(0, epochMillis - lastMillis));
+            lastMillis = Math.max(lastMillis, epochMillis);
+
+            byte code = destinationCode(destination);
+            out.writeByte(code);
+            if (code == OTHER) {
+                out.writeUTF(destination);
+            }
+            out.writeInt(payload.length);
+            out.write(payload);
+            bytesWritten += payload.length;
+        }
+
+        /**
+         * 지금까지 기록한 payload 크기 (압축 전)
+         */
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    private static Header readHeader(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("게임 세션 기록 형식이 아닙니다.");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 기록 버전: " + version);
+        }
+        return new Header(in.readLong(), in.readUTF(), in.readLong());
+    }
+
+    public record Recording(Header header, List<Entry> entries) {
+    }
+
+    /**
+     * 기록 전체 읽기 (재생 도구용)
+     */
+    public static Recording read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(inputStream)));
+        Header header = readHeader(in);
+
+        List<Entry> entries = new ArrayList<>();
+        long offset = 0;
+        while (true) {
+            int delta;
+            try {
+                delta = in.readInt();
+            } catch (EOFException e) {
+                break;
+            }
+            offset += delta;
+            byte code = in.readByte();
+            String destination = code == OTHER ? in.readUTF() : DESTINATIONS[code];
+            byte[] payload = new byte[in.readInt()];
+            in.readFully(payload);
+            entries.add(new Entry(offset, destination, payload));
+        }
+        return new Recording(header, entries);
+    }
+
+    private static byte destinationCode(String destination) {
+        for (int i = 0; i < DESTINATIONS.length; i++) {
+            if (DESTINATIONS[i].equals(destination)) {
+                return (byte) i;
+            }
+        }
+        return OTHER;
+    }
+}
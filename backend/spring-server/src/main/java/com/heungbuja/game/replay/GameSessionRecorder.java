@@ -0,0 +1,290 @@
+package com.heungbuja.game.replay;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heungbuja.game.state.GameSession;
+import com.heungbuja.game.service.GameService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게임 WebSocket 수신 메시지 기록기 (game.recording.enabled=true일 때만 등록)
+ *
+ * /app/game/** 로 들어오는 메시지를 STOMP 세션별로 수신 시각과 함께 GameSessionLog 형식 파일에 남긴다.
+ * 첫 frame/pose 메시지의 sessionId로 파일을 열고 ({dir}/{게임 세션 ID}.hgr), 연결이 끊기면 닫는다.
+ * 기록된 파일은 재생 도구(./gradlew replayGameSession)로 부하를 재현할 때 사용한다.
+ *
+ * 수신 스레드는 메시지를 대기열에 넣기만 하고, 파일 열기(GameSession 조회)/GZIP 쓰기는 전용 기록 스레드 하나가 한다.
+ * 대기열이 max-queued-bytes를 넘으면 기록하지 않고 버린다. (기록 때문에 게임 처리가 느려지지 않도록)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "game.recording.enabled", havingValue = "true")
+public class GameSessionRecorder implements ChannelInterceptor {
+
+    private static final String GAME_DESTINATION_PREFIX = "/app/game/";
+
+    private final GameService gameService;
+    private final JsonFactory jsonFactory;
+
+    @Value("${game.recording.dir:./recordings}")
+    private String recordingDir;
+
+    /** 세션당 최대 기록 크기 (압축 전 payload 기준), 넘으면 기록 중단 */
+    @Value("${game.recording.max-bytes-per-session:209715200}")
+    private long maxBytesPerSession;
+
+    /** 기록 대기열에 쌓아 둘 수 있는 최대 payload 크기, 넘으면 기록하지 않고 버림 */
+    @Value("${game.recording.max-queued-bytes:67108864}")
+    private long maxQueuedBytes;
+
+    /** 기록 시작한 STOMP 세션 (수신 스레드에서 sessionId 파싱 여부 판단용) */
+    private final Set<String> startedSessions = ConcurrentHashMap.newKeySet();
+
+    /** 기록 스레드로 넘기는 대기열 (크기는 queuedBytes로 제한, 종료 이벤트는 항상 넣음) */
+    private final BlockingQueue<RecordEvent> queue = new LinkedBlockingQueue<>();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final LongAdder droppedMessages = new LongAdder();
+
+    /** STOMP 세션 ID → 기록 (기록 스레드에서만 접근) */
+    private final Map<String, Recording> recordings = new HashMap<>();
+
+    private Thread writerThread;
+    private volatile boolean running;
+
+    public GameSessionRecorder(@Lazy GameService gameService, ObjectMapper objectMapper) {
+        this.gameService = gameService;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(headers);
+        String stompSessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        if (stompSessionId == null) {
+            return message;
+        }
+
+        if (messageType == SimpMessageType.DISCONNECT) {
+            if (startedSessions.remove(stompSessionId)) {
+                queue.add(RecordEvent.close(stompSessionId));
+            }
+            return message;
+        }
+
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (messageType != SimpMessageType.MESSAGE || destination == null
+                || !destination.startsWith(GAME_DESTINATION_PREFIX)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        String gameSessionId = null;
+        if (!startedSessions.contains(stompSessionId)) {
+            gameSessionId = readSessionId(payload);
+            if (gameSessionId == null) {
+                // 게임 세션을 알기 전 메시지(ping 등)는 기록하지 않음
+                return message;
+            }
+        }
+
+        if (queuedBytes.addAndGet(payload.length) > maxQueuedBytes) {
+            queuedBytes.addAndGet(-payload.length);
+            droppedMessages.increment();
+            log.debug("게임 세션 기록 대기열 초과로 메시지 누락: stompSessionId={}", stompSessionId);
+            return message;
+        }
+        if (gameSessionId != null) {
+            startedSessions.add(stompSessionId);
+        }
+        queue.add(RecordEvent.append(stompSessionId, gameSessionId, System.currentTimeMillis(), destination, payload));
+        return message;
+    }
+
+    /**
+     * 대기열 초과로 기록하지 못한 메시지 수 (누적)
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::writeLoop, "game-recorder");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 남은 대기열을 모두 쓰고 파일을 닫은 뒤 종료
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void writeLoop() {
+        try {
+            while (running || !queue.isEmpty()) {
+                RecordEvent event = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    handle(event);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            recordings.values().forEach(Recording::close);
+            recordings.clear();
+        }
+    }
+
+    private void handle(RecordEvent event) {
+        if (event.closing()) {
+            Recording recording = recordings.remove(event.stompSessionId());
+            if (recording != null) {
+                recording.close();
+            }
+            return;
+        }
+
+        queuedBytes.addAndGet(-event.payload().length);
+        Recording recording = recordings.get(event.stompSessionId());
+        if (recording == null) {
+            if (event.gameSessionId() == null) {
+                return;
+            }
+            // GameSession 조회/파일 생성을 먼저 하고 등록 (단일 스레드라 경쟁 없음)
+            recording = open(event.gameSessionId(), event.epochMillis());
+            recordings.put(event.stompSessionId(), recording);
+        }
+        recording.append(event.epochMillis(), event.destination(), event.payload());
+    }
+
+    private Recording open(String gameSessionId, long now) {
+        Path path = Paths.get(recordingDir, gameSessionId + ".hgr");
+        try {
+            Files.createDirectories(path.getParent());
+            GameSession gameSession = gameService.getGameSession(gameSessionId);
+            long songId = gameSession != null && gameSession.getSongId() != null ? gameSession.getSongId() : -1;
+
+            GameSessionLog.Writer writer = new GameSessionLog.Writer(Files.newOutputStream(path),
+                    new GameSessionLog.Header(now, gameSessionId, songId));
+            log.info("게임 세션 기록 시작: {}", path.toAbsolutePath());
+            return new Recording(path, writer);
+        } catch (IOException e) {
+            log.warn("게임 세션 기록 파일 생성 실패: {}, error={}", path, e.getMessage());
+            return new Recording(path, null);
+        }
+    }
+
+    private String readSessionId(byte[] payload) {
+        try (JsonParser parser = jsonFactory.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("sessionId".equals(field) && value == JsonToken.VALUE_STRING) {
+                    return parser.getText();
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            log.debug("기록용 sessionId 파싱 실패: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * STOMP 세션 하나의 기록 (writer가 null이면 기록하지 않음, 기록 스레드에서만 사용)
+     */
+    private class Recording {
+
+        private final Path path;
+        private GameSessionLog.Writer writer;
+
+        Recording(Path path, GameSessionLog.Writer writer) {
+            this.path = path;
+            this.writer = writer;
+        }
+
+        void append(long epochMillis, String destination, byte[] payload) {
+            if (writer == null) {
+                return;
+            }
+            try {
+                writer.append(epochMillis, destination, payload);
+                if (writer.getBytesWritten() > maxBytesPerSession) {
+                    log.warn("게임 세션 기록 크기 한도 초과, 기록 중단: {}", path);
+                    close();
+                }
+            } catch (IOException e) {
+                log.warn("게임 세션 기록 실패, 기록 중단: {}, error={}", path, e.getMessage());
+                close();
+            }
+        }
+
+        void close() {
+            if (writer == null) {
+                return;
+            }
+            try {
+                writer.close();
+                log.info("게임 세션 기록 종료: {}", path.toAbsolutePath());
+            } catch (IOException e) {
+                log.warn("게임 세션 기록 파일 닫기 실패: {}, error={}", path, e.getMessage());
+            }
+            writer = null;
+        }
+    }
+
+    /**
+     * 기록 스레드로 넘기는 이벤트 (closing이면 파일 닫기)
+     *
+     * @param gameSessionId STOMP 세션의 첫 메시지에만 있음 (파일 열기용)
+     */
+    private record RecordEvent(String stompSessionId, String gameSessionId, long epochMillis,
+                               String destination, byte[] payload, boolean closing) {
+
+        static RecordEvent append(String stompSessionId, String gameSessionId, long epochMillis,
+                                  String destination, byte[] payload) {
+            return new RecordEvent(stompSessionId, gameSessionId, epochMillis, destination, payload, false);
+        }
+
+        static RecordEvent close(String stompSessionId) {
+            return new RecordEvent(stompSessionId, null, 0, null, null, true);
+        }
+    }
+}
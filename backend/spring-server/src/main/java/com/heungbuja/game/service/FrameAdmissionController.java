@@ -0,0 +1,231 @@
+package com.heungbuja.game.service;
+
+import com.heungbuja.game.dto.ActionTimelineEvent;
+import com.heungbuja.game.dto.GameWebSocketMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게임 프레임 수신 허용 판단 (판정 구간 밖 프레임 사전 차단)
+ *
+ * GameService는 동작마다 수집 구간(actionTime - 0.2초 ~ +1비트)의 프레임만 쓰는데,
+ * 그 밖의 프레임도 역직렬화와 Redis 조회/저장을 거친다. 여기서는 GameService가 알려준
+ * 타임라인과 다음 동작 위치를 메모리에 두고, 수신 단계(FrameAdmissionInterceptor)에서 다음만 통과시킨다.
+ * - 현재 수집 구간 안의 프레임: 구간을 targetSamples개 시간 구간으로 나눠 구간마다 1개만 (균등 다운샘플링)
+ * - 수집 구간이 끝난 뒤 첫 프레임: 판정 트리거용
+ * - 그 외 프레임: keepaliveMs 간격으로 1개 (프레임 수신 타임아웃으로 1절 종료를 감지하므로 유지 필요)
+ *
+ * 아직 타임라인을 받지 못한 세션은 모두 통과시킨다. (GameService 동작과 동일)
+ * 동작이 바뀔 때마다 /topic/game/{sessionId}로 FRAME_RATE_HINT를 보내 클라이언트가 캡처 주기를 조절할 수 있게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FrameAdmissionController {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${game.frame-admission.enabled:true}")
+    private boolean enabled;
+
+    /** 동작당 수집할 프레임 수 (AI 서버 입력 길이) */
+    @Value("${game.frame-admission.target-samples:8}")
+    private int targetSamples;
+
+    /** 수집 구간 밖에서 통과시키는 프레임 간격 (프레임 수신 타임아웃 1초보다 짧아야 함) */
+    @Value("${game.frame-admission.keepalive-ms:500}")
+    private long keepaliveMs;
+
+    private final Map<String, SessionWindows> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * 프레임 통과 여부 (수신 스레드에서 호출)
+     */
+    public boolean admit(String sessionId, double currentPlayTime) {
+        if (!enabled) {
+            return true;
+        }
+        SessionWindows windows = sessions.get(sessionId);
+        return windows == null || windows.admit(currentPlayTime, System.currentTimeMillis());
+    }
+
+    /**
+     * 프레임 처리 후 GameService가 현재 타임라인과 다음 동작 위치를 알려줌
+     *
+     * @param verseKey 타임라인 식별자 (1절 / 2절 레벨), 바뀌면 구간을 다시 계산
+     * @param actionDurationSeconds 수집 구간 길이 (1비트)
+     * @param latencyOffsetSeconds 네트워크 지연 보정 (수집 시작을 앞당기는 시간)
+     */
+    public void sync(String sessionId, String verseKey, List<ActionTimelineEvent> timeline, int nextActionIndex,
+                     double actionDurationSeconds, double latencyOffsetSeconds) {
+        if (!enabled) {
+            return;
+        }
+        SessionWindows windows = sessions.compute(sessionId, (key, current) ->
+                current != null && current.verseKey.equals(verseKey)
+                        ? current
+                        : new SessionWindows(verseKey, timeline, actionDurationSeconds, latencyOffsetSeconds));
+
+        if (windows.advanceTo(nextActionIndex)) {
+            sendRateHint(sessionId, windows);
+        }
+    }
+
+    /**
+     * 이 노드에서 프레임을 처리 중인 게임 세션 (종료 시 drain 대상)
+     */
+    public Set<String> getActiveSessionIds() {
+        return Set.copyOf(sessions.keySet());
+    }
+
+    /**
+     * 게임 종료/중단 시 정리
+     */
+    public void release(String sessionId) {
+        SessionWindows windows = sessions.remove(sessionId);
+        if (windows != null) {
+            log.info("세션 {} 프레임 수신 통계: 통과 {}개, 차단 {}개", sessionId, windows.admitted, windows.rejected);
+        }
+    }
+
+    private void sendRateHint(String sessionId, SessionWindows windows) {
+        FrameRateHint hint = windows.hint();
+        if (hint == null) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSend("/topic/game/" + sessionId,
+                    new GameWebSocketMessage<>("FRAME_RATE_HINT", hint));
+        } catch (Exception e) {
+            log.debug("FRAME_RATE_HINT 전송 실패: sessionId={}, error={}", sessionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 세션의 수집 구간 목록과 현재 위치
+     */
+    private class SessionWindows {
+
+        private final String verseKey;
+        private final double[] starts;
+        private final double[] ends;
+        /** 수신 스레드(admit)와 GameService(advanceTo)가 함께 접근 (가상 스레드 pinning 방지로 monitor 대신 사용) */
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private int cursor = -1;
+        /** 현재 구간에서 이미 채운 시간 구간 (비트마스크) */
+        private long filledBins;
+        /** 현재 구간의 판정 트리거 프레임을 이미 통과시켰는지 */
+        private boolean triggerAdmitted;
+        private long lastAdmittedMillis;
+
+        private long admitted;
+        private long rejected;
+
+        SessionWindows(String verseKey, List<ActionTimelineEvent> timeline,
+                       double actionDurationSeconds, double latencyOffsetSeconds) {
+            this.verseKey = verseKey;
+            this.starts = new double[timeline.size()];
+            this.ends = new double[timeline.size()];
+            for (int i = 0; i < timeline.size(); i++) {
+                starts[i] = timeline.get(i).getTime() - latencyOffsetSeconds;
+                ends[i] = starts[i] + actionDurationSeconds;
+            }
+        }
+
+        /**
+         * @return 위치가 바뀌었으면 true
+         */
+        boolean advanceTo(int nextActionIndex) {
+            lock.lock();
+            try {
+                if (nextActionIndex <= cursor) {
+                    return false;
+                }
+                cursor = nextActionIndex;
+                filledBins = 0;
+                triggerAdmitted = false;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean admit(double playTime, long nowMillis) {
+            lock.lock();
+            try {
+                boolean accept = decide(playTime, nowMillis);
+                if (accept) {
+                    admitted++;
+                    lastAdmittedMillis = nowMillis;
+                } else {
+                    rejected++;
+                }
+                return accept;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean decide(double playTime, long nowMillis) {
+            if (cursor < 0) {
+                return true;
+            }
+            if (cursor < starts.length) {
+                double start = starts[cursor];
+                double end = ends[cursor];
+
+                if (playTime >= start && playTime <= end) {
+                    int bins = Math.min(targetSamples, Long.SIZE);
+                    int bin = (int) Math.min(bins - 1, (playTime - start) / (end - start) * bins);
+                    if ((filledBins & (1L << bin)) != 0) {
+                        return false;
+                    }
+                    filledBins |= 1L << bin;
+                    return true;
+                }
+                if (playTime > end && !triggerAdmitted) {
+                    // GameService가 위치를 갱신하기 전까지 트리거 프레임은 한 번만
+                    triggerAdmitted = true;
+                    return true;
+                }
+            }
+            return nowMillis - lastAdmittedMillis >= keepaliveMs;
+        }
+
+        FrameRateHint hint() {
+            lock.lock();
+            try {
+                if (cursor < 0 || cursor >= starts.length) {
+                    return null;
+                }
+                double windowSeconds = ends[cursor] - starts[cursor];
+                return new FrameRateHint(starts[cursor], ends[cursor],
+                        windowSeconds > 0 ? targetSamples / windowSeconds : 0,
+                        1000.0 / keepaliveMs);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 클라이언트 캡처 주기 힌트
+     *
+     * @param windowStart 다음 수집 구간 시작 (재생 시간, 초)
+     * @param windowEnd 다음 수집 구간 끝
+     * @param windowFps 수집 구간 안에서 권장 전송 FPS
+     * @param idleFps 수집 구간 밖에서 권장 전송 FPS
+     */
+    public record FrameRateHint(double windowStart, double windowEnd, double windowFps, double idleFps) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.heungbuja.game.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 게임 프레임 수신 단계 차단 (clientInboundChannel 인터셉터)
+ *
+ * /app/game/frame, /app/game/pose 메시지에서 sessionId와 currentPlayTime만 스트리밍으로 읽고
+ * (Base64 이미지/좌표 배열은 건너뜀) FrameAdmissionController가 거절하면 핸들러로 넘기지 않는다.
+ * 차단된 프레임은 DTO 역직렬화와 Redis 조회/저장을 하지 않는다.
+ */
+@Slf4j
+@Component
+public class FrameAdmissionInterceptor implements ChannelInterceptor {
+
+    private static final Set<String> FRAME_DESTINATIONS = Set.of("/app/game/frame", "/app/game/pose");
+
+    private final FrameAdmissionController frameAdmissionController;
+    private final JsonFactory jsonFactory;
+
+    public FrameAdmissionInterceptor(FrameAdmissionController frameAdmissionController, ObjectMapper objectMapper) {
+        this.frameAdmissionController = frameAdmissionController;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE
+                || !FRAME_DESTINATIONS.contains(SimpMessageHeaderAccessor.getDestination(message.getHeaders()))
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        String sessionId = null;
+        Double currentPlayTime = null;
+        try (JsonParser parser = jsonFactory.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return message;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME && (sessionId == null || currentPlayTime == null)) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("sessionId".equals(field) && value == JsonToken.VALUE_STRING) {
+                    sessionId = parser.getText();
+                } else if ("currentPlayTime".equals(field) && value.isNumeric()) {
+                    currentPlayTime = parser.getDoubleValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            // 형식 오류는 기존처럼 핸들러에서 처리
+            return message;
+        }
+
+        if (sessionId == null || currentPlayTime == null) {
+            return message;
+        }
+        if (frameAdmissionController.admit(sessionId, currentPlayTime)) {
+            return message;
+        }
+        log.trace("수집 구간 밖 프레임 차단: sessionId={}, playTime={}", sessionId, currentPlayTime);
+        return null;
+    }
+}
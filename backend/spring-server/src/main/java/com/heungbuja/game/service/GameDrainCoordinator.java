@@ -0,0 +1,197 @@
+package com.heungbuja.game.service;
+
+import com.heungbuja.game.dto.GameWebSocketMessage;
+import com.heungbuja.game.state.GameSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 종료 시 진행 중인 게임 정리 (graceful drain)
+ *
+ * WebSocket 브로커보다 먼저 멈추도록 phase를 가장 높게 두고 (WebSocketConfig.getPhase 참고), 순서대로 수행한다.
+ * 1. 새 게임 시작 거절 (GameService.startGame → SERVER_DRAINING)
+ * 2. 이 노드에서 진행 중인 세션에 SERVER_DRAINING 알림 → 클라이언트는 잠시 후 다른 노드로 재연결
+ * 3. 응답 대기 중인 AI 판정이 끝날 때까지 대기 (최대 timeout-ms)
+ * 4. 세션 체크포인트: 진행 상태(GameState/GameSession)는 프레임마다 Redis에 저장되어 다른 노드가 그대로 이어받을 수 있다.
+ *    여기서는 별도 키(game_handoff:{sessionId})에 체크포인트 시각을 handoff 기한만큼의 TTL로 저장해,
+ *    클라이언트가 재연결하는 동안 프레임이 끊긴 것을 1절 종료로 판단하지 않게 한다.
+ *    (GameSession을 다시 쓰지 않으므로 동시에 저장되는 프레임 처리 결과를 덮어쓰지 않음,
+ *     체크포인트 이후 프레임이 들어오면 checkGameSessionTimeout에서 무시)
+ *
+ * @Async 저장(성능 로그 등)은 spring.task.execution.shutdown 설정으로 실행기 종료 시 완료를 기다린다.
+ */
+@Slf4j
+@Component
+public class GameDrainCoordinator implements SmartLifecycle {
+
+    /** WebSocket 메시지 처리 빈들보다 먼저 멈춤 */
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE;
+
+    private static final String GAME_SESSION_KEY_PREFIX = "game_session:";
+
+    /** handoff 체크포인트 (값: 체크포인트 시각 epoch ms, TTL: handoff 기한), game_session:* 스캔에 걸리지 않도록 접두사를 분리 */
+    private static final String HANDOFF_KEY_PREFIX = "game_handoff:";
+
+    private final FrameAdmissionController frameAdmissionController;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisTemplate<String, GameSession> gameSessionRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /** AI 판정 대기 최대 시간 */
+    @Value("${game.drain.timeout-ms:20000}")
+    private long drainTimeoutMs;
+
+    /** 클라이언트 재연결 권장 대기 시간 */
+    @Value("${game.drain.reconnect-delay-ms:3000}")
+    private long reconnectDelayMs;
+
+    /** 재연결 권장 시간 이후 다른 노드가 세션을 이어받기를 기다리는 시간 */
+    @Value("${game.drain.handoff-grace-ms:30000}")
+    private long handoffGraceMs;
+
+    private final AtomicInteger pendingJudgments = new AtomicInteger();
+    private final ReentrantLock judgmentLock = new ReentrantLock();
+    private final Condition judgmentsDone = judgmentLock.newCondition();
+
+    private volatile boolean running;
+    private volatile boolean draining;
+
+    public GameDrainCoordinator(FrameAdmissionController frameAdmissionController,
+                                SimpMessagingTemplate messagingTemplate,
+                                RedisTemplate<String, GameSession> gameSessionRedisTemplate,
+                                StringRedisTemplate stringRedisTemplate) {
+        this.frameAdmissionController = frameAdmissionController;
+        this.messagingTemplate = messagingTemplate;
+        this.gameSessionRedisTemplate = gameSessionRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    // ===== GameService 연동 =====
+
+    public boolean isDraining() {
+        return draining;
+    }
+
+    /**
+     * AI 판정 요청 시작
+     */
+    public void beginJudgment() {
+        pendingJudgments.incrementAndGet();
+    }
+
+    /**
+     * AI 판정 결과 처리 완료 (성공/실패 모두)
+     */
+    public void endJudgment() {
+        if (pendingJudgments.decrementAndGet() == 0) {
+            judgmentLock.lock();
+            try {
+                judgmentsDone.signalAll();
+            } finally {
+                judgmentLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 다른 노드 종료로 재연결을 기다리는 중인지
+     * 체크포인트가 남아 있고(기한 전) 그 이후로 프레임이 들어오지 않았으면 true
+     */
+    public boolean isAwaitingHandoff(GameSession gameSession) {
+        String checkpointedAt = stringRedisTemplate.opsForValue().get(HANDOFF_KEY_PREFIX + gameSession.getSessionId());
+        return checkpointedAt != null && gameSession.getLastFrameReceivedTime() <= Long.parseLong(checkpointedAt);
+    }
+
+    // ===== SmartLifecycle =====
+
+    @Override
+    public void start() {
+        running = true;
+        draining = false;
+    }
+
+    @Override
+    public void stop() {
+        draining = true;
+        long startedAt = System.currentTimeMillis();
+
+        Set<String> sessionIds = frameAdmissionController.getActiveSessionIds();
+        log.info("게임 drain 시작: 진행 중 세션 {}개, 대기 중 AI 판정 {}건", sessionIds.size(), pendingJudgments.get());
+
+        sessionIds.forEach(this::notifyDraining);
+        boolean completed = awaitJudgments(startedAt + drainTimeoutMs);
+        sessionIds.forEach(this::checkpoint);
+
+        log.info("게임 drain 완료: {}ms, 남은 AI 판정 {}건{}", System.currentTimeMillis() - startedAt,
+                pendingJudgments.get(), completed ? "" : " (시간 초과)");
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void notifyDraining(String sessionId) {
+        try {
+            messagingTemplate.convertAndSend("/topic/game/" + sessionId, new GameWebSocketMessage<>(
+                    "SERVER_DRAINING",
+                    Map.of("message", "서버 점검으로 잠시 후 다시 연결합니다", "reconnectAfterMs", reconnectDelayMs)));
+        } catch (Exception e) {
+            log.warn("SERVER_DRAINING 알림 전송 실패: sessionId={}, error={}", sessionId, e.getMessage());
+        }
+    }
+
+    private boolean awaitJudgments(long deadline) {
+        judgmentLock.lock();
+        try {
+            while (pendingJudgments.get() > 0) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                judgmentsDone.await(remaining, TimeUnit.MILLISECONDS);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            judgmentLock.unlock();
+        }
+    }
+
+    /**
+     * 진행 중인 세션에 handoff 체크포인트 기록 (다른 노드가 이어받을 때까지 1절 종료 판정 보류)
+     * GameSession 자체는 건드리지 않고 별도 키에 원자적으로 저장한다.
+     */
+    private void checkpoint(String sessionId) {
+        try {
+            if (!Boolean.TRUE.equals(gameSessionRedisTemplate.hasKey(GAME_SESSION_KEY_PREFIX + sessionId))) {
+                return;
+            }
+            stringRedisTemplate.opsForValue().set(HANDOFF_KEY_PREFIX + sessionId,
+                    String.valueOf(System.currentTimeMillis()), Duration.ofMillis(reconnectDelayMs + handoffGraceMs));
+        } catch (Exception e) {
+            log.warn("게임 세션 체크포인트 실패: sessionId={}, error={}", sessionId, e.getMessage());
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.heungbuja.game.domain.SpringServerPerformance;
 import com.heungbuja.game.dto.*;
 import com.heungbuja.game.entity.GameResult;
 import com.heungbuja.game.entity.ScoreByAction;
+import com.heungbuja.game.judge.FallbackPoseJudge;
 import com.heungbuja.game.enums.GameSessionStatus;
 import com.heungbuja.game.repository.mongo.GameDetailRepository;
 import com.heungbuja.game.repository.mongo.PoseTrainingDataRepository;
@@ -15,21 +16,15 @@ import com.heungbuja.game.repository.mongo.SpringServerPerformanceRepository;
 import com.heungbuja.game.repository.jpa.GameResultRepository;
 import com.heungbuja.game.state.GameState;
 import com.heungbuja.session.state.ActivityState;
-import com.heungbuja.song.domain.ChoreographyPattern;
-import com.heungbuja.game.entity.Action;
 import com.heungbuja.session.service.SessionStateService;
-import com.heungbuja.song.domain.SongBeat;
-import com.heungbuja.song.domain.SongChoreography;
 import com.heungbuja.song.domain.SongLyrics;
+import com.heungbuja.song.dto.SongGameData;
 import com.heungbuja.song.entity.Song;
 import com.heungbuja.song.enums.PlaybackMode;
-import com.heungbuja.song.repository.mongo.ChoreographyPatternRepository;
-import com.heungbuja.song.repository.mongo.SongBeatRepository;
-import com.heungbuja.song.repository.mongo.SongChoreographyRepository;
-import com.heungbuja.song.repository.mongo.SongLyricsRepository;
 import com.heungbuja.song.repository.jpa.ListeningHistoryRepository;
 import com.heungbuja.song.repository.jpa.SongRepository;
 import com.heungbuja.song.service.ListeningHistoryService;
+import com.heungbuja.song.service.SongGameDataCache;
 import com.heungbuja.user.entity.User;
 import com.heungbuja.user.repository.UserRepository;
 import com.heungbuja.game.repository.jpa.ActionRepository;
@@ -63,6 +58,9 @@ import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.IntStream;
 
 @Slf4j
@@ -76,7 +74,7 @@ public class GameService {
 
     // --- 상수 정의 ---
     /** Redis 세션 만료 시간 (분) */
-    private static final int SESSION_TIMEOUT_MINUTES = 30;
+    static final int SESSION_TIMEOUT_MINUTES = 30;
     private static final int JUDGMENT_PERFECT = 3;
     // BPM 기반 타이밍 계산을 위한 비트 수
     private static final double ACTION_DURATION_BEATS = 1.0; // 모든 동작: 1비트로 단축 (8프레임 수집에 최적화)
@@ -92,38 +90,54 @@ public class GameService {
     private final ScoreByActionRepository scoreByActionRepository;
     // --- AI 서버 응답 시간 통계 ---
 
+    /**
+     * AI 서버 응답 시간 통계 (60초 구간)
+     * 락 없이 누적하고, 구간이 끝나면 CAS에 성공한 스레드 하나만 리포트한다.
+     * MongoDB 저장도 락 밖에서 수행하므로 record()가 다른 스레드를 막지 않는다 (가상 스레드 pinning 없음).
+     */
     private static class AiResponseStats {
-        private final List<Long> responseTimes = new ArrayList<>();
-        private long lastReportTime = System.currentTimeMillis();
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+        private final AtomicLong lastReportTime = new AtomicLong(System.currentTimeMillis());
         private final long REPORT_INTERVAL_MS = 60000; // 60초마다 리포트
-        private static GameService gameServiceInstance; // MongoDB 저장용
+        private static volatile GameService gameServiceInstance; // MongoDB 저장용
 
-        public synchronized void record(long responseTimeMs) {
-            responseTimes.add(responseTimeMs);
+        public void record(long responseTimeMs) {
+            count.increment();
+            sum.add(responseTimeMs);
+            min.accumulate(responseTimeMs);
+            max.accumulate(responseTimeMs);
             maybeReport();
         }
 
         private void maybeReport() {
             long now = System.currentTimeMillis();
-            if (now - lastReportTime >= REPORT_INTERVAL_MS && !responseTimes.isEmpty()) {
-                report();
-                reset();
+            long last = lastReportTime.get();
+            if (now - last < REPORT_INTERVAL_MS || !lastReportTime.compareAndSet(last, now)) {
+                return;
             }
-        }
 
-        private void report() {
-            if (responseTimes.isEmpty()) return;
+            // 구간 값 회수 (회수 도중 들어온 기록은 다음 구간으로 넘어갈 수 있음)
+            long total = count.sumThenReset();
+            long totalTime = sum.sumThenReset();
+            long minTime = min.getThenReset();
+            long maxTime = max.getThenReset();
+            if (total > 0) {
+                report(total, totalTime, minTime, maxTime);
+            }
+        }
 
-            double avg = responseTimes.stream().mapToLong(Long::longValue).average().orElse(0.0);
-            long min = responseTimes.stream().mapToLong(Long::longValue).min().orElse(0);
-            long max = responseTimes.stream().mapToLong(Long::longValue).max().orElse(0);
+        private void report(long total, long totalTime, long minTime, long maxTime) {
+            double avg = (double) totalTime / total;
 
             log.info("================================================================================");
             log.info("📊 AI Server Response Time Statistics (Last 60s)");
-            log.info("Total Requests: {}", responseTimes.size());
+            log.info("Total Requests: {}", total);
             log.info("  - Average: {}ms", String.format("%.2f", avg));
-            log.info("  - Min: {}ms", min);
-            log.info("  - Max: {}ms", max);
+            log.info("  - Min: {}ms", minTime);
+            log.info("  - Max: {}ms", maxTime);
             log.info("================================================================================");
 
             // MongoDB에 저장
@@ -132,10 +146,10 @@ public class GameService {
                     SpringServerPerformance perf = SpringServerPerformance.builder()
                             .timestamp(LocalDateTime.now())
                             .intervalSeconds(60)
-                            .totalRequests(responseTimes.size())
+                            .totalRequests((int) total)
                             .averageResponseTimeMs(avg)
-                            .minResponseTimeMs(min)
-                            .maxResponseTimeMs(max)
+                            .minResponseTimeMs(minTime)
+                            .maxResponseTimeMs(maxTime)
                             .build();
                     gameServiceInstance.springServerPerformanceRepository.save(perf);
                     log.info("✅ 성능 통계를 MongoDB에 저장했습니다.");
@@ -145,11 +159,6 @@ public class GameService {
             }
         }
 
-        private void reset() {
-            responseTimes.clear();
-            lastReportTime = System.currentTimeMillis();
-        }
-
         public static void setGameServiceInstance(GameService instance) {
             gameServiceInstance = instance;
         }
@@ -176,9 +185,6 @@ public class GameService {
     private final SongRepository songRepository;
     private final ListeningHistoryRepository listeningHistoryRepository;
     private final ListeningHistoryService listeningHistoryService;
-    private final SongBeatRepository songBeatRepository;
-    private final SongLyricsRepository songLyricsRepository;
-    private final SongChoreographyRepository songChoreographyRepository;
     private final RedisTemplate<String, GameState> gameStateRedisTemplate;  // 게임 시작에 필요한 정보
     private final RedisTemplate<String, GameSession> gameSessionRedisTemplate;  // 게임 진행중 점수, 진행 단계
 
@@ -187,12 +193,15 @@ public class GameService {
     private final GameDetailRepository gameDetailRepository;
     private final SimpMessagingTemplate messagingTemplate;
     private final SessionStateService sessionStateService;
-    private final ChoreographyPatternRepository choreographyPatternRepository;
     private final ActionRepository actionRepository;
     private final MediaUrlService mediaUrlService;
     private final SpringServerPerformanceRepository springServerPerformanceRepository;
     private final PoseTrainingDataRepository poseTrainingDataRepository;
     private final com.heungbuja.game.repository.mongo.MotionInferenceLogRepository motionInferenceLogRepository;
+    private final FrameAdmissionController frameAdmissionController;
+    private final FallbackPoseJudge fallbackPoseJudge;
+    private final GameDrainCoordinator gameDrainCoordinator;
+    private final SongGameDataCache songGameDataCache;
 
     @Qualifier("aiWebClient") // 여러 WebClient Bean 중 aiWebClient를 특정
     private final WebClient aiWebClient;
@@ -236,6 +245,9 @@ public class GameService {
      */
     @Transactional
     public GameStartResponse startGame(GameStartRequest request) {
+        if (gameDrainCoordinator.isDraining()) {
+            throw new CustomException(ErrorCode.SERVER_DRAINING);
+        }
         User user = userRepository.findById(request.getUserId()).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
         if (!user.getIsActive()) throw new CustomException(ErrorCode.USER_NOT_ACTIVE);
         Song song = songRepository.findById(request.getSongId()).orElseThrow(() -> new CustomException(ErrorCode.SONG_NOT_FOUND));
@@ -244,48 +256,29 @@ public class GameService {
         listeningHistoryService.recordListening(user, song, PlaybackMode.EXERCISE);
 
         Long songId = song.getId();
-        SongBeat songBeat = songBeatRepository.findBySongId(songId).orElseThrow(() -> new CustomException(ErrorCode.GAME_METADATA_NOT_FOUND, "비트 정보를 찾을 수 없습니다."));
-        SongLyrics lyricsInfo = songLyricsRepository.findBySongId(songId).orElseThrow(() -> new CustomException(ErrorCode.GAME_METADATA_NOT_FOUND, "가사 정보를 찾을 수 없습니다."));
-        SongChoreography choreography = songChoreographyRepository.findBySongId(songId).orElseThrow(() -> new CustomException(ErrorCode.GAME_METADATA_NOT_FOUND, "안무 지시 정보를 찾을 수 없습니다."));
-        ChoreographyPattern patternData = choreographyPatternRepository.findBySongId(songId).orElseThrow(() -> new CustomException(ErrorCode.GAME_METADATA_NOT_FOUND, "안무 패턴 정보를 찾을 수 없습니다."));
-        log.info(" > 모든 MongoDB 데이터 조회 성공");
-
-        log.info("프론트엔드 응답 데이터 가공을 시작합니다...");
-        Map<Integer, Double> beatNumToTimeMap = songBeat.getBeats().stream().collect(Collectors.toMap(SongBeat.Beat::getI, SongBeat.Beat::getT));
-        Map<Integer, Double> barStartTimes = songBeat.getBeats().stream().filter(b -> b.getBeat() == 1).collect(Collectors.toMap(SongBeat.Beat::getBar, SongBeat.Beat::getT));
-        List<ActionTimelineEvent> verse1Timeline = createVerseTimeline(songBeat, choreography, patternData, beatNumToTimeMap, "verse1");
-
-        // 2절 타임라인을 Map으로 수집
-        Map<String, List<ActionTimelineEvent>> verse2TimelinesMap = new HashMap<>();
-        choreography.getVersions().get(0).getVerse2().forEach(levelInfo -> {
-            String levelKey = "level" + levelInfo.getLevel();
-            List<ActionTimelineEvent> levelTimeline = createVerseTimelineForLevel(songBeat, choreography, patternData, beatNumToTimeMap, "verse2", levelInfo);
-            verse2TimelinesMap.put(levelKey, levelTimeline);
-            log.info(" > 2절 {} 타임라인 생성 완료. 엔트리 개수: {}", levelKey, levelTimeline.size());
-        });
+        // 게임 데이터 (Redis 캐시 → 게임 읽기 모델 1회 조회, 타임라인 / 패턴 시퀀스는 미리 계산됨)
+        SongGameData songGameData = songGameDataCache.getOrLoadSongGameData(songId);
+        log.info(" > 게임 데이터 조회 성공");
 
-        // Verse2Timeline 객체로 변환
+        List<ActionTimelineEvent> verse1Timeline = songGameData.getVerse1Timeline();
         GameStartResponse.Verse2Timeline verse2Timeline = GameStartResponse.Verse2Timeline.builder()
-                .level1(verse2TimelinesMap.get("level1"))
-                .level2(verse2TimelinesMap.get("level2"))
-                .level3(verse2TimelinesMap.get("level3"))
+                .level1(songGameData.getVerse2Timelines().get("level1"))
+                .level2(songGameData.getVerse2Timelines().get("level2"))
+                .level3(songGameData.getVerse2Timelines().get("level3"))
                 .build();
+        GameStartResponse.SectionPatterns sectionPatterns = songGameData.getSectionPatterns();
 
-        // 섹션별 패턴 시퀀스 생성 (섹션 전체 길이만큼)
-        GameStartResponse.SectionPatterns sectionPatterns = createSectionPatterns(songBeat, choreography);
-
-        // SectionInfo (Map)와 SegmentInfo 생성
-        Map<String, Double> sectionInfo = createSectionInfo(songBeat, beatNumToTimeMap);
-        GameStartResponse.SegmentRange verse1cam = createSegmentRange(songBeat, "verse1", beatNumToTimeMap);
-        GameStartResponse.SegmentRange verse2cam = createSegmentRange(songBeat, "verse2", beatNumToTimeMap);
+        // SectionInfo (Map)와 SegmentInfo
+        Map<String, Double> sectionInfo = songGameData.getSectionStartTimes();
         GameStartResponse.SegmentInfo segmentInfo = GameStartResponse.SegmentInfo.builder()
-                .verse1cam(verse1cam)
-                .verse2cam(verse2cam)
+                .verse1cam(toSegmentRange(songGameData.getSectionInfo().getVerse1cam()))
+                .verse2cam(toSegmentRange(songGameData.getSectionInfo().getVerse2cam()))
                 .build();
+        List<SongLyrics.Line> lyricsLines = songGameData.getLyricsInfo().getLines();
 
         String sessionId = UUID.randomUUID().toString();
         String audioUrl = getTestUrl("/media/test");
-        Map<String, String> videoUrls = generateVideoUrls(choreography);
+        Map<String, String> videoUrls = generateVideoUrls(songGameData.getVideoKeys());
 
         GameState gameState = GameState.builder()
                 .sessionId(sessionId)
@@ -293,11 +286,11 @@ public class GameService {
                 .songId(songId)
                 .audioUrl(audioUrl)
                 .videoUrls(videoUrls)
-                .bpm(songBeat.getTempoMap().get(0).getBpm())
-                .duration(songBeat.getAudio().getDurationSec())
+                .bpm(songGameData.getBpm())
+                .duration(songGameData.getDuration())
                 .sectionInfo(sectionInfo)
                 .segmentInfo(segmentInfo)
-                .lyricsInfo(lyricsInfo.getLines())
+                .lyricsInfo(lyricsLines)
                 .verse1Timeline(verse1Timeline)
                 .verse2Timeline(verse2Timeline)
                 .sectionPatterns(sectionPatterns)
@@ -333,11 +326,11 @@ public class GameService {
                 .songArtist(song.getArtist())
                 .audioUrl(audioUrl)
                 .videoUrls(videoUrls)
-                .bpm(songBeat.getTempoMap().get(0).getBpm())
-                .duration(songBeat.getAudio().getDurationSec())
+                .bpm(songGameData.getBpm())
+                .duration(songGameData.getDuration())
                 .sectionInfo(sectionInfo)
                 .segmentInfo(segmentInfo)
-                .lyricsInfo(lyricsInfo.getLines())
+                .lyricsInfo(lyricsLines)
                 .verse1Timeline(verse1Timeline)
                 .verse2Timeline(verse2Timeline)
                 .sectionPatterns(sectionPatterns)
@@ -345,237 +338,15 @@ public class GameService {
     }
 
     /**
-     * (신규) 1절과 같이 단일 패턴을 가진 절의 전체 타임라인을 생성합니다.
-     */
-    private List<ActionTimelineEvent> createVerseTimeline(
-            SongBeat songBeat, SongChoreography choreography, ChoreographyPattern patternData,
-            Map<Integer, Double> beatNumToTimeMap, String sectionLabel) {
-
-        SongChoreography.Version version = choreography.getVersions().get(0);
-        SongChoreography.VersePatternInfo verseInfo = version.getVerse1(); // 1절 정보 가져오기
-        SongBeat.Section section = findSectionByLabel(songBeat, sectionLabel);
-
-        // ⭐ 패턴 시퀀스 배열을 순회하며 각 패턴의 시퀀스를 가져옴
-        List<List<Integer>> patternSequenceList = new ArrayList<>();
-        for (String patternId : verseInfo.getPatternSequence()) {
-            List<Integer> patternSeq = findPatternSequenceById(patternData, patternId);
-            patternSequenceList.add(patternSeq);
-        }
-
-        return generateTimelineForSection(beatNumToTimeMap, section, patternSequenceList, verseInfo.getEachRepeat());
-    }
-
-    /**
-     * (신규) 2절과 같이 레벨별 패턴을 가진 절의 타임라인을 생성합니다.
-     */
-    private List<ActionTimelineEvent> createVerseTimelineForLevel(
-            SongBeat songBeat, SongChoreography choreography, ChoreographyPattern patternData,
-            Map<Integer, Double> beatNumToTimeMap, String sectionLabel,
-            SongChoreography.VerseLevelPatternInfo levelInfo) {
-
-        SongBeat.Section section = findSectionByLabel(songBeat, sectionLabel);
-
-        // ⭐ 패턴 시퀀스 배열을 순회하며 각 패턴의 시퀀스를 가져옴
-        List<List<Integer>> patternSequenceList = new ArrayList<>();
-        for (String patternId : levelInfo.getPatternSequence()) {
-            List<Integer> patternSeq = findPatternSequenceById(patternData, patternId);
-            patternSequenceList.add(patternSeq);
-        }
-
-        return generateTimelineForSection(beatNumToTimeMap, section, patternSequenceList, levelInfo.getEachRepeat());
-    }
-
-    /**
-     * (신규) 특정 구간과 동작 시퀀스를 받아 실제 타임라인 리스트를 생성하는 공통 메소드
-     * 여러 패턴을 병합하여 타임라인을 생성합니다
-     */
-    private List<ActionTimelineEvent> generateTimelineForSection(
-            Map<Integer, Double> beatNumToTimeMap,
-            SongBeat.Section section,
-            List<List<Integer>> patternSequenceList,
-            int eachRepeat) {
-
-        List<ActionTimelineEvent> timeline = new ArrayList<>();
-        Map<Integer, String> actionCodeToNameMap = actionRepository.findAll().stream()
-                .collect(Collectors.toMap(Action::getActionCode, Action::getName));
-
-        int startBeat = section.getStartBeat();
-        int endBeat = section.getEndBeat();
-
-        // ⭐ 1. 패턴 배열을 하나의 큰 패턴으로 병합 (패턴 전체를 eachRepeat번 반복)
-        List<Integer> mergedPattern = new ArrayList<>();
-        for (int i = 0; i < eachRepeat; i++) {
-            for (List<Integer> pattern : patternSequenceList) {
-                mergedPattern.addAll(pattern);
-            }
-        }
-
-        int mergedPatternLength = mergedPattern.size();
-
-        // ⭐ 2. Modulo로 섹션 전체를 채움 (기존 로직 유지)
-        for (int currentBeatIndex = startBeat; currentBeatIndex <= endBeat; currentBeatIndex++) {
-            int beatWithinSection = currentBeatIndex - startBeat;
-            int patternIndex = beatWithinSection % mergedPatternLength;
-            int actionCode = mergedPattern.get(patternIndex);
-
-            if (actionCode != 0) {
-                double time = beatNumToTimeMap.getOrDefault(currentBeatIndex, -1.0);
-                if (time >= 0) {
-                    String actionName = actionCodeToNameMap.getOrDefault(actionCode, "알 수 없는 동작");
-                    timeline.add(new ActionTimelineEvent(time, actionCode, actionName));
-                }
-            }
-        }
-        return timeline;
-    }
-
-    /**
-     * SectionInfo 생성을 전담하는 헬퍼 메소드
-     */
-    private Map<String, Double> createSectionInfo(SongBeat songBeat, Map<Integer, Double> beatNumToTimeMap) {
-        return songBeat.getSections().stream()
-                .collect(Collectors.toMap(
-                        SongBeat.Section::getLabel,
-                        s -> beatNumToTimeMap.getOrDefault(s.getStartBeat(), 0.0)
-                ));
-    }
-
-    /**
-     * 섹션별 패턴 시퀀스 생성 (섹션 전체 길이만큼 패턴 반복)
-     * 예: verse1이 80비트이고 patternSequence=["P1","P2"], eachRepeat=2라면
-     *     ["P1","P1","P2","P2", "P1","P1","P2","P2", ...] (80개)
-     */
-    private GameStartResponse.SectionPatterns createSectionPatterns(SongBeat songBeat, SongChoreography choreography) {
-        SongChoreography.Version version = choreography.getVersions().get(0);
-
-        // 1절 패턴 시퀀스 생성 (섹션 전체 길이만큼)
-        List<String> verse1Patterns = createFullSectionPatternSequence(
-                songBeat,
-                version.getVerse1().getPatternSequence(),
-                version.getVerse1().getEachRepeat(),
-                "verse1"
-        );
-
-        // 2절 레벨별 패턴 시퀀스 생성
-        Map<Integer, List<String>> verse2PatternsMap = new HashMap<>();
-        for (SongChoreography.VerseLevelPatternInfo levelInfo : version.getVerse2()) {
-            List<String> levelPatterns = createFullSectionPatternSequence(
-                    songBeat,
-                    levelInfo.getPatternSequence(),
-                    levelInfo.getEachRepeat(),
-                    "verse2"
-            );
-            verse2PatternsMap.put(levelInfo.getLevel(), levelPatterns);
-        }
-
-        // Verse2Patterns 객체 생성
-        GameStartResponse.Verse2Patterns verse2Patterns = GameStartResponse.Verse2Patterns.builder()
-                .level1(verse2PatternsMap.get(1))
-                .level2(verse2PatternsMap.get(2))
-                .level3(verse2PatternsMap.get(3))
-                .build();
-
-        return GameStartResponse.SectionPatterns.builder()
-                .verse1(verse1Patterns)
-                .verse2(verse2Patterns)
-                .build();
-    }
-
-    /**
-     * 섹션 전체 길이만큼 패턴을 반복하여 배열 생성
-     */
-    private List<String> createFullSectionPatternSequence(
-            SongBeat songBeat,
-            List<String> patternSequence,
-            int eachRepeat,
-            String sectionLabel) {
-
-        // 1. 기본 패턴 시퀀스 생성 (패턴 전체를 eachRepeat번 반복)
-        List<String> mergedPattern = new ArrayList<>();
-        for (int i = 0; i < eachRepeat; i++) {
-            for (String patternId : patternSequence) {
-                mergedPattern.add(patternId);
-            }
-        }
-
-        // 2. 섹션의 비트 범위 가져오기
-        SongBeat.Section section = findSectionByLabel(songBeat, sectionLabel);
-        int sectionBeatCount = section.getEndBeat() - section.getStartBeat() + 1;
-
-        // 3. 섹션 전체 길이만큼 패턴 반복
-        List<String> fullPatternSequence = new ArrayList<>();
-        int mergedPatternLength = mergedPattern.size();
-
-        for (int i = 0; i < sectionBeatCount; i++) {
-            int patternIndex = i % mergedPatternLength;
-            fullPatternSequence.add(mergedPattern.get(patternIndex));
-        }
-
-        return fullPatternSequence;
-    }
-
-    /**
-     * SegmentRange 생성을 전담하는 헬퍼 메소드
+     * 카메라 구간 → SegmentRange
      */
-    private GameStartResponse.SegmentRange createSegmentRange(SongBeat songBeat, String verseLabel, Map<Integer, Double> beatNumToTimeMap) {
-        SongBeat.Section verseSection = findSectionByLabel(songBeat, verseLabel);
-        int camStartBeat = verseSection.getStartBeat() + 32;
-        int camEndBeat = camStartBeat + (16 * 6);
-
+    private GameStartResponse.SegmentRange toSegmentRange(SectionInfo.VerseInfo cam) {
         return GameStartResponse.SegmentRange.builder()
-                .startTime(beatNumToTimeMap.getOrDefault(camStartBeat, 0.0))
-                .endTime(beatNumToTimeMap.getOrDefault(camEndBeat, 0.0))
+                .startTime(cam.getStartTime())
+                .endTime(cam.getEndTime())
                 .build();
     }
 
-    /**
-     * ChoreographyPattern 데이터에서 패턴 ID로 실제 동작 시퀀스를 찾는 헬퍼 메소드
-     */
-    private List<Integer> findPatternSequenceById(ChoreographyPattern patternData, String patternId) {
-        // --- ▼ 임시 디버깅 코드 ▼ ---
-//        log.info("찾으려는 patternId: '{}', 길이: {}", patternId, patternId.length());
-        if (patternData.getPatterns() != null) {
-            patternData.getPatterns().forEach(p -> {
-//                log.info("patternData : {}", p);
-                String currentId = p.getPatternId(); // getId() 결과를 변수에 먼저 담음
-                if (currentId != null) {
-                    log.info("DB에 있는 id: '{}', 길이: {}", currentId, currentId.length());
-//                    log.info("두 문자열이 같은가? {}", patternId.equals(currentId));
-                } else {
-                    log.warn("DB에 id가 null인 패턴 데이터가 존재합니다!"); // <-- 이 로그가 찍히는지 확인!
-                }
-            });
-        } else {
-            log.error("patternData.getPatterns()가 null입니다!");
-        }
-        // --- ▲ -------------------- ▲ ---
-        return patternData.getPatterns().stream()
-                .filter(p -> patternId.equals(p.getPatternId()))
-                .findFirst()
-                .map(ChoreographyPattern.Pattern::getSequence)
-                .orElseThrow(() -> new CustomException(
-                        ErrorCode.GAME_METADATA_NOT_FOUND, "안무 패턴 '" + patternId + "'을(를) 찾을 수 없습니다.")
-                );
-    }
-
-    /**
-     * SongBeat 데이터에서 레이블(label)로 특정 섹션 정보를 찾는 헬퍼 메소드
-     * @param songBeat 비트 정보 전체가 담긴 객체
-     * @param sectionLabel 찾고 싶은 섹션의 이름 (예: "intro", "verse1", "break")
-     * @return 찾아낸 Section 객체. 없으면 예외 발생.
-     */
-    private SongBeat.Section findSectionByLabel(SongBeat songBeat, String sectionLabel) {
-        return songBeat.getSections().stream()
-                .filter(s -> sectionLabel.equals(s.getLabel()))
-                .findFirst()
-                .orElseThrow(() -> {
-                    // 에러 로그를 남겨서 디버깅이 용이하도록 함
-                    log.error("'{}' 섹션을 찾을 수 없습니다. (songId: {})", sectionLabel, songBeat.getSongId());
-                    // 프론트엔드에 전달될 명확한 에러 메시지
-                    return new CustomException(ErrorCode.GAME_METADATA_NOT_FOUND, "'" + sectionLabel + "' 섹션 정보가 누락되었습니다.");
-                });
-    }
-
     // --- ▼ (신규) 테스트용 URL을 받아오는 헬퍼 메소드 추가 ▼ ---
     private String getTestUrl(String path) {
         try {
@@ -685,6 +456,7 @@ public class GameService {
             }
         }
         saveGameSession(sessionId, gameSession);
+        syncFrameAdmission(sessionId, gameSession, timeline, actionDurationSeconds);
     }
 
     /**
@@ -769,6 +541,17 @@ public class GameService {
             }
         }
         saveGameSession(sessionId, gameSession);
+        syncFrameAdmission(sessionId, gameSession, timeline, actionDurationSeconds);
+    }
+
+    /**
+     * 수신 단계 프레임 차단에 현재 타임라인과 다음 동작 위치 전달
+     */
+    private void syncFrameAdmission(String sessionId, GameSession gameSession,
+                                    List<ActionTimelineEvent> timeline, double actionDurationSeconds) {
+        String verseKey = gameSession.getNextLevel() == null ? "verse1" : "verse2-level" + gameSession.getNextLevel();
+        frameAdmissionController.sync(sessionId, verseKey, timeline, gameSession.getNextActionIndex(),
+                actionDurationSeconds, NETWORK_LATENCY_OFFSET_SECONDS);
     }
 
     /**
@@ -785,15 +568,30 @@ public class GameService {
                 .poseFrames(poseFrames)
                 .build();
 
-        aiWebClient.post()
+        // motion-server 장애가 이어지면 호출하지 않고 바로 대체 판정
+        if (!fallbackPoseJudge.allowRemote()) {
+            handleFallbackPoseJudgment(sessionId, action, poseFrames, "서킷 OPEN");
+            return;
+        }
+
+        gameDrainCoordinator.beginJudgment();
+        Mono<AiJudgmentResponse> judgment = aiWebClient.post()
                 .uri("/api/ai/brandnew/analyze-pose")
                 .bodyValue(requestBody)
                 .retrieve()
-                .bodyToMono(AiJudgmentResponse.class)
+                .bodyToMono(AiJudgmentResponse.class);
+        // 지연 예산은 대체 판정이 있을 때만 적용 (없으면 느린 응답도 끝까지 기다림)
+        Optional<Duration> latencyBudget = fallbackPoseJudge.getLatencyBudget();
+        if (latencyBudget.isPresent()) {
+            judgment = judgment.timeout(latencyBudget.get());
+        }
+        judgment
+                .doFinally(signal -> gameDrainCoordinator.endJudgment())
                 .subscribe(
                         aiResponse -> {
                             long responseTime = System.currentTimeMillis() - startTime;
                             aiResponseStats.record(responseTime);
+                            fallbackPoseJudge.onRemoteSuccess();
 
                             int actionCode = aiResponse.getActionCode();
                             int judgment = aiResponse.getJudgment();
@@ -804,12 +602,24 @@ public class GameService {
                         },
                         error -> {
                             long responseTime = System.currentTimeMillis() - startTime;
-                            log.error("AI Pose 서버 호출 중 오류 발생 (세션 ID: {}). 기본 점수(0점)으로 처리합니다.", sessionId, error);
-                            handleJudgmentResult(sessionId, action.getActionCode(), 0, action.getTime());
+                            fallbackPoseJudge.onRemoteFailure();
+                            log.error("AI Pose 서버 호출 중 오류 발생 (세션 ID: {}, {}ms). 대체 판정으로 처리합니다.", sessionId, responseTime, error);
+                            handleFallbackPoseJudgment(sessionId, action, poseFrames, error.getClass().getSimpleName());
                         }
                 );
     }
 
+    /**
+     * motion-server 대신 JVM 내부 대체 판정기로 판정 (템플릿이 없으면 기존처럼 0점)
+     */
+    private void handleFallbackPoseJudgment(String sessionId, ActionTimelineEvent action,
+                                            List<List<List<Double>>> poseFrames, String reason) {
+        int judgment = fallbackPoseJudge.judge(action.getActionCode(), poseFrames).orElse(0);
+        log.info("대체 Pose 판정 (세션 {}): actionCode={}, judgment={}, 사유={}",
+                sessionId, action.getActionCode(), judgment, reason);
+        handleJudgmentResult(sessionId, action.getActionCode(), judgment, action.getTime());
+    }
+
     /**
      * Pose 좌표 데이터를 로컬 디스크에 저장 (모델 학습용 - NPZ 형식)
      */
@@ -928,6 +738,10 @@ public class GameService {
 
             // 기존 타임아웃 검사 로직
             if (session.getLastFrameReceivedTime() > 0 && now - session.getLastFrameReceivedTime() > 1000) {
+                // 다른 노드 종료로 재연결 중인 세션은 프레임이 끊겨도 기다림 (GameDrainCoordinator 체크포인트)
+                if (gameDrainCoordinator.isAwaitingHandoff(session)) {
+                    continue;
+                }
                 if (session.getNextLevel() == null) {
                     log.info("세션 {}의 1절 종료 감지. 레벨 결정을 시작합니다.", sessionId);
                     session.setProcessing(true);
@@ -984,11 +798,13 @@ public class GameService {
         //     log.info(" > AI 서버 요청 프레임이 비어 있습니다.");
         // }
 
+        gameDrainCoordinator.beginJudgment();
         aiWebClient.post()
                 .uri("/api/ai/brandnew/analyze")
                 .bodyValue(requestBody)
                 .retrieve()
                 .bodyToMono(AiJudgmentResponse.class)
+                .doFinally(signal -> gameDrainCoordinator.endJudgment())
                 .subscribe(
                         aiResponse -> { // 성공 시
                             long responseTime = System.currentTimeMillis() - startTime;
@@ -1198,6 +1014,7 @@ public class GameService {
             // Redis 데이터 정리
             gameSessionRedisTemplate.delete(sessionKey);
             gameStateRedisTemplate.delete(GAME_STATE_KEY_PREFIX + sessionId);
+            frameAdmissionController.release(sessionId);
             sessionStateService.clearSessionStatus(sessionId);
             if(finalSession.getUserId() != null) {
                 sessionStateService.clearActivity(finalSession.getUserId());
@@ -1284,6 +1101,7 @@ public class GameService {
         // --- 7. Redis 데이터 정리 (기존 로직) ---
         gameSessionRedisTemplate.delete(GAME_SESSION_KEY_PREFIX + sessionId);
         gameStateRedisTemplate.delete(GAME_STATE_KEY_PREFIX + sessionId);
+        frameAdmissionController.release(sessionId);
         sessionStateService.clearSessionStatus(sessionId);
         if (finalSession.getUserId() != null) {
             sessionStateService.clearActivity(finalSession.getUserId());
@@ -1454,6 +1272,13 @@ public class GameService {
         return gameSessionRedisTemplate.opsForValue().get(key);
     }
 
+    /**
+     * 진행 중인 게임 세션인지 (Redis에 GameSession이 남아 있는지)
+     */
+    public boolean isActiveSession(String sessionId) {
+        return Boolean.TRUE.equals(gameSessionRedisTemplate.hasKey(GAME_SESSION_KEY_PREFIX + sessionId));
+    }
+
     private void saveGameSession(String sessionId, GameSession gameSession) {
         String key = GAME_SESSION_KEY_PREFIX + sessionId; // <-- (수정) 올바른 Key를 정의합니다.
         gameSessionRedisTemplate.opsForValue().set(key, gameSession, Duration.ofMinutes(SESSION_TIMEOUT_MINUTES)); // <-- (수정) 정의된 Key를 사용합니다.
@@ -1581,57 +1406,14 @@ public class GameService {
     // --- 비디오 URL 생성 (패턴 기반) ---
 
     /**
-     * 비디오 URL 생성 (패턴 기반)
+     * 비디오 URL 생성 (게임 읽기 모델의 구간별 S3 Key로 발급)
      */
-    private Map<String, String> generateVideoUrls(SongChoreography choreography) {
+    private Map<String, String> generateVideoUrls(Map<String, String> videoKeys) {
         Map<String, String> videoUrls = new HashMap<>();
-
-        SongChoreography.Version version = choreography.getVersions().get(0);
-
-        // intro: 공통 튜토리얼
-        String introS3Key = "video/break.mp4";
-        videoUrls.put("intro", mediaUrlService.issueUrlByKey(introS3Key));
-
-        // verse1: 첫 번째 패턴
-        String verse1PatternId = version.getVerse1().getPatternSequence().get(0);
-        String verse1S3Key = convertPatternIdToVideoUrl(verse1PatternId);
-        videoUrls.put("verse1", mediaUrlService.issueUrlByKey(verse1S3Key));
-
-        // verse2: 각 레벨의 첫 번째 패턴
-        for (SongChoreography.VerseLevelPatternInfo levelInfo : version.getVerse2()) {
-            String patternId = levelInfo.getPatternSequence().get(0);
-            String s3Key = convertPatternIdToVideoUrl(patternId);
-            String key = "verse2_level" + levelInfo.getLevel();
-            videoUrls.put(key, mediaUrlService.issueUrlByKey(s3Key));
-        }
-
+        videoKeys.forEach((section, s3Key) -> videoUrls.put(section, mediaUrlService.issueUrlByKey(s3Key)));
         return videoUrls;
     }
 
-    /**
-     * 패턴 ID → 비디오 URL 변환
-     * TODO: 패턴별 비디오 준비 완료 시 임시 매핑 제거하고 "video/pattern_" + patternId.toLowerCase() + ".mp4" 사용
-     */
-    private String convertPatternIdToVideoUrl(String patternId) {
-        // 임시 매핑: 현재 존재하는 비디오 파일 사용
-        switch (patternId) {
-            case "P1":
-                return "video/part1.mp4";
-            case "P2":
-                return "video/part2_level1.mp4";
-            case "P3":
-                return "video/part2_level2.mp4";
-            case "P4":
-                return "video/part1.mp4";  // 반복
-            default:
-                log.warn("알 수 없는 패턴 ID: {}. 기본 비디오 사용", patternId);
-                return "video/part1.mp4";
-        }
-
-        // 나중에 패턴별 비디오 준비되면 아래 코드로 교체:
-        // return "video/pattern_" + patternId.toLowerCase() + ".mp4";
-    }
-
     // --- ▼ (테스트용 코드) AI 서버 연동을 테스트하기 위한 임시 메소드 ---
 //    public Mono<AiJudgmentResponse> testAiServerConnection() {
 //        log.info("AI 서버 연동 테스트를 시작합니다...");
@@ -1,5 +1,6 @@
 package com.heungbuja.game.state;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.heungbuja.game.dto.ActionTimelineEvent;
 import lombok.*;
 
@@ -19,6 +20,7 @@ import java.time.Instant;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)  // 배포 중 이전 버전이 저장한 필드(handoffUntil 등)가 남아 있어도 읽을 수 있도록
 public class GameSession implements Serializable {
 
     private String sessionId;
@@ -0,0 +1,150 @@
+package com.heungbuja.gpt.guard;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 응답 시간 기반 적응형 동시 호출 제한 (AIMD)
+ *
+ * - 응답이 빠르면 limit을 천천히 늘리고 (+1/limit, 한도를 다 쓰고 있을 때만)
+ * - 느리거나 실패하면 limit을 크게 줄인다 (× backoffRatio)
+ * - limit을 넘는 호출은 제한된 대기열에서 최대 maxWait 동안만 기다리고, 넘치면 즉시 실패
+ *
+ * 업스트림이 느려질 때 요청 스레드가 30초씩 묶이는 대신 빠르게 거절된다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final int maxQueueSize;
+    private final long maxWaitNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      long latencyThresholdMillis, double backoffRatio,
+                                      int maxQueueSize, long maxWaitMillis) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+        this.backoffRatio = backoffRatio;
+        this.maxQueueSize = maxQueueSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    }
+
+    /**
+     * 호출 허가 획득 (대기열이 가득 찼거나 maxWait를 넘기면 false)
+     */
+    public boolean acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight < currentLimit()) {
+                inFlight++;
+                return true;
+            }
+            if (waiting >= maxQueueSize) {
+                return false;
+            }
+
+            waiting++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= currentLimit()) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = available.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대기 없이 허가 획득 (hedge 요청용)
+     */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (waiting == 0 && inFlight < currentLimit()) {
+                inFlight++;
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 호출 완료 → limit 조정 후 대기 중인 호출 깨움
+     *
+     * @param latencyNanos 호출 소요 시간
+     * @param success 정상 응답 여부 (취소된 hedge 요청은 success=true, 짧은 latency로 전달하지 말 것)
+     */
+    public void release(long latencyNanos, boolean success) {
+        lock.lock();
+        try {
+            boolean saturated = inFlight >= currentLimit();
+            inFlight--;
+
+            if (!success || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (saturated) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 결과를 알 수 없는 호출 완료 (취소된 hedge 등, limit 조정 없음)
+     */
+    public void releaseWithoutSample() {
+        lock.lock();
+        try {
+            inFlight--;
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return currentLimit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+}
@@ -0,0 +1,250 @@
+package com.heungbuja.gpt.guard;
+
+import com.heungbuja.common.exception.CustomException;
+import com.heungbuja.common.exception.ErrorCode;
+import com.heungbuja.common.util.CircuitBreaker;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * GPT 호출 보호 장치
+ *
+ * - 서킷 브레이커: 실패가 이어지면 일정 시간 즉시 거절 (호출 측은 키워드 분석으로 대체)
+ * - 적응형 동시 호출 제한: 느려지면 동시 호출 수를 줄이고 초과 요청은 빠르게 실패
+ * - Hedge 요청 (선택): 멱등 호출이 p95 이상 걸리면 같은 요청을 한 번 더 보내 먼저 온 응답 사용
+ *
+ * 거절 / 타임아웃 시 {@link ErrorCode#GPT_UNAVAILABLE} 예외를 던진다 (호출 측은 키워드 분석으로 대체).
+ * 타임아웃은 동시 호출 제한에 실패 샘플로 반영되어 limit이 줄어든다.
+ */
+@Slf4j
+@Component
+public class GptCallGuard {
+
+    @Value("${gpt.guard.limiter.initial-limit:8}")
+    private int initialLimit;
+
+    @Value("${gpt.guard.limiter.min-limit:2}")
+    private int minLimit;
+
+    @Value("${gpt.guard.limiter.max-limit:32}")
+    private int maxLimit;
+
+    @Value("${gpt.guard.limiter.latency-threshold-ms:6000}")
+    private long latencyThresholdMillis;
+
+    @Value("${gpt.guard.limiter.backoff-ratio:0.7}")
+    private double backoffRatio;
+
+    @Value("${gpt.guard.limiter.max-queue-size:16}")
+    private int maxQueueSize;
+
+    @Value("${gpt.guard.limiter.max-wait-ms:2000}")
+    private long maxWaitMillis;
+
+    @Value("${gpt.guard.circuit.window-size:20}")
+    private int circuitWindowSize;
+
+    @Value("${gpt.guard.circuit.minimum-calls:10}")
+    private int circuitMinimumCalls;
+
+    @Value("${gpt.guard.circuit.failure-rate-threshold:0.5}")
+    private double circuitFailureRateThreshold;
+
+    @Value("${gpt.guard.circuit.open-duration-ms:30000}")
+    private long circuitOpenDurationMillis;
+
+    @Value("${gpt.guard.hedge.enabled:false}")
+    private boolean hedgeEnabled;
+
+    @Value("${gpt.guard.hedge.min-delay-ms:500}")
+    private long hedgeMinDelayMillis;
+
+    /** 호출 전체 대기 한도 (HttpRequest timeout과 동일) */
+    @Value("${gpt.guard.call-timeout-ms:30000}")
+    private long callTimeoutMillis;
+
+    /** p95 계산 전 샘플이 부족할 때 사용할 hedge 지연 */
+    private static final long DEFAULT_HEDGE_DELAY_MILLIS = 3000;
+    private static final int LATENCY_WINDOW_SIZE = 200;
+    private static final int LATENCY_MIN_SAMPLES = 20;
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private CircuitBreaker circuitBreaker;
+    private LatencyTracker latencyTracker;
+
+    @PostConstruct
+    public void init() {
+        limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit,
+                latencyThresholdMillis, backoffRatio, maxQueueSize, maxWaitMillis);
+        circuitBreaker = new CircuitBreaker(circuitWindowSize, circuitMinimumCalls,
+                circuitFailureRateThreshold, circuitOpenDurationMillis);
+        latencyTracker = new LatencyTracker(LATENCY_WINDOW_SIZE);
+    }
+
+    /**
+     * 보호 장치를 거쳐 GPT 호출
+     *
+     * @param call HTTP 요청 (hedge 시 두 번 호출될 수 있음)
+     * @param idempotent 멱등 호출 여부 (true이고 hedge가 켜져 있으면 hedge 요청 허용)
+     */
+    public HttpResponse<String> execute(Supplier<CompletableFuture<HttpResponse<String>>> call, boolean idempotent) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new CustomException(ErrorCode.GPT_UNAVAILABLE, "GPT 호출 차단 중 (서킷 OPEN)");
+        }
+
+        boolean acquired;
+        try {
+            acquired = limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.onIgnored();
+            throw new CustomException(ErrorCode.GPT_UNAVAILABLE, "GPT 호출 대기 중단");
+        }
+        if (!acquired) {
+            circuitBreaker.onIgnored();
+            log.warn("GPT 동시 호출 한도 초과로 거절: limit={}, inFlight={}", limiter.getLimit(), limiter.getInFlight());
+            throw new CustomException(ErrorCode.GPT_UNAVAILABLE, "GPT 호출이 많아 잠시 후 다시 시도해주세요");
+        }
+
+        // 타임아웃으로 취소하는 요청은 limit 조정에 실패로 반영 (hedge에서 진 요청은 반영하지 않음)
+        AtomicBoolean timedOut = new AtomicBoolean();
+        CompletableFuture<HttpResponse<String>> primary = start(call, timedOut);
+        CompletableFuture<HttpResponse<String>> hedge = null;
+        CompletableFuture<HttpResponse<String>> result = primary;
+
+        try {
+            if (idempotent && hedgeEnabled) {
+                long hedgeDelay = Math.max(hedgeMinDelayMillis,
+                        latencyTracker.percentile(0.95, LATENCY_MIN_SAMPLES, DEFAULT_HEDGE_DELAY_MILLIS));
+                try {
+                    primary.get(hedgeDelay, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    if (limiter.tryAcquire()) {
+                        log.info("GPT hedge 요청 전송: {}ms 경과", hedgeDelay);
+                        hedge = start(call, timedOut);
+                        result = firstSuccessful(primary, hedge);
+                    }
+                } catch (ExecutionException e) {
+                    // 아래 result.get()에서 처리
+                }
+            }
+
+            HttpResponse<String> response = result.get(callTimeoutMillis, TimeUnit.MILLISECONDS);
+            if (isUpstreamFailure(response)) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            return response;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.onIgnored();
+            throw new CustomException(ErrorCode.GPT_UNAVAILABLE, "GPT 호출 대기 중단");
+        } catch (TimeoutException e) {
+            timedOut.set(true);
+            circuitBreaker.onFailure();
+            log.warn("GPT 호출 타임아웃: {}ms, limit={}", callTimeoutMillis, limiter.getLimit());
+            throw new CustomException(ErrorCode.GPT_UNAVAILABLE, "GPT 응답이 늦어 잠시 후 다시 시도해주세요");
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure();
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof HttpTimeoutException) {
+                throw new CustomException(ErrorCode.GPT_UNAVAILABLE, "GPT 응답이 늦어 잠시 후 다시 시도해주세요");
+            }
+            throw new CustomException(ErrorCode.EXTERNAL_API_ERROR, "GPT API 호출 중 오류가 발생했습니다: " + cause.getMessage());
+        } finally {
+            // 끝나지 않은 요청은 취소 (hedge에서 진 요청, 타임아웃 난 요청)
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * 요청 시작 + 완료 시 허가 반납
+     * 취소된 요청은 타임아웃이면 실패로, 그 외(hedge에서 진 요청)는 limit 조정 없이 반납
+     */
+    private CompletableFuture<HttpResponse<String>> start(Supplier<CompletableFuture<HttpResponse<String>>> call,
+                                                          AtomicBoolean timedOut) {
+        long startNanos = System.nanoTime();
+        CompletableFuture<HttpResponse<String>> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            limiter.release(System.nanoTime() - startNanos, false);
+            throw e;
+        }
+
+        future.whenComplete((response, error) -> {
+            long latencyNanos = System.nanoTime() - startNanos;
+            if (isCancellation(error)) {
+                if (timedOut.get()) {
+                    limiter.release(latencyNanos, false);
+                } else {
+                    limiter.releaseWithoutSample();
+                }
+                return;
+            }
+            boolean success = error == null && !isUpstreamFailure(response);
+            limiter.release(latencyNanos, success);
+            if (success) {
+                latencyTracker.record(TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 두 요청 중 먼저 성공한 응답 (둘 다 실패하면 나중 결과)
+     */
+    private CompletableFuture<HttpResponse<String>> firstSuccessful(CompletableFuture<HttpResponse<String>> first,
+                                                                    CompletableFuture<HttpResponse<String>> second) {
+        CompletableFuture<HttpResponse<String>> winner = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(2);
+
+        for (CompletableFuture<HttpResponse<String>> candidate : List.of(first, second)) {
+            candidate.whenComplete((response, error) -> {
+                if (error == null && !isUpstreamFailure(response)) {
+                    winner.complete(response);
+                } else if (remaining.decrementAndGet() == 0) {
+                    if (error != null) {
+                        winner.completeExceptionally(error);
+                    } else {
+                        winner.complete(response);
+                    }
+                }
+            });
+        }
+        return winner;
+    }
+
+    private boolean isUpstreamFailure(HttpResponse<String> response) {
+        return response == null || response.statusCode() >= 500 || response.statusCode() == 429;
+    }
+
+    private boolean isCancellation(Throwable error) {
+        return error instanceof CancellationException
+                || (error instanceof CompletionException && error.getCause() instanceof CancellationException);
+    }
+}
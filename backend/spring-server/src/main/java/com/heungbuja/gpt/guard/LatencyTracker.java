@@ -0,0 +1,52 @@
+package com.heungbuja.gpt.guard;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최근 호출 응답 시간 기록 (고정 크기 링 버퍼)
+ * hedge 요청 지연 시간(p95) 계산에 사용
+ */
+public class LatencyTracker {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long[] samples;
+    private int count;
+    private int next;
+
+    public LatencyTracker(int windowSize) {
+        this.samples = new long[windowSize];
+    }
+
+    public void record(long latencyMillis) {
+        lock.lock();
+        try {
+            samples[next] = latencyMillis;
+            next = (next + 1) % samples.length;
+            if (count < samples.length) {
+                count++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 백분위 응답 시간 (샘플이 minSamples 미만이면 defaultMillis)
+     */
+    public long percentile(double percentile, int minSamples, long defaultMillis) {
+        long[] snapshot;
+        lock.lock();
+        try {
+            if (count < minSamples) {
+                return defaultMillis;
+            }
+            snapshot = Arrays.copyOf(samples, count);
+        } finally {
+            lock.unlock();
+        }
+        Arrays.sort(snapshot);
+        int index = (int) Math.ceil(percentile * snapshot.length) - 1;
+        return snapshot[Math.max(0, Math.min(index, snapshot.length - 1))];
+    }
+}
@@ -0,0 +1,136 @@
+package com.heungbuja.gpt.prompt;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 미리 파싱된 프롬프트 템플릿
+ * 고정 문자열 조각과 {{slot}} 자리로 나뉘어 있어 렌더링 시 문자열 포맷 파싱이 없다.
+ *
+ * 인스턴스는 불변이며 여러 스레드에서 공유해도 된다.
+ */
+public final class PromptTemplate {
+
+    /** 스레드별 재사용 버퍼 (너무 커진 버퍼는 버림) */
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private final List<Segment> segments;
+    private final Set<String> slotNames;
+    private final String staticPrefix;
+    private final int literalLength;
+
+    PromptTemplate(List<Segment> segments) {
+        this.segments = List.copyOf(segments);
+
+        Set<String> names = new LinkedHashSet<>();
+        StringBuilder prefix = new StringBuilder();
+        boolean inPrefix = true;
+        int length = 0;
+        for (Segment segment : this.segments) {
+            if (segment.isSlot()) {
+                names.add(segment.slot());
+                inPrefix = false;
+            } else {
+                length += segment.literal().length();
+                if (inPrefix) {
+                    prefix.append(segment.literal());
+                }
+            }
+        }
+        this.slotNames = Collections.unmodifiableSet(names);
+        this.staticPrefix = prefix.toString();
+        this.literalLength = length;
+    }
+
+    /**
+     * 일부 slot을 고정 값으로 채운 새 템플릿 생성 (시작 시 한 번 호출)
+     * 인접한 고정 문자열은 하나로 합쳐진다.
+     */
+    public PromptTemplate bind(Map<String, String> values) {
+        List<Segment> bound = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        for (Segment segment : segments) {
+            if (segment.isSlot() && !values.containsKey(segment.slot())) {
+                if (!literal.isEmpty()) {
+                    bound.add(Segment.literal(literal.toString()));
+                    literal.setLength(0);
+                }
+                bound.add(segment);
+            } else {
+                literal.append(segment.isSlot() ? values.get(segment.slot()) : segment.literal());
+            }
+        }
+        if (!literal.isEmpty()) {
+            bound.add(Segment.literal(literal.toString()));
+        }
+        return new PromptTemplate(bound);
+    }
+
+    /**
+     * 렌더링 (스레드별 버퍼 재사용)
+     *
+     * @param values slot 이름 → 값 (모든 slot 필요, null은 빈 문자열)
+     */
+    public String render(Map<String, ?> values) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        renderTo(buffer, values);
+        String result = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return result;
+    }
+
+    /**
+     * 주어진 버퍼에 이어서 렌더링
+     */
+    public void renderTo(StringBuilder target, Map<String, ?> values) {
+        target.ensureCapacity(target.length() + literalLength + 256);
+        for (Segment segment : segments) {
+            if (!segment.isSlot()) {
+                target.append(segment.literal());
+                continue;
+            }
+            if (!values.containsKey(segment.slot())) {
+                throw new IllegalArgumentException("프롬프트 slot 값이 없습니다: " + segment.slot());
+            }
+            Object value = values.get(segment.slot());
+            if (value != null) {
+                target.append(value);
+            }
+        }
+    }
+
+    /**
+     * 첫 번째 slot 이전까지의 고정 문자열
+     * 요청마다 동일하므로 GPT 제공자 측 프롬프트 캐시(prefix 일치)가 적용된다.
+     */
+    public String getStaticPrefix() {
+        return staticPrefix;
+    }
+
+    public Set<String> getSlotNames() {
+        return slotNames;
+    }
+
+    record Segment(String literal, String slot) {
+
+        static Segment literal(String text) {
+            return new Segment(text, null);
+        }
+
+        static Segment slot(String name) {
+            return new Segment(null, name);
+        }
+
+        boolean isSlot() {
+            return slot != null;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.heungbuja.gpt.prompt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 프롬프트 템플릿 엔진
+ *
+ * - 템플릿은 시작 시 한 번만 파싱 ({{slot}} 문법)
+ * - Few-shot 예시 파일은 '---' 줄로 구분된 블록 목록 (앞쪽이 우선순위 높음, '#' 줄은 주석)
+ * - 예시는 토큰 예산 안에서 앞쪽부터 포함
+ */
+@Slf4j
+@Component
+public class PromptTemplateEngine {
+
+    private static final String SLOT_OPEN = "{{";
+    private static final String SLOT_CLOSE = "}}";
+    private static final String BLOCK_SEPARATOR = "---";
+
+    /**
+     * 템플릿 문자열 파싱
+     */
+    public PromptTemplate compile(String source) {
+        List<PromptTemplate.Segment> segments = new ArrayList<>();
+        int position = 0;
+        while (position < source.length()) {
+            int open = source.indexOf(SLOT_OPEN, position);
+            if (open < 0) {
+                segments.add(PromptTemplate.Segment.literal(source.substring(position)));
+                break;
+            }
+            int close = source.indexOf(SLOT_CLOSE, open + SLOT_OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("닫히지 않은 프롬프트 slot: position=" + open);
+            }
+            if (open > position) {
+                segments.add(PromptTemplate.Segment.literal(source.substring(position, open)));
+            }
+            String name = source.substring(open + SLOT_OPEN.length(), close).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("빈 프롬프트 slot 이름: position=" + open);
+            }
+            segments.add(PromptTemplate.Segment.slot(name));
+            position = close + SLOT_CLOSE.length();
+        }
+        return new PromptTemplate(segments);
+    }
+
+    /**
+     * 클래스패스 템플릿 파일 파싱
+     */
+    public PromptTemplate load(String location) {
+        return compile(loadText(location));
+    }
+
+    /**
+     * 클래스패스 텍스트 파일 읽기
+     */
+    public String loadText(String location) {
+        try (InputStream inputStream = new ClassPathResource(location).getInputStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("프롬프트 파일을 읽을 수 없습니다: " + location, e);
+        }
+    }
+
+    /**
+     * 블록 파일 읽기 ('---' 줄로 구분, '#'으로 시작하는 줄은 무시)
+     */
+    public List<String> loadBlocks(String location) {
+        List<String> blocks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : loadText(location).split("\n", -1)) {
+            if (line.startsWith("#")) {
+                continue;
+            }
+            if (line.strip().equals(BLOCK_SEPARATOR)) {
+                addBlock(blocks, current);
+                continue;
+            }
+            current.append(line).append('\n');
+        }
+        addBlock(blocks, current);
+        return blocks;
+    }
+
+    /**
+     * 토큰 예산 안에서 앞쪽 블록부터 선택
+     * 예산을 넘는 첫 블록에서 멈춘다 (우선순위 순서 유지)
+     */
+    public List<String> fitToBudget(List<String> blocks, int tokenBudget) {
+        List<String> selected = new ArrayList<>();
+        int used = 0;
+        for (String block : blocks) {
+            int tokens = TokenEstimator.estimate(block);
+            if (used + tokens > tokenBudget) {
+                break;
+            }
+            selected.add(block);
+            used += tokens;
+        }
+        log.debug("프롬프트 예시 선택: {}/{}개, 약 {} 토큰 (예산 {})", selected.size(), blocks.size(), used, tokenBudget);
+        return selected;
+    }
+
+    private void addBlock(List<String> blocks, StringBuilder current) {
+        String block = current.toString().strip();
+        if (!block.isEmpty()) {
+            blocks.add(block);
+        }
+        current.setLength(0);
+    }
+}
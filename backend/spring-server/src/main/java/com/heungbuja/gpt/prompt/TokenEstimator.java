@@ -0,0 +1,37 @@
+package com.heungbuja.gpt.prompt;
+
+/**
+ * 프롬프트 토큰 수 추정기 (로컬 계산, API 호출 없음)
+ *
+ * GPT 토크나이저 기준 대략적인 값:
+ * - 한글 음절 1자 ≈ 1토큰
+ * - 영문/숫자/기호(ASCII) 4자 ≈ 1토큰
+ * - 그 외 문자(이모지, 특수문자) 1자 ≈ 1토큰
+ * 공백은 앞뒤 토큰에 합쳐지므로 세지 않는다.
+ */
+public final class TokenEstimator {
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+
+        int wide = 0;
+        int ascii = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c) || Character.isLowSurrogate(c)) {
+                continue;
+            }
+            if (c < 128) {
+                ascii++;
+            } else {
+                wide++;
+            }
+        }
+        return wide + (ascii + 3) / 4;
+    }
+}
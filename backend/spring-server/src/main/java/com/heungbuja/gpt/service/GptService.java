@@ -20,6 +20,14 @@ public interface GptService {
      */
     GptResponse chat(String userMessage);
 
+    /**
+     * 분류용 GPT 호출 (단일 사용자 메시지)
+     * 부수효과 없는 멱등 호출이므로 응답이 늦으면 hedge 요청을 보낼 수 있음
+     */
+    default GptResponse classify(String userMessage) {
+        return chat(userMessage);
+    }
+
     /**
      * GPT API 호출 (시스템 프롬프트 + 사용자 메시지)
      */
@@ -6,6 +6,7 @@ import com.heungbuja.common.exception.ErrorCode;
 import com.heungbuja.gpt.dto.GptMessage;
 import com.heungbuja.gpt.dto.GptRequest;
 import com.heungbuja.gpt.dto.GptResponse;
+import com.heungbuja.gpt.guard.GptCallGuard;
 import com.heungbuja.gpt.service.GptService;
 import com.heungbuja.performance.annotation.MeasurePerformance;
 import lombok.extern.slf4j.Slf4j;
@@ -39,8 +40,10 @@ public class GptServiceImpl implements GptService {
 
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
+    private final GptCallGuard gptCallGuard;
 
-    public GptServiceImpl() {
+    public GptServiceImpl(GptCallGuard gptCallGuard) {
+        this.gptCallGuard = gptCallGuard;
         this.httpClient = HttpClient.newBuilder()
                 .version(HttpClient.Version.HTTP_2)  // HTTP/2 사용 (더 빠름)
                 .connectTimeout(Duration.ofSeconds(10))  // 연결 타임아웃 10초
@@ -51,6 +54,15 @@ public class GptServiceImpl implements GptService {
     @Override
     @MeasurePerformance(component = "GPT")
     public GptResponse chat(List<GptMessage> messages) {
+        return chat(messages, false);
+    }
+
+    /**
+     * GPT API 호출
+     *
+     * @param idempotent 부수효과 없는 분류 호출 여부 (hedge 요청 허용)
+     */
+    private GptResponse chat(List<GptMessage> messages, boolean idempotent) {
         long startTime = System.currentTimeMillis();
         try {
             GptRequest request = GptRequest.builder()
@@ -74,8 +86,9 @@ public class GptServiceImpl implements GptService {
                     .POST(HttpRequest.BodyPublishers.ofString(requestBody))
                     .build();
 
-            // API 호출
-            HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+            // API 호출 (동시 호출 제한/서킷 브레이커 적용)
+            HttpResponse<String> response = gptCallGuard.execute(
+                    () -> httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString()), idempotent);
 
             long elapsed = System.currentTimeMillis() - startTime;
             log.info("✅ GPT API 응답 완료: {}ms, status={}", elapsed, response.statusCode());
@@ -112,6 +125,16 @@ public class GptServiceImpl implements GptService {
         return chat(messages);
     }
 
+    @Override
+    @MeasurePerformance(component = "GPT")
+    public GptResponse classify(String userMessage) {
+        List<GptMessage> messages = Arrays.asList(
+                GptMessage.developer("Answer in Korean"),
+                GptMessage.user(userMessage)
+        );
+        return chat(messages, true);
+    }
+
     @Override
     @MeasurePerformance(component = "GPT")
     public GptResponse chat(String systemPrompt, String userMessage) {
@@ -177,7 +200,8 @@ public class GptServiceImpl implements GptService {
                     .POST(HttpRequest.BodyPublishers.ofString(requestBody))
                     .build();
 
-            HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = gptCallGuard.execute(
+                    () -> httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString()), true);
 
             long elapsed = System.currentTimeMillis() - startTime;
             log.info("✅ GPT API 응답 완료 (최적화): {}ms, status={}", elapsed, response.statusCode());
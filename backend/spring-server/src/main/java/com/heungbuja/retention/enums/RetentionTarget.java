@@ -0,0 +1,69 @@
+package com.heungbuja.retention.enums;
+
+/**
+ * 보존 정책 대상 테이블 / 컬렉션
+ * 보존 기간과 보관 여부 기본값은 retention.policies.{key}.ttl-days / archive 로 덮어쓸 수 있다.
+ */
+public enum RetentionTarget {
+
+    // MySQL (id 범위 청크 삭제)
+    PERFORMANCE_LOGS(Store.MYSQL, "performance_logs", "created_at", 30, false),
+    USER_ACTIVITY_LOGS(Store.MYSQL, "user_activity_logs", "created_at", 180, true),
+    VOICE_COMMANDS(Store.MYSQL, "voice_commands", "created_at", 90, true),
+
+    // MongoDB (보관하지 않으면 TTL 인덱스로 만료)
+    MOTION_INFERENCE_LOGS(Store.MONGO, "motion_inference_logs", "timestamp", 30, false),
+    SPRING_SERVER_PERFORMANCE(Store.MONGO, "spring_server_performance", "timestamp", 30, false),
+    POSE_TRAINING_DATA(Store.MONGO, "pose_training_data", "createdAt", 365, true);
+
+    public enum Store {
+        MYSQL, MONGO
+    }
+
+    private final Store store;
+    private final String name;
+    private final String timeField;
+    private final int defaultTtlDays;
+    private final boolean defaultArchive;
+
+    RetentionTarget(Store store, String name, String timeField, int defaultTtlDays, boolean defaultArchive) {
+        this.store = store;
+        this.name = name;
+        this.timeField = timeField;
+        this.defaultTtlDays = defaultTtlDays;
+        this.defaultArchive = defaultArchive;
+    }
+
+    public Store getStore() {
+        return store;
+    }
+
+    /**
+     * 테이블 / 컬렉션 이름
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 보존 기간 기준 시각 컬럼 / 필드
+     */
+    public String getTimeField() {
+        return timeField;
+    }
+
+    public int getDefaultTtlDays() {
+        return defaultTtlDays;
+    }
+
+    public boolean isDefaultArchive() {
+        return defaultArchive;
+    }
+
+    /**
+     * 설정 키 (retention.policies.{key})
+     */
+    public String getPropertyKey() {
+        return name().toLowerCase().replace('_', '-');
+    }
+}
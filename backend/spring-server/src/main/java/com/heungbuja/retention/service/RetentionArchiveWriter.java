@@ -0,0 +1,140 @@
+package com.heungbuja.retention.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보존 기간이 지난 행 보관 파일 (gzip 압축 NDJSON)
+ *
+ * {archive-dir}/{테이블}/{테이블}-{yyyyMMdd-HHmmss}.ndjson.gz 에 한 줄에 한 행씩 기록한다.
+ * 청크를 삭제하기 전에 sync()로 디스크까지 내려 쓰므로, 삭제된 행은 항상 보관 파일에 남는다.
+ * (중간에 실패하면 같은 행이 다음 실행 파일에 한 번 더 기록될 수 있음)
+ *
+ * 컨테이너 파일 시스템에 쓰면 재배포 시 사라지므로 archive-dir은 볼륨에 마운트된 절대 경로여야 한다.
+ * (docker-compose의 retention-archive 볼륨)
+ */
+@Component
+@RequiredArgsConstructor
+public class RetentionArchiveWriter {
+
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${retention.archive-dir:}")
+    private String archiveDir;
+
+    /**
+     * 보관 경로 확인 (절대 경로, 쓰기 가능)
+     *
+     * @return 문제가 없으면 null, 있으면 이유
+     */
+    public String checkArchiveDir() {
+        if (archiveDir == null || archiveDir.isBlank()) {
+            return "retention.archive-dir이 설정되지 않음";
+        }
+        Path dir = Paths.get(archiveDir);
+        if (!dir.isAbsolute()) {
+            return "retention.archive-dir은 절대 경로여야 함: " + archiveDir;
+        }
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            return "retention.archive-dir 생성 실패: " + archiveDir + " (" + e.getMessage() + ")";
+        }
+        if (!Files.isWritable(dir)) {
+            return "retention.archive-dir에 쓸 수 없음: " + archiveDir;
+        }
+        return null;
+    }
+
+    public Archive open(String name) throws IOException {
+        Path dir = Paths.get(archiveDir, name);
+        Files.createDirectories(dir);
+        Path path = dir.resolve(name + "-" + LocalDateTime.now().format(FILE_TIME_FORMAT) + ".ndjson.gz");
+        return new Archive(path);
+    }
+
+    /**
+     * 보관 파일 하나 (한 번의 정리 실행 단위)
+     */
+    public class Archive implements AutoCloseable {
+
+        private final Path path;
+        private final FileOutputStream fileOut;
+        private final BufferedWriter writer;
+        private long count;
+
+        private Archive(Path path) throws IOException {
+            this.path = path;
+            this.fileOut = new FileOutputStream(path.toFile(), true);
+            // syncFlush: flush() 시 압축 버퍼까지 내보내야 sync()가 의미 있음
+            this.writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(fileOut, 64 * 1024, true), StandardCharsets.UTF_8));
+        }
+
+        /**
+         * JDBC 행 (컬럼명 → 값)
+         */
+        public void writeRow(Map<String, Object> row) {
+            try {
+                writeLine(objectMapper.writeValueAsString(row));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * 이미 JSON으로 직렬화된 한 줄 (Mongo 문서 등)
+         */
+        public void writeLine(String json) {
+            try {
+                writer.write(json);
+                writer.write('\n');
+                count++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * 지금까지 쓴 행을 디스크에 기록 (청크 삭제 전 호출)
+         */
+        public void sync() throws IOException {
+            writer.flush();
+            fileOut.getFD().sync();
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+            if (count == 0) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
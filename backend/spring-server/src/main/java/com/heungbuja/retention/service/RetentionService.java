@@ -0,0 +1,416 @@
+package com.heungbuja.retention.service;
+
+import com.heungbuja.retention.enums.RetentionTarget;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 로그성 테이블 / 컬렉션 보존 기간 관리
+ *
+ * - MySQL: 기준 시각 이전 최대 id를 구한 뒤 id 범위 청크로 나눠 삭제 (청크마다 자동 커밋 → 잠금 시간 제한)
+ *   청크 삭제 시간이 target-chunk-ms를 넘으면 청크 크기를 줄이고, 여유가 있으면 늘린다.
+ * - MongoDB: 보관하지 않는 컬렉션은 TTL 인덱스로 만료 (시작 시 보존 기간에 맞게 생성/갱신)
+ *   보관하는 컬렉션은 _id 순 청크로 보관 후 삭제
+ * - 보관(archive=true): 삭제 전 RetentionArchiveWriter로 gzip NDJSON 파일에 기록
+ *
+ * 여러 노드에서 동시에 실행되지 않도록 Redis 잠금을 잡고 수행한다.
+ * 잠금은 청크마다 소유자 확인 후 연장하며, 연장에 실패하면(잠금을 잃었거나 Redis 오류) 그 자리에서 멈춘다.
+ * 삭제 작업이므로 기본은 꺼져 있고, 켜더라도 보관 경로(절대 경로, 쓰기 가능)가 없으면 실행하지 않는다.
+ * 활동 통계 버킷(user_activity_stat_buckets)은 대상이 아니므로 로그를 지워도 통계는 유지된다.
+ */
+@Slf4j
+@Service
+public class RetentionService {
+
+    private static final String LOCK_KEY = "retention:lock";
+    private static final String TTL_INDEX_PREFIX = "retention_ttl_";
+    private static final String SCAN_INDEX_PREFIX = "retention_";
+    private static final JsonWriterSettings ARCHIVE_JSON_SETTINGS =
+            JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build();
+
+    /** 소유자일 때만 잠금 연장 (확인과 연장을 원자적으로) */
+    private static final RedisScript<Long> RENEW_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    /** 잠금 연장 없이 정리 (관리/테스트용) */
+    private static final Runnable NO_HEARTBEAT = () -> {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MongoTemplate mongoTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RetentionArchiveWriter archiveWriter;
+    private final Environment environment;
+
+    @Value("${retention.enabled:false}")
+    private boolean enabled;
+
+    @Value("${retention.chunk.initial-size:5000}")
+    private int initialChunkSize;
+
+    @Value("${retention.chunk.min-size:500}")
+    private int minChunkSize;
+
+    @Value("${retention.chunk.max-size:20000}")
+    private int maxChunkSize;
+
+    /** 청크 하나의 목표 삭제 시간 (잠금 유지 시간) */
+    @Value("${retention.chunk.target-ms:200}")
+    private long targetChunkMillis;
+
+    /** 청크 사이 대기 (복제 지연, 다른 쓰기에 양보) */
+    @Value("${retention.chunk.pause-ms:50}")
+    private long chunkPauseMillis;
+
+    /** 실행 잠금 TTL (청크마다 연장하므로 청크 하나보다 충분히 길면 됨) */
+    @Value("${retention.lock-ttl-minutes:10}")
+    private long lockTtlMinutes;
+
+    public RetentionService(JdbcTemplate jdbcTemplate, MongoTemplate mongoTemplate,
+                            StringRedisTemplate stringRedisTemplate, RetentionArchiveWriter archiveWriter,
+                            Environment environment) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mongoTemplate = mongoTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.archiveWriter = archiveWriter;
+        this.environment = environment;
+    }
+
+    /**
+     * 보관 경로가 올바르지 않으면 보존 정책을 켜지 않음
+     */
+    @PostConstruct
+    public void validateArchiveDir() {
+        if (!enabled) {
+            return;
+        }
+        String problem = archiveWriter.checkArchiveDir();
+        if (problem != null) {
+            enabled = false;
+            log.error("보존 정책 비활성화: {} (RETENTION_ARCHIVE_DIR에 볼륨 경로 지정 필요)", problem);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 대상별 보존 정책 (설정값 반영)
+     *
+     * @param ttlDays 0 이하면 보존 기간 없음 (삭제하지 않음)
+     * @param archive 삭제 전 보관 파일에 기록
+     */
+    public record RetentionPolicy(RetentionTarget target, int ttlDays, boolean archive) {
+    }
+
+    /** 정리 도중 실행 잠금을 잃음 (다른 노드가 실행할 수 있으므로 즉시 중단) */
+    static class LockLostException extends IllegalStateException {
+
+        LockLostException() {
+            super("보존 정책 실행 잠금을 잃어 정리를 중단합니다");
+        }
+    }
+
+    public RetentionPolicy getPolicy(RetentionTarget target) {
+        String prefix = "retention.policies." + target.getPropertyKey();
+        return new RetentionPolicy(target,
+                environment.getProperty(prefix + ".ttl-days", Integer.class, target.getDefaultTtlDays()),
+                environment.getProperty(prefix + ".archive", Boolean.class, target.isDefaultArchive()));
+    }
+
+    // ===== MongoDB 인덱스 =====
+
+    /**
+     * 보존 정책에 맞게 Mongo 인덱스 정리
+     * - 보관 안 함: TTL 인덱스 (만료 시간이 다르면 다시 생성)
+     * - 보관함: 청크 조회용 일반 인덱스, TTL 인덱스는 제거
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureMongoIndexes() {
+        if (!enabled) {
+            return;
+        }
+        for (RetentionTarget target : RetentionTarget.values()) {
+            if (target.getStore() != RetentionTarget.Store.MONGO) {
+                continue;
+            }
+            try {
+                ensureMongoIndexes(getPolicy(target));
+            } catch (Exception e) {
+                log.error("보존 정책 인덱스 설정 실패: collection={}, error={}", target.getName(), e.getMessage());
+            }
+        }
+    }
+
+    private void ensureMongoIndexes(RetentionPolicy policy) {
+        RetentionTarget target = policy.target();
+        String field = target.getTimeField();
+        String ttlIndexName = TTL_INDEX_PREFIX + field;
+        String scanIndexName = SCAN_INDEX_PREFIX + field;
+        IndexOperations indexOps = mongoTemplate.indexOps(target.getName());
+        List<IndexInfo> indexes = indexOps.getIndexInfo();
+
+        boolean useTtl = policy.ttlDays() > 0 && !policy.archive();
+        Optional<IndexInfo> ttlIndex = findIndex(indexes, ttlIndexName);
+
+        if (!useTtl) {
+            if (ttlIndex.isPresent()) {
+                indexOps.dropIndex(ttlIndexName);
+                log.info("TTL 인덱스 제거: collection={}", target.getName());
+            }
+            if (policy.archive() && findIndex(indexes, scanIndexName).isEmpty()) {
+                indexOps.ensureIndex(new Index().on(field, Sort.Direction.ASC).named(scanIndexName));
+            }
+            return;
+        }
+
+        Duration ttl = Duration.ofDays(policy.ttlDays());
+        if (ttlIndex.isPresent() && ttlIndex.get().getExpireAfter().map(ttl::equals).orElse(false)) {
+            return;
+        }
+        ttlIndex.ifPresent(index -> indexOps.dropIndex(ttlIndexName));
+        // 같은 필드의 일반 인덱스와 키가 겹치므로 제거 후 TTL 인덱스 생성
+        if (findIndex(indexes, scanIndexName).isPresent()) {
+            indexOps.dropIndex(scanIndexName);
+        }
+        indexOps.ensureIndex(new Index().on(field, Sort.Direction.ASC).expire(ttl).named(ttlIndexName));
+        log.info("TTL 인덱스 설정: collection={}, field={}, ttlDays={}", target.getName(), field, policy.ttlDays());
+    }
+
+    private Optional<IndexInfo> findIndex(List<IndexInfo> indexes, String name) {
+        return indexes.stream().filter(index -> name.equals(index.getName())).findFirst();
+    }
+
+    // ===== 정리 작업 =====
+
+    @Scheduled(cron = "${retention.cron:0 0 4 * * *}")
+    public void purgeExpired() {
+        if (!enabled) {
+            return;
+        }
+        String owner = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(LOCK_KEY, owner, Duration.ofMinutes(lockTtlMinutes));
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("다른 노드에서 보존 정책 정리 중, 건너뜀");
+            return;
+        }
+        Runnable heartbeat = () -> renewLock(owner);
+        try {
+            for (RetentionTarget target : RetentionTarget.values()) {
+                purge(getPolicy(target), heartbeat);
+            }
+        } catch (LockLostException e) {
+            log.warn(e.getMessage());
+        } finally {
+            if (owner.equals(stringRedisTemplate.opsForValue().get(LOCK_KEY))) {
+                stringRedisTemplate.delete(LOCK_KEY);
+            }
+        }
+    }
+
+    /**
+     * 청크 사이 잠금 연장 (소유자가 아니거나 연장하지 못하면 중단)
+     */
+    private void renewLock(String owner) {
+        Long renewed;
+        try {
+            renewed = stringRedisTemplate.execute(RENEW_LOCK_SCRIPT, List.of(LOCK_KEY),
+                    owner, String.valueOf(Duration.ofMinutes(lockTtlMinutes).toMillis()));
+        } catch (Exception e) {
+            log.warn("보존 정책 실행 잠금 연장 오류: {}", e.getMessage());
+            throw new LockLostException();
+        }
+        if (renewed == null || renewed == 0) {
+            throw new LockLostException();
+        }
+    }
+
+    /**
+     * 대상 하나 정리
+     *
+     * @return 삭제한 행/문서 수
+     */
+    public long purge(RetentionPolicy policy) {
+        return purge(policy, NO_HEARTBEAT);
+    }
+
+    /**
+     * @param heartbeat 청크마다 호출 (잠금 연장, 실패 시 LockLostException)
+     */
+    private long purge(RetentionPolicy policy, Runnable heartbeat) {
+        RetentionTarget target = policy.target();
+        if (policy.ttlDays() <= 0) {
+            return 0;
+        }
+        // TTL 인덱스가 만료 처리하는 컬렉션
+        if (target.getStore() == RetentionTarget.Store.MONGO && !policy.archive()) {
+            return 0;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(policy.ttlDays());
+        long startedAt = System.currentTimeMillis();
+        try {
+            long deleted = target.getStore() == RetentionTarget.Store.MYSQL
+                    ? purgeMysql(policy, cutoff, heartbeat)
+                    : purgeMongo(policy, cutoff, heartbeat);
+            log.info("보존 정책 정리 완료: target={}, cutoff={}, deleted={}, archive={}, {}ms",
+                    target.getName(), cutoff, deleted, policy.archive(), System.currentTimeMillis() - startedAt);
+            return deleted;
+        } catch (LockLostException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("보존 정책 정리 실패: target={}, error={}", target.getName(), e.getMessage(), e);
+            return 0;
+        }
+    }
+
+    private long purgeMysql(RetentionPolicy policy, LocalDateTime cutoff, Runnable heartbeat) throws IOException {
+        String table = policy.target().getName();
+        String timeColumn = policy.target().getTimeField();
+        Timestamp cutoffTime = Timestamp.valueOf(cutoff);
+
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM " + table + " WHERE " + timeColumn + " < ?", Long.class, cutoffTime);
+        if (maxId == null) {
+            return 0;
+        }
+
+        String selectIdsSql = "SELECT id FROM " + table + " WHERE id > ? AND id <= ? ORDER BY id LIMIT ?";
+        String selectRowsSql = "SELECT * FROM " + table + " WHERE id BETWEEN ? AND ? AND " + timeColumn + " < ?";
+        String deleteSql = "DELETE FROM " + table + " WHERE id BETWEEN ? AND ? AND " + timeColumn + " < ?";
+        ColumnMapRowMapper rowMapper = new ColumnMapRowMapper();
+
+        long deleted = 0;
+        long lastId = 0;
+        int chunkSize = initialChunkSize;
+        try (RetentionArchiveWriter.Archive archive = policy.archive() ? archiveWriter.open(table) : null) {
+            while (lastId < maxId) {
+                heartbeat.run();
+                List<Long> ids = jdbcTemplate.queryForList(selectIdsSql, Long.class, lastId, maxId, chunkSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                long fromId = ids.get(0);
+                long toId = ids.get(ids.size() - 1);
+
+                if (archive != null) {
+                    jdbcTemplate.query(selectRowsSql,
+                            (RowCallbackHandler) rs -> archive.writeRow(rowMapper.mapRow(rs, rs.getRow())),
+                            fromId, toId, cutoffTime);
+                    archive.sync();
+                }
+
+                long chunkStartedAt = System.currentTimeMillis();
+                deleted += jdbcTemplate.update(deleteSql, fromId, toId, cutoffTime);
+                long chunkMillis = System.currentTimeMillis() - chunkStartedAt;
+
+                chunkSize = nextChunkSize(chunkSize, chunkMillis);
+                lastId = toId;
+                pause();
+            }
+            if (archive != null) {
+                log.info("보관 파일 기록: {} ({}행)", archive.getPath(), archive.getCount());
+            }
+        }
+        return deleted;
+    }
+
+    private long purgeMongo(RetentionPolicy policy, LocalDateTime cutoff, Runnable heartbeat) throws IOException {
+        String collection = policy.target().getName();
+        // LocalDateTime은 시스템 시간대 기준 Date로 저장됨
+        Date cutoffDate = Date.from(cutoff.atZone(ZoneId.systemDefault()).toInstant());
+
+        long deleted = 0;
+        int chunkSize = initialChunkSize;
+        try (RetentionArchiveWriter.Archive archive = archiveWriter.open(collection)) {
+            while (true) {
+                heartbeat.run();
+                Query query = new Query(Criteria.where(policy.target().getTimeField()).lt(cutoffDate))
+                        .with(Sort.by(Sort.Direction.ASC, "_id"))
+                        .limit(chunkSize);
+                List<Document> documents = mongoTemplate.find(query, Document.class, collection);
+                if (documents.isEmpty()) {
+                    break;
+                }
+                for (Document document : documents) {
+                    archive.writeLine(document.toJson(ARCHIVE_JSON_SETTINGS));
+                }
+                archive.sync();
+
+                List<Object> ids = documents.stream().map(document -> document.get("_id")).toList();
+                long chunkStartedAt = System.currentTimeMillis();
+                deleted += mongoTemplate.remove(new Query(Criteria.where("_id").in(ids)), collection)
+                        .getDeletedCount();
+                chunkSize = nextChunkSize(chunkSize, System.currentTimeMillis() - chunkStartedAt);
+                pause();
+            }
+            if (archive.getCount() > 0) {
+                log.info("보관 파일 기록: {} ({}건)", archive.getPath(), archive.getCount());
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 청크 삭제 시간에 맞춰 다음 청크 크기 조정
+     */
+    private int nextChunkSize(int current, long chunkMillis) {
+        if (chunkMillis > targetChunkMillis) {
+            log.debug("청크 삭제 시간 초과: {}ms > {}ms, size={}", chunkMillis, targetChunkMillis, current);
+            return Math.max(minChunkSize, current / 2);
+        }
+        if (chunkMillis < targetChunkMillis / 4) {
+            return Math.min(maxChunkSize, current * 2);
+        }
+        return current;
+    }
+
+    private void pause() {
+        if (chunkPauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -10,6 +10,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Media 엔티티 관리 서비스
  */
@@ -48,6 +51,34 @@ public class MediaService {
         return saved;
     }
 
+    /**
+     * S3 키 목록으로 Media 엔티티 일괄 생성 (곡 대량 가져오기용)
+     *
+     * @param titles 제목 목록
+     * @param type 미디어 타입 (MUSIC / VIDEO)
+     * @param s3Keys S3 키 목록 (titles와 같은 순서)
+     * @param uploaderId 업로더 ID (관리자 ID)
+     * @return 생성된 Media 엔티티 (입력 순서와 동일)
+     */
+    @Transactional
+    public List<Media> createMediaBatch(List<String> titles, String type, List<String> s3Keys, Long uploaderId) {
+        List<Media> medias = new ArrayList<>(titles.size());
+        for (int i = 0; i < titles.size(); i++) {
+            Media media = new Media();
+            media.setTitle(titles.get(i));
+            media.setType(type);
+            media.setS3Key(s3Keys.get(i));
+            media.setBucket(bucket);
+            media.setUploaderId(uploaderId);
+            medias.add(media);
+        }
+
+        List<Media> saved = mediaRepository.saveAll(medias);
+        log.info("Media 일괄 생성 완료: {}건", saved.size());
+
+        return saved;
+    }
+
     /**
      * Media ID로 조회
      */
@@ -2,20 +2,61 @@ package com.heungbuja.s3.service;
 
 import com.heungbuja.common.exception.CustomException;
 import com.heungbuja.common.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortIncompleteMultipartUpload;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.BucketLifecycleConfiguration;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ExpirationStatus;
+import software.amazon.awssdk.services.s3.model.LifecycleRule;
+import software.amazon.awssdk.services.s3.model.LifecycleRuleFilter;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * S3 파일 업로드 서비스
+ *
+ * - 임계값 미만: 단일 putObject
+ * - 임계값 이상: 멀티파트 업로드 (파트 병렬 전송, 파트별 CRC32 체크섬/재시도)
+ * - 재개할 수 없는 실패는 즉시 abort, 남은 미완료 업로드는 버킷 수명 주기 규칙으로 정리
+ *   (규칙은 인프라 설정에서 관리하고, 시작 시에는 규칙이 있는지만 확인)
  */
 @Slf4j
 @Service
@@ -23,10 +64,129 @@ import java.util.UUID;
 public class S3UploadService {
 
     private final S3Client s3Client;
+    private final StringRedisTemplate stringRedisTemplate;
 
     @Value("${app.s3.bucket}")
     private String bucket;
 
+    /** 이 크기 이상이면 멀티파트 업로드 */
+    @Value("${app.s3.multipart.threshold-mb:16}")
+    private long multipartThresholdMb;
+
+    /** 파트 크기 (S3 최소 5MB) */
+    @Value("${app.s3.multipart.part-size-mb:8}")
+    private long partSizeMb;
+
+    /** 동시에 전송하는 파트 수 (메모리 사용량 = parallelism × part-size) */
+    @Value("${app.s3.multipart.parallelism:4}")
+    private int parallelism;
+
+    /** 파트별 최대 전송 시도 횟수 */
+    @Value("${app.s3.multipart.max-part-attempts:3}")
+    private int maxPartAttempts;
+
+    /** 미완료 멀티파트 업로드 자동 정리 기간 (버킷 수명 주기 규칙, 재개 매니페스트 보관 기간과 동일) */
+    @Value("${app.s3.multipart.abort-incomplete-after-days:7}")
+    private int abortIncompleteAfterDays;
+
+    /** 업로드 폴더 접두사 (미완료 업로드 정리 규칙이 있어야 하는 범위) */
+    @Value("${app.s3.multipart.upload-prefixes:song/,video/}")
+    private List<String> uploadPrefixes;
+
+    /**
+     * 규칙이 없을 때 직접 등록할지 여부 (로컬/개발 버킷용)
+     * 읽고-쓰는 방식이라 여러 노드나 운영자가 동시에 바꾸면 덮어쓸 수 있으므로 운영에서는 끈다.
+     */
+    @Value("${app.s3.multipart.manage-lifecycle-rule:false}")
+    private boolean manageLifecycleRule;
+
+    /** 재개용 업로드 매니페스트 (Redis Hash) */
+    private static final String MANIFEST_PREFIX = "s3:multipart:manifest:";
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final String LIFECYCLE_RULE_ID_PREFIX = "abort-incomplete-multipart-upload-";
+
+    private ThreadPoolTaskExecutor partUploadExecutor;
+
+    @PostConstruct
+    public void init() {
+        partUploadExecutor = new ThreadPoolTaskExecutor();
+        partUploadExecutor.setCorePoolSize(parallelism);
+        partUploadExecutor.setMaxPoolSize(parallelism);
+        partUploadExecutor.setThreadNamePrefix("s3-upload-");
+        partUploadExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partUploadExecutor.shutdown();
+    }
+
+    /**
+     * 미완료 멀티파트 업로드 정리 규칙 확인 (abort에 실패하거나 재개되지 않은 업로드의 파트 과금 방지)
+     * 업로드 폴더마다 규칙이 있는지만 확인하고, 없으면 경고한다.
+     * manage-lifecycle-rule이 켜져 있을 때만 빠진 폴더의 규칙을 추가한다 (기존 규칙은 유지).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkAbortIncompleteUploadRule() {
+        try {
+            List<LifecycleRule> rules = new ArrayList<>();
+            try {
+                rules.addAll(s3Client.getBucketLifecycleConfiguration(request -> request.bucket(bucket)).rules());
+            } catch (S3Exception e) {
+                if (e.statusCode() != 404) {  // NoSuchLifecycleConfiguration
+                    throw e;
+                }
+            }
+            List<String> uncovered = uploadPrefixes.stream()
+                    .filter(prefix -> rules.stream().noneMatch(rule -> abortsIncompleteUploads(rule, prefix)))
+                    .toList();
+            if (uncovered.isEmpty()) {
+                return;
+            }
+            if (!manageLifecycleRule) {
+                log.warn("S3 미완료 멀티파트 업로드 정리 규칙 없음 (버킷 수명 주기 설정에서 등록 필요): bucket={}, prefixes={}",
+                        bucket, uncovered);
+                return;
+            }
+
+            uncovered.forEach(prefix -> rules.add(LifecycleRule.builder()
+                    .id(LIFECYCLE_RULE_ID_PREFIX + prefix.replace('/', '-'))
+                    .status(ExpirationStatus.ENABLED)
+                    .filter(LifecycleRuleFilter.builder().prefix(prefix).build())
+                    .abortIncompleteMultipartUpload(AbortIncompleteMultipartUpload.builder()
+                            .daysAfterInitiation(abortIncompleteAfterDays)
+                            .build())
+                    .build()));
+            s3Client.putBucketLifecycleConfiguration(request -> request
+                    .bucket(bucket)
+                    .lifecycleConfiguration(BucketLifecycleConfiguration.builder().rules(rules).build()));
+            log.info("S3 미완료 멀티파트 업로드 정리 규칙 등록: bucket={}, prefixes={}, days={}",
+                    bucket, uncovered, abortIncompleteAfterDays);
+        } catch (Exception e) {
+            log.warn("S3 수명 주기 규칙 확인 실패 (버킷 설정에서 직접 확인 필요): bucket={}, error={}",
+                    bucket, e.getMessage());
+        }
+    }
+
+    /**
+     * 활성화된 미완료 업로드 정리 규칙이 해당 접두사를 포함하는지
+     */
+    private boolean abortsIncompleteUploads(LifecycleRule rule, String prefix) {
+        if (rule.status() != ExpirationStatus.ENABLED || rule.abortIncompleteMultipartUpload() == null) {
+            return false;
+        }
+        LifecycleRuleFilter filter = rule.filter();
+        String rulePrefix;
+        if (filter == null) {
+            rulePrefix = rule.prefix();
+        } else if (filter.and() != null) {
+            rulePrefix = filter.and().prefix();
+        } else {
+            rulePrefix = filter.prefix();
+        }
+        return rulePrefix == null || prefix.startsWith(rulePrefix);
+    }
+
     /**
      * MultipartFile을 S3에 업로드하고 S3 키를 반환
      *
@@ -49,6 +209,18 @@ public class S3UploadService {
         String s3Key = folder + "/" + uniqueFilename;
 
         try {
+            if (file.getSize() >= multipartThresholdMb * 1024 * 1024) {
+                // 큰 파일: 임시 파일로 옮긴 뒤 파트 단위 병렬 업로드 (요청이 끝나면 원본이 사라지므로 재개 불가)
+                Path tempFile = Files.createTempFile("s3-upload-", ".part");
+                try {
+                    file.transferTo(tempFile);
+                    multipartUpload(tempFile, s3Key, file.getContentType(), false);
+                } finally {
+                    Files.deleteIfExists(tempFile);
+                }
+                return s3Key;
+            }
+
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                     .bucket(bucket)
                     .key(s3Key)
@@ -66,6 +238,35 @@ public class S3UploadService {
         }
     }
 
+    /**
+     * 로컬 파일을 S3에 업로드 (재개 가능)
+     * 같은 s3Key로 다시 호출하면 매니페스트에 기록된 파트는 건너뛰고 남은 파트만 전송한다.
+     * (파일이 바뀌었거나 S3에 업로드가 남아 있지 않으면 새로 시작)
+     *
+     * @param file 로컬 파일 경로
+     * @param s3Key S3 키
+     * @param contentType Content-Type
+     * @return S3 키
+     */
+    public String uploadLocalFile(Path file, String s3Key, String contentType) {
+        try {
+            if (Files.size(file) < multipartThresholdMb * 1024 * 1024) {
+                s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(s3Key)
+                        .contentType(contentType)
+                        .build(), RequestBody.fromFile(file));
+                log.info("S3 업로드 성공: bucket={}, key={}", bucket, s3Key);
+                return s3Key;
+            }
+            multipartUpload(file, s3Key, contentType, true);
+            return s3Key;
+        } catch (IOException e) {
+            log.error("S3 업로드 실패: {}", e.getMessage(), e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "S3 업로드에 실패했습니다: " + e.getMessage());
+        }
+    }
+
     /**
      * 오디오 파일 업로드 (song 폴더)
      */
@@ -79,4 +280,250 @@ public class S3UploadService {
     public String uploadVideoFile(MultipartFile file) {
         return uploadFile(file, "video");
     }
+
+    /**
+     * 멀티파트 업로드
+     *
+     * @param resumable true: 일시적인 실패(네트워크 / S3 5xx)는 업로드를 유지하고 매니페스트로 재개,
+     *                  false 또는 재개할 수 없는 실패: abort
+     */
+    private void multipartUpload(Path file, String s3Key, String contentType, boolean resumable) throws IOException {
+        long fileSize = Files.size(file);
+        long modifiedAt = Files.getLastModifiedTime(file).toMillis();
+        long partSize = Math.max(MIN_PART_SIZE, partSizeMb * 1024 * 1024);
+        int partCount = (int) ((fileSize + partSize - 1) / partSize);
+        String manifestKey = resumable ? MANIFEST_PREFIX + s3Key : null;
+
+        // 1. 재개 가능한 업로드가 있으면 이어서, 없으면 새로 시작
+        Map<Object, Object> manifest = resumable
+                ? loadManifest(manifestKey, s3Key, fileSize, modifiedAt, partSize)
+                : Map.of();
+        String uploadId = (String) manifest.get("uploadId");
+        if (uploadId == null) {
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(s3Key)
+                    .contentType(contentType)
+                    .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                    .build()).uploadId();
+            if (resumable) {
+                stringRedisTemplate.opsForHash().putAll(manifestKey, Map.of(
+                        "uploadId", uploadId,
+                        "s3Key", s3Key,
+                        "fileSize", String.valueOf(fileSize),
+                        "modifiedAt", String.valueOf(modifiedAt),
+                        "partSize", String.valueOf(partSize)));
+                stringRedisTemplate.expire(manifestKey, Duration.ofDays(abortIncompleteAfterDays));
+            }
+        }
+        log.info("S3 멀티파트 업로드 시작: key={}, size={}, parts={}, resumed={}",
+                s3Key, fileSize, partCount, manifest.containsKey("uploadId"));
+
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            abortUpload(s3Key, uploadId, manifestKey);
+            throw e;
+        }
+
+        List<CompletedPart> completedParts = new ArrayList<>(partCount);
+        List<Future<CompletedPart>> futures = new ArrayList<>();
+        long startTime = System.currentTimeMillis();
+
+        try (channel) {
+            // 2. 남은 파트를 제한된 스레드 풀에서 병렬 전송
+            for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+                Object recorded = manifest.get("part:" + partNumber);
+                if (recorded != null) {
+                    completedParts.add(parseCompletedPart(partNumber, (String) recorded));
+                    continue;
+                }
+                long offset = (partNumber - 1) * partSize;
+                int length = (int) Math.min(partSize, fileSize - offset);
+                int number = partNumber;
+                String id = uploadId;
+                futures.add(partUploadExecutor.submit(() ->
+                        uploadPart(channel, s3Key, id, number, offset, length, manifestKey)));
+            }
+
+            for (Future<CompletedPart> future : futures) {
+                completedParts.add(future.get());
+            }
+
+            // 3. 파트 번호 순으로 완료 요청 (S3에서 재조립)
+            completedParts.sort(Comparator.comparing(CompletedPart::partNumber));
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(s3Key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+
+            if (resumable) {
+                stringRedisTemplate.delete(manifestKey);
+            }
+            log.info("S3 멀티파트 업로드 성공: bucket={}, key={}, parts={}, {}ms",
+                    bucket, s3Key, partCount, System.currentTimeMillis() - startTime);
+
+        } catch (InterruptedException | ExecutionException | RuntimeException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            boolean keepForResume = resumable && isTransient(cause);
+            if (!keepForResume) {
+                abortUpload(s3Key, uploadId, manifestKey);
+            }
+            log.error("S3 멀티파트 업로드 실패: key={}, keptForResume={}, error={}",
+                    s3Key, keepForResume, cause.getMessage(), cause);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "S3 업로드에 실패했습니다: " + cause.getMessage());
+        }
+    }
+
+    /**
+     * 다시 시도하면 성공할 수 있는 실패인지 (네트워크 오류, S3 5xx / 요청 제한)
+     * 파일 읽기 실패, 업로드 없음(NoSuchUpload) 등 4xx는 재개해도 같은 결과이므로 abort 대상
+     */
+    private boolean isTransient(Throwable error) {
+        if (error instanceof InterruptedException) {
+            return true;
+        }
+        if (error instanceof S3Exception s3Exception) {
+            return s3Exception.statusCode() >= 500 || s3Exception.statusCode() == 429;
+        }
+        return error instanceof SdkClientException;
+    }
+
+    /**
+     * 파트 하나 전송 (파일 위치 읽기 → CRC32 체크섬과 함께 업로드, 실패 시 재시도)
+     */
+    private CompletedPart uploadPart(FileChannel channel, String s3Key, String uploadId,
+                                     int partNumber, long offset, int length, String manifestKey) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+
+        RuntimeException lastError = null;
+        for (int attempt = 1; attempt <= maxPartAttempts; attempt++) {
+            try {
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(s3Key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) length)
+                        .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                        .build(), RequestBody.fromByteBuffer(buffer.duplicate()));
+
+                if (manifestKey != null) {
+                    stringRedisTemplate.opsForHash().put(manifestKey, "part:" + partNumber,
+                            response.eTag() + "|" + response.checksumCRC32());
+                }
+                return CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .checksumCRC32(response.checksumCRC32())
+                        .build();
+
+            } catch (RuntimeException e) {
+                lastError = e;
+                log.warn("S3 파트 업로드 실패: key={}, part={}, attempt={}/{}, error={}",
+                        s3Key, partNumber, attempt, maxPartAttempts, e.getMessage());
+            }
+        }
+        throw lastError;
+    }
+
+    /**
+     * 재개 가능한 매니페스트 조회
+     * - 키 / 파일 크기 / 수정 시각 / 파트 크기가 다르면 이전 업로드를 abort하고 새로 시작
+     * - S3에 실제로 올라가 있고 ETag가 같은 파트만 재사용 (업로드가 없으면 새로 시작)
+     */
+    private Map<Object, Object> loadManifest(String manifestKey, String s3Key, long fileSize,
+                                             long modifiedAt, long partSize) {
+        Map<Object, Object> manifest = stringRedisTemplate.opsForHash().entries(manifestKey);
+        if (manifest.isEmpty()) {
+            return Map.of();
+        }
+        String uploadId = (String) manifest.get("uploadId");
+        if (uploadId == null
+                || !s3Key.equals(manifest.get("s3Key"))
+                || !String.valueOf(fileSize).equals(manifest.get("fileSize"))
+                || !String.valueOf(modifiedAt).equals(manifest.get("modifiedAt"))
+                || !String.valueOf(partSize).equals(manifest.get("partSize"))) {
+            log.info("S3 업로드 매니페스트 불일치 (파일 변경), 새로 업로드: {}", manifestKey);
+            if (uploadId != null) {
+                abortUpload(s3Key, uploadId, manifestKey);
+            } else {
+                stringRedisTemplate.delete(manifestKey);
+            }
+            return Map.of();
+        }
+
+        Map<Integer, String> uploadedETags = new HashMap<>();
+        try {
+            s3Client.listPartsPaginator(ListPartsRequest.builder()
+                            .bucket(bucket)
+                            .key(s3Key)
+                            .uploadId(uploadId)
+                            .build())
+                    .parts()
+                    .forEach(part -> uploadedETags.put(part.partNumber(), part.eTag()));
+        } catch (NoSuchUploadException e) {
+            log.info("S3 업로드가 이미 정리됨, 새로 업로드: key={}, uploadId={}", s3Key, uploadId);
+            stringRedisTemplate.delete(manifestKey);
+            return Map.of();
+        }
+
+        Map<Object, Object> verified = new HashMap<>();
+        verified.put("uploadId", uploadId);
+        manifest.forEach((field, value) -> {
+            String name = (String) field;
+            if (!name.startsWith("part:")) {
+                return;
+            }
+            int partNumber = Integer.parseInt(name.substring("part:".length()));
+            String eTag = parseCompletedPart(partNumber, (String) value).eTag();
+            if (eTag.equals(uploadedETags.get(partNumber))) {
+                verified.put(name, value);
+            }
+        });
+        return verified;
+    }
+
+    private CompletedPart parseCompletedPart(int partNumber, String recorded) {
+        String[] values = recorded.split("\\|", 2);
+        return CompletedPart.builder()
+                .partNumber(partNumber)
+                .eTag(values[0])
+                .checksumCRC32(values.length > 1 && !"null".equals(values[1]) ? values[1] : null)
+                .build();
+    }
+
+    /**
+     * 업로드 취소 (+ 매니페스트 삭제)
+     * 실패해도 버킷 수명 주기 규칙이 미완료 업로드를 정리한다.
+     */
+    private void abortUpload(String s3Key, String uploadId, String manifestKey) {
+        if (manifestKey != null) {
+            stringRedisTemplate.delete(manifestKey);
+        }
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(s3Key)
+                    .uploadId(uploadId)
+                    .build());
+            log.info("S3 멀티파트 업로드 취소: key={}, uploadId={}", s3Key, uploadId);
+        } catch (Exception e) {
+            log.warn("S3 멀티파트 업로드 취소 실패: key={}, error={}", s3Key, e.getMessage());
+        }
+    }
 }
@@ -11,11 +11,9 @@ import com.heungbuja.game.repository.jpa.GameResultRepository;
 import com.heungbuja.game.state.GameSession;
 import com.heungbuja.game.state.GameState;
 import com.heungbuja.session.state.ActivityState;
-import com.heungbuja.song.domain.SongChoreography;
 import com.heungbuja.song.dto.SongGameData;
 import com.heungbuja.s3.service.MediaUrlService;
 import com.heungbuja.song.entity.Song;
-import com.heungbuja.song.repository.mongo.SongChoreographyRepository;
 import com.heungbuja.user.entity.User;
 import com.heungbuja.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -42,7 +40,6 @@ public class SessionPrepareService {
 
     private final UserRepository userRepository;
     private final GameResultRepository gameResultRepository;
-    private final SongChoreographyRepository songChoreographyRepository;
     private final MediaUrlService mediaUrlService;
 
     // Redis
@@ -71,7 +68,7 @@ public class SessionPrepareService {
         User user = userRepository.findById(userId).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         // 1. 비디오 URL 생성 (패턴 기반)
-        Map<String, String> videoUrls = generateVideoUrls(song.getId());
+        Map<String, String> videoUrls = generateVideoUrls(songGameData.getVideoKeys());
 
         // 2. sessionId 생성
         String sessionId = UUID.randomUUID().toString();
@@ -148,62 +145,14 @@ public class SessionPrepareService {
     }
 
     /**
-     * 비디오 URL 생성 (패턴 기반)
+     * 비디오 URL 생성 (게임 읽기 모델의 구간별 S3 Key로 발급)
      */
-    private Map<String, String> generateVideoUrls(Long songId) {
+    private Map<String, String> generateVideoUrls(Map<String, String> videoKeys) {
         Map<String, String> videoUrls = new HashMap<>();
-
-        // SongChoreography 조회
-        SongChoreography choreography = songChoreographyRepository.findBySongId(songId)
-                .orElseThrow(() -> new CustomException(
-                        ErrorCode.GAME_METADATA_NOT_FOUND, "안무 정보를 찾을 수 없습니다"));
-
-        SongChoreography.Version version = choreography.getVersions().get(0);
-
-        // intro: 공통 튜토리얼
-        String introS3Key = "video/break.mp4";
-        videoUrls.put("intro", mediaUrlService.issueUrlByKey(introS3Key));
-
-        // verse1: 첫 번째 패턴
-        String verse1PatternId = version.getVerse1().getPatternSequence().get(0);
-        String verse1S3Key = convertPatternIdToVideoUrl(verse1PatternId);
-        videoUrls.put("verse1", mediaUrlService.issueUrlByKey(verse1S3Key));
-
-        // verse2: 각 레벨의 첫 번째 패턴
-        for (SongChoreography.VerseLevelPatternInfo levelInfo : version.getVerse2()) {
-            String patternId = levelInfo.getPatternSequence().get(0);
-            String s3Key = convertPatternIdToVideoUrl(patternId);
-            String key = "verse2_level" + levelInfo.getLevel();
-            videoUrls.put(key, mediaUrlService.issueUrlByKey(s3Key));
-        }
-
+        videoKeys.forEach((section, s3Key) -> videoUrls.put(section, mediaUrlService.issueUrlByKey(s3Key)));
         return videoUrls;
     }
 
-    /**
-     * 패턴 ID → 비디오 URL 변환
-     * TODO: 패턴별 비디오 준비 완료 시 임시 매핑 제거하고 "video/pattern_" + patternId.toLowerCase() + ".mp4" 사용
-     */
-    private String convertPatternIdToVideoUrl(String patternId) {
-        // 임시 매핑: 현재 존재하는 비디오 파일 사용
-        switch (patternId) {
-            case "P1":
-                return "video/part1.mp4";
-            case "P2":
-                return "video/part2_level1.mp4";
-            case "P3":
-                return "video/part2_level2.mp4";
-            case "P4":
-                return "video/part1.mp4";  // 반복
-            default:
-                log.warn("알 수 없는 패턴 ID: {}. 기본 비디오 사용", patternId);
-                return "video/part1.mp4";
-        }
-
-        // 나중에 패턴별 비디오 준비되면 아래 코드로 교체:
-        // return "video/pattern_" + patternId.toLowerCase() + ".mp4";
-    }
-
     /**
      * SectionInfo → Map<String, Double> 변환
      */
@@ -0,0 +1,240 @@
+package com.heungbuja.song.domain;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * SongBeat 조회용 인덱스 (곡당 한 번 생성, 불변)
+ *
+ * 비트 목록을 매번 순회하거나 Map으로 박싱하지 않도록 원시 배열로 보관한다.
+ * - 비트 번호(i) → 시간: O(1) (i 범위 크기의 배열)
+ * - 마디 → 첫 비트: O(1) (마디별 오프셋 배열)
+ *   (번호 범위가 비트 수보다 훨씬 넓으면 배열 대신 정렬된 번호 목록 이진 탐색, 잘못 저장된 곡이 거대한 배열을 만들지 않도록)
+ * - 시간 → 비트: 이진 탐색
+ * - 시간 → BPM: tempoMap 선형 보간
+ */
+public final class BeatIndex {
+
+    private static final int NONE = -1;
+
+    /** 번호 범위가 비트 수 * FACTOR + SLACK 이하일 때만 범위 크기 배열 사용 */
+    private static final long DIRECT_LOOKUP_FACTOR = 4;
+    private static final long DIRECT_LOOKUP_SLACK = 64;
+
+    /** 시간순 비트 (같은 위치끼리 대응) */
+    private final int[] beatNumbers;
+    private final int[] bars;
+    private final double[] times;
+
+    /** 비트 번호 슬롯 → times 위치 (슬롯: 비트 번호 - minBeatNumber, 또는 beatNumberKeys 내 위치) */
+    private final int minBeatNumber;
+    private final int[] beatNumberKeys;
+    private final int[] positionByBeatNumber;
+
+    /** 마디 슬롯 → 그 마디 첫 비트의 times 위치 (정박(beat=1) 우선, 슬롯: 마디 - minBar, 또는 barKeys 내 위치) */
+    private final int minBar;
+    private final int[] barKeys;
+    private final int[] barOffsets;
+
+    private final double[] tempoTimes;
+    private final double[] tempoBpms;
+
+    private BeatIndex(int[] beatNumbers, int[] bars, int[] beatInBar, double[] times,
+                      double[] tempoTimes, double[] tempoBpms) {
+        this.beatNumbers = beatNumbers;
+        this.bars = bars;
+        this.times = times;
+        this.tempoTimes = tempoTimes;
+        this.tempoBpms = tempoBpms;
+
+        int count = beatNumbers.length;
+        this.minBeatNumber = count == 0 ? 0 : Arrays.stream(beatNumbers).min().getAsInt();
+        this.beatNumberKeys = sparseKeys(beatNumbers, minBeatNumber);
+        this.positionByBeatNumber = new int[slotCount(beatNumbers, minBeatNumber, beatNumberKeys)];
+        Arrays.fill(positionByBeatNumber, NONE);
+
+        this.minBar = count == 0 ? 0 : Arrays.stream(bars).min().getAsInt();
+        this.barKeys = sparseKeys(bars, minBar);
+        this.barOffsets = new int[slotCount(bars, minBar, barKeys)];
+        Arrays.fill(barOffsets, NONE);
+
+        boolean[] downbeatFound = new boolean[barOffsets.length];
+        for (int pos = 0; pos < count; pos++) {
+            int beatSlot = slot(beatNumbers[pos], minBeatNumber, beatNumberKeys, positionByBeatNumber.length);
+            if (positionByBeatNumber[beatSlot] == NONE) {
+                positionByBeatNumber[beatSlot] = pos;
+            }
+
+            int barSlot = slot(bars[pos], minBar, barKeys, barOffsets.length);
+            if (beatInBar[pos] == 1 && !downbeatFound[barSlot]) {
+                barOffsets[barSlot] = pos;
+                downbeatFound[barSlot] = true;
+            } else if (barOffsets[barSlot] == NONE) {
+                barOffsets[barSlot] = pos;
+            }
+        }
+    }
+
+    /**
+     * 번호 범위가 비트 수에 비해 너무 넓으면 정렬된 고유 번호 목록 (이진 탐색용), 아니면 null (범위 크기 배열 사용)
+     */
+    private static int[] sparseKeys(int[] values, int min) {
+        if (values.length == 0) {
+            return null;
+        }
+        long range = (long) Arrays.stream(values).max().getAsInt() - min + 1;
+        if (range <= values.length * DIRECT_LOOKUP_FACTOR + DIRECT_LOOKUP_SLACK) {
+            return null;
+        }
+        return Arrays.stream(values).sorted().distinct().toArray();
+    }
+
+    private static int slotCount(int[] values, int min, int[] keys) {
+        if (keys != null) {
+            return keys.length;
+        }
+        return values.length == 0 ? 0 : Arrays.stream(values).max().getAsInt() - min + 1;
+    }
+
+    /**
+     * 번호 → 슬롯 (없으면 NONE)
+     */
+    private static int slot(int value, int min, int[] keys, int slotCount) {
+        if (keys != null) {
+            int found = Arrays.binarySearch(keys, value);
+            return found < 0 ? NONE : found;
+        }
+        long offset = (long) value - min;
+        return offset < 0 || offset >= slotCount ? NONE : (int) offset;
+    }
+
+    /**
+     * SongBeat로 인덱스 생성 (비트가 시간순이 아니면 정렬)
+     */
+    public static BeatIndex of(SongBeat songBeat) {
+        List<SongBeat.Beat> beats = songBeat.getBeats() == null ? List.of() : songBeat.getBeats();
+        int count = beats.size();
+
+        int[] order = IntStream.range(0, count).toArray();
+        boolean sorted = IntStream.range(1, count).allMatch(k -> beats.get(k - 1).getT() <= beats.get(k).getT());
+        if (!sorted) {
+            order = IntStream.range(0, count).boxed()
+                    .sorted(Comparator.comparingDouble(k -> beats.get(k).getT()))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        int[] beatNumbers = new int[count];
+        int[] bars = new int[count];
+        int[] beatInBar = new int[count];
+        double[] times = new double[count];
+        for (int pos = 0; pos < count; pos++) {
+            SongBeat.Beat beat = beats.get(order[pos]);
+            beatNumbers[pos] = beat.getI();
+            bars[pos] = beat.getBar();
+            beatInBar[pos] = beat.getBeat();
+            times[pos] = beat.getT();
+        }
+
+        List<SongBeat.Tempo> tempoMap = songBeat.getTempoMap() == null ? List.of() : songBeat.getTempoMap().stream()
+                .sorted(Comparator.comparingDouble(SongBeat.Tempo::getT))
+                .toList();
+        double[] tempoTimes = tempoMap.stream().mapToDouble(SongBeat.Tempo::getT).toArray();
+        double[] tempoBpms = tempoMap.stream().mapToDouble(SongBeat.Tempo::getBpm).toArray();
+
+        return new BeatIndex(beatNumbers, bars, beatInBar, times, tempoTimes, tempoBpms);
+    }
+
+    public int size() {
+        return beatNumbers.length;
+    }
+
+    public boolean isEmpty() {
+        return beatNumbers.length == 0;
+    }
+
+    /**
+     * 비트 번호(i)의 시간 (초), 없으면 defaultValue
+     */
+    public double timeOfBeat(int beatNumber, double defaultValue) {
+        int slot = slot(beatNumber, minBeatNumber, beatNumberKeys, positionByBeatNumber.length);
+        if (slot == NONE || positionByBeatNumber[slot] == NONE) {
+            return defaultValue;
+        }
+        return times[positionByBeatNumber[slot]];
+    }
+
+    /**
+     * 마디의 첫 비트 번호 (정박 우선, 없으면 그 마디의 첫 비트, 마디가 없으면 마지막 비트)
+     */
+    public int firstBeatOfBar(int bar) {
+        int slot = slot(bar, minBar, barKeys, barOffsets.length);
+        if (slot != NONE && barOffsets[slot] != NONE) {
+            return beatNumbers[barOffsets[slot]];
+        }
+        return isEmpty() ? 1 : beatNumbers[beatNumbers.length - 1];
+    }
+
+    /**
+     * 마디 시작 시간 (초), 없으면 defaultValue
+     */
+    public double barStartTime(int bar, double defaultValue) {
+        int slot = slot(bar, minBar, barKeys, barOffsets.length);
+        if (slot == NONE || barOffsets[slot] == NONE) {
+            return defaultValue;
+        }
+        return times[barOffsets[slot]];
+    }
+
+    /**
+     * 마지막 비트의 마디 번호 (비트가 없으면 0)
+     */
+    public int lastBar() {
+        return isEmpty() ? 0 : bars[bars.length - 1];
+    }
+
+    /**
+     * 해당 시간에 진행 중인 비트 번호 (시간 이하인 마지막 비트, 첫 비트 전이면 -1)
+     */
+    public int beatAt(double timeSec) {
+        int pos = Arrays.binarySearch(times, timeSec);
+        if (pos < 0) {
+            pos = -pos - 2;   // 삽입 위치 바로 앞
+        } else {
+            // 같은 시간 비트가 여러 개면 마지막 것
+            while (pos + 1 < times.length && times[pos + 1] == timeSec) {
+                pos++;
+            }
+        }
+        return pos < 0 ? NONE : beatNumbers[pos];
+    }
+
+    /**
+     * 해당 시간의 BPM (tempoMap 지점 사이는 선형 보간, 범위 밖은 가장 가까운 지점 값)
+     *
+     * @return tempoMap이 비어 있으면 0
+     */
+    public double bpmAt(double timeSec) {
+        int count = tempoTimes.length;
+        if (count == 0) {
+            return 0;
+        }
+        if (timeSec <= tempoTimes[0]) {
+            return tempoBpms[0];
+        }
+        if (timeSec >= tempoTimes[count - 1]) {
+            return tempoBpms[count - 1];
+        }
+
+        int pos = Arrays.binarySearch(tempoTimes, timeSec);
+        if (pos >= 0) {
+            return tempoBpms[pos];
+        }
+        int upper = -pos - 1;
+        int lower = upper - 1;
+        double ratio = (timeSec - tempoTimes[lower]) / (tempoTimes[upper] - tempoTimes[lower]);
+        return tempoBpms[lower] + (tempoBpms[upper] - tempoBpms[lower]) * ratio;
+    }
+}
@@ -0,0 +1,60 @@
+package com.heungbuja.song.domain;
+
+import com.heungbuja.game.dto.ActionTimelineEvent;
+import com.heungbuja.game.dto.GameStartResponse;
+import com.heungbuja.game.dto.SectionInfo;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MongoDB의 'song_game_read_model' 컬렉션과 매핑되는 Document 클래스
+ * 게임 시작에 필요한 값만 곡별로 미리 계산해 둔 읽기 모델 (원본: song_beats, song_lyrics,
+ * song_choreographies, choreography_patterns)
+ *
+ * 곡 등록 시 생성되고, 원본이 바뀌면 SongGameReadModelService로 재생성한다.
+ * songId에 unique 인덱스가 있어 게임 시작 시 한 번의 조회로 읽는다.
+ */
+@Getter
+@Setter
+@Document(collection = "song_game_read_model")
+public class SongGameReadModel {
+
+    @Id
+    private String id;
+    private Long songId;
+
+    /** 생성 버전 (재생성할 때마다 1 증가) */
+    private long version;
+    private LocalDateTime builtAt;
+
+    private double bpm;
+    private double duration;
+
+    /** 섹션 레이블 → 시작 시간 (초) */
+    private Map<String, Double> sectionStartTimes;
+
+    /** intro/verse1/break/verse2 시작 시간 + 카메라 녹화 구간 */
+    private SectionInfo sectionInfo;
+
+    private String lyricsTitle;
+    private List<SongLyrics.Line> lyricsLines;
+
+    /** 1절 / 2절 레벨별("level1"~) 동작 타임라인 */
+    private List<ActionTimelineEvent> verse1Timeline;
+    private Map<String, List<ActionTimelineEvent>> verse2Timelines;
+
+    /** 섹션 전체 길이만큼 펼친 패턴 시퀀스 */
+    private GameStartResponse.SectionPatterns sectionPatterns;
+
+    /** 원본 패턴 시퀀스 (eachRepeat 미적용) */
+    private GameStartResponse.SectionPatterns originalSectionPatterns;
+
+    /** 구간 → 안내 영상 S3 Key (intro, verse1, verse2_level1~) - URL은 요청 시 발급 */
+    private Map<String, String> videoKeys;
+}
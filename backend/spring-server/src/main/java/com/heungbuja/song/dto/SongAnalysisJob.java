@@ -0,0 +1,52 @@
+package com.heungbuja.song.dto;
+
+import com.heungbuja.song.enums.SongAnalysisJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 곡 분석 작업 상태
+ * Redis에 저장됨 (요청 스레드/힙을 점유하지 않고 진행 상황을 조회하기 위함)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SongAnalysisJob implements Serializable {
+
+    /** 작업 ID */
+    private String jobId;
+
+    /** 분석 후 곡 등록까지 진행할지 여부 (false: 분석 결과만 반환) */
+    private boolean register;
+
+    /** 요청한 관리자 ID */
+    private Long adminId;
+
+    /** 곡 정보 */
+    private String title;
+    private String artist;
+    private String s3Key;
+
+    /** 작업 상태 */
+    private SongAnalysisJobStatus status;
+
+    /** 등록된 곡 ID (register=true 완료 시) */
+    private Long songId;
+
+    /** music-server 분석 결과 JSON (원문) */
+    private String resultJson;
+
+    /** 실패 사유 */
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,45 @@
+package com.heungbuja.song.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.heungbuja.song.enums.SongAnalysisJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 곡 분석 작업 조회/알림 응답
+ * - REST 폴링과 STOMP(/topic/admin/{adminId}/song-jobs) 알림에 공통으로 사용
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SongAnalysisJobResponse {
+
+    private String jobId;
+    private boolean register;
+    private SongAnalysisJobStatus status;
+    private String title;
+    private Long songId;
+    private JsonNode result;      // 분석 결과 (완료 시)
+    private String errorMessage;  // 실패 사유
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static SongAnalysisJobResponse from(SongAnalysisJob job, JsonNode result) {
+        return SongAnalysisJobResponse.builder()
+                .jobId(job.getJobId())
+                .register(job.isRegister())
+                .status(job.getStatus())
+                .title(job.getTitle())
+                .songId(job.getSongId())
+                .result(result)
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+}
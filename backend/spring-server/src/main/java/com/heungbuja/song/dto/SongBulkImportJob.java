@@ -0,0 +1,68 @@
+package com.heungbuja.song.dto;
+
+import com.heungbuja.song.enums.SongAnalysisJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 곡 대량 가져오기 작업 상태
+ * Redis에 저장됨 (완료된 곡 체크포인트는 별도 Hash에 기록되어 재개 시 건너뜀)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SongBulkImportJob implements Serializable {
+
+    /** 작업 ID */
+    private String jobId;
+
+    /** 요청한 관리자 ID */
+    private Long adminId;
+
+    /** 매니페스트가 있는 디렉터리 (ZIP은 압축을 푼 작업 디렉터리) */
+    private String sourceDir;
+
+    /** ZIP으로 업로드된 작업인지 (완료 후 작업 디렉터리 삭제) */
+    private boolean extracted;
+
+    /** 압축을 푼 노드 (작업 디렉터리가 노드 로컬이면 이 노드에서만 재개) */
+    private String nodeId;
+
+    /** 작업 상태 */
+    private SongAnalysisJobStatus status;
+
+    /** 매니페스트의 전체 곡 수 / 등록 완료 / 실패 (이번 실행 기준) */
+    private int total;
+    private int completed;
+    private int failed;
+
+    /** 실패한 곡과 사유 (최대 100건) */
+    @Builder.Default
+    private List<String> failures = new ArrayList<>();
+
+    /** 단계별 처리 수 / 누적 처리 시간 (upload, analyze, persist) */
+    @Builder.Default
+    private Map<String, Long> stageCounts = new HashMap<>();
+    @Builder.Default
+    private Map<String, Long> stageBusyMillis = new HashMap<>();
+
+    /** 작업 전체 실패 사유 */
+    private String errorMessage;
+
+    /** 이번 실행 시작 시각 (재개 시 갱신, 처리량 계산 기준) */
+    private LocalDateTime startedAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
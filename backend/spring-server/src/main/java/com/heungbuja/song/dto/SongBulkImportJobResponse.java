@@ -0,0 +1,82 @@
+package com.heungbuja.song.dto;
+
+import com.heungbuja.song.enums.SongAnalysisJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 곡 대량 가져오기 작업 조회/알림 응답
+ * - REST 폴링과 STOMP(/topic/admin/{adminId}/song-import-jobs) 알림에 공통으로 사용
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SongBulkImportJobResponse {
+
+    /** 파이프라인 순서 */
+    private static final List<String> STAGE_ORDER = List.of("upload", "analyze", "persist");
+
+    private String jobId;
+    private SongAnalysisJobStatus status;
+    private int total;
+    private int completed;
+    private int failed;
+    private List<String> failures;
+    private List<StageThroughput> stages;  // 단계별 처리량
+    private String errorMessage;
+    private String nodeId;              // ZIP 작업을 재개할 수 있는 노드
+    private LocalDateTime startedAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * 단계별 처리량
+     *
+     * @param perSecond 실행 시작 이후 초당 처리 곡 수
+     * @param avgMillis 곡당 평균 처리 시간 (병렬 처리 시 단계 지연 시간)
+     */
+    public record StageThroughput(String stage, long count, double perSecond, double avgMillis) {
+    }
+
+    public static SongBulkImportJobResponse from(SongBulkImportJob job) {
+        return SongBulkImportJobResponse.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus())
+                .total(job.getTotal())
+                .completed(job.getCompleted())
+                .failed(job.getFailed())
+                .failures(job.getFailures())
+                .stages(toStages(job))
+                .errorMessage(job.getErrorMessage())
+                .nodeId(job.getNodeId())
+                .startedAt(job.getStartedAt())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+
+    private static List<StageThroughput> toStages(SongBulkImportJob job) {
+        List<StageThroughput> stages = new ArrayList<>();
+        if (job.getStartedAt() == null || job.getStageCounts() == null) {
+            return stages;
+        }
+        LocalDateTime end = job.getUpdatedAt() != null ? job.getUpdatedAt() : LocalDateTime.now();
+        double elapsedSeconds = Math.max(0.001, Duration.between(job.getStartedAt(), end).toMillis() / 1000.0);
+
+        for (String stage : STAGE_ORDER) {
+            long count = job.getStageCounts().getOrDefault(stage, 0L);
+            long busyMillis = job.getStageBusyMillis().getOrDefault(stage, 0L);
+            stages.add(new StageThroughput(stage, count,
+                    count / elapsedSeconds, count == 0 ? 0 : (double) busyMillis / count));
+        }
+        return stages;
+    }
+}
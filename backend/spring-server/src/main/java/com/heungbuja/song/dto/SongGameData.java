@@ -2,7 +2,6 @@ package com.heungbuja.song.dto;
 
 import com.heungbuja.game.dto.ActionTimelineEvent;
 import com.heungbuja.game.dto.SectionInfo;
-import com.heungbuja.song.domain.SongBeat;
 import com.heungbuja.song.domain.SongLyrics;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,7 +16,7 @@ import java.util.Map;
 
 /**
  * Song별 게임 데이터 (Redis 캐싱용)
- * Beat, Lyrics, SectionInfo + 동작 타임라인 모두 포함
+ * Lyrics, SectionInfo + 동작 타임라인 모두 포함 (게임 읽기 모델에서 생성)
  */
 @Getter
 @Setter
@@ -28,12 +27,12 @@ public class SongGameData implements Serializable {
 
     private Long songId;
 
-    // MongoDB 데이터
-    private SongBeat songBeat;
+    // 가사
     private SongLyrics lyricsInfo;
 
     // 가공된 데이터
     private SectionInfo sectionInfo;
+    private Map<String, Double> sectionStartTimes;  // 섹션 레이블 → 시작 시간 (모든 섹션)
     private Double bpm;
     private Double duration;
 
@@ -41,8 +40,12 @@ public class SongGameData implements Serializable {
     private List<ActionTimelineEvent> verse1Timeline;
     private Map<String, List<ActionTimelineEvent>> verse2Timelines;
 
-    // 섹션별 패턴 시퀀스
+    // 섹션별 패턴 시퀀스 (섹션 길이만큼 펼친 것 / 원본)
     private com.heungbuja.game.dto.GameStartResponse.SectionPatterns sectionPatterns;
+    private com.heungbuja.game.dto.GameStartResponse.SectionPatterns originalSectionPatterns;
+
+    // 구간별 안내 영상 S3 Key (URL은 요청 시 발급)
+    private Map<String, String> videoKeys;
 
     // 캐싱 시간
     private LocalDateTime cachedAt;
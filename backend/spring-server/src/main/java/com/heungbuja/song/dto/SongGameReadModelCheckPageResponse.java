@@ -0,0 +1,22 @@
+package com.heungbuja.song.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게임 읽기 모델 정합성 검사 결과 (곡 id 순 한 페이지)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SongGameReadModelCheckPageResponse {
+
+    private int checked;                                   // 이 페이지에서 검사한 곡 수
+    private List<SongGameReadModelCheckResponse> reports;  // 원본과 일치하지 않는 곡
+    private Long nextAfterSongId;                          // 다음 페이지 요청 시 afterSongId (마지막 페이지면 null)
+}
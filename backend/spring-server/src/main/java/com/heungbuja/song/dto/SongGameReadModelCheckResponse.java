@@ -0,0 +1,25 @@
+package com.heungbuja.song.dto;
+
+import com.heungbuja.song.enums.SongGameReadModelStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게임 읽기 모델 정합성 검사 결과 (곡 단위)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SongGameReadModelCheckResponse {
+
+    private Long songId;
+    private SongGameReadModelStatus status;
+    private Long storedVersion;            // 저장된 읽기 모델 버전 (없으면 null)
+    private List<String> mismatchedFields; // 원본으로 다시 계산한 값과 다른 필드
+    private String message;                // SOURCE_INVALID 사유
+}
@@ -0,0 +1,22 @@
+package com.heungbuja.song.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게임 읽기 모델 재생성 결과
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SongGameReadModelRebuildResponse {
+
+    private int total;
+    private int rebuilt;
+    private List<String> failures;  // "songId: 사유"
+}
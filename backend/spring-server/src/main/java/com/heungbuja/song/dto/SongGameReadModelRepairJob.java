@@ -0,0 +1,50 @@
+package com.heungbuja.song.dto;
+
+import com.heungbuja.song.enums.SongAnalysisJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게임 읽기 모델 불일치 복구 작업 상태
+ * Redis에 저장됨 (전체 곡을 페이지 단위로 검사하므로 요청과 분리해 진행 상황을 조회)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SongGameReadModelRepairJob implements Serializable {
+
+    /** 작업 ID */
+    private String jobId;
+
+    /** 요청한 관리자 ID */
+    private Long adminId;
+
+    /** 작업 상태 */
+    private SongAnalysisJobStatus status;
+
+    /** 검사한 곡 수 / 재생성 대상(STALE, MISSING) / 재생성 성공 / 실패 */
+    private int checked;
+    private int total;
+    private int rebuilt;
+    private int failed;
+
+    /** 재생성 실패한 곡과 사유 (최대 100건, "songId: 사유") */
+    @Builder.Default
+    private List<String> failures = new ArrayList<>();
+
+    /** 작업 전체 실패 사유 */
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.heungbuja.song.enums;
+
+/**
+ * 곡 분석 작업 상태
+ */
+public enum SongAnalysisJobStatus {
+    QUEUED("대기 중"),
+    RUNNING("분석 중"),
+    SUCCEEDED("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    SongAnalysisJobStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,21 @@
+package com.heungbuja.song.enums;
+
+/**
+ * 게임 읽기 모델 정합성 검사 결과
+ */
+public enum SongGameReadModelStatus {
+    CONSISTENT("원본과 일치"),
+    MISSING("읽기 모델 없음"),
+    STALE("원본과 불일치"),
+    SOURCE_INVALID("원본 데이터 누락/오류");
+
+    private final String description;
+
+    SongGameReadModelStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
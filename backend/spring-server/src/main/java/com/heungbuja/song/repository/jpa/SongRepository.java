@@ -1,11 +1,13 @@
 package com.heungbuja.song.repository.jpa;
 
 import com.heungbuja.song.entity.Song;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -21,6 +23,14 @@ public interface SongRepository extends JpaRepository<Song, Long> {
     @Query("SELECT s FROM Song s WHERE s.artist LIKE %:artist% AND s.title LIKE %:title%")
     List<Song> findByArtistAndTitle(@Param("artist") String artist, @Param("title") String title);
 
+    // id 순서로 다음 페이지 id 조회 (전체 곡을 나눠서 처리할 때 사용)
+    @Query("SELECT s.id FROM Song s WHERE s.id > :afterId ORDER BY s.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 오디오 S3 키로 검색 (대량 가져오기 재개 시 이미 등록된 곡 확인)
+    @Query("SELECT s FROM Song s JOIN FETCH s.media m WHERE m.s3Key IN :s3Keys")
+    List<Song> findByMediaS3KeyIn(@Param("s3Keys") Collection<String> s3Keys);
+
     // 전체 텍스트 검색 (가수 OR 제목)
     @Query("SELECT s FROM Song s WHERE s.artist LIKE %:query% OR s.title LIKE %:query%")
     List<Song> searchByQuery(@Param("query") String query);
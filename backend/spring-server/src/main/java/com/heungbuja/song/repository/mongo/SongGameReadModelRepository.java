@@ -0,0 +1,10 @@
+package com.heungbuja.song.repository.mongo;
+
+import com.heungbuja.song.domain.SongGameReadModel;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import java.util.Optional;
+
+public interface SongGameReadModelRepository extends MongoRepository<SongGameReadModel, String> {
+
+    Optional<SongGameReadModel> findBySongId(Long songId);
+}
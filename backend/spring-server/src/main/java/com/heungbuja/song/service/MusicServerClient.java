@@ -4,36 +4,67 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.heungbuja.common.exception.CustomException;
 import com.heungbuja.common.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.http.*;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 
 /**
  * music-server (FastAPI) 클라이언트
  * 오디오 분석 API 호출
+ *
+ * 오디오 파일은 Resource에서 청크 단위로 읽어 전송하므로 파일 전체를 힙에 올리지 않는다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MusicServerClient {
 
-    private final RestTemplate restTemplate;
+    private final WebClient.Builder webClientBuilder;
     private final ObjectMapper objectMapper;
 
     @Value("${app.music-server.url:http://localhost:8001}")
     private String musicServerUrl;
 
+    /** 오디오 분석은 시간이 오래 걸릴 수 있음 (기존 RestTemplate read timeout과 동일) */
+    @Value("${app.music-server.response-timeout-seconds:300}")
+    private long responseTimeoutSeconds;
+
+    /** 분석 결과 JSON 최대 크기 (WebClient 기본 256KB로는 긴 곡의 박자 정보가 잘림) */
+    @Value("${app.music-server.max-response-bytes:33554432}")
+    private int maxResponseBytes;
+
+    private WebClient musicServerWebClient;
+
+    @PostConstruct
+    public void init() {
+        HttpClient httpClient = HttpClient.create()
+                .responseTimeout(Duration.ofSeconds(responseTimeoutSeconds));
+
+        this.musicServerWebClient = webClientBuilder.clone()
+                .baseUrl(musicServerUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxResponseBytes))
+                .build();
+    }
+
     /**
-     * 오디오 파일과 가사를 music-server로 전송하여 분석
+     * 오디오 파일과 가사를 music-server로 전송하여 분석 (동기)
      *
      * @param audioFile 오디오 파일
      * @param lyricsText 가사 텍스트
@@ -42,63 +73,71 @@ public class MusicServerClient {
      */
     public JsonNode analyzeAudio(MultipartFile audioFile, String lyricsText, String title) {
         try {
-            // MultipartFile을 FormData로 변환
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-
-            // 오디오 파일
-            body.add("audio", new ByteArrayResource(audioFile.getBytes()) {
-                @Override
-                public String getFilename() {
-                    return audioFile.getOriginalFilename();
-                }
-            });
-
-            // 가사 파일 (텍스트를 ByteArrayResource로 변환)
-            body.add("lyrics", new ByteArrayResource(lyricsText.getBytes()) {
-                @Override
-                public String getFilename() {
-                    return "lyrics.txt";
-                }
-            });
-
-            // 제목
-            body.add("title", title);
-
-            HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
-
-            // music-server API 호출
-            String url = musicServerUrl + "/api/analyze";
-            log.info("music-server API 호출: {}", url);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    requestEntity,
-                    String.class
-            );
-
-            if (response.getStatusCode() != HttpStatus.OK) {
-                log.error("music-server API 호출 실패: {}", response.getStatusCode());
-                throw new CustomException(ErrorCode.EXTERNAL_API_ERROR, "오디오 분석 서버 오류");
-            }
-
-            // JSON 파싱
-            JsonNode result = objectMapper.readTree(response.getBody());
-
-            if (!result.has("success") || !result.get("success").asBoolean()) {
-                String errorMsg = result.has("error") ? result.get("error").asText() : "알 수 없는 오류";
-                throw new CustomException(ErrorCode.EXTERNAL_API_ERROR, "오디오 분석 실패: " + errorMsg);
-            }
-
-            log.info("music-server 분석 완료: title={}", title);
-            return result;
-
-        } catch (IOException e) {
+            return analyzeAudioAsync(audioFile.getResource(), audioFile.getOriginalFilename(), lyricsText, title)
+                    .block();
+        } catch (CustomException e) {
+            throw e;
+        } catch (Exception e) {
             log.error("music-server API 호출 중 오류: {}", e.getMessage(), e);
             throw new CustomException(ErrorCode.EXTERNAL_API_ERROR, "오디오 분석 중 오류: " + e.getMessage());
         }
     }
+
+    /**
+     * 오디오 파일과 가사를 music-server로 스트리밍 전송하여 분석 (비동기)
+     * 호출 스레드를 점유하지 않으며, 오디오는 Resource에서 스트리밍으로 읽는다.
+     *
+     * @param audio 오디오 Resource (임시 파일 등)
+     * @param filename 원본 파일명
+     * @param lyricsText 가사 텍스트
+     * @param title 곡 제목
+     * @return 분석 결과 JSON (beats, lyrics 포함)
+     */
+    public Mono<JsonNode> analyzeAudioAsync(Resource audio, String filename, String lyricsText, String title) {
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+
+        // 오디오 파일
+        builder.part("audio", audio)
+                .filename(filename)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM);
+
+        // 가사 파일
+        builder.part("lyrics", lyricsText.getBytes(StandardCharsets.UTF_8))
+                .filename("lyrics.txt")
+                .contentType(MediaType.TEXT_PLAIN);
+
+        // 제목
+        builder.part("title", title);
+
+        log.info("music-server API 호출: {}/api/analyze", musicServerUrl);
+
+        return musicServerWebClient.post()
+                .uri("/api/analyze")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(builder.build()))
+                .retrieve()
+                .bodyToMono(String.class)
+                .map(body -> parseResult(body, title))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("music-server API 호출 실패: {}", e.getStatusCode());
+                    return new CustomException(ErrorCode.EXTERNAL_API_ERROR, "오디오 분석 서버 오류");
+                });
+    }
+
+    private JsonNode parseResult(String body, String title) {
+        JsonNode result;
+        try {
+            result = objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.EXTERNAL_API_ERROR, "오디오 분석 결과 파싱 실패: " + e.getMessage());
+        }
+
+        if (!result.has("success") || !result.get("success").asBoolean()) {
+            String errorMsg = result.has("error") ? result.get("error").asText() : "알 수 없는 오류";
+            throw new CustomException(ErrorCode.EXTERNAL_API_ERROR, "오디오 분석 실패: " + errorMsg);
+        }
+
+        log.info("music-server 분석 완료: title={}", title);
+        return result;
+    }
 }
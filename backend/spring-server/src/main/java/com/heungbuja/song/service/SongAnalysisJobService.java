@@ -0,0 +1,323 @@
+package com.heungbuja.song.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heungbuja.common.exception.CustomException;
+import com.heungbuja.common.exception.ErrorCode;
+import com.heungbuja.s3.entity.Media;
+import com.heungbuja.s3.service.MediaService;
+import com.heungbuja.song.dto.SongAnalysisJob;
+import com.heungbuja.song.dto.SongAnalysisJobResponse;
+import com.heungbuja.song.entity.Song;
+import com.heungbuja.song.enums.SongAnalysisJobStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 곡 분석 비동기 작업 서비스
+ *
+ * - 업로드 파일은 임시 파일로 옮긴 뒤 music-server로 스트리밍 전송 (힙에 올리지 않음)
+ * - music-server 호출은 논블로킹이므로 분석 중 요청 스레드를 점유하지 않음
+ * - 작업 상태는 Redis에 저장하여 폴링(GET) 또는 STOMP 알림으로 확인
+ * - 서버 재시작 등으로 끊긴 작업(QUEUED/RUNNING 상태로 오래 멈춘 작업)은 FAILED로 정리
+ *   진행 중 작업은 마지막 갱신 시각을 점수로 한 ZSET 인덱스에 두어 KEYS 스캔 없이 찾는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SongAnalysisJobService {
+
+    private final MusicServerClient musicServerClient;
+    private final MediaService mediaService;
+    private final SongRegistrationService songRegistrationService;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    /** Redis 키 접두사 */
+    private static final String JOB_PREFIX = "song:analysis-job:";
+
+    /** 진행 중(QUEUED/RUNNING) 작업 인덱스 (member: jobId, score: 마지막 갱신 시각 epoch ms) */
+    private static final String ACTIVE_JOBS_KEY = "song:analysis-jobs:active";
+
+    /** 한 번에 정리할 최대 작업 수 */
+    private static final int STALE_BATCH_SIZE = 100;
+
+    /**
+     * 진행 중이고 인덱스 점수가 기준 시각 이전인 경우에만 FAILED로 교체 (비교 후 쓰기를 원자적으로)
+     * 그 사이 다른 노드가 SUCCEEDED/FAILED로 바꿨거나 갱신했다면 건드리지 않는다.
+     * KEYS[1]: 작업 키, KEYS[2]: 진행 중 인덱스 / ARGV: FAILED 작업 JSON, TTL(ms), jobId, 기준 시각(ms)
+     */
+    private static final RedisScript<Long> FAIL_IF_STALE_SCRIPT = new DefaultRedisScript<>("""
+            local score = redis.call('ZSCORE', KEYS[2], ARGV[3])
+            if not score or tonumber(score) > tonumber(ARGV[4]) then
+                return 0
+            end
+            local current = redis.call('GET', KEYS[1])
+            if not current then
+                redis.call('ZREM', KEYS[2], ARGV[3])
+                return 0
+            end
+            local status = cjson.decode(current)['status']
+            if status ~= 'QUEUED' and status ~= 'RUNNING' then
+                redis.call('ZREM', KEYS[2], ARGV[3])
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            redis.call('ZREM', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /** 작업 상태 보관 기간 */
+    private static final Duration JOB_TTL = Duration.ofDays(1);
+
+    /** 이 시간 동안 상태 변화가 없는 진행 중 작업은 중단된 것으로 본다 (music-server 응답 제한보다 길게) */
+    @Value("${song.analysis-job.stale-after-seconds:600}")
+    private long staleAfterSeconds;
+
+    /**
+     * 분석만 수행하는 작업 등록
+     */
+    public SongAnalysisJobResponse submitAnalysis(Long adminId, String title,
+                                                  MultipartFile audioFile, String lyricsText) {
+        SongAnalysisJob job = newJob(adminId, false, title, null, null);
+        start(job, audioFile, lyricsText);
+        return toResponse(job);
+    }
+
+    /**
+     * 분석 + 곡 등록(기본 안무 자동 생성) 작업 등록
+     */
+    public SongAnalysisJobResponse submitRegistration(Long adminId, String title, String artist, String s3Key,
+                                                      MultipartFile audioFile, String lyricsText) {
+        SongAnalysisJob job = newJob(adminId, true, title, artist, s3Key);
+        start(job, audioFile, lyricsText);
+        return toResponse(job);
+    }
+
+    /**
+     * 작업 상태 조회
+     * @param adminId 조회하는 관리자 ID (null이면 소유자 확인 생략)
+     */
+    public SongAnalysisJobResponse getJob(String jobId, Long adminId) {
+        SongAnalysisJob job = (SongAnalysisJob) redisTemplate.opsForValue().get(JOB_PREFIX + jobId);
+        if (job == null) {
+            throw new CustomException(ErrorCode.SONG_ANALYSIS_JOB_NOT_FOUND);
+        }
+        if (adminId != null && !adminId.equals(job.getAdminId())) {
+            throw new CustomException(ErrorCode.FORBIDDEN, "다른 관리자의 작업입니다.");
+        }
+        return toResponse(job);
+    }
+
+    /**
+     * 시작 시 이전 실행에서 끊긴 작업 정리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverStaleJobsOnStartup() {
+        failStaleJobs();
+    }
+
+    /**
+     * 진행 중 상태로 멈춘 작업을 FAILED로 전환 (모든 노드에서 실행, 다른 노드의 작업은 기준 시간 전까지 건드리지 않음)
+     */
+    @Scheduled(fixedDelayString = "${song.analysis-job.stale-check-interval-ms:300000}",
+            initialDelayString = "${song.analysis-job.stale-check-interval-ms:300000}")
+    public void failStaleJobs() {
+        try {
+            long staleBefore = System.currentTimeMillis() - staleAfterSeconds * 1000;
+            int failed = 0;
+            Set<String> jobIds;
+            do {
+                jobIds = stringRedisTemplate.opsForZSet()
+                        .rangeByScore(ACTIVE_JOBS_KEY, 0, staleBefore, 0, STALE_BATCH_SIZE);
+                if (jobIds == null || jobIds.isEmpty()) {
+                    break;
+                }
+                for (String jobId : jobIds) {
+                    if (failIfStale(jobId, staleBefore)) {
+                        failed++;
+                    }
+                }
+            } while (jobIds.size() == STALE_BATCH_SIZE);
+            if (failed > 0) {
+                log.warn("중단된 곡 분석 작업 정리: {}건", failed);
+            }
+        } catch (Exception e) {
+            log.error("중단된 곡 분석 작업 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 아직 멈춘 상태일 때만 FAILED로 교체하고 관리자에게 알림
+     * @return 교체했으면 true
+     */
+    @SuppressWarnings("unchecked")
+    private boolean failIfStale(String jobId, long staleBefore) {
+        SongAnalysisJob job = (SongAnalysisJob) redisTemplate.opsForValue().get(JOB_PREFIX + jobId);
+        if (job == null) {
+            // 보관 기간이 지나 사라진 작업: 인덱스만 정리
+            stringRedisTemplate.opsForZSet().remove(ACTIVE_JOBS_KEY, jobId);
+            return false;
+        }
+        job.setStatus(SongAnalysisJobStatus.FAILED);
+        job.setErrorMessage("서버 재시작 등으로 분석 작업이 중단되었습니다. 다시 요청해주세요.");
+        job.setUpdatedAt(LocalDateTime.now());
+
+        byte[] serialized = ((RedisSerializer<Object>)
+                redisTemplate.getValueSerializer()).serialize(job);
+        Long replaced = stringRedisTemplate.execute(FAIL_IF_STALE_SCRIPT,
+                List.of(JOB_PREFIX + jobId, ACTIVE_JOBS_KEY),
+                new String(serialized, StandardCharsets.UTF_8),
+                String.valueOf(JOB_TTL.toMillis()), jobId, String.valueOf(staleBefore));
+        if (replaced == null || replaced == 0) {
+            return false;
+        }
+        notifyAdmin(job);
+        return true;
+    }
+
+    private SongAnalysisJob newJob(Long adminId, boolean register, String title, String artist, String s3Key) {
+        LocalDateTime now = LocalDateTime.now();
+        return SongAnalysisJob.builder()
+                .jobId(UUID.randomUUID().toString())
+                .register(register)
+                .adminId(adminId)
+                .title(title)
+                .artist(artist)
+                .s3Key(s3Key)
+                .status(SongAnalysisJobStatus.QUEUED)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private void start(SongAnalysisJob job, MultipartFile audioFile, String lyricsText) {
+        // 1. 업로드 파일을 임시 파일로 이동 (요청이 끝나면 MultipartFile은 정리되므로)
+        Path audioPath = spoolToTempFile(audioFile);
+        save(job);
+        log.info("곡 분석 작업 등록: jobId={}, title={}, register={}", job.getJobId(), job.getTitle(), job.isRegister());
+
+        // 2. music-server 호출 (논블로킹) → 등록은 DB 작업이므로 boundedElastic에서 실행
+        musicServerClient.analyzeAudioAsync(
+                        new FileSystemResource(audioPath), audioFile.getOriginalFilename(), lyricsText, job.getTitle())
+                .doOnSubscribe(subscription -> updateStatus(job, SongAnalysisJobStatus.RUNNING))
+                .publishOn(Schedulers.boundedElastic())
+                .doFinally(signal -> deleteQuietly(audioPath))
+                .subscribe(
+                        analysisResult -> complete(job, analysisResult),
+                        error -> fail(job, error)
+                );
+    }
+
+    private void complete(SongAnalysisJob job, JsonNode analysisResult) {
+        try {
+            if (job.isRegister()) {
+                Media media = mediaService.createMedia(job.getTitle(), "MUSIC", job.getS3Key(), job.getAdminId());
+                Song song = songRegistrationService.registerSongWithAnalysisAndDefaultChoreography(
+                        job.getTitle(), job.getArtist(), media,
+                        analysisResult.get("beats"), analysisResult.get("lyrics"));
+                job.setSongId(song.getId());
+                log.info("곡 분석 작업 등록 완료: jobId={}, songId={}", job.getJobId(), song.getId());
+            }
+            job.setResultJson(analysisResult.toString());
+            updateStatus(job, SongAnalysisJobStatus.SUCCEEDED);
+        } catch (Exception e) {
+            fail(job, e);
+        }
+    }
+
+    private void fail(SongAnalysisJob job, Throwable error) {
+        log.error("곡 분석 작업 실패: jobId={}, error={}", job.getJobId(), error.getMessage(), error);
+        job.setErrorMessage(error.getMessage());
+        updateStatus(job, SongAnalysisJobStatus.FAILED);
+    }
+
+    private void updateStatus(SongAnalysisJob job, SongAnalysisJobStatus status) {
+        job.setStatus(status);
+        job.setUpdatedAt(LocalDateTime.now());
+        save(job);
+        notifyAdmin(job);
+    }
+
+    /**
+     * 관리자에게 진행 상황 알림 (실패해도 폴링으로 확인 가능)
+     */
+    private void notifyAdmin(SongAnalysisJob job) {
+        try {
+            messagingTemplate.convertAndSend(
+                    "/topic/admin/" + job.getAdminId() + "/song-jobs", toResponse(job));
+        } catch (Exception e) {
+            log.warn("곡 분석 작업 알림 전송 실패: jobId={}, error={}", job.getJobId(), e.getMessage());
+        }
+    }
+
+    private void save(SongAnalysisJob job) {
+        redisTemplate.opsForValue().set(JOB_PREFIX + job.getJobId(), job, JOB_TTL);
+        if (isInProgress(job)) {
+            stringRedisTemplate.opsForZSet().add(ACTIVE_JOBS_KEY, job.getJobId(), System.currentTimeMillis());
+        } else {
+            stringRedisTemplate.opsForZSet().remove(ACTIVE_JOBS_KEY, job.getJobId());
+        }
+    }
+
+    private boolean isInProgress(SongAnalysisJob job) {
+        return job.getStatus() == SongAnalysisJobStatus.QUEUED
+                || job.getStatus() == SongAnalysisJobStatus.RUNNING;
+    }
+
+    private SongAnalysisJobResponse toResponse(SongAnalysisJob job) {
+        JsonNode result = null;
+        if (job.getResultJson() != null) {
+            try {
+                result = objectMapper.readTree(job.getResultJson());
+            } catch (IOException e) {
+                log.warn("곡 분석 결과 파싱 실패: jobId={}", job.getJobId());
+            }
+        }
+        return SongAnalysisJobResponse.from(job, result);
+    }
+
+    private Path spoolToTempFile(MultipartFile audioFile) {
+        try {
+            Path tempFile = Files.createTempFile("song-analysis-", ".upload");
+            audioFile.transferTo(tempFile);
+            return tempFile;
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "업로드 파일 저장 실패: " + e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path);
+        }
+    }
+}
@@ -0,0 +1,653 @@
+package com.heungbuja.song.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heungbuja.common.exception.CustomException;
+import com.heungbuja.common.exception.ErrorCode;
+import com.heungbuja.s3.service.S3UploadService;
+import com.heungbuja.song.dto.SongBulkImportJob;
+import com.heungbuja.song.dto.SongBulkImportJobResponse;
+import com.heungbuja.song.entity.Song;
+import com.heungbuja.song.enums.SongAnalysisJobStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 곡 대량 가져오기 작업 서비스
+ *
+ * 디렉터리(또는 ZIP)의 manifest.json에 나열된 곡을 한 번에 등록한다.
+ * [
+ *   {"title": "당돌한 여자", "artist": "서주경", "audio": "seo.mp3", "lyrics": "seo.txt"},
+ *   ...
+ * ]
+ *
+ * - 파이프라인: 업로드(S3) → 분석(music-server) 은 곡 단위로 parallelism개까지 동시에,
+ *   등록(MySQL + 기본 안무 생성 + MongoDB insertMany)은 persist-batch-size개씩 순서대로
+ * - 체크포인트: 등록이 끝난 곡은 Redis Hash에 기록 → 재개 시 건너뜀 (S3 업로드도 매니페스트로 이어서 전송)
+ *   커밋 후 체크포인트 기록 전에 죽어도, 재개 시 곡별 고정 S3 키로 이미 등록된 곡을 찾아 다시 등록하지 않음
+ * - ZIP 작업 디렉터리는 노드 로컬이므로 압축을 푼 노드에서만 재개 (work-dir이 공유 저장소면 shared-work-dir: true)
+ * - 실행 락: 실행마다 소유자 토큰으로 잡고 주기적으로 갱신, 배치 등록 전에 소유 여부 확인 (잃으면 중단 → 중복 등록 방지)
+ * - 진행 상황 / 단계별 처리량은 폴링(GET) 또는 STOMP 알림으로 확인
+ */
+@Slf4j
+@Service
+public class SongBulkImportService {
+
+    private static final String JOB_PREFIX = "song:bulk-import:";
+    private static final String DONE_SUFFIX = ":done";
+    private static final String LOCK_SUFFIX = ":lock";
+    private static final String MANIFEST_FILE = "manifest.json";
+    private static final int MAX_FAILURES = 100;
+
+    /** 작업 상태 / 체크포인트 보관 기간 */
+    private static final Duration JOB_TTL = Duration.ofDays(7);
+
+    private static final String STAGE_UPLOAD = "upload";
+    private static final String STAGE_ANALYZE = "analyze";
+    private static final String STAGE_PERSIST = "persist";
+
+    private final S3UploadService s3UploadService;
+    private final MusicServerClient musicServerClient;
+    private final SongRegistrationService songRegistrationService;
+    private final SongJsonReader songJsonReader;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    /** 동시에 업로드 / 분석하는 곡 수 (music-server 부하 기준) */
+    @Value("${song.bulk-import.parallelism:4}")
+    private int parallelism;
+
+    /** 한 번에 등록(MySQL 트랜잭션 1회, 컬렉션별 insertMany 1회)하는 곡 수 */
+    @Value("${song.bulk-import.persist-batch-size:20}")
+    private int persistBatchSize;
+
+    /** ZIP 압축을 푸는 작업 디렉터리 */
+    @Value("${song.bulk-import.work-dir:./song-import/work}")
+    private String workDir;
+
+    /** 작업 디렉터리가 모든 노드에서 같은 경로로 보이는 공유 저장소인지 (아니면 ZIP 작업은 압축을 푼 노드에서만 재개) */
+    @Value("${song.bulk-import.shared-work-dir:false}")
+    private boolean sharedWorkDir;
+
+    /** 이 노드 식별자 (ZIP 작업을 푼 노드 기록) */
+    @Value("${song.bulk-import.node-id:${HOSTNAME:local}}")
+    private String nodeId;
+
+    /** 디렉터리 가져오기를 허용하는 최상위 경로 */
+    @Value("${song.bulk-import.source-root:./song-import/sources}")
+    private String sourceRoot;
+
+    /** 실행 중 표시 (노드가 죽으면 만료되어 다른 노드에서 재개 가능, TTL의 1/3마다 갱신) */
+    @Value("${song.bulk-import.lock-ttl-seconds:600}")
+    private long lockTtlSeconds;
+
+    /** ZIP 최대 항목 수 */
+    @Value("${song.bulk-import.max-zip-entries:10000}")
+    private int maxZipEntries;
+
+    /** ZIP 압축 해제 후 최대 전체 크기 (bytes) */
+    @Value("${song.bulk-import.max-extracted-bytes:10737418240}")
+    private long maxExtractedBytes;
+
+    /** 이 노드에서 실행 중인 작업 */
+    private final Map<String, Disposable> runningJobs = new ConcurrentHashMap<>();
+
+    /** 작업 진행 상황(완료/실패 수, 실패 목록, 단계 통계) 갱신 보호 */
+    private final ReentrantLock progressLock = new ReentrantLock();
+
+    public SongBulkImportService(S3UploadService s3UploadService,
+                                 MusicServerClient musicServerClient,
+                                 SongRegistrationService songRegistrationService,
+                                 SongJsonReader songJsonReader,
+                                 RedisTemplate<String, Object> redisTemplate,
+                                 StringRedisTemplate stringRedisTemplate,
+                                 SimpMessagingTemplate messagingTemplate,
+                                 ObjectMapper objectMapper) {
+        this.s3UploadService = s3UploadService;
+        this.musicServerClient = musicServerClient;
+        this.songRegistrationService = songRegistrationService;
+        this.songJsonReader = songJsonReader;
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * manifest.json 항목
+     *
+     * @param audio 오디오 파일 상대 경로 (.mp3, .wav)
+     * @param lyrics 가사 텍스트 파일 상대 경로 (.txt)
+     */
+    public record SongImportEntry(String title, String artist, String audio, String lyrics) {
+    }
+
+    /** 다른 노드가 실행 락을 가져가 이번 실행을 멈춰야 함 */
+    private static class LockLostException extends IllegalStateException {
+
+        LockLostException(String jobId) {
+            super("실행 락을 잃어 가져오기를 중단합니다: jobId=" + jobId);
+        }
+    }
+
+    /** 분석이 끝나 등록을 기다리는 곡 */
+    private record AnalyzedEntry(SongImportEntry entry, SongRegistrationService.AnalyzedSong song) {
+    }
+
+    /** 이번 실행의 단계별 처리 수 / 누적 시간 */
+    private record StageStats(Map<String, LongAdder> counts, Map<String, LongAdder> nanos) {
+
+        static StageStats create() {
+            Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+            Map<String, LongAdder> nanos = new ConcurrentHashMap<>();
+            for (String stage : List.of(STAGE_UPLOAD, STAGE_ANALYZE, STAGE_PERSIST)) {
+                counts.put(stage, new LongAdder());
+                nanos.put(stage, new LongAdder());
+            }
+            return new StageStats(counts, nanos);
+        }
+
+        void record(String stage, int count, long startNanos) {
+            counts.get(stage).add(count);
+            nanos.get(stage).add(System.nanoTime() - startNanos);
+        }
+    }
+
+    // ===== 작업 등록 =====
+
+    /**
+     * ZIP(manifest.json 포함) 가져오기 작업 등록
+     */
+    public SongBulkImportJobResponse submitZip(Long adminId, MultipartFile archive) {
+        String jobId = UUID.randomUUID().toString();
+        Path dir = Paths.get(workDir, jobId).toAbsolutePath().normalize();
+        extractZip(archive, dir);
+
+        SongBulkImportJob job = newJob(jobId, adminId, dir, true);
+        start(job);
+        return SongBulkImportJobResponse.from(job);
+    }
+
+    /**
+     * 서버 디렉터리(manifest.json 포함) 가져오기 작업 등록
+     */
+    public SongBulkImportJobResponse submitDirectory(Long adminId, String directory) {
+        Path root = Paths.get(sourceRoot).toAbsolutePath().normalize();
+        Path dir = root.resolve(directory).normalize();
+        if (!dir.startsWith(root) || !Files.isDirectory(dir)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "가져올 수 없는 디렉터리입니다: " + directory);
+        }
+
+        SongBulkImportJob job = newJob(UUID.randomUUID().toString(), adminId, dir, false);
+        start(job);
+        return SongBulkImportJobResponse.from(job);
+    }
+
+    /**
+     * 중단 / 실패한 작업 재개 (등록 완료된 곡은 건너뜀)
+     *
+     * @param adminId 요청한 관리자 ID (null이면 소유자 확인 생략)
+     */
+    public SongBulkImportJobResponse resume(String jobId, Long adminId) {
+        SongBulkImportJob job = loadJob(jobId, adminId);
+        if (job.getStatus() == SongAnalysisJobStatus.SUCCEEDED) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "이미 완료된 작업입니다.");
+        }
+        if (job.isExtracted() && !sharedWorkDir && !nodeId.equals(job.getNodeId())) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                    "압축을 푼 노드(" + job.getNodeId() + ")에서만 재개할 수 있습니다.");
+        }
+        if (!Files.isDirectory(Paths.get(job.getSourceDir()))) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "가져올 파일이 남아 있지 않아 재개할 수 없습니다.");
+        }
+        start(job);
+        return SongBulkImportJobResponse.from(job);
+    }
+
+    /**
+     * 작업 상태 조회
+     *
+     * @param adminId 조회하는 관리자 ID (null이면 소유자 확인 생략)
+     */
+    public SongBulkImportJobResponse getJob(String jobId, Long adminId) {
+        return SongBulkImportJobResponse.from(loadJob(jobId, adminId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중인 작업은 RUNNING으로 남고, 락이 만료되면 재개할 수 있다
+        runningJobs.values().forEach(Disposable::dispose);
+    }
+
+    // ===== 파이프라인 =====
+
+    private void start(SongBulkImportJob job) {
+        String owner = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(
+                lockKey(job.getJobId()), owner, Duration.ofSeconds(lockTtlSeconds));
+        if (!Boolean.TRUE.equals(locked)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "이미 실행 중인 작업입니다.");
+        }
+
+        // 배치 등록이 오래 걸려도 락이 만료되지 않도록 별도로 갱신
+        long renewMillis = Math.max(1000, TimeUnit.SECONDS.toMillis(lockTtlSeconds) / 3);
+        Disposable heartbeat = Schedulers.boundedElastic().schedulePeriodically(
+                () -> renewLock(job.getJobId(), owner), renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+
+        try {
+            Path dir = Paths.get(job.getSourceDir());
+            List<SongImportEntry> entries = readManifest(dir);
+            Set<Object> done = stringRedisTemplate.opsForHash().keys(doneKey(job.getJobId()));
+            List<SongImportEntry> pending = entries.stream()
+                    .filter(entry -> !done.contains(entry.audio()))
+                    .toList();
+
+            job.setTotal(entries.size());
+            job.setCompleted(entries.size() - pending.size());
+            job.setFailed(0);
+            job.setFailures(new ArrayList<>());
+            job.setErrorMessage(null);
+            job.setStartedAt(LocalDateTime.now());
+            job.setStatus(SongAnalysisJobStatus.RUNNING);
+            save(job);
+            log.info("곡 대량 가져오기 시작: jobId={}, 전체={}, 남은 곡={}", job.getJobId(), entries.size(), pending.size());
+
+            StageStats stats = StageStats.create();
+            Disposable disposable = Flux.fromIterable(pending)
+                    .flatMap(entry -> uploadAndAnalyze(job, dir, entry, stats)
+                            .onErrorResume(error -> {
+                                recordFailure(job, entry, error);
+                                return Mono.empty();
+                            }), parallelism)
+                    .buffer(persistBatchSize)
+                    .concatMap(batch -> Mono.fromRunnable(() -> persist(job, owner, batch, stats))
+                            .subscribeOn(Schedulers.boundedElastic()))
+                    .doFinally(signal -> {
+                        runningJobs.remove(job.getJobId());
+                        heartbeat.dispose();
+                        unlock(job.getJobId(), owner);
+                    })
+                    .subscribe(
+                            null,
+                            error -> finish(job, stats, error),
+                            () -> finish(job, stats, null)
+                    );
+            if (!disposable.isDisposed()) {
+                runningJobs.put(job.getJobId(), disposable);
+            }
+
+        } catch (RuntimeException e) {
+            heartbeat.dispose();
+            unlock(job.getJobId(), owner);
+            job.setErrorMessage(e.getMessage());
+            updateStatus(job, SongAnalysisJobStatus.FAILED);
+            throw e;
+        }
+    }
+
+    /**
+     * 업로드 → 분석 (곡 단위)
+     */
+    private Mono<AnalyzedEntry> uploadAndAnalyze(SongBulkImportJob job, Path dir,
+                                                                       SongImportEntry entry, StageStats stats) {
+        Path audioPath = resolveInside(dir, entry.audio());
+        Path lyricsPath = resolveInside(dir, entry.lyrics());
+        String fileName = audioPath.getFileName().toString();
+        // 재개 시 같은 키로 이어서 업로드되도록 작업 ID + 상대 경로 기반 고정 키
+        String s3Key = "song/" + job.getJobId() + "-" + entry.audio().replace('/', '_');
+
+        return Mono.fromCallable(() -> {
+                    long startNanos = System.nanoTime();
+                    s3UploadService.uploadLocalFile(audioPath, s3Key, contentType(fileName));
+                    stats.record(STAGE_UPLOAD, 1, startNanos);
+                    return Files.readString(lyricsPath, StandardCharsets.UTF_8);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(lyricsText -> {
+                    long startNanos = System.nanoTime();
+                    return musicServerClient.analyzeAudioAsync(
+                                    new FileSystemResource(audioPath), fileName, lyricsText, entry.title())
+                            .doOnSuccess(result -> stats.record(STAGE_ANALYZE, 1, startNanos));
+                })
+                // 분석 결과는 여기서 검증 / 변환 (잘못된 곡은 배치 전체가 아니라 그 곡만 실패, 트리는 버퍼에 남기지 않음)
+                .map(result -> {
+                    try {
+                        return new AnalyzedEntry(entry, new SongRegistrationService.AnalyzedSong(
+                                entry.title(), entry.artist(), s3Key, job.getAdminId(),
+                                songJsonReader.readBeats(result.get("beats")),
+                                songJsonReader.readLyrics(result.get("lyrics"))));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * 등록 + 체크포인트 (배치 단위)
+     * 락을 다른 노드가 가져갔으면 등록하지 않고 실행을 멈춘다 (재개한 노드가 같은 곡을 다시 등록하지 않도록)
+     * 이전 실행이 커밋 후 체크포인트 전에 멈췄던 곡은 S3 키로 찾아 체크포인트만 기록한다.
+     */
+    private void persist(SongBulkImportJob job, String owner, List<AnalyzedEntry> batch, StageStats stats) {
+        if (!ownsLock(job.getJobId(), owner)) {
+            throw new LockLostException(job.getJobId());
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            Map<String, Long> registered = songRegistrationService.findRegisteredSongIds(
+                    batch.stream().map(analyzed -> analyzed.song().s3Key()).toList());
+            Map<String, String> checkpoint = new HashMap<>();
+            List<AnalyzedEntry> unregistered = new ArrayList<>();
+            for (AnalyzedEntry analyzed : batch) {
+                Long songId = registered.get(analyzed.song().s3Key());
+                if (songId != null) {
+                    checkpoint.put(analyzed.entry().audio(), String.valueOf(songId));
+                } else {
+                    unregistered.add(analyzed);
+                }
+            }
+            if (!unregistered.isEmpty()) {
+                List<Song> songs = songRegistrationService.registerAnalyzedSongs(
+                        unregistered.stream().map(AnalyzedEntry::song).toList());
+                for (int i = 0; i < unregistered.size(); i++) {
+                    checkpoint.put(unregistered.get(i).entry().audio(), String.valueOf(songs.get(i).getId()));
+                }
+            }
+            stats.record(STAGE_PERSIST, batch.size(), startNanos);
+
+            stringRedisTemplate.opsForHash().putAll(doneKey(job.getJobId()), checkpoint);
+            stringRedisTemplate.expire(doneKey(job.getJobId()), JOB_TTL);
+
+            progressLock.lock();
+            try {
+                job.setCompleted(job.getCompleted() + batch.size());
+            } finally {
+                progressLock.unlock();
+            }
+        } catch (Exception e) {
+            log.error("곡 일괄 등록 실패: jobId={}, {}곡, error={}", job.getJobId(), batch.size(), e.getMessage());
+            progressLock.lock();
+            try {
+                job.setFailed(job.getFailed() + batch.size());
+                batch.forEach(analyzed -> addFailure(job, analyzed.entry().audio() + ": " + e.getMessage()));
+            } finally {
+                progressLock.unlock();
+            }
+        }
+
+        // 진행 상황 알림
+        applyStats(job, stats);
+        updateStatus(job, SongAnalysisJobStatus.RUNNING);
+    }
+
+    private void finish(SongBulkImportJob job, StageStats stats, Throwable error) {
+        if (error instanceof LockLostException) {
+            // 작업 상태는 락을 가져간 노드가 관리
+            log.warn("곡 대량 가져오기 중단: jobId={}, 다른 노드가 실행 락을 가져감", job.getJobId());
+            return;
+        }
+
+        applyStats(job, stats);
+        if (error != null) {
+            log.error("곡 대량 가져오기 중단: jobId={}, error={}", job.getJobId(), error.getMessage(), error);
+            job.setErrorMessage(error.getMessage());
+            updateStatus(job, SongAnalysisJobStatus.FAILED);
+            return;
+        }
+
+        if (job.getFailed() > 0) {
+            job.setErrorMessage(job.getFailed() + "곡 등록 실패 (재개하면 실패한 곡만 다시 처리)");
+            updateStatus(job, SongAnalysisJobStatus.FAILED);
+        } else {
+            updateStatus(job, SongAnalysisJobStatus.SUCCEEDED);
+            if (job.isExtracted()) {
+                FileSystemUtils.deleteRecursively(Paths.get(job.getSourceDir()).toFile());
+            }
+        }
+        log.info("곡 대량 가져오기 종료: jobId={}, 완료={}/{}, 실패={}",
+                job.getJobId(), job.getCompleted(), job.getTotal(), job.getFailed());
+    }
+
+    // ===== 입력 =====
+
+    private List<SongImportEntry> readManifest(Path dir) {
+        Path manifest = dir.resolve(MANIFEST_FILE);
+        if (!Files.isRegularFile(manifest)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, MANIFEST_FILE + " 파일이 없습니다.");
+        }
+
+        List<SongImportEntry> entries;
+        try (InputStream in = Files.newInputStream(manifest)) {
+            entries = objectMapper.readValue(in, new TypeReference<List<SongImportEntry>>() {});
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.INVALID_FILE_FORMAT, MANIFEST_FILE + " 파싱 실패: " + e.getMessage());
+        }
+
+        for (SongImportEntry entry : entries) {
+            if (isBlank(entry.title()) || isBlank(entry.artist()) || isBlank(entry.audio()) || isBlank(entry.lyrics())) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "title, artist, audio, lyrics는 필수입니다: " + entry);
+            }
+            if (!entry.audio().endsWith(".mp3") && !entry.audio().endsWith(".wav")) {
+                throw new CustomException(ErrorCode.INVALID_FILE_FORMAT, "오디오 파일은 .mp3 또는 .wav 형식이어야 합니다: " + entry.audio());
+            }
+            if (!Files.isRegularFile(resolveInside(dir, entry.audio())) || !Files.isRegularFile(resolveInside(dir, entry.lyrics()))) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "파일을 찾을 수 없습니다: " + entry.audio());
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * ZIP 압축 해제 (디렉터리 밖으로 나가는 항목, 항목 수 / 전체 크기 제한을 넘는 파일은 거부)
+     * 헤더의 크기는 믿을 수 없으므로 실제로 풀어 쓴 바이트 수로 제한한다.
+     */
+    private void extractZip(MultipartFile archive, Path dir) {
+        if (archive == null || archive.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "파일이 비어있습니다.");
+        }
+        try (ZipInputStream zip = new ZipInputStream(archive.getInputStream())) {
+            Files.createDirectories(dir);
+            byte[] buffer = new byte[64 * 1024];
+            int entries = 0;
+            long extractedBytes = 0;
+            ZipEntry zipEntry;
+            while ((zipEntry = zip.getNextEntry()) != null) {
+                if (++entries > maxZipEntries) {
+                    throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                            "ZIP 항목이 너무 많습니다 (최대 " + maxZipEntries + "개)");
+                }
+                Path target = resolveInside(dir, zipEntry.getName());
+                if (zipEntry.isDirectory()) {
+                    Files.createDirectories(target);
+                    continue;
+                }
+                Files.createDirectories(target.getParent());
+                try (OutputStream out = Files.newOutputStream(target)) {
+                    int read;
+                    while ((read = zip.read(buffer)) != -1) {
+                        extractedBytes += read;
+                        if (extractedBytes > maxExtractedBytes) {
+                            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                                    "ZIP 압축 해제 크기가 너무 큽니다 (최대 " + maxExtractedBytes + " bytes)");
+                        }
+                        out.write(buffer, 0, read);
+                    }
+                }
+            }
+        } catch (CustomException e) {
+            FileSystemUtils.deleteRecursively(dir.toFile());
+            throw e;
+        } catch (IOException e) {
+            FileSystemUtils.deleteRecursively(dir.toFile());
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "ZIP 압축 해제 실패: " + e.getMessage());
+        }
+    }
+
+    private Path resolveInside(Path dir, String relative) {
+        Path path = dir.resolve(relative).normalize();
+        if (!path.startsWith(dir)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 파일 경로입니다: " + relative);
+        }
+        return path;
+    }
+
+    // ===== 상태 =====
+
+    private SongBulkImportJob newJob(String jobId, Long adminId, Path dir, boolean extracted) {
+        LocalDateTime now = LocalDateTime.now();
+        return SongBulkImportJob.builder()
+                .jobId(jobId)
+                .adminId(adminId)
+                .sourceDir(dir.toString())
+                .extracted(extracted)
+                .nodeId(extracted ? nodeId : null)
+                .status(SongAnalysisJobStatus.QUEUED)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private SongBulkImportJob loadJob(String jobId, Long adminId) {
+        SongBulkImportJob job = (SongBulkImportJob) redisTemplate.opsForValue().get(JOB_PREFIX + jobId);
+        if (job == null) {
+            throw new CustomException(ErrorCode.SONG_ANALYSIS_JOB_NOT_FOUND);
+        }
+        if (adminId != null && !adminId.equals(job.getAdminId())) {
+            throw new CustomException(ErrorCode.FORBIDDEN, "다른 관리자의 작업입니다.");
+        }
+        return job;
+    }
+
+    private void recordFailure(SongBulkImportJob job, SongImportEntry entry, Throwable error) {
+        log.warn("곡 가져오기 실패: jobId={}, audio={}, error={}", job.getJobId(), entry.audio(), error.getMessage());
+        progressLock.lock();
+        try {
+            job.setFailed(job.getFailed() + 1);
+            addFailure(job, entry.audio() + ": " + error.getMessage());
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    private void addFailure(SongBulkImportJob job, String failure) {
+        if (job.getFailures().size() < MAX_FAILURES) {
+            job.getFailures().add(failure);
+        }
+    }
+
+    private void applyStats(SongBulkImportJob job, StageStats stats) {
+        Map<String, Long> counts = new HashMap<>();
+        Map<String, Long> busyMillis = new HashMap<>();
+        stats.counts().forEach((stage, count) -> counts.put(stage, count.sum()));
+        stats.nanos().forEach((stage, nanos) -> busyMillis.put(stage, nanos.sum() / 1_000_000));
+        progressLock.lock();
+        try {
+            job.setStageCounts(counts);
+            job.setStageBusyMillis(busyMillis);
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    private void updateStatus(SongBulkImportJob job, SongAnalysisJobStatus status) {
+        SongBulkImportJobResponse response;
+        progressLock.lock();
+        try {
+            job.setStatus(status);
+            job.setUpdatedAt(LocalDateTime.now());
+            save(job);
+            response = SongBulkImportJobResponse.from(job);
+        } finally {
+            progressLock.unlock();
+        }
+
+        // 관리자에게 진행 상황 알림 (실패해도 폴링으로 확인 가능)
+        try {
+            messagingTemplate.convertAndSend("/topic/admin/" + job.getAdminId() + "/song-import-jobs", response);
+        } catch (Exception e) {
+            log.warn("곡 대량 가져오기 알림 전송 실패: jobId={}, error={}", job.getJobId(), e.getMessage());
+        }
+    }
+
+    private void save(SongBulkImportJob job) {
+        redisTemplate.opsForValue().set(JOB_PREFIX + job.getJobId(), job, JOB_TTL);
+    }
+
+    // ===== 실행 락 =====
+
+    private boolean ownsLock(String jobId, String owner) {
+        return owner.equals(stringRedisTemplate.opsForValue().get(lockKey(jobId)));
+    }
+
+    private void renewLock(String jobId, String owner) {
+        try {
+            if (ownsLock(jobId, owner)) {
+                stringRedisTemplate.expire(lockKey(jobId), Duration.ofSeconds(lockTtlSeconds));
+            } else {
+                log.warn("곡 대량 가져오기 실행 락 갱신 실패 (다른 노드가 소유): jobId={}", jobId);
+            }
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도 (TTL 안에 한 번만 성공하면 됨)
+            log.warn("곡 대량 가져오기 실행 락 갱신 오류: jobId={}, error={}", jobId, e.getMessage());
+        }
+    }
+
+    private void unlock(String jobId, String owner) {
+        if (ownsLock(jobId, owner)) {
+            stringRedisTemplate.delete(lockKey(jobId));
+        }
+    }
+
+    private String doneKey(String jobId) {
+        return JOB_PREFIX + jobId + DONE_SUFFIX;
+    }
+
+    private String lockKey(String jobId) {
+        return JOB_PREFIX + jobId + LOCK_SUFFIX;
+    }
+
+    private String contentType(String fileName) {
+        return fileName.endsWith(".wav") ? "audio/wav" : "audio/mpeg";
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,294 @@
+package com.heungbuja.song.service;
+
+import com.heungbuja.common.exception.CustomException;
+import com.heungbuja.common.exception.ErrorCode;
+import com.heungbuja.game.dto.ActionTimelineEvent;
+import com.heungbuja.game.dto.GameStartResponse;
+import com.heungbuja.game.dto.SectionInfo;
+import com.heungbuja.song.domain.BeatIndex;
+import com.heungbuja.song.domain.ChoreographyPattern;
+import com.heungbuja.song.domain.SongBeat;
+import com.heungbuja.song.domain.SongChoreography;
+import com.heungbuja.song.domain.SongGameReadModel;
+import com.heungbuja.song.domain.SongLyrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 원본 문서(박자 / 가사 / 안무 / 안무 패턴) → 게임 읽기 모델 계산
+ *
+ * 게임 시작 시 매번 하던 가공(섹션 시간, 카메라 구간, 동작 타임라인, 패턴 시퀀스, 안내 영상 Key)을
+ * 곡 등록 / 재생성 시점에 한 번만 한다. 외부 조회 없이 입력만으로 계산한다.
+ */
+@Slf4j
+public final class SongGameReadModelAssembler {
+
+    private SongGameReadModelAssembler() {
+    }
+
+    /**
+     * 읽기 모델 계산 (id / version / builtAt은 저장할 때 채움)
+     *
+     * @param actionNames 동작 코드 → 동작 이름
+     */
+    public static SongGameReadModel assemble(SongBeat songBeat, SongLyrics lyrics, SongChoreography choreography,
+                                             ChoreographyPattern patternData, Map<Integer, String> actionNames) {
+        BeatIndex beatIndex = BeatIndex.of(songBeat);
+        SongChoreography.Version version = choreography.getVersions().get(0);
+
+        // 1절 타임라인
+        List<ActionTimelineEvent> verse1Timeline = createVerseTimeline(songBeat, patternData, beatIndex, "verse1",
+                version.getVerse1().getPatternSequence(), version.getVerse1().getEachRepeat(), actionNames);
+
+        // 2절 레벨별 타임라인
+        Map<String, List<ActionTimelineEvent>> verse2Timelines = new HashMap<>();
+        for (SongChoreography.VerseLevelPatternInfo levelInfo : version.getVerse2()) {
+            verse2Timelines.put("level" + levelInfo.getLevel(), createVerseTimeline(songBeat, patternData, beatIndex,
+                    "verse2", levelInfo.getPatternSequence(), levelInfo.getEachRepeat(), actionNames));
+        }
+
+        SongGameReadModel model = new SongGameReadModel();
+        model.setSongId(songBeat.getSongId());
+        model.setBpm(songBeat.getTempoMap().get(0).getBpm());
+        model.setDuration(songBeat.getAudio().getDurationSec());
+        model.setSectionStartTimes(createSectionStartTimes(songBeat, beatIndex));
+        model.setSectionInfo(createSectionInfo(songBeat, beatIndex, model.getSectionStartTimes()));
+        model.setLyricsTitle(lyrics.getTitle());
+        model.setLyricsLines(lyrics.getLines());
+        model.setVerse1Timeline(verse1Timeline);
+        model.setVerse2Timelines(verse2Timelines);
+        model.setSectionPatterns(createSectionPatterns(songBeat, version));
+        model.setOriginalSectionPatterns(createOriginalSectionPatterns(version));
+        model.setVideoKeys(createVideoKeys(version));
+        return model;
+    }
+
+    // ===== 동작 타임라인 =====
+
+    /**
+     * 절 타임라인 생성 (패턴 시퀀스 배열을 순회하며 각 패턴의 시퀀스를 병합)
+     */
+    private static List<ActionTimelineEvent> createVerseTimeline(
+            SongBeat songBeat,
+            ChoreographyPattern patternData,
+            BeatIndex beatIndex,
+            String sectionLabel,
+            List<String> patternSequence,
+            int eachRepeat,
+            Map<Integer, String> actionNames) {
+
+        SongBeat.Section section = findSectionByLabel(songBeat, sectionLabel);
+
+        List<List<Integer>> patternSequenceList = new ArrayList<>();
+        for (String patternId : patternSequence) {
+            patternSequenceList.add(findPatternSequenceById(patternData, patternId));
+        }
+
+        // 1. 패턴 배열을 하나의 큰 패턴으로 병합 (패턴 전체를 eachRepeat번 반복)
+        List<Integer> mergedPattern = new ArrayList<>();
+        for (int i = 0; i < eachRepeat; i++) {
+            for (List<Integer> pattern : patternSequenceList) {
+                mergedPattern.addAll(pattern);
+            }
+        }
+
+        // 2. Modulo로 섹션 전체를 채움
+        List<ActionTimelineEvent> timeline = new ArrayList<>();
+        int mergedPatternLength = mergedPattern.size();
+        for (int currentBeatIndex = section.getStartBeat(); currentBeatIndex <= section.getEndBeat(); currentBeatIndex++) {
+            int patternIndex = (currentBeatIndex - section.getStartBeat()) % mergedPatternLength;
+            int actionCode = mergedPattern.get(patternIndex);
+
+            if (actionCode != 0) {
+                double time = beatIndex.timeOfBeat(currentBeatIndex, -1.0);
+                if (time >= 0) {
+                    String actionName = actionNames.getOrDefault(actionCode, "알 수 없는 동작");
+                    timeline.add(new ActionTimelineEvent(time, actionCode, actionName));
+                }
+            }
+        }
+        return timeline;
+    }
+
+    /**
+     * 패턴 ID로 시퀀스 찾기
+     */
+    private static List<Integer> findPatternSequenceById(ChoreographyPattern patternData, String patternId) {
+        return patternData.getPatterns().stream()
+                .filter(p -> patternId.equals(p.getPatternId()))
+                .findFirst()
+                .map(ChoreographyPattern.Pattern::getSequence)
+                .orElseThrow(() -> new CustomException(
+                        ErrorCode.GAME_METADATA_NOT_FOUND,
+                        "안무 패턴 '" + patternId + "'을(를) 찾을 수 없습니다.")
+                );
+    }
+
+    /**
+     * 섹션 레이블로 섹션 찾기
+     */
+    private static SongBeat.Section findSectionByLabel(SongBeat songBeat, String sectionLabel) {
+        return songBeat.getSections().stream()
+                .filter(s -> sectionLabel.equals(s.getLabel()))
+                .findFirst()
+                .orElseThrow(() -> {
+                    log.error("'{}' 섹션을 찾을 수 없습니다. (songId: {})", sectionLabel, songBeat.getSongId());
+                    return new CustomException(
+                            ErrorCode.GAME_METADATA_NOT_FOUND,
+                            "'" + sectionLabel + "' 섹션 정보가 누락되었습니다.");
+                });
+    }
+
+    // ===== 섹션 정보 =====
+
+    private static Map<String, Double> createSectionStartTimes(SongBeat songBeat, BeatIndex beatIndex) {
+        return songBeat.getSections().stream()
+                .collect(Collectors.toMap(
+                        SongBeat.Section::getLabel,
+                        s -> beatIndex.timeOfBeat(s.getStartBeat(), 0.0)
+                ));
+    }
+
+    /**
+     * SectionInfo 가공 (카메라 구간: 절 시작 32비트 후부터 96비트)
+     */
+    private static SectionInfo createSectionInfo(SongBeat songBeat, BeatIndex beatIndex,
+                                                 Map<String, Double> sectionStartTimes) {
+        return SectionInfo.builder()
+                .introStartTime(sectionStartTimes.getOrDefault("intro", 0.0))
+                .verse1StartTime(sectionStartTimes.getOrDefault("verse1", 0.0))
+                .breakStartTime(sectionStartTimes.getOrDefault("break", 0.0))
+                .verse2StartTime(sectionStartTimes.getOrDefault("verse2", 0.0))
+                .verse1cam(createCamInfo(findSectionByLabel(songBeat, "verse1"), beatIndex))
+                .verse2cam(createCamInfo(findSectionByLabel(songBeat, "verse2"), beatIndex))
+                .build();
+    }
+
+    private static SectionInfo.VerseInfo createCamInfo(SongBeat.Section verseSection, BeatIndex beatIndex) {
+        int camStartBeat = verseSection.getStartBeat() + 32;
+        int camEndBeat = camStartBeat + (16 * 6);
+        return SectionInfo.VerseInfo.builder()
+                .startTime(beatIndex.timeOfBeat(camStartBeat, 0.0))
+                .endTime(beatIndex.timeOfBeat(camEndBeat, 0.0))
+                .build();
+    }
+
+    // ===== 패턴 시퀀스 =====
+
+    /**
+     * 섹션별 패턴 시퀀스 생성 (섹션 전체 길이만큼 패턴 반복)
+     * 예: verse1이 80비트이고 patternSequence=["P1","P2"], eachRepeat=2라면
+     *     ["P1","P2","P1","P2", ...] (80개)
+     */
+    private static GameStartResponse.SectionPatterns createSectionPatterns(SongBeat songBeat,
+                                                                           SongChoreography.Version version) {
+        List<String> verse1Patterns = createFullSectionPatternSequence(
+                songBeat, version.getVerse1().getPatternSequence(), version.getVerse1().getEachRepeat(), "verse1");
+
+        Map<Integer, List<String>> verse2PatternsMap = new HashMap<>();
+        for (SongChoreography.VerseLevelPatternInfo levelInfo : version.getVerse2()) {
+            verse2PatternsMap.put(levelInfo.getLevel(), createFullSectionPatternSequence(
+                    songBeat, levelInfo.getPatternSequence(), levelInfo.getEachRepeat(), "verse2"));
+        }
+        return toSectionPatterns(verse1Patterns, verse2PatternsMap);
+    }
+
+    /**
+     * 섹션 전체 길이만큼 패턴을 반복하여 배열 생성
+     */
+    private static List<String> createFullSectionPatternSequence(
+            SongBeat songBeat,
+            List<String> patternSequence,
+            int eachRepeat,
+            String sectionLabel) {
+
+        // 1. 기본 패턴 시퀀스 생성 (패턴 전체를 eachRepeat번 반복)
+        List<String> mergedPattern = new ArrayList<>();
+        for (int i = 0; i < eachRepeat; i++) {
+            mergedPattern.addAll(patternSequence);
+        }
+
+        // 2. 섹션 전체 길이만큼 패턴 반복
+        SongBeat.Section section = findSectionByLabel(songBeat, sectionLabel);
+        int sectionBeatCount = section.getEndBeat() - section.getStartBeat() + 1;
+
+        List<String> fullPatternSequence = new ArrayList<>(sectionBeatCount);
+        for (int i = 0; i < sectionBeatCount; i++) {
+            fullPatternSequence.add(mergedPattern.get(i % mergedPattern.size()));
+        }
+        return fullPatternSequence;
+    }
+
+    /**
+     * 원본 패턴 시퀀스 (eachRepeat 미적용, 프론트엔드 음성 명령 게임 시작용)
+     */
+    private static GameStartResponse.SectionPatterns createOriginalSectionPatterns(SongChoreography.Version version) {
+        Map<Integer, List<String>> verse2PatternsMap = new HashMap<>();
+        for (SongChoreography.VerseLevelPatternInfo levelInfo : version.getVerse2()) {
+            verse2PatternsMap.put(levelInfo.getLevel(), levelInfo.getPatternSequence());
+        }
+        return toSectionPatterns(version.getVerse1().getPatternSequence(), verse2PatternsMap);
+    }
+
+    private static GameStartResponse.SectionPatterns toSectionPatterns(List<String> verse1Patterns,
+                                                                       Map<Integer, List<String>> verse2PatternsMap) {
+        GameStartResponse.Verse2Patterns verse2Patterns = GameStartResponse.Verse2Patterns.builder()
+                .level1(verse2PatternsMap.get(1))
+                .level2(verse2PatternsMap.get(2))
+                .level3(verse2PatternsMap.get(3))
+                .build();
+
+        return GameStartResponse.SectionPatterns.builder()
+                .verse1(verse1Patterns)
+                .verse2(verse2Patterns)
+                .build();
+    }
+
+    // ===== 안내 영상 =====
+
+    /**
+     * 구간별 안내 영상 S3 Key (패턴 기반)
+     */
+    private static Map<String, String> createVideoKeys(SongChoreography.Version version) {
+        Map<String, String> videoKeys = new HashMap<>();
+
+        // intro: 공통 튜토리얼
+        videoKeys.put("intro", "video/break.mp4");
+
+        // verse1: 첫 번째 패턴
+        videoKeys.put("verse1", convertPatternIdToVideoKey(version.getVerse1().getPatternSequence().get(0)));
+
+        // verse2: 각 레벨의 첫 번째 패턴
+        for (SongChoreography.VerseLevelPatternInfo levelInfo : version.getVerse2()) {
+            videoKeys.put("verse2_level" + levelInfo.getLevel(),
+                    convertPatternIdToVideoKey(levelInfo.getPatternSequence().get(0)));
+        }
+        return videoKeys;
+    }
+
+    /**
+     * 패턴 ID → 비디오 S3 Key 변환
+     * TODO: 패턴별 비디오 준비 완료 시 임시 매핑 제거하고 "video/pattern_" + patternId.toLowerCase() + ".mp4" 사용
+     */
+    private static String convertPatternIdToVideoKey(String patternId) {
+        // 임시 매핑: 현재 존재하는 비디오 파일 사용
+        switch (patternId) {
+            case "P1":
+                return "video/part1.mp4";
+            case "P2":
+                return "video/part2_level1.mp4";
+            case "P3":
+                return "video/part2_level2.mp4";
+            case "P4":
+                return "video/part1.mp4";  // 반복
+            default:
+                log.warn("알 수 없는 패턴 ID: {}. 기본 비디오 사용", patternId);
+                return "video/part1.mp4";
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.heungbuja.song.service;
+
+import com.heungbuja.common.exception.CustomException;
+import com.heungbuja.common.exception.ErrorCode;
+import com.heungbuja.song.dto.SongGameReadModelRebuildResponse;
+import com.heungbuja.song.dto.SongGameReadModelRepairJob;
+import com.heungbuja.song.enums.SongAnalysisJobStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 게임 읽기 모델 불일치 복구 백그라운드 작업 서비스
+ *
+ * - 요청은 작업만 등록하고 바로 반환, 전체 곡을 id 순 페이지 단위로 검사 / 재생성
+ * - 작업 상태는 Redis에 저장하여 폴링(GET)으로 확인
+ * - 실행 잠금: 클러스터 전체에서 한 번에 하나만 실행, 페이지마다 소유자 확인 후 연장 (잃으면 중단)
+ *   노드가 죽으면 작업은 RUNNING으로 남고, 잠금이 만료되면 다시 요청할 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SongGameReadModelRepairJobService {
+
+    private static final String JOB_PREFIX = "song:game-read-model:repair-job:";
+    private static final String LOCK_KEY = "song:game-read-model:repair:lock";
+    private static final int MAX_FAILURES = 100;
+
+    /** 작업 상태 보관 기간 */
+    private static final Duration JOB_TTL = Duration.ofDays(1);
+
+    /** 소유자일 때만 잠금 연장 (확인과 연장을 원자적으로) */
+    private static final RedisScript<Long> RENEW_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private final SongGameReadModelService songGameReadModelService;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /** 한 번에 검사 / 재생성하는 곡 수 */
+    @Value("${song.game-read-model.page-size:200}")
+    private int pageSize;
+
+    /** 실행 잠금 TTL (페이지마다 연장하므로 페이지 하나보다 충분히 길면 됨) */
+    @Value("${song.game-read-model.repair-lock-ttl-seconds:600}")
+    private long lockTtlSeconds;
+
+    /** 다른 노드가 실행 잠금을 가져가 이번 실행을 멈춰야 함 */
+    private static class LockLostException extends IllegalStateException {
+
+        LockLostException(String jobId) {
+            super("실행 잠금을 잃어 게임 읽기 모델 복구를 중단합니다: jobId=" + jobId);
+        }
+    }
+
+    /**
+     * 복구 작업 등록 (이미 실행 중인 작업이 있으면 거절)
+     */
+    public SongGameReadModelRepairJob submit(Long adminId) {
+        String jobId = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue()
+                .setIfAbsent(LOCK_KEY, jobId, Duration.ofSeconds(lockTtlSeconds));
+        if (!Boolean.TRUE.equals(locked)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "이미 실행 중인 게임 읽기 모델 복구 작업이 있습니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        SongGameReadModelRepairJob job = SongGameReadModelRepairJob.builder()
+                .jobId(jobId)
+                .adminId(adminId)
+                .status(SongAnalysisJobStatus.QUEUED)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        try {
+            save(job);
+            Schedulers.boundedElastic().schedule(() -> run(job));
+        } catch (RuntimeException e) {
+            unlock(jobId);
+            throw e;
+        }
+        return job;
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public SongGameReadModelRepairJob getJob(String jobId) {
+        SongGameReadModelRepairJob job = (SongGameReadModelRepairJob) redisTemplate.opsForValue().get(JOB_PREFIX + jobId);
+        if (job == null) {
+            throw new CustomException(ErrorCode.SONG_READ_MODEL_REPAIR_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    void run(SongGameReadModelRepairJob job) {
+        try {
+            job.setStatus(SongAnalysisJobStatus.RUNNING);
+            save(job);
+
+            long afterSongId = 0;
+            List<Long> songIds;
+            while (!(songIds = songGameReadModelService.nextSongIdPage(afterSongId, pageSize)).isEmpty()) {
+                renewLock(job.getJobId());
+                SongGameReadModelRebuildResponse page = songGameReadModelService.repairInconsistent(songIds);
+
+                job.setChecked(job.getChecked() + songIds.size());
+                job.setTotal(job.getTotal() + page.getTotal());
+                job.setRebuilt(job.getRebuilt() + page.getRebuilt());
+                job.setFailed(job.getFailed() + page.getFailures().size());
+                page.getFailures().stream()
+                        .limit(Math.max(0, MAX_FAILURES - job.getFailures().size()))
+                        .forEach(job.getFailures()::add);
+                save(job);
+                afterSongId = songIds.get(songIds.size() - 1);
+            }
+
+            job.setStatus(job.getFailed() > 0 ? SongAnalysisJobStatus.FAILED : SongAnalysisJobStatus.SUCCEEDED);
+            if (job.getFailed() > 0) {
+                job.setErrorMessage(job.getFailed() + "곡 재생성 실패");
+            }
+            save(job);
+            log.info("게임 읽기 모델 불일치 복구 완료: jobId={}, 검사={}, 대상={}, 성공={}, 실패={}",
+                    job.getJobId(), job.getChecked(), job.getTotal(), job.getRebuilt(), job.getFailed());
+
+        } catch (LockLostException e) {
+            // 잠금을 가져간 작업이 따로 진행 중이므로 상태를 덮어쓰지 않음
+            log.warn(e.getMessage());
+        } catch (Exception e) {
+            log.error("게임 읽기 모델 불일치 복구 실패: jobId={}, error={}", job.getJobId(), e.getMessage(), e);
+            job.setStatus(SongAnalysisJobStatus.FAILED);
+            job.setErrorMessage(e.getMessage());
+            save(job);
+        } finally {
+            unlock(job.getJobId());
+        }
+    }
+
+    private void renewLock(String jobId) {
+        Long renewed = stringRedisTemplate.execute(RENEW_LOCK_SCRIPT, List.of(LOCK_KEY),
+                jobId, String.valueOf(Duration.ofSeconds(lockTtlSeconds).toMillis()));
+        if (renewed == null || renewed == 0) {
+            throw new LockLostException(jobId);
+        }
+    }
+
+    private void unlock(String jobId) {
+        if (jobId.equals(stringRedisTemplate.opsForValue().get(LOCK_KEY))) {
+            stringRedisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    private void save(SongGameReadModelRepairJob job) {
+        job.setUpdatedAt(LocalDateTime.now());
+        redisTemplate.opsForValue().set(JOB_PREFIX + job.getJobId(), job, JOB_TTL);
+    }
+}
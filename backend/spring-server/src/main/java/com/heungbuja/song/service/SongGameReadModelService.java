@@ -0,0 +1,341 @@
+package com.heungbuja.song.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heungbuja.common.exception.CustomException;
+import com.heungbuja.common.exception.ErrorCode;
+import com.heungbuja.game.entity.Action;
+import com.heungbuja.game.repository.jpa.ActionRepository;
+import com.heungbuja.song.domain.ChoreographyPattern;
+import com.heungbuja.song.domain.SongBeat;
+import com.heungbuja.song.domain.SongChoreography;
+import com.heungbuja.song.domain.SongGameReadModel;
+import com.heungbuja.song.domain.SongLyrics;
+import com.heungbuja.song.dto.SongGameData;
+import com.heungbuja.song.dto.SongGameReadModelCheckPageResponse;
+import com.heungbuja.song.dto.SongGameReadModelCheckResponse;
+import com.heungbuja.song.dto.SongGameReadModelRebuildResponse;
+import com.heungbuja.song.enums.SongGameReadModelStatus;
+import com.heungbuja.song.repository.jpa.SongRepository;
+import com.heungbuja.song.repository.mongo.ChoreographyPatternRepository;
+import com.heungbuja.song.repository.mongo.SongBeatRepository;
+import com.heungbuja.song.repository.mongo.SongChoreographyRepository;
+import com.heungbuja.song.repository.mongo.SongGameReadModelRepository;
+import com.heungbuja.song.repository.mongo.SongLyricsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게임 읽기 모델(song_game_read_model) 관리 서비스
+ * - 곡 등록 시 생성, 게임 시작 시 songId 인덱스로 한 번에 조회
+ * - 원본 컬렉션(박자 / 가사 / 안무 / 안무 패턴)을 직접 고친 경우 재생성 필요
+ *   → 정합성 검사 후 STALE / MISSING 곡만 재생성 (SongGameReadModelRepairJobService 백그라운드 작업, 또는 곡 단위 / 전체 재생성)
+ * - 전체 곡 처리는 findAll() 대신 곡 id 순 페이지 단위로 나눠 읽는다
+ * - 정합성 검사: 원본으로 다시 계산한 값과 저장된 값을 필드 단위로 비교
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SongGameReadModelService {
+
+    private static final String SONG_ID_INDEX = "songId_unique";
+
+    /** 정합성 검사 한 페이지 최대 곡 수 */
+    private static final int MAX_CHECK_PAGE_SIZE = 1000;
+
+    /** 정합성 비교에서 제외하는 저장 메타데이터 */
+    private static final Set<String> METADATA_FIELDS = Set.of("id", "version", "builtAt");
+
+    private final SongGameReadModelRepository songGameReadModelRepository;
+    private final SongBeatRepository songBeatRepository;
+    private final SongLyricsRepository songLyricsRepository;
+    private final SongChoreographyRepository songChoreographyRepository;
+    private final ChoreographyPatternRepository choreographyPatternRepository;
+    private final ActionRepository actionRepository;
+    private final SongRepository songRepository;
+    private final MongoTemplate mongoTemplate;
+    private final RedisTemplate<String, SongGameData> songGameDataRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /** 전체 곡을 처리할 때 한 번에 읽는 곡 수 */
+    @Value("${song.game-read-model.page-size:200}")
+    private int pageSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        mongoTemplate.indexOps(SongGameReadModel.class)
+                .ensureIndex(new Index().on("songId", Sort.Direction.ASC).unique().named(SONG_ID_INDEX));
+    }
+
+    /**
+     * 읽기 모델 조회 (songId 인덱스 1회 조회)
+     */
+    public Optional<SongGameReadModel> find(Long songId) {
+        return songGameReadModelRepository.findBySongId(songId);
+    }
+
+    /**
+     * 읽기 모델 조회, 없으면 원본으로 생성 (기능 도입 전 등록된 곡 / 등록 시 생성 실패한 곡)
+     */
+    public SongGameReadModel getOrMaterialize(Long songId) {
+        return find(songId).orElseGet(() -> {
+            log.info("게임 읽기 모델 없음, 원본으로 생성: songId={}", songId);
+            return materialize(songId);
+        });
+    }
+
+    /**
+     * 원본 컬렉션을 읽어 읽기 모델 (재)생성
+     */
+    public SongGameReadModel materialize(Long songId) {
+        return save(buildFromSources(songId, actionNames()));
+    }
+
+    /**
+     * 이미 메모리에 있는 원본 문서로 읽기 모델 (재)생성 (곡 등록 직후)
+     */
+    public SongGameReadModel materialize(SongBeat songBeat, SongLyrics lyrics,
+                                         SongChoreography choreography, ChoreographyPattern patternData) {
+        return save(SongGameReadModelAssembler.assemble(songBeat, lyrics, choreography, patternData, actionNames()));
+    }
+
+    /**
+     * 새로 등록된 곡들의 읽기 모델을 한 번에 insertMany (목록 순서가 곡별로 대응)
+     * 계산에 실패한 곡은 건너뛰고, 게임 시작 시 getOrMaterialize에서 다시 시도한다.
+     */
+    public void materializeNew(List<SongBeat> beats, List<SongLyrics> lyrics,
+                               List<SongChoreography> choreographies, List<ChoreographyPattern> patterns) {
+        Map<Integer, String> actionNames = actionNames();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<SongGameReadModel> models = new ArrayList<>(beats.size());
+        for (int i = 0; i < beats.size(); i++) {
+            try {
+                SongGameReadModel model = SongGameReadModelAssembler.assemble(
+                        beats.get(i), lyrics.get(i), choreographies.get(i), patterns.get(i), actionNames);
+                model.setVersion(1);
+                model.setBuiltAt(now);
+                models.add(model);
+            } catch (CustomException e) {
+                log.warn("게임 읽기 모델 생성 건너뜀: songId={}, error={}", beats.get(i).getSongId(), e.getMessage());
+            }
+        }
+        if (!models.isEmpty()) {
+            mongoTemplate.insert(models, SongGameReadModel.class);
+        }
+    }
+
+    /**
+     * 전체 곡 읽기 모델 재생성
+     */
+    public SongGameReadModelRebuildResponse rebuildAll() {
+        Map<Integer, String> actionNames = actionNames();
+
+        int total = 0;
+        int rebuilt = 0;
+        List<String> failures = new ArrayList<>();
+        long afterSongId = 0;
+        List<Long> songIds;
+        while (!(songIds = nextSongIdPage(afterSongId, pageSize)).isEmpty()) {
+            for (Long songId : songIds) {
+                try {
+                    save(buildFromSources(songId, actionNames));
+                    rebuilt++;
+                } catch (Exception e) {
+                    log.warn("게임 읽기 모델 재생성 실패: songId={}, error={}", songId, e.getMessage());
+                    failures.add(songId + ": " + e.getMessage());
+                }
+            }
+            total += songIds.size();
+            afterSongId = songIds.get(songIds.size() - 1);
+        }
+
+        log.info("게임 읽기 모델 전체 재생성 완료: 전체={}, 성공={}, 실패={}", total, rebuilt, failures.size());
+        return SongGameReadModelRebuildResponse.builder()
+                .total(total)
+                .rebuilt(rebuilt)
+                .failures(failures)
+                .build();
+    }
+
+    /**
+     * 곡 id 순 다음 페이지 (afterSongId 다음부터 size개)
+     */
+    public List<Long> nextSongIdPage(long afterSongId, int size) {
+        return songRepository.findIdsAfter(afterSongId, PageRequest.of(0, size));
+    }
+
+    /**
+     * 주어진 곡 중 정합성 검사에서 STALE / MISSING인 곡만 원본으로 재생성
+     * SOURCE_INVALID는 원본을 먼저 고쳐야 하므로 건너뛴다.
+     *
+     * @return total: 재생성 대상 곡 수
+     */
+    public SongGameReadModelRebuildResponse repairInconsistent(List<Long> songIds) {
+        Map<Integer, String> actionNames = actionNames();
+
+        int total = 0;
+        int rebuilt = 0;
+        List<String> failures = new ArrayList<>();
+        for (Long songId : songIds) {
+            SongGameReadModelStatus status = check(songId, actionNames).getStatus();
+            if (status != SongGameReadModelStatus.STALE && status != SongGameReadModelStatus.MISSING) {
+                continue;
+            }
+            total++;
+            try {
+                save(buildFromSources(songId, actionNames));
+                rebuilt++;
+            } catch (Exception e) {
+                log.warn("게임 읽기 모델 복구 실패: songId={}, error={}", songId, e.getMessage());
+                failures.add(songId + ": " + e.getMessage());
+            }
+        }
+        return SongGameReadModelRebuildResponse.builder()
+                .total(total)
+                .rebuilt(rebuilt)
+                .failures(failures)
+                .build();
+    }
+
+    /**
+     * 곡 하나의 정합성 검사
+     */
+    public SongGameReadModelCheckResponse check(Long songId) {
+        return check(songId, actionNames());
+    }
+
+    /**
+     * 곡 id 순 한 페이지 정합성 검사 (원본과 일치하지 않는 곡만 반환)
+     * 전체 검사는 nextAfterSongId로 이어서 요청한다.
+     */
+    public SongGameReadModelCheckPageResponse checkPage(long afterSongId, int size) {
+        Map<Integer, String> actionNames = actionNames();
+        int limit = Math.min(Math.max(size, 1), MAX_CHECK_PAGE_SIZE);
+        List<Long> songIds = nextSongIdPage(afterSongId, limit);
+        List<SongGameReadModelCheckResponse> reports = songIds.stream()
+                .map(songId -> check(songId, actionNames))
+                .filter(report -> report.getStatus() != SongGameReadModelStatus.CONSISTENT)
+                .toList();
+
+        log.info("게임 읽기 모델 정합성 검사 완료: afterSongId={}, 검사 {}곡, 불일치 {}곡",
+                afterSongId, songIds.size(), reports.size());
+        return SongGameReadModelCheckPageResponse.builder()
+                .checked(songIds.size())
+                .reports(reports)
+                .nextAfterSongId(songIds.size() < limit ? null : songIds.get(songIds.size() - 1))
+                .build();
+    }
+
+    private SongGameReadModelCheckResponse check(Long songId, Map<Integer, String> actionNames) {
+        SongGameReadModel stored = find(songId).orElse(null);
+        SongGameReadModelCheckResponse.SongGameReadModelCheckResponseBuilder report =
+                SongGameReadModelCheckResponse.builder()
+                        .songId(songId)
+                        .storedVersion(stored == null ? null : stored.getVersion())
+                        .mismatchedFields(List.of());
+
+        SongGameReadModel expected;
+        try {
+            expected = buildFromSources(songId, actionNames);
+        } catch (RuntimeException e) {
+            return report.status(SongGameReadModelStatus.SOURCE_INVALID).message(e.getMessage()).build();
+        }
+        if (stored == null) {
+            return report.status(SongGameReadModelStatus.MISSING).build();
+        }
+
+        List<String> mismatched = diff(stored, expected);
+        return report
+                .status(mismatched.isEmpty() ? SongGameReadModelStatus.CONSISTENT : SongGameReadModelStatus.STALE)
+                .mismatchedFields(mismatched)
+                .build();
+    }
+
+    /**
+     * 최상위 필드 단위 비교 (저장 메타데이터 제외)
+     */
+    private List<String> diff(SongGameReadModel stored, SongGameReadModel expected) {
+        JsonNode storedTree = objectMapper.valueToTree(stored);
+        JsonNode expectedTree = objectMapper.valueToTree(expected);
+
+        Set<String> fields = new LinkedHashSet<>();
+        storedTree.fieldNames().forEachRemaining(fields::add);
+        expectedTree.fieldNames().forEachRemaining(fields::add);
+
+        List<String> mismatched = new ArrayList<>();
+        for (String field : fields) {
+            if (!METADATA_FIELDS.contains(field) && !storedTree.path(field).equals(expectedTree.path(field))) {
+                mismatched.add(field);
+            }
+        }
+        return mismatched;
+    }
+
+    private SongGameReadModel buildFromSources(Long songId, Map<Integer, String> actionNames) {
+        SongBeat songBeat = songBeatRepository.findBySongId(songId)
+                .orElseThrow(() -> new CustomException(
+                        ErrorCode.GAME_METADATA_NOT_FOUND, "비트 정보를 찾을 수 없습니다"));
+
+        SongLyrics lyrics = songLyricsRepository.findBySongId(songId)
+                .orElseThrow(() -> new CustomException(
+                        ErrorCode.GAME_METADATA_NOT_FOUND, "가사 정보를 찾을 수 없습니다"));
+
+        SongChoreography choreography = songChoreographyRepository.findBySongId(songId)
+                .orElseThrow(() -> new CustomException(
+                        ErrorCode.GAME_METADATA_NOT_FOUND, "안무 정보를 찾을 수 없습니다"));
+
+        ChoreographyPattern patternData = choreographyPatternRepository.findBySongId(songId)
+                .orElseThrow(() -> new CustomException(
+                        ErrorCode.GAME_METADATA_NOT_FOUND, "안무 패턴 정보를 찾을 수 없습니다"));
+
+        return SongGameReadModelAssembler.assemble(songBeat, lyrics, choreography, patternData, actionNames);
+    }
+
+    /**
+     * 저장 (기존 문서가 있으면 같은 _id로 덮어쓰고 버전 증가) + 게임 데이터 Redis 캐시 제거
+     */
+    private SongGameReadModel save(SongGameReadModel model) {
+        Long songId = model.getSongId();
+        Optional<SongGameReadModel> existing = find(songId);
+        model.setId(existing.map(SongGameReadModel::getId).orElse(null));
+        model.setVersion(existing.map(SongGameReadModel::getVersion).orElse(0L) + 1);
+        model.setBuiltAt(LocalDateTime.now());
+
+        SongGameReadModel saved;
+        try {
+            saved = songGameReadModelRepository.save(model);
+        } catch (DuplicateKeyException e) {
+            // 다른 요청이 먼저 생성함 (같은 원본으로 계산한 값)
+            return find(songId).orElseThrow(() -> e);
+        }
+
+        songGameDataRedisTemplate.delete(SongGameDataCache.cacheKey(songId));
+        log.info("게임 읽기 모델 저장 완료: songId={}, version={}", songId, saved.getVersion());
+        return saved;
+    }
+
+    private Map<Integer, String> actionNames() {
+        return actionRepository.findAll().stream()
+                .collect(Collectors.toMap(Action::getActionCode, Action::getName));
+    }
+}
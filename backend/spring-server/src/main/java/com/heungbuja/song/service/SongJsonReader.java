@@ -0,0 +1,361 @@
+package com.heungbuja.song.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heungbuja.common.exception.CustomException;
+import com.heungbuja.common.exception.ErrorCode;
+import com.heungbuja.song.domain.SongBeat;
+import com.heungbuja.song.domain.SongChoreography;
+import com.heungbuja.song.domain.SongLyrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 곡 분석 JSON(박자 / 가사 / 안무) 스트리밍 읽기
+ *
+ * JsonNode 트리나 전체 문자열을 만들지 않고 JsonParser 토큰을 따라가며 바로 도메인 객체를 만든다.
+ * - 업로드 크기가 한도를 넘으면 파싱 전에 거절
+ * - 비트는 원시 배열에 모은 뒤 마지막에 한 번만 Beat 목록으로 변환 (비트 수 한도 초과 시 즉시 거절)
+ * - 비트 시간이 역행하면 그 비트에서 바로 거절, 섹션 범위는 비트를 다 읽은 뒤 검증
+ *
+ * 형식 / 검증 오류는 INVALID_FILE_FORMAT 으로 던진다.
+ */
+@Component
+public class SongJsonReader {
+
+    private static final int INITIAL_BEAT_CAPACITY = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final long maxJsonBytes;
+    private final int maxBeats;
+    private final int maxLyricLines;
+
+    public SongJsonReader(ObjectMapper objectMapper,
+                          @Value("${song.ingest.max-json-bytes:20971520}") long maxJsonBytes,
+                          @Value("${song.ingest.max-beats:50000}") int maxBeats,
+                          @Value("${song.ingest.max-lyric-lines:5000}") int maxLyricLines) {
+        this.objectMapper = objectMapper;
+        this.maxJsonBytes = maxJsonBytes;
+        this.maxBeats = maxBeats;
+        this.maxLyricLines = maxLyricLines;
+    }
+
+    /**
+     * 박자 JSON 업로드 파일 읽기
+     */
+    public SongBeat readBeats(MultipartFile file) throws IOException {
+        return readFile(file, "박자", this::readBeats);
+    }
+
+    /**
+     * music-server 분석 결과의 박자 JSON 읽기 (업로드와 같은 검증 적용)
+     */
+    public SongBeat readBeats(JsonNode node) throws IOException {
+        return readNode(node, "박자", this::readBeats);
+    }
+
+    /**
+     * 가사 JSON 업로드 파일 읽기
+     */
+    public SongLyrics readLyrics(MultipartFile file) throws IOException {
+        return readFile(file, "가사", this::readLyrics);
+    }
+
+    /**
+     * music-server 분석 결과의 가사 JSON 읽기
+     */
+    public SongLyrics readLyrics(JsonNode node) throws IOException {
+        return readNode(node, "가사", this::readLyrics);
+    }
+
+    /**
+     * 안무 JSON 업로드 파일 읽기 (크기 한도만 검사하고 바로 매핑)
+     */
+    public SongChoreography readChoreography(MultipartFile file) throws IOException {
+        return readFile(file, "안무", parser -> parser.readValueAs(SongChoreography.class));
+    }
+
+    @FunctionalInterface
+    private interface ParserReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    private <T> T readFile(MultipartFile file, String label, ParserReader<T> reader) throws IOException {
+        if (file.getSize() > maxJsonBytes) {
+            throw invalid(label, "파일 크기가 한도를 넘었습니다 (" + file.getSize() + " > " + maxJsonBytes + " bytes)");
+        }
+        try (InputStream in = file.getInputStream();
+             JsonParser parser = objectMapper.createParser(in)) {
+            return readDocument(parser, label, reader);
+        }
+    }
+
+    private <T> T readNode(JsonNode node, String label, ParserReader<T> reader) throws IOException {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            throw invalid(label, "데이터가 없습니다");
+        }
+        try (JsonParser parser = objectMapper.treeAsTokens(node)) {
+            return readDocument(parser, label, reader);
+        }
+    }
+
+    private <T> T readDocument(JsonParser parser, String label, ParserReader<T> reader) throws IOException {
+        try {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw invalid(label, "최상위 값은 객체여야 합니다");
+            }
+            return reader.read(parser);
+        } catch (IllegalArgumentException e) {
+            throw invalid(label, e.getMessage());
+        } catch (JsonProcessingException e) {
+            throw invalid(label, e.getOriginalMessage());
+        }
+    }
+
+    // ===== 박자 =====
+
+    /**
+     * START_OBJECT 다음부터 박자 문서 읽기
+     */
+    private SongBeat readBeats(JsonParser parser) throws IOException {
+        SongBeat songBeat = new SongBeat();
+        BeatArrays beats = null;
+        List<SongBeat.Section> sections = null;
+        List<SongBeat.Tempo> tempoMap = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "audio" -> songBeat.setAudio(parser.readValueAs(SongBeat.Audio.class));
+                case "beats" -> beats = readBeatArray(parser);
+                case "sections" -> sections = readSections(parser);
+                case "tempoMap" -> tempoMap = readTempoMap(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (beats != null) {
+            songBeat.setBeats(beats.toBeats());
+        }
+        if (sections != null) {
+            validateSections(sections, beats);
+        }
+        songBeat.setSections(sections);
+        songBeat.setTempoMap(tempoMap);
+        return songBeat;
+    }
+
+    private BeatArrays readBeatArray(JsonParser parser) throws IOException {
+        expectArray(parser, "beats");
+        BeatArrays beats = new BeatArrays();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("beats[" + beats.count + "]는 객체여야 합니다");
+            }
+            if (beats.count >= maxBeats) {
+                throw new IllegalArgumentException("비트 수가 한도(" + maxBeats + ")를 넘었습니다");
+            }
+
+            int i = 0;
+            int bar = 0;
+            int beat = 0;
+            double t = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "i" -> i = parser.getIntValue();
+                    case "bar" -> bar = parser.getIntValue();
+                    case "beat" -> beat = parser.getIntValue();
+                    case "t" -> t = parser.getDoubleValue();
+                    default -> parser.skipChildren();
+                }
+            }
+
+            // 비트 번호 / 마디는 비트 수 한도 안이어야 함 (BeatIndex가 번호 범위 크기의 조회 배열을 만듦)
+            if (i < 0 || i > maxBeats) {
+                throw new IllegalArgumentException("beats[" + beats.count + "].i 값이 범위(0~" + maxBeats + ")를 벗어났습니다: " + i);
+            }
+            if (bar < 0 || bar > maxBeats) {
+                throw new IllegalArgumentException("beats[" + beats.count + "].bar 값이 범위(0~" + maxBeats + ")를 벗어났습니다: " + bar);
+            }
+            if (!Double.isFinite(t) || t < 0) {
+                throw new IllegalArgumentException("beats[" + beats.count + "].t 값이 올바르지 않습니다: " + t);
+            }
+            if (beats.count > 0 && t < beats.times[beats.count - 1]) {
+                throw new IllegalArgumentException("beats[" + beats.count + "].t가 이전 비트보다 앞섭니다: "
+                        + t + " < " + beats.times[beats.count - 1]);
+            }
+            beats.add(i, bar, beat, t);
+        }
+        return beats;
+    }
+
+    private List<SongBeat.Section> readSections(JsonParser parser) throws IOException {
+        expectArray(parser, "sections");
+        List<SongBeat.Section> sections = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            SongBeat.Section section = parser.readValueAs(SongBeat.Section.class);
+            if (section.getStartBeat() > section.getEndBeat() || section.getStartBar() > section.getEndBar()) {
+                throw new IllegalArgumentException("sections[" + sections.size() + "](" + section.getLabel()
+                        + ")의 시작이 끝보다 뒤입니다");
+            }
+            sections.add(section);
+        }
+        return sections;
+    }
+
+    private List<SongBeat.Tempo> readTempoMap(JsonParser parser) throws IOException {
+        expectArray(parser, "tempoMap");
+        List<SongBeat.Tempo> tempoMap = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            SongBeat.Tempo tempo = parser.readValueAs(SongBeat.Tempo.class);
+            if (!Double.isFinite(tempo.getBpm()) || tempo.getBpm() <= 0) {
+                throw new IllegalArgumentException("tempoMap[" + tempoMap.size() + "].bpm 값이 올바르지 않습니다: "
+                        + tempo.getBpm());
+            }
+            tempoMap.add(tempo);
+        }
+        return tempoMap;
+    }
+
+    /**
+     * 섹션의 비트 / 마디 범위가 실제 비트 범위 안에 있는지 검증
+     * (JSON에서 sections가 beats보다 먼저 올 수 있어 비트를 다 읽은 뒤 검사)
+     */
+    private void validateSections(List<SongBeat.Section> sections, BeatArrays beats) {
+        if (sections.isEmpty()) {
+            return;
+        }
+        if (beats == null || beats.count == 0) {
+            throw new IllegalArgumentException("비트 없이 섹션만 있습니다");
+        }
+
+        int minBeat = Integer.MAX_VALUE, maxBeat = Integer.MIN_VALUE;
+        int minBar = Integer.MAX_VALUE, maxBar = Integer.MIN_VALUE;
+        for (int k = 0; k < beats.count; k++) {
+            minBeat = Math.min(minBeat, beats.beatNumbers[k]);
+            maxBeat = Math.max(maxBeat, beats.beatNumbers[k]);
+            minBar = Math.min(minBar, beats.bars[k]);
+            maxBar = Math.max(maxBar, beats.bars[k]);
+        }
+
+        for (int k = 0; k < sections.size(); k++) {
+            SongBeat.Section section = sections.get(k);
+            if (section.getStartBeat() < minBeat || section.getEndBeat() > maxBeat) {
+                throw new IllegalArgumentException("sections[" + k + "](" + section.getLabel() + ")의 비트 범위 "
+                        + section.getStartBeat() + "~" + section.getEndBeat()
+                        + "가 곡 비트 범위 " + minBeat + "~" + maxBeat + "를 벗어납니다");
+            }
+            if (section.getStartBar() < minBar || section.getEndBar() > maxBar) {
+                throw new IllegalArgumentException("sections[" + k + "](" + section.getLabel() + ")의 마디 범위 "
+                        + section.getStartBar() + "~" + section.getEndBar()
+                        + "가 곡 마디 범위 " + minBar + "~" + maxBar + "를 벗어납니다");
+            }
+        }
+    }
+
+    /**
+     * 읽는 중인 비트 (원시 배열, 필요할 때만 두 배로 확장)
+     */
+    private static final class BeatArrays {
+        private int[] beatNumbers = new int[INITIAL_BEAT_CAPACITY];
+        private int[] bars = new int[INITIAL_BEAT_CAPACITY];
+        private int[] beatInBar = new int[INITIAL_BEAT_CAPACITY];
+        private double[] times = new double[INITIAL_BEAT_CAPACITY];
+        private int count;
+
+        void add(int i, int bar, int beat, double t) {
+            if (count == times.length) {
+                int capacity = count * 2;
+                beatNumbers = Arrays.copyOf(beatNumbers, capacity);
+                bars = Arrays.copyOf(bars, capacity);
+                beatInBar = Arrays.copyOf(beatInBar, capacity);
+                times = Arrays.copyOf(times, capacity);
+            }
+            beatNumbers[count] = i;
+            bars[count] = bar;
+            beatInBar[count] = beat;
+            times[count] = t;
+            count++;
+        }
+
+        List<SongBeat.Beat> toBeats() {
+            List<SongBeat.Beat> beats = new ArrayList<>(count);
+            for (int k = 0; k < count; k++) {
+                SongBeat.Beat beat = new SongBeat.Beat();
+                beat.setI(beatNumbers[k]);
+                beat.setBar(bars[k]);
+                beat.setBeat(beatInBar[k]);
+                beat.setT(times[k]);
+                beats.add(beat);
+            }
+            return beats;
+        }
+    }
+
+    // ===== 가사 =====
+
+    /**
+     * START_OBJECT 다음부터 가사 문서 읽기 (라인 단위로 매핑)
+     */
+    private SongLyrics readLyrics(JsonParser parser) throws IOException {
+        SongLyrics songLyrics = new SongLyrics();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "title" -> songLyrics.setTitle(parser.getValueAsString());
+                case "lines" -> songLyrics.setLines(readLyricLines(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        return songLyrics;
+    }
+
+    private List<SongLyrics.Line> readLyricLines(JsonParser parser) throws IOException {
+        expectArray(parser, "lines");
+        List<SongLyrics.Line> lines = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (lines.size() >= maxLyricLines) {
+                throw new IllegalArgumentException("가사 라인 수가 한도(" + maxLyricLines + ")를 넘었습니다");
+            }
+            SongLyrics.Line line = parser.readValueAs(SongLyrics.Line.class);
+            if (!Double.isFinite(line.getStart()) || !Double.isFinite(line.getEnd()) || line.getStart() > line.getEnd()) {
+                throw new IllegalArgumentException("lines[" + lines.size() + "]의 시간 범위가 올바르지 않습니다: "
+                        + line.getStart() + "~" + line.getEnd());
+            }
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    // ===== 공통 =====
+
+    private void expectArray(JsonParser parser, String field) {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException(field + "는 배열이어야 합니다");
+        }
+    }
+
+    private CustomException invalid(String label, String reason) {
+        return new CustomException(ErrorCode.INVALID_FILE_FORMAT, label + " JSON 형식 오류: " + reason);
+    }
+}
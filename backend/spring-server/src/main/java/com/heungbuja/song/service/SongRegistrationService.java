@@ -1,10 +1,11 @@
 package com.heungbuja.song.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.heungbuja.common.exception.CustomException;
 import com.heungbuja.common.exception.ErrorCode;
 import com.heungbuja.s3.entity.Media;
+import com.heungbuja.s3.service.MediaService;
+import com.heungbuja.song.domain.BeatIndex;
 import com.heungbuja.song.domain.SongBeat;
 import com.heungbuja.song.domain.SongChoreography;
 import com.heungbuja.song.domain.SongLyrics;
@@ -17,11 +18,21 @@ import com.heungbuja.song.repository.mongo.ChoreographyPatternRepository;
 import com.heungbuja.song.domain.ChoreographyPattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 곡 등록 프로세스 관리 서비스
@@ -38,7 +49,10 @@ public class SongRegistrationService {
     private final SongChoreographyRepository songChoreographyRepository;
     private final ChoreographyPatternRepository choreographyPatternRepository;
     private final DefaultChoreographyGenerator defaultChoreographyGenerator;
-    private final ObjectMapper objectMapper;
+    private final SongJsonReader songJsonReader;
+    private final MediaService mediaService;
+    private final MongoTemplate mongoTemplate;
+    private final SongGameReadModelService songGameReadModelService;
 
     /**
      * 곡 등록 (MySQL + MongoDB)
@@ -74,25 +88,31 @@ public class SongRegistrationService {
             log.info("Song 생성 완료: id={}, title={}, artist={}", songId, title, artist);
 
             // 2. 박자 JSON 파싱 및 MongoDB 저장
-            SongBeat songBeat = parseBeatJson(beatJson);
+            SongBeat songBeat = songJsonReader.readBeats(beatJson);
             songBeat.setSongId(songId);
             songBeatRepository.save(songBeat);
             log.info("SongBeat 저장 완료: songId={}", songId);
 
             // 3. 가사 JSON 파싱 및 MongoDB 저장
-            SongLyrics songLyrics = parseLyricsJson(lyricsJson);
+            SongLyrics songLyrics = songJsonReader.readLyrics(lyricsJson);
             songLyrics.setSongId(songId);
             songLyricsRepository.save(songLyrics);
             log.info("SongLyrics 저장 완료: songId={}", songId);
 
             // 4. 안무 JSON 파싱 및 MongoDB 저장
-            SongChoreography songChoreography = parseChoreographyJson(choreographyJson);
+            SongChoreography songChoreography = songJsonReader.readChoreography(choreographyJson);
             songChoreography.setSongId(songId);
             songChoreographyRepository.save(songChoreography);
             log.info("SongChoreography 저장 완료: songId={}", songId);
 
+            // 5. 커밋 후 게임 읽기 모델 생성 (안무 패턴은 별도 등록되므로 원본 컬렉션에서 읽음)
+            materializeGameReadModelAfterCommit(songId);
+
             return savedSong;
 
+        } catch (CustomException e) {
+            log.warn("곡 JSON 검증 실패: {}", e.getMessage());
+            throw e;
         } catch (IOException e) {
             log.error("JSON 파싱 실패: {}", e.getMessage(), e);
             throw new CustomException(ErrorCode.SONG_REGISTRATION_FAILED, "JSON 파일 파싱에 실패했습니다: " + e.getMessage());
@@ -102,27 +122,6 @@ public class SongRegistrationService {
         }
     }
 
-    /**
-     * 박자 JSON 파일 파싱
-     */
-    private SongBeat parseBeatJson(MultipartFile file) throws IOException {
-        return objectMapper.readValue(file.getInputStream(), SongBeat.class);
-    }
-
-    /**
-     * 가사 JSON 파일 파싱
-     */
-    private SongLyrics parseLyricsJson(MultipartFile file) throws IOException {
-        return objectMapper.readValue(file.getInputStream(), SongLyrics.class);
-    }
-
-    /**
-     * 안무 JSON 파일 파싱
-     */
-    private SongChoreography parseChoreographyJson(MultipartFile file) throws IOException {
-        return objectMapper.readValue(file.getInputStream(), SongChoreography.class);
-    }
-
     /**
      * 곡 등록 (music-server 분석 결과 사용)
      *
@@ -157,25 +156,31 @@ public class SongRegistrationService {
             log.info("Song 생성 완료: id={}, title={}, artist={}", songId, title, artist);
 
             // 2. 박자 JSON 파싱 및 MongoDB 저장
-            SongBeat songBeat = objectMapper.treeToValue(beatsNode, SongBeat.class);
+            SongBeat songBeat = songJsonReader.readBeats(beatsNode);
             songBeat.setSongId(songId);
             songBeatRepository.save(songBeat);
             log.info("SongBeat 저장 완료: songId={}", songId);
 
             // 3. 가사 JSON 파싱 및 MongoDB 저장
-            SongLyrics songLyrics = objectMapper.treeToValue(lyricsNode, SongLyrics.class);
+            SongLyrics songLyrics = songJsonReader.readLyrics(lyricsNode);
             songLyrics.setSongId(songId);
             songLyricsRepository.save(songLyrics);
             log.info("SongLyrics 저장 완료: songId={}", songId);
 
             // 4. 안무 JSON 파싱 및 MongoDB 저장
-            SongChoreography songChoreography = parseChoreographyJson(choreographyJson);
+            SongChoreography songChoreography = songJsonReader.readChoreography(choreographyJson);
             songChoreography.setSongId(songId);
             songChoreographyRepository.save(songChoreography);
             log.info("SongChoreography 저장 완료: songId={}", songId);
 
+            // 5. 커밋 후 게임 읽기 모델 생성 (안무 패턴은 별도 등록되므로 원본 컬렉션에서 읽음)
+            materializeGameReadModelAfterCommit(songId);
+
             return savedSong;
 
+        } catch (CustomException e) {
+            log.warn("곡 JSON 검증 실패: {}", e.getMessage());
+            throw e;
         } catch (IOException e) {
             log.error("JSON 파싱 실패: {}", e.getMessage(), e);
             throw new CustomException(ErrorCode.SONG_REGISTRATION_FAILED, "JSON 파일 파싱에 실패했습니다: " + e.getMessage());
@@ -216,21 +221,13 @@ public class SongRegistrationService {
 
             log.info("Song 생성 완료: id={}, title={}, artist={}", songId, title, artist);
 
-            // 2. 박자 JSON 파싱 및 MongoDB 저장
-            SongBeat songBeat = objectMapper.treeToValue(beatsNode, SongBeat.class);
-            songBeat.setSongId(songId);
-
-            // sections가 비어있으면 기본 섹션 추가
-            if (songBeat.getSections() == null || songBeat.getSections().isEmpty()) {
-                songBeat.setSections(generateDefaultSections(songBeat.getBeats()));
-                log.info("기본 섹션 정보 자동 생성: songId={}", songId);
-            }
-
+            // 2. 박자 JSON 파싱 및 MongoDB 저장 (sections가 비어있으면 기본 섹션 추가)
+            SongBeat songBeat = toSongBeatWithSections(songJsonReader.readBeats(beatsNode), songId);
             songBeatRepository.save(songBeat);
             log.info("SongBeat 저장 완료: songId={}", songId);
 
             // 3. 가사 JSON 파싱 및 MongoDB 저장
-            SongLyrics songLyrics = objectMapper.treeToValue(lyricsNode, SongLyrics.class);
+            SongLyrics songLyrics = songJsonReader.readLyrics(lyricsNode);
             songLyrics.setSongId(songId);
             songLyricsRepository.save(songLyrics);
             log.info("SongLyrics 저장 완료: songId={}", songId);
@@ -245,14 +242,207 @@ public class SongRegistrationService {
             choreographyPatternRepository.save(choreographyPattern);
             log.info("ChoreographyPattern 기본값 저장 완료: songId={}", songId);
 
+            // 6. 커밋 후 게임 읽기 모델 생성 (방금 만든 문서로 계산, 추가 조회 없음)
+            afterCommit(() -> {
+                try {
+                    songGameReadModelService.materialize(songBeat, songLyrics, songChoreography, choreographyPattern);
+                } catch (Exception e) {
+                    log.warn("게임 읽기 모델 생성 실패 (게임 시작 시 재시도): songId={}, error={}", songId, e.getMessage());
+                }
+            });
+
             return savedSong;
 
+        } catch (CustomException e) {
+            log.warn("곡 JSON 검증 실패: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("곡 등록 실패: {}", e.getMessage(), e);
             throw new CustomException(ErrorCode.SONG_REGISTRATION_FAILED, "곡 등록에 실패했습니다: " + e.getMessage());
         }
     }
 
+    /**
+     * 분석된 곡 일괄 등록 (대량 가져오기용, 기본 안무 자동 생성)
+     * - MySQL: Media / Song을 한 트랜잭션에서 저장
+     * - MongoDB: 박자 / 가사 / 안무 / 안무 패턴을 컬렉션별로 한 번에 insertMany
+     * - MySQL 트랜잭션이 롤백되면 이미 넣은 MongoDB 문서를 songId로 지움 (고아 문서 방지)
+     * - 게임 읽기 모델은 커밋된 뒤에 생성
+     *
+     * @param songs 분석이 끝난 곡 목록
+     * @return 생성된 Song 엔티티 (입력 순서와 동일)
+     */
+    @Transactional
+    public List<Song> registerAnalyzedSongs(List<AnalyzedSong> songs) {
+        List<Long> songIds = null;
+        boolean cleanupOnRollback = false;
+        try {
+            // 1. MySQL에 Media / Song 생성
+            List<Media> medias = mediaService.createMediaBatch(
+                    songs.stream().map(AnalyzedSong::title).toList(), "MUSIC",
+                    songs.stream().map(AnalyzedSong::s3Key).toList(), songs.get(0).uploaderId());
+
+            List<Song> newSongs = new ArrayList<>(songs.size());
+            for (int i = 0; i < songs.size(); i++) {
+                newSongs.add(Song.builder()
+                        .title(songs.get(i).title())
+                        .artist(songs.get(i).artist())
+                        .media(medias.get(i))
+                        .build());
+            }
+            List<Song> savedSongs = songRepository.saveAll(newSongs);
+            songIds = savedSongs.stream().map(Song::getId).toList();
+            cleanupOnRollback = removeDocumentsOnRollback(songIds);
+
+            // 2. MongoDB 문서 생성
+            List<SongBeat> beats = new ArrayList<>(songs.size());
+            List<SongLyrics> lyrics = new ArrayList<>(songs.size());
+            List<SongChoreography> choreographies = new ArrayList<>(songs.size());
+            List<ChoreographyPattern> patterns = new ArrayList<>(songs.size());
+            for (int i = 0; i < songs.size(); i++) {
+                Long songId = savedSongs.get(i).getId();
+                beats.add(toSongBeatWithSections(songs.get(i).songBeat(), songId));
+
+                SongLyrics songLyrics = songs.get(i).songLyrics();
+                songLyrics.setSongId(songId);
+                lyrics.add(songLyrics);
+
+                choreographies.add(defaultChoreographyGenerator.generateDefaultSongChoreography(songId));
+                patterns.add(defaultChoreographyGenerator.generateDefaultChoreographyPattern(songId));
+            }
+
+            // 3. 컬렉션별 insertMany
+            mongoTemplate.insert(beats, SongBeat.class);
+            mongoTemplate.insert(lyrics, SongLyrics.class);
+            mongoTemplate.insert(choreographies, SongChoreography.class);
+            mongoTemplate.insert(patterns, ChoreographyPattern.class);
+
+            // 4. 커밋 후 게임 읽기 모델 insertMany (실패해도 등록은 유지, 게임 시작 시 재시도)
+            afterCommit(() -> {
+                try {
+                    songGameReadModelService.materializeNew(beats, lyrics, choreographies, patterns);
+                } catch (Exception e) {
+                    log.warn("게임 읽기 모델 일괄 생성 실패 (게임 시작 시 재시도): {}", e.getMessage());
+                }
+            });
+
+            log.info("곡 일괄 등록 완료: {}곡", savedSongs.size());
+            return savedSongs;
+
+        } catch (CustomException e) {
+            log.warn("곡 JSON 검증 실패: {}", e.getMessage());
+            if (songIds != null && !cleanupOnRollback) {
+                removeDocuments(songIds);
+            }
+            throw e;
+        } catch (Exception e) {
+            log.error("곡 일괄 등록 실패: {}", e.getMessage(), e);
+            if (songIds != null && !cleanupOnRollback) {
+                removeDocuments(songIds);
+            }
+            throw new CustomException(ErrorCode.SONG_REGISTRATION_FAILED, "곡 일괄 등록에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 오디오 S3 키로 이미 등록된 곡 조회 (일괄 등록을 다시 시도할 때 중복 등록 방지)
+     *
+     * @return S3 키 → songId
+     */
+    public Map<String, Long> findRegisteredSongIds(Collection<String> s3Keys) {
+        if (s3Keys.isEmpty()) {
+            return Map.of();
+        }
+        return songRepository.findByMediaS3KeyIn(s3Keys).stream()
+                .collect(Collectors.toMap(song -> song.getMedia().getS3Key(), Song::getId, (first, second) -> first));
+    }
+
+    /**
+     * 트랜잭션이 커밋되지 않으면(메서드 예외, 커밋 실패 모두) MongoDB 문서 삭제 예약
+     *
+     * @return 예약 여부 (트랜잭션 밖이면 false → 호출한 쪽에서 바로 정리)
+     */
+    private boolean removeDocumentsOnRollback(List<Long> songIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    removeDocuments(songIds);
+                }
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 등록 실패한 곡의 MongoDB 문서 삭제 (insertMany 중간에 실패해 일부만 들어간 경우 포함)
+     */
+    private void removeDocuments(List<Long> songIds) {
+        Query query = Query.query(Criteria.where("songId").in(songIds));
+        for (Class<?> type : List.of(SongBeat.class, SongLyrics.class, SongChoreography.class,
+                ChoreographyPattern.class)) {
+            try {
+                mongoTemplate.remove(query, type);
+            } catch (Exception e) {
+                log.error("등록 실패한 곡의 MongoDB 문서 삭제 실패: type={}, songIds={}, error={}",
+                        type.getSimpleName(), songIds, e.getMessage());
+            }
+        }
+        log.info("등록 실패한 곡의 MongoDB 문서 삭제: {}곡", songIds.size());
+    }
+
+    /**
+     * 커밋 후 원본 컬렉션으로 게임 읽기 모델 생성 (실패해도 등록은 유지, 게임 시작 시 재시도)
+     */
+    private void materializeGameReadModelAfterCommit(Long songId) {
+        afterCommit(() -> {
+            try {
+                songGameReadModelService.materialize(songId);
+            } catch (Exception e) {
+                log.warn("게임 읽기 모델 생성 실패 (게임 시작 시 재시도): songId={}, error={}", songId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션 커밋 후 실행 (롤백되면 읽기 모델 / 게임 데이터 캐시를 건드리지 않음, 트랜잭션 밖이면 바로 실행)
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * music-server 분석이 끝난 곡 (일괄 등록 입력, 분석 JSON은 SongJsonReader로 검증해 둔 상태)
+     */
+    public record AnalyzedSong(String title, String artist, String s3Key, Long uploaderId,
+                               SongBeat songBeat, SongLyrics songLyrics) {
+    }
+
+    /**
+     * SongBeat에 songId 지정 (sections가 비어있으면 기본 섹션 추가)
+     */
+    private SongBeat toSongBeatWithSections(SongBeat songBeat, Long songId) {
+        songBeat.setSongId(songId);
+
+        if (songBeat.getSections() == null || songBeat.getSections().isEmpty()) {
+            songBeat.setSections(generateDefaultSections(songBeat));
+            log.info("기본 섹션 정보 자동 생성: songId={}", songId);
+        }
+        return songBeat;
+    }
+
     /**
      * 기본 섹션 정보 자동 생성
      * - intro: 곡 시작 (0~16 bar)
@@ -260,21 +450,22 @@ public class SongRegistrationService {
      * - break: 중간 휴식 (57~72 bar)
      * - verse2: 2절 (73~ 끝)
      */
-    private java.util.List<SongBeat.Section> generateDefaultSections(java.util.List<SongBeat.Beat> beats) {
-        if (beats == null || beats.isEmpty()) {
+    private java.util.List<SongBeat.Section> generateDefaultSections(SongBeat songBeat) {
+        BeatIndex beats = BeatIndex.of(songBeat);
+        if (beats.isEmpty()) {
             return java.util.Collections.emptyList();
         }
 
         java.util.List<SongBeat.Section> sections = new java.util.ArrayList<>();
-        int totalBars = beats.get(beats.size() - 1).getBar();
+        int totalBars = beats.lastBar();
 
         // intro (0~16 bar)
         SongBeat.Section intro = new SongBeat.Section();
         intro.setLabel("intro");
         intro.setStartBar(1);
         intro.setEndBar(Math.min(16, totalBars));
-        intro.setStartBeat(findBeatByBar(beats, intro.getStartBar()));
-        intro.setEndBeat(findBeatByBar(beats, intro.getEndBar()));
+        intro.setStartBeat(beats.firstBeatOfBar(intro.getStartBar()));
+        intro.setEndBeat(beats.firstBeatOfBar(intro.getEndBar()));
         sections.add(intro);
 
         // verse1 (17~56 bar) - 총 40 bar
@@ -283,8 +474,8 @@ public class SongRegistrationService {
             verse1.setLabel("verse1");
             verse1.setStartBar(17);
             verse1.setEndBar(Math.min(56, totalBars));
-            verse1.setStartBeat(findBeatByBar(beats, verse1.getStartBar()));
-            verse1.setEndBeat(findBeatByBar(beats, verse1.getEndBar()));
+            verse1.setStartBeat(beats.firstBeatOfBar(verse1.getStartBar()));
+            verse1.setEndBeat(beats.firstBeatOfBar(verse1.getEndBar()));
             sections.add(verse1);
         }
 
@@ -294,8 +485,8 @@ public class SongRegistrationService {
             breakSection.setLabel("break");
             breakSection.setStartBar(57);
             breakSection.setEndBar(Math.min(72, totalBars));
-            breakSection.setStartBeat(findBeatByBar(beats, breakSection.getStartBar()));
-            breakSection.setEndBeat(findBeatByBar(beats, breakSection.getEndBar()));
+            breakSection.setStartBeat(beats.firstBeatOfBar(breakSection.getStartBar()));
+            breakSection.setEndBeat(beats.firstBeatOfBar(breakSection.getEndBar()));
             sections.add(breakSection);
         }
 
@@ -305,31 +496,12 @@ public class SongRegistrationService {
             verse2.setLabel("verse2");
             verse2.setStartBar(73);
             verse2.setEndBar(totalBars);
-            verse2.setStartBeat(findBeatByBar(beats, verse2.getStartBar()));
-            verse2.setEndBeat(findBeatByBar(beats, verse2.getEndBar()));
+            verse2.setStartBeat(beats.firstBeatOfBar(verse2.getStartBar()));
+            verse2.setEndBeat(beats.firstBeatOfBar(verse2.getEndBar()));
             sections.add(verse2);
         }
 
         log.info("기본 섹션 생성 완료: {} 섹션, 총 {} bar", sections.size(), totalBars);
         return sections;
     }
-
-    /**
-     * 특정 bar의 첫 번째 비트 인덱스 찾기
-     */
-    private int findBeatByBar(java.util.List<SongBeat.Beat> beats, int bar) {
-        for (SongBeat.Beat beat : beats) {
-            if (beat.getBar() == bar && beat.getBeat() == 1) {
-                return beat.getI();
-            }
-        }
-        // 못 찾으면 해당 bar 범위의 첫 번째 비트 반환
-        for (SongBeat.Beat beat : beats) {
-            if (beat.getBar() == bar) {
-                return beat.getI();
-            }
-        }
-        // 그래도 못 찾으면 마지막 비트
-        return beats.isEmpty() ? 1 : beats.get(beats.size() - 1).getI();
-    }
 }
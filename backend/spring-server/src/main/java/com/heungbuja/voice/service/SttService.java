@@ -2,6 +2,8 @@ package com.heungbuja.voice.service;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * STT (Speech-to-Text) 서비스 인터페이스
  * 구현체를 교체하여 다양한 STT 엔진 사용 가능 (Whisper, Google STT, Naver Clova 등)
@@ -16,6 +18,21 @@ public interface SttService {
      */
     String transcribe(MultipartFile audioFile);
 
+    /**
+     * 음성 파일을 텍스트로 변환 (비동기)
+     * 기본 구현은 동기 변환 결과를 감싸서 반환
+     *
+     * @param audioFile 음성 파일 (요청 처리 중에 완료를 기다려야 함)
+     * @return 변환된 텍스트
+     */
+    default CompletableFuture<String> transcribeAsync(MultipartFile audioFile) {
+        try {
+            return CompletableFuture.completedFuture(transcribe(audioFile));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * 지원하는 오디오 포맷인지 확인
      *
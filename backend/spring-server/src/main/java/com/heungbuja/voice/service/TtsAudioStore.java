@@ -0,0 +1,107 @@
+package com.heungbuja.voice.service;
+
+import com.heungbuja.common.exception.CustomException;
+import com.heungbuja.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * TTS 음성 파일 저장소 (내용 주소 방식)
+ *
+ * 파일 ID = SHA-256(음성 타입 + 포맷 + 텍스트) 이므로 같은 문구는 항상 같은 URL(/commands/tts/{fileId})이 된다.
+ * 파일 내용이 바뀌지 않으므로 기기는 ETag / Cache-Control: immutable 로 자주 쓰는 안내 음성을 로컬에 캐싱할 수 있다.
+ * 이전 방식(UUID 파일 ID)으로 저장된 파일도 같은 경로에서 그대로 제공한다.
+ */
+@Slf4j
+@Component
+public class TtsAudioStore {
+
+    private static final String AUDIO_FORMAT = "mp3";
+
+    /** SHA-256 hex 또는 기존 UUID */
+    private static final Pattern FILE_ID_PATTERN = Pattern.compile("[0-9a-f]{64}|[0-9a-fA-F-]{36}");
+
+    @Value("${tts.storage.path:./tts-files}")
+    private String storagePath;
+
+    /**
+     * 텍스트 / 음성 타입에 대한 파일 ID
+     */
+    public String fileId(String text, String voiceType) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((voiceType + "\n" + AUDIO_FORMAT + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 문구의 음성 파일이 이미 저장되어 있는지
+     */
+    public boolean exists(String text, String voiceType) {
+        return Files.exists(path(fileId(text, voiceType)));
+    }
+
+    /**
+     * 파일이 없으면 generator로 생성해 저장하고 파일 ID 반환
+     * 임시 파일에 쓴 뒤 이동하므로 동시에 같은 문구를 저장해도 읽는 쪽은 항상 완성된 파일만 본다.
+     */
+    public String store(String text, String voiceType, Supplier<byte[]> generator) {
+        String fileId = fileId(text, voiceType);
+        Path path = path(fileId);
+        if (Files.exists(path)) {
+            return fileId;
+        }
+
+        byte[] audioData = generator.get();
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), fileId, ".tmp");
+            Files.write(temp, audioData);
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            log.info("TTS 파일 저장 완료: fileId={}, 크기={} bytes", fileId, audioData.length);
+            return fileId;
+        } catch (IOException e) {
+            log.error("TTS 파일 저장 실패: fileId={}", fileId, e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "TTS 파일을 저장할 수 없습니다");
+        }
+    }
+
+    /**
+     * 파일 ID의 저장 경로 (형식이 맞지 않으면 예외)
+     */
+    public Path path(String fileId) {
+        if (fileId == null || !FILE_ID_PATTERN.matcher(fileId).matches()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 TTS 파일 ID입니다");
+        }
+        return Paths.get(storagePath, fileId + "." + AUDIO_FORMAT);
+    }
+
+    /**
+     * 기기가 내려받을 URL (API 기준 상대 경로, 기존 CommandServiceImpl과 같은 형식)
+     */
+    public String url(String fileId) {
+        return "/commands/tts/" + fileId;
+    }
+}
@@ -22,6 +22,7 @@ import java.util.function.Supplier;
 public class TtsCacheService {
 
     private final TtsCacheRepository ttsCacheRepository;
+    private final TtsWarmSet ttsWarmSet;
 
     /**
      * 캐시된 TTS 음성 조회 또는 생성
@@ -33,6 +34,9 @@ public class TtsCacheService {
      */
     @Transactional
     public byte[] getCachedOrGenerate(String text, String voiceType, Supplier<byte[]> generator) {
+        // 사전 생성 우선순위용 빈도 집계
+        ttsWarmSet.record(text, voiceType);
+
         // 1. 캐시 조회
         Optional<TtsCache> cached = ttsCacheRepository.findByTextAndVoiceType(text, voiceType);
 
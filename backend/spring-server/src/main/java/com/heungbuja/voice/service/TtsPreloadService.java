@@ -1,20 +1,35 @@
 package com.heungbuja.voice.service;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * TTS 고정 응답 사전 생성 서비스
- * 서버 시작 시 자주 사용되는 고정 응답을 미리 TTS로 변환하여 캐싱
+ * TTS 응답 사전 생성 서비스
+ * 서버 시작 시와 주기적으로 자주 쓰이는 응답을 미리 TTS로 변환하여 캐싱
  * 이를 통해 실제 사용 시 TTS API 호출 없이 캐시에서 바로 응답 가능
+ *
+ * 대상: 고정 응답 + 실제 합성 빈도 상위 top-k 문구 (TtsWarmSet, 템플릿 곡 안내 포함)
+ * 음성 파일(TtsAudioStore)이 없는 문구만 빈도 높은 순으로 parallelism개씩 병렬 생성하고, 초당 rate-per-second건으로 제한한다.
  */
 @Component
 @RequiredArgsConstructor
@@ -22,60 +37,137 @@ import java.util.concurrent.atomic.AtomicInteger;
 @Profile("prod") // 운영 환경에서만 실행
 public class TtsPreloadService {
 
-    private final TtsCacheService ttsCacheService;
+    private final TtsAudioStore ttsAudioStore;
     private final TtsService ttsService;
+    private final TtsWarmSet ttsWarmSet;
+
+    /** 동시 합성 수 */
+    @Value("${tts.preload.parallelism:4}")
+    private int parallelism;
+
+    /** 초당 최대 합성 요청 수 (TTS API 한도 보호) */
+    @Value("${tts.preload.rate-per-second:5}")
+    private double ratePerSecond;
+
+    /** warm set에서 가져올 상위 문구 수 */
+    @Value("${tts.preload.top-k:200}")
+    private int topK;
+
+    private ExecutorService executor;
+    private final AtomicBoolean preloading = new AtomicBoolean();
+    private final AtomicLong nextPermitNanos = new AtomicLong();
 
     /**
-     * 서버 시작 시 고정 응답 사전 생성
+     * 서버 시작 시 사전 생성
      * 비동기로 실행하여 서버 시작 속도에 영향 최소화
      */
     @PostConstruct
     public void preloadFixedResponses() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "tts-preload-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
         // 비동기로 실행 (서버 시작을 블로킹하지 않음)
-        CompletableFuture.runAsync(() -> {
-            try {
-                log.info("=== TTS 고정 응답 사전 생성 시작 ===");
-                long startTime = System.currentTimeMillis();
-
-                Map<String, String> fixedResponses = getFixedResponses();
-                AtomicInteger cached = new AtomicInteger(0);
-                AtomicInteger generated = new AtomicInteger(0);
-
-                // 각 고정 응답에 대해 캐시 확인 및 생성
-                fixedResponses.forEach((text, voiceType) -> {
-                    try {
-                        // 이미 캐시에 있는지 확인
-                        if (ttsCacheService.exists(text, voiceType)) {
-                            cached.incrementAndGet();
-                            log.debug("TTS 캐시 존재: '{}'", text);
-                        } else {
-                            // 캐시에 없으면 생성 (자동으로 캐시에 저장됨)
-                            ttsService.synthesizeBytes(text, voiceType);
+        CompletableFuture.runAsync(() -> preload("시작"));
+    }
+
+    /**
+     * 빈도 상위 문구 중 캐시에 없는 것 주기적으로 생성
+     */
+    @Scheduled(fixedDelayString = "${tts.preload.interval-ms:600000}",
+            initialDelayString = "${tts.preload.interval-ms:600000}")
+    public void preloadWarmSet() {
+        preload("주기");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void preload(String trigger) {
+        if (!preloading.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long startTime = System.currentTimeMillis();
+
+            List<TtsWarmSet.Entry> candidates = getCandidates();
+            List<TtsWarmSet.Entry> missing = new ArrayList<>();
+            for (TtsWarmSet.Entry entry : candidates) {
+                // 응답 URL은 파일 저장소에서 제공하므로 DB 캐시 행이 있어도 파일이 없으면 다시 생성
+                if (!ttsAudioStore.exists(entry.text(), entry.voiceType())) {
+                    missing.add(entry);
+                }
+            }
+
+            AtomicInteger generated = new AtomicInteger(0);
+            AtomicInteger failed = new AtomicInteger(0);
+            // 빈도 높은 순으로 제출 → 스레드 풀 큐 순서대로 먼저 생성
+            List<CompletableFuture<Void>> futures = missing.stream()
+                    .map(entry -> CompletableFuture.runAsync(() -> {
+                        try {
+                            acquirePermit();
+                            ttsWarmSet.withoutRecording(() -> ttsService.synthesize(entry.text(), entry.voiceType()));
                             generated.incrementAndGet();
-                            log.info("TTS 신규 생성: '{}'", text);
+                            log.debug("TTS 신규 생성: '{}'", entry.text());
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                            log.error("TTS 사전 생성 실패: '{}' (voiceType: {})", entry.text(), entry.voiceType(), e);
                         }
-                    } catch (Exception e) {
-                        log.error("TTS 사전 생성 실패: '{}' (voiceType: {})", text, voiceType, e);
-                    }
-                });
-
-                long endTime = System.currentTimeMillis();
-                long duration = endTime - startTime;
-
-                log.info("=== TTS 고정 응답 사전 생성 완료 ===");
-                log.info("- 총 개수: {}", fixedResponses.size());
-                log.info("- 기존 캐시: {}", cached.get());
-                log.info("- 신규 생성: {}", generated.get());
-                log.info("- 소요 시간: {}ms", duration);
-                log.info("- 예상 절감: API 호출 {} → {} ({}% 감소)",
-                        fixedResponses.size(), generated.get(),
-                        (100 - (generated.get() * 100 / fixedResponses.size())));
-                log.info("====================================");
+                    }, executor))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+            log.info("TTS 사전 생성 완료 ({}): 대상 {}개, 기존 캐시 {}개, 신규 생성 {}개, 실패 {}개, 소요 시간 {}ms",
+                    trigger, candidates.size(), candidates.size() - missing.size(), generated.get(), failed.get(),
+                    System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("TTS 사전 생성 중 예외 발생", e);
+        } finally {
+            preloading.set(false);
+        }
+    }
 
-            } catch (Exception e) {
-                log.error("TTS 사전 생성 중 예외 발생", e);
+    /**
+     * 고정 응답 + warm set 상위 문구 (중복 제거, 순서 유지)
+     */
+    private List<TtsWarmSet.Entry> getCandidates() {
+        Set<String> seen = new LinkedHashSet<>();
+        List<TtsWarmSet.Entry> candidates = new ArrayList<>();
+        getFixedResponses().forEach((text, voiceType) -> {
+            if (seen.add(voiceType + "|" + text)) {
+                candidates.add(new TtsWarmSet.Entry(text, voiceType, Double.MAX_VALUE));
             }
         });
+        try {
+            for (TtsWarmSet.Entry entry : ttsWarmSet.top(topK)) {
+                if (seen.add(entry.voiceType() + "|" + entry.text())) {
+                    candidates.add(entry);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("TTS warm set 조회 실패, 고정 응답만 생성: {}", e.getMessage());
+        }
+        return candidates;
+    }
+
+    /**
+     * 초당 ratePerSecond건 간격으로 합성 시작 시점 배정
+     */
+    private void acquirePermit() throws InterruptedException {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long now = System.nanoTime();
+        long previous = nextPermitNanos.getAndAccumulate(now,
+                (next, current) -> Math.max(next, current) + intervalNanos);
+        long waitNanos = Math.max(previous, now) - now;
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
     }
 
     /**
@@ -0,0 +1,152 @@
+package com.heungbuja.voice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 자주 쓰이는 TTS 응답 문구 (warm set)
+ *
+ * TtsCacheService를 거치는 모든 합성 요청의 (음성 타입, 문구) 빈도를 메모리에 세고,
+ * 주기적으로 Redis Sorted Set에 더해 노드 간 공유 / 재시작 후에도 유지한다.
+ * 템플릿 응답("'{곡 제목}' 틀어드릴게요" 등)도 완성된 문구 그대로 집계되므로 인기 곡 안내가 상위에 오른다.
+ * 하루에 한 번 점수를 절반으로 줄여 최근 빈도가 더 크게 반영되게 하고, 추적 개수를 max-tracked로 제한한다.
+ */
+@Slf4j
+@Component
+public class TtsWarmSet {
+
+    private static final String WARM_SET_KEY = "tts:warm-set";
+    private static final String MEMBER_SEPARATOR = "|";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${tts.warm-set.max-tracked:1000}")
+    private int maxTracked;
+
+    /**
+     * 아직 Redis에 반영하지 않은 빈도
+     * 증가(merge)와 가져가기(remove)가 키 단위로 원자적이므로 flush 중에 들어온 기록도 빠지지 않는다.
+     */
+    private final Map<String, Long> pendingCounts = new ConcurrentHashMap<>();
+
+    /** 사전 생성 스레드의 합성 요청은 빈도에 넣지 않음 */
+    private final ThreadLocal<Boolean> recordingSuppressed = ThreadLocal.withInitial(() -> false);
+
+    public TtsWarmSet(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    public record Entry(String text, String voiceType, double score) {
+    }
+
+    /**
+     * 합성 요청 1회 기록
+     */
+    public void record(String text, String voiceType) {
+        if (recordingSuppressed.get() || text == null || text.isBlank()) {
+            return;
+        }
+        pendingCounts.merge(member(text, voiceType), 1L, Long::sum);
+    }
+
+    /**
+     * 빈도 기록 없이 실행 (사전 생성용)
+     */
+    public <T> T withoutRecording(Supplier<T> action) {
+        recordingSuppressed.set(true);
+        try {
+            return action.get();
+        } finally {
+            recordingSuppressed.remove();
+        }
+    }
+
+    /**
+     * 점수 높은 순 상위 k개
+     */
+    public List<Entry> top(int k) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                stringRedisTemplate.opsForZSet().reverseRangeWithScores(WARM_SET_KEY, 0, k - 1);
+        List<Entry> entries = new ArrayList<>();
+        if (tuples == null) {
+            return entries;
+        }
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            String member = tuple.getValue();
+            int separator = member == null ? -1 : member.indexOf(MEMBER_SEPARATOR);
+            if (separator < 0) {
+                continue;
+            }
+            entries.add(new Entry(member.substring(separator + 1), member.substring(0, separator),
+                    tuple.getScore() == null ? 0 : tuple.getScore()));
+        }
+        return entries;
+    }
+
+    /**
+     * 메모리 집계를 Redis에 반영
+     */
+    @Scheduled(fixedDelayString = "${tts.warm-set.flush-interval-ms:60000}")
+    public void flush() {
+        if (pendingCounts.isEmpty()) {
+            return;
+        }
+        try {
+            for (String member : pendingCounts.keySet()) {
+                Long count = pendingCounts.remove(member);
+                if (count == null) {
+                    continue;
+                }
+                try {
+                    stringRedisTemplate.opsForZSet().incrementScore(WARM_SET_KEY, member, count);
+                } catch (Exception e) {
+                    // 반영 못 한 빈도는 다음 flush에서 다시 시도
+                    pendingCounts.merge(member, count, Long::sum);
+                    throw e;
+                }
+            }
+            // 점수 낮은 항목부터 잘라 추적 개수 제한
+            stringRedisTemplate.opsForZSet().removeRange(WARM_SET_KEY, 0, -(maxTracked + 1));
+        } catch (Exception e) {
+            log.warn("TTS warm set 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 점수 감쇠 (최근 빈도 우선)
+     */
+    @Scheduled(cron = "${tts.warm-set.decay-cron:0 0 5 * * *}")
+    public void decay() {
+        try {
+            // 여러 노드 중 하루 한 번만
+            Boolean first = stringRedisTemplate.opsForValue().setIfAbsent(
+                    WARM_SET_KEY + ":decayed:" + LocalDate.now(), "1", Duration.ofDays(2));
+            if (!Boolean.TRUE.equals(first)) {
+                return;
+            }
+            stringRedisTemplate.opsForZSet().unionAndStore(WARM_SET_KEY, List.of(), WARM_SET_KEY,
+                    Aggregate.SUM, Weights.of(0.5));
+        } catch (Exception e) {
+            log.warn("TTS warm set 감쇠 실패: {}", e.getMessage());
+        }
+    }
+
+    private String member(String text, String voiceType) {
+        return (voiceType == null ? "default" : voiceType) + MEMBER_SEPARATOR + text;
+    }
+}
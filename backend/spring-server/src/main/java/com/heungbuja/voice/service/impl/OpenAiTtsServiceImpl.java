@@ -3,6 +3,7 @@ package com.heungbuja.voice.service.impl;
 import com.heungbuja.common.exception.CustomException;
 import com.heungbuja.common.exception.ErrorCode;
 import com.heungbuja.performance.annotation.MeasurePerformance;
+import com.heungbuja.voice.service.TtsAudioStore;
 import com.heungbuja.voice.service.TtsCacheService;
 import com.heungbuja.voice.service.TtsService;
 import lombok.RequiredArgsConstructor;
@@ -19,9 +20,6 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.time.Duration;
-import java.util.UUID;
 
 /**
  * OpenAI TTS API를 사용한 음성 합성 서비스
@@ -35,6 +33,7 @@ import java.util.UUID;
 public class OpenAiTtsServiceImpl implements TtsService {
 
     private final TtsCacheService ttsCacheService;
+    private final TtsAudioStore ttsAudioStore;
 
     @Value("${openai.api-key:${openai.gms.api-key:}}")
     private String apiKey;
@@ -42,94 +41,22 @@ public class OpenAiTtsServiceImpl implements TtsService {
     @Value("${openai.tts.url:${openai.gms.tts.url:https://api.openai.com/v1/audio/speech}}")
     private String ttsApiUrl;
 
-    @Value("${tts.storage.path:./tts-files}")
-    private String storagePath;
-
-    private final HttpClient httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(30))
-            .build();
+    /** 공용 OpenAI HttpClient (HttpClientConfig, 커넥션 재사용) */
+    private final HttpClient httpClient;
 
+    /**
+     * 내용 주소 방식으로 저장 (같은 문구는 같은 파일 ID, 이미 있으면 재사용)
+     */
     @Override
     public String synthesize(String text, String voiceType) {
         log.info("OpenAI TTS 시작: text='{}', voiceType='{}'", text, voiceType);
-
-        try {
-            long startTime = System.currentTimeMillis();
-
-            // 저장 디렉토리 생성
-            Path storageDir = Paths.get(storagePath);
-            if (!Files.exists(storageDir)) {
-                Files.createDirectories(storageDir);
-            }
-
-            // 음성 타입 매핑 (urgent → alloy, default → nova 등)
-            String voice = mapVoiceType(voiceType);
-
-            // JSON 요청 본문 생성 (제어 문자 이스케이프)
-            String escapedText = escapeJson(text);
-            String requestBody = String.format(
-                    "{\"model\":\"gpt-4o-mini-tts\",\"input\":\"%s\",\"voice\":\"%s\",\"response_format\":\"mp3\"}",
-                    escapedText, voice
-            );
-
-            // HTTP 요청 생성
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(ttsApiUrl))
-                    .header("Content-Type", "application/json")
-                    .header("Authorization", "Bearer " + apiKey)
-                    .header("User-Agent", "HeungbujaApp/1.0")
-                    .header("Accept", "*/*")
-                    .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                    .build();
-
-            // API 호출
-            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
-
-            long endTime = System.currentTimeMillis();
-            log.info("OpenAI TTS 완료: 소요 시간={}ms, Status Code={}",
-                    endTime - startTime, response.statusCode());
-
-            if (response.statusCode() == 200 && response.body() != null) {
-                // 파일 저장
-                String fileId = UUID.randomUUID().toString();
-                String fileName = fileId + ".mp3";
-                Path filePath = storageDir.resolve(fileName);
-
-                Files.write(filePath, response.body());
-
-                log.info("TTS 파일 저장 완료: fileId={}, 크기={} bytes",
-                        fileId, response.body().length);
-
-                return fileId;
-            } else {
-                String errorBody = new String(response.body());
-                log.error("TTS API 응답 오류: Status={}, Body={}", response.statusCode(), errorBody);
-                throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR,
-                        "TTS API 응답 오류: " + response.statusCode());
-            }
-
-        } catch (CustomException e) {
-            throw e;
-        } catch (IOException e) {
-            log.error("TTS API 네트워크 에러", e);
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR,
-                    "음성 합성 네트워크 오류: " + e.getMessage());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("TTS API 호출 중단", e);
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR,
-                    "음성 합성 호출이 중단되었습니다");
-        } catch (Exception e) {
-            log.error("OpenAI TTS 실패", e);
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR,
-                    "음성 합성에 실패했습니다: " + e.getMessage());
-        }
+        return ttsAudioStore.store(text, voiceType, () -> synthesizeBytes(text, voiceType));
     }
 
     @Override
     public byte[] getAudioFile(String fileId) {
         try {
-            Path filePath = Paths.get(storagePath, fileId + ".mp3");
+            Path filePath = ttsAudioStore.path(fileId);
 
             if (!Files.exists(filePath)) {
                 throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
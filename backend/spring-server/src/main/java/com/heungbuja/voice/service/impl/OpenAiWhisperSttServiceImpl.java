@@ -3,6 +3,7 @@ package com.heungbuja.voice.service.impl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.heungbuja.common.exception.CustomException;
 import com.heungbuja.common.exception.ErrorCode;
+import com.heungbuja.common.util.MultipartBodyPublisher;
 import com.heungbuja.performance.annotation.MeasurePerformance;
 import com.heungbuja.voice.service.SttService;
 import lombok.extern.slf4j.Slf4j;
@@ -12,15 +13,14 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * OpenAI Whisper API를 사용한 STT 서비스 구현
@@ -41,10 +41,8 @@ public class OpenAiWhisperSttServiceImpl implements SttService {
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
 
-    public OpenAiWhisperSttServiceImpl() {
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(30))
-                .build();
+    public OpenAiWhisperSttServiceImpl(HttpClient openAiHttpClient) {
+        this.httpClient = openAiHttpClient;  // 공용 클라이언트 (커넥션 재사용)
         this.objectMapper = new ObjectMapper();
     }
 
@@ -62,37 +60,14 @@ public class OpenAiWhisperSttServiceImpl implements SttService {
         try {
             long startTime = System.currentTimeMillis();
 
-            // Multipart boundary 생성
-            String boundary = "----WebKitFormBoundary" + System.currentTimeMillis();
-            byte[] multipartBody = buildMultipartBody(audioFile, boundary);
-
-            // HTTP 요청 생성
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(sttApiUrl))
-                    .header("Content-Type", "multipart/form-data; boundary=" + boundary)
-                    .header("Authorization", "Bearer " + apiKey)
-                    .header("User-Agent", "HeungbujaApp/1.0")
-                    .header("Accept", "*/*")
-                    .POST(HttpRequest.BodyPublishers.ofByteArray(multipartBody))
-                    .build();
-
             // API 호출
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(buildRequest(audioFile), HttpResponse.BodyHandlers.ofString());
 
             long endTime = System.currentTimeMillis();
             log.info("OpenAI Whisper STT 완료: 소요 시간={}ms, Status Code={}",
                     endTime - startTime, response.statusCode());
 
-            if (response.statusCode() == 200) {
-                Map<String, Object> responseBody = objectMapper.readValue(response.body(), Map.class);
-                String text = (String) responseBody.get("text");
-                log.info("STT 결과: '{}'", text);
-                return text.trim();
-            } else {
-                log.error("STT API 응답 오류: Status={}, Body={}", response.statusCode(), response.body());
-                throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR,
-                        "STT API 응답 오류: " + response.statusCode());
-            }
+            return parseResponse(response);
 
         } catch (CustomException e) {
             throw e;
@@ -113,33 +88,71 @@ public class OpenAiWhisperSttServiceImpl implements SttService {
     }
 
     /**
-     * Multipart/form-data 본문 생성
+     * 비동기 STT (HttpClient.sendAsync)
+     * 호출 스레드를 막지 않으며, 응답 처리는 공용 HttpClient executor에서 수행된다.
+     * MultipartFile은 요청이 끝나면 정리되므로 요청 처리 중에 완료를 기다려야 한다.
      */
-    private byte[] buildMultipartBody(MultipartFile audioFile, String boundary) throws IOException {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        String CRLF = "\r\n";
-
-        // 파일 파트
-        outputStream.write(("--" + boundary + CRLF).getBytes(StandardCharsets.UTF_8));
-        outputStream.write(("Content-Disposition: form-data; name=\"file\"; filename=\"" +
-                audioFile.getOriginalFilename() + "\"" + CRLF).getBytes(StandardCharsets.UTF_8));
-        outputStream.write(("Content-Type: " + audioFile.getContentType() + CRLF + CRLF).getBytes(StandardCharsets.UTF_8));
-        outputStream.write(audioFile.getBytes());
-        outputStream.write(CRLF.getBytes(StandardCharsets.UTF_8));
-
-        // model 파트
-        outputStream.write(("--" + boundary + CRLF).getBytes(StandardCharsets.UTF_8));
-        outputStream.write(("Content-Disposition: form-data; name=\"model\"" + CRLF + CRLF).getBytes(StandardCharsets.UTF_8));
-        outputStream.write(("whisper-1" + CRLF).getBytes(StandardCharsets.UTF_8));
-
-        // language 파트
-        outputStream.write(("--" + boundary + CRLF).getBytes(StandardCharsets.UTF_8));
-        outputStream.write(("Content-Disposition: form-data; name=\"language\"" + CRLF + CRLF).getBytes(StandardCharsets.UTF_8));
-        outputStream.write(("ko" + CRLF).getBytes(StandardCharsets.UTF_8));
-
-        // 종료 boundary
-        outputStream.write(("--" + boundary + "--" + CRLF).getBytes(StandardCharsets.UTF_8));
-
-        return outputStream.toByteArray();
+    @Override
+    public CompletableFuture<String> transcribeAsync(MultipartFile audioFile) {
+        if (!isSupportedFormat(audioFile)) {
+            return CompletableFuture.failedFuture(new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                    "지원하지 않는 오디오 포맷입니다"));
+        }
+
+        log.info("OpenAI Whisper STT 시작 (비동기): 파일명={}, 크기={} bytes",
+                audioFile.getOriginalFilename(), audioFile.getSize());
+        long startTime = System.currentTimeMillis();
+
+        return httpClient.sendAsync(buildRequest(audioFile), HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    log.info("OpenAI Whisper STT 완료 (비동기): 소요 시간={}ms, Status Code={}",
+                            System.currentTimeMillis() - startTime, response.statusCode());
+                    try {
+                        return parseResponse(response);
+                    } catch (IOException e) {
+                        throw new CompletionException(new CustomException(ErrorCode.INTERNAL_SERVER_ERROR,
+                                "음성 인식 응답 파싱 오류: " + e.getMessage()));
+                    }
+                });
+    }
+
+    /**
+     * STT 요청 생성 (multipart 본문은 전송 시점에 스트리밍)
+     */
+    private HttpRequest buildRequest(MultipartFile audioFile) {
+        // Multipart boundary 생성
+        String boundary = "----WebKitFormBoundary" + System.currentTimeMillis();
+
+        // 파일 파트는 InputStream을 그대로 연결 (byte[] 복사 없음)
+        MultipartBodyPublisher multipart = new MultipartBodyPublisher(boundary)
+                .addFile("file", audioFile.getOriginalFilename(), audioFile.getContentType(),
+                        audioFile.getSize(), audioFile::getInputStream)
+                .addText("model", "whisper-1")
+                .addText("language", "ko");
+
+        return HttpRequest.newBuilder()
+                .uri(URI.create(sttApiUrl))
+                .header("Content-Type", multipart.getContentType())
+                .header("Authorization", "Bearer " + apiKey)
+                .header("User-Agent", "HeungbujaApp/1.0")
+                .header("Accept", "*/*")
+                .POST(multipart.build())
+                .build();
+    }
+
+    /**
+     * STT 응답에서 텍스트 추출
+     */
+    private String parseResponse(HttpResponse<String> response) throws IOException {
+        if (response.statusCode() == 200) {
+            Map<String, Object> responseBody = objectMapper.readValue(response.body(), Map.class);
+            String text = (String) responseBody.get("text");
+            log.info("STT 결과: '{}'", text);
+            return text.trim();
+        }
+
+        log.error("STT API 응답 오류: Status={}, Body={}", response.statusCode(), response.body());
+        throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR,
+                "STT API 응답 오류: " + response.statusCode());
     }
 }
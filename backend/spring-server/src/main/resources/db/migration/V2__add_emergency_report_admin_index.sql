@@ -0,0 +1,24 @@
+-- 응급 신고 관리자별 조회 인덱스
+-- 관리자 대시보드의 신고 목록을 (status, admin_id, reported_at) 인덱스로 조회하기 위해
+-- users.admin_id 를 emergency_reports 에 비정규화한다.
+
+ALTER TABLE emergency_reports
+    ADD COLUMN admin_id BIGINT NULL COMMENT '담당 관리자 ID (users.admin_id 복사)';
+
+-- 기존 신고 채우기
+UPDATE emergency_reports r
+    JOIN users u ON u.id = r.user_id
+SET r.admin_id = u.admin_id
+WHERE r.admin_id IS NULL;
+
+CREATE INDEX idx_status_admin_reported
+    ON emergency_reports (status, admin_id, reported_at);
+
+-- 관리자 목록 조회 예시 (참고용, 키셋 페이지네이션)
+-- SELECT * FROM emergency_reports
+-- WHERE status IN ('CONFIRMED', 'RESOLVED', 'FALSE_ALARM')
+--   AND admin_id = ?
+--   AND reported_at >= ?
+--   AND (reported_at < ? OR (reported_at = ? AND id < ?))
+-- ORDER BY reported_at DESC, id DESC
+-- LIMIT 100;
@@ -0,0 +1,22 @@
+-- 사용자 활동 통계 버킷 (시간별 / 일별)
+-- 관리자 활동 통계를 원본 로그 GROUP BY 대신 버킷 합산으로 조회한다.
+-- ActivityEventBus가 로그 저장과 같은 트랜잭션에서 증분 upsert 하고,
+-- ActivityStatBucketService 재집계 작업이 지난 날짜를 원본 로그로 다시 채운다.
+
+CREATE TABLE IF NOT EXISTS user_activity_stat_buckets (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT 'PK',
+    granularity VARCHAR(10) NOT NULL COMMENT '버킷 단위 (HOUR, DAY)',
+    bucket_start DATETIME NOT NULL COMMENT '버킷 시작 시각',
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    activity_type VARCHAR(30) NOT NULL COMMENT '활동 타입',
+    activity_count BIGINT NOT NULL DEFAULT 0 COMMENT '활동 수',
+
+    UNIQUE KEY uk_bucket (granularity, bucket_start, user_id, activity_type),
+    INDEX idx_user_bucket (user_id, granularity, bucket_start)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자 활동 통계 버킷';
+
+-- 기존 로그로 채우기 (애플리케이션 시작 시 버킷이 비어 있으면 자동으로 수행됨)
+-- INSERT INTO user_activity_stat_buckets (granularity, bucket_start, user_id, activity_type, activity_count)
+-- SELECT 'DAY', DATE(created_at), user_id, activity_type, COUNT(*)
+-- FROM user_activity_logs
+-- GROUP BY DATE(created_at), user_id, activity_type;
@@ -0,0 +1,6 @@
+-- 보존 정책 정리용 인덱스
+-- RetentionService가 기준 시각 이전 최대 id를 created_at 인덱스로 찾은 뒤 id 범위 청크로 삭제한다.
+-- (performance_logs, user_activity_logs는 idx_created_at이 이미 있음)
+
+CREATE INDEX idx_created_at
+    ON voice_commands (created_at);
@@ -0,0 +1,11 @@
+-- 응급 신고 목록 인덱스 재구성
+-- 관리자 목록은 admin_id = ? AND status IN (...) ORDER BY reported_at 형태이므로
+-- 등호 조건인 admin_id를 앞에 두고, 슈퍼관리자 목록(status IN (...) ORDER BY reported_at)은 별도 인덱스를 쓴다.
+
+DROP INDEX idx_status_admin_reported ON emergency_reports;
+
+CREATE INDEX idx_admin_status_reported
+    ON emergency_reports (admin_id, status, reported_at);
+
+CREATE INDEX idx_status_reported
+    ON emergency_reports (status, reported_at);
@@ -0,0 +1,6 @@
+-- 곡 대량 가져오기 재개용 인덱스
+-- SongBulkImportService가 배치 등록 전에 곡별 고정 S3 키로 이미 등록된 곡을 찾는다.
+-- (커밋 후 체크포인트 기록 전에 중단된 곡을 다시 등록하지 않도록)
+
+CREATE INDEX idx_s3_key
+    ON media (s3_key);
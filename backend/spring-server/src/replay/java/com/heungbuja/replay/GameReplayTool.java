@@ -0,0 +1,305 @@
+package com.heungbuja.replay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heungbuja.game.replay.GameSessionLog;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import org.springframework.messaging.converter.SimpleMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import javax.management.MBeanServerConnection;
+import javax.management.ObjectName;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+import java.io.InputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 WebSocket 세션 재생 도구
+ *
+ * 기록 파일(GameSessionLog)을 N개 가상 클라이언트로 로컬 서버에 다시 보내 부하를 재현한다.
+ * 실행: ./gradlew replayGameSession -PreplayArgs="--log=... --clients=20 --speed=2"
+ *
+ * 서버는 motion-server/GPT 대신 이 도구가 띄우는 스텁을 보도록 실행해야 한다.
+ *   --ai.server.base-url=http://localhost:{stub-port} --gpt.api.url=http://localhost:{stub-port}/v1/chat/completions
+ *
+ * 옵션
+ *   --log          기록 파일 (기본: 샘플 기록)
+ *   --server       서버 주소 (기본 http://localhost:8080/api)
+ *   --clients      가상 클라이언트 수 (기본 1)
+ *   --speed        재생 배속 (기본 1.0)
+ *   --user-id      게임 시작에 쓸 사용자 ID (기본 1)
+ *   --song-id      곡 ID (기본: 기록 헤더의 songId)
+ *   --stub-port    스텁 포트 (기본 18000, 0이면 스텁 미사용)
+ *   --stub-latency-ms  스텁 응답 지연 (기본 50)
+ *   --redis        Redis URI (기본 redis://localhost:6379, none이면 측정 생략)
+ *   --jmx          서버 JMX 주소 host:port (지정 시 서버 GC 측정)
+ */
+public class GameReplayTool {
+
+    private static final String SAMPLE_RECORDING = "/replay/sample-session.hgr";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    public static void main(String[] args) throws Exception {
+        new GameReplayTool().run(parseArgs(args));
+    }
+
+    private void run(Map<String, String> options) throws Exception {
+        String server = options.getOrDefault("server", "http://localhost:8080/api");
+        int clients = Integer.parseInt(options.getOrDefault("clients", "1"));
+        double speed = Double.parseDouble(options.getOrDefault("speed", "1.0"));
+        long userId = Long.parseLong(options.getOrDefault("user-id", "1"));
+        int stubPort = Integer.parseInt(options.getOrDefault("stub-port", "18000"));
+        long stubLatency = Long.parseLong(options.getOrDefault("stub-latency-ms", "50"));
+        String redisUri = options.getOrDefault("redis", "redis://localhost:6379");
+
+        GameSessionLog.Recording recording = loadRecording(options.get("log"));
+        long songId = options.containsKey("song-id")
+                ? Long.parseLong(options.get("song-id"))
+                : recording.header().songId();
+        System.out.printf("기록 로드: 메시지 %d개, 길이 %.1f초, songId=%d%n", recording.entries().size(),
+                recording.entries().isEmpty() ? 0.0 : recording.entries().get(recording.entries().size() - 1).offsetMillis() / 1000.0,
+                songId);
+
+        StubServer stubServer = null;
+        if (stubPort > 0) {
+            stubServer = new StubServer(stubPort, stubLatency);
+            stubServer.start();
+            System.out.printf("스텁 시작: http://localhost:%d (지연 %dms)%n", stubPort, stubLatency);
+        }
+
+        WebSocketStompClient stompClient = createStompClient();
+        ReplayMetrics metrics = new ReplayMetrics();
+        String wsUrl = server + "/ws";
+
+        // 클라이언트마다 새 게임 세션 시작
+        List<ReplayClient> replayClients = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            JsonNode game = startGame(server, userId, songId);
+            replayClients.add(new ReplayClient(stompClient, wsUrl, recording,
+                    game.path("sessionId").asText(), game.path("bpm").asDouble(), speed, metrics));
+        }
+
+        ServerProbe probe = new ServerProbe(redisUri, options.get("jmx"));
+        probe.start();
+        long startNanos = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        replayClients.forEach(executor::submit);
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.DAYS);
+
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        probe.stop();
+        stompClient.stop();
+        if (stubServer != null) {
+            stubServer.stop();
+        }
+
+        report(clients, speed, elapsedSeconds, metrics, probe);
+    }
+
+    private GameSessionLog.Recording loadRecording(String location) throws Exception {
+        if (location == null) {
+            try (InputStream inputStream = GameReplayTool.class.getResourceAsStream(SAMPLE_RECORDING)) {
+                if (inputStream == null) {
+                    throw new IllegalStateException("샘플 기록이 없습니다: " + SAMPLE_RECORDING);
+                }
+                return GameSessionLog.read(inputStream);
+            }
+        }
+        Path path = Paths.get(location);
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return GameSessionLog.read(inputStream);
+        }
+    }
+
+    private WebSocketStompClient createStompClient() {
+        SockJsClient sockJsClient = new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient())));
+        WebSocketStompClient stompClient = new WebSocketStompClient(sockJsClient);
+        // 기록된 JSON 바이트를 그대로 전송
+        stompClient.setMessageConverter(new SimpleMessageConverter());
+        stompClient.setInboundMessageSizeLimit(20 * 1024 * 1024);
+
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("replay-heartbeat-");
+        scheduler.initialize();
+        stompClient.setTaskScheduler(scheduler);
+        return stompClient;
+    }
+
+    private JsonNode startGame(String server, long userId, long songId) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of("userId", userId, "songId", songId));
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(server + "/game/start"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("게임 시작 실패 (" + response.statusCode() + "): " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private void report(int clients, double speed, double elapsedSeconds, ReplayMetrics metrics, ServerProbe probe) {
+        System.out.println("================================================================================");
+        System.out.printf("재생 결과: 클라이언트 %d개, %.1f배속, %.1f초%n", clients, speed, elapsedSeconds);
+        System.out.printf("  프레임: %d개, %.1f frames/s, %.1f KB/s%n", metrics.getFrames(),
+                metrics.getFrames() / elapsedSeconds, metrics.getFrameBytes() / 1024.0 / elapsedSeconds);
+        System.out.printf("  판정 지연: %d건, p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms%n",
+                metrics.getJudgmentCount(),
+                metrics.judgmentLatencyMillis(50), metrics.judgmentLatencyMillis(90),
+                metrics.judgmentLatencyMillis(99), metrics.judgmentLatencyMillis(100));
+        System.out.println("  Redis: " + (probe.redisCommands() >= 0
+                ? String.format("%.1f ops/s (%d commands)", probe.redisCommands() / elapsedSeconds, probe.redisCommands())
+                : "측정 안 함"));
+        System.out.println("  서버 GC: " + (probe.gcCount() >= 0
+                ? String.format("%d회, 총 %dms (%.1fms/s)", probe.gcCount(), probe.gcMillis(), probe.gcMillis() / elapsedSeconds)
+                : "측정 안 함 (--jmx 지정 필요)"));
+        metrics.getErrors().forEach((message, count) -> System.out.printf("  오류: %s (%d회)%n", message, count.sum()));
+        System.out.println("================================================================================");
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    /**
+     * 서버 측 지표 (재생 전후 차이)
+     * - Redis: INFO stats의 total_commands_processed
+     * - GC: 서버 JMX의 GarbageCollector 누적 횟수/시간
+     */
+    private static class ServerProbe {
+
+        private final String redisUri;
+        private final String jmxAddress;
+
+        private long redisStart = -1;
+        private long redisCommands = -1;
+        private long gcCountStart;
+        private long gcMillisStart;
+        private long gcCount = -1;
+        private long gcMillis = -1;
+
+        ServerProbe(String redisUri, String jmxAddress) {
+            this.redisUri = redisUri;
+            this.jmxAddress = jmxAddress;
+        }
+
+        void start() {
+            redisStart = readRedisCommands();
+            long[] gc = readGc();
+            if (gc != null) {
+                gcCountStart = gc[0];
+                gcMillisStart = gc[1];
+            }
+        }
+
+        void stop() {
+            long redisEnd = readRedisCommands();
+            if (redisStart >= 0 && redisEnd >= 0) {
+                redisCommands = redisEnd - redisStart;
+            }
+            long[] gc = readGc();
+            if (gc != null) {
+                gcCount = gc[0] - gcCountStart;
+                gcMillis = gc[1] - gcMillisStart;
+            }
+        }
+
+        long redisCommands() {
+            return redisCommands;
+        }
+
+        long gcCount() {
+            return gcCount;
+        }
+
+        long gcMillis() {
+            return gcMillis;
+        }
+
+        private long readRedisCommands() {
+            if ("none".equals(redisUri)) {
+                return -1;
+            }
+            RedisClient client = RedisClient.create(redisUri);
+            try (StatefulRedisConnection<String, String> connection = client.connect()) {
+                for (String line : connection.sync().info("stats").split("\r?\n")) {
+                    if (line.startsWith("total_commands_processed:")) {
+                        return Long.parseLong(line.substring(line.indexOf(':') + 1).trim());
+                    }
+                }
+            } catch (Exception e) {
+                System.out.println("Redis 지표 조회 실패: " + e.getMessage());
+            } finally {
+                client.shutdown();
+            }
+            return -1;
+        }
+
+        private long[] readGc() {
+            if (jmxAddress == null) {
+                return null;
+            }
+            JMXServiceURL url;
+            try {
+                url = new JMXServiceURL("service:jmx:rmi:///jndi/rmi://" + jmxAddress + "/jmxrmi");
+            } catch (Exception e) {
+                System.out.println("JMX 주소 오류: " + e.getMessage());
+                return null;
+            }
+            try (JMXConnector connector = JMXConnectorFactory.connect(url)) {
+                MBeanServerConnection connection = connector.getMBeanServerConnection();
+                long count = 0;
+                long millis = 0;
+                for (ObjectName name : connection.queryNames(
+                        new ObjectName(ManagementFactory.GARBAGE_COLLECTOR_MXBEAN_DOMAIN_TYPE + ",*"), null)) {
+                    GarbageCollectorMXBean gc = ManagementFactory.newPlatformMXBeanProxy(
+                            connection, name.getCanonicalName(), GarbageCollectorMXBean.class);
+                    count += Math.max(0, gc.getCollectionCount());
+                    millis += Math.max(0, gc.getCollectionTime());
+                }
+                return new long[]{count, millis};
+            } catch (Exception e) {
+                System.out.println("서버 GC 지표 조회 실패: " + e.getMessage());
+                return null;
+            }
+        }
+    }
+}
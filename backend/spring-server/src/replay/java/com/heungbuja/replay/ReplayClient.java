@@ -0,0 +1,189 @@
+package com.heungbuja.replay;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heungbuja.game.replay.GameSessionLog;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가상 클라이언트 하나: 기록된 메시지를 원래 간격(÷ speed)대로 새 게임 세션에 다시 보낸다.
+ *
+ * 판정 지연 = 판정 트리거 프레임(수집 구간 종료 직후 첫 프레임) 전송 → FEEDBACK 수신
+ */
+class ReplayClient implements Runnable {
+
+    private static final double NETWORK_LATENCY_OFFSET_SECONDS = 0.2;
+
+    private final WebSocketStompClient stompClient;
+    private final String wsUrl;
+    private final GameSessionLog.Recording recording;
+    private final String gameSessionId;
+    private final double bpm;
+    private final double speed;
+    private final ReplayMetrics metrics;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonFactory jsonFactory = objectMapper.getFactory();
+
+    /** 보낸 프레임 (재생 시간, 전송 시각) */
+    private final List<double[]> sentFrames = new ArrayList<>();
+
+    ReplayClient(WebSocketStompClient stompClient, String wsUrl, GameSessionLog.Recording recording,
+                 String gameSessionId, double bpm, double speed, ReplayMetrics metrics) {
+        this.stompClient = stompClient;
+        this.wsUrl = wsUrl;
+        this.recording = recording;
+        this.gameSessionId = gameSessionId;
+        this.bpm = bpm > 0 ? bpm : 100.0;
+        this.speed = speed;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void run() {
+        StompSession session;
+        try {
+            session = stompClient.connectAsync(wsUrl, new StompSessionHandlerAdapter() {
+            }).get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            metrics.recordError("연결 실패: " + e.getMessage());
+            return;
+        }
+
+        session.subscribe("/topic/game/" + gameSessionId, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                onBroadcast((byte[]) payload);
+            }
+        });
+
+        byte[] originalId = recording.header().gameSessionId().getBytes(StandardCharsets.UTF_8);
+        byte[] replayId = gameSessionId.getBytes(StandardCharsets.UTF_8);
+        long startNanos = System.nanoTime();
+
+        for (GameSessionLog.Entry entry : recording.entries()) {
+            long dueNanos = startNanos + (long) (entry.offsetMillis() / speed * 1_000_000);
+            long waitNanos = dueNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+
+            byte[] payload = replaceFirst(entry.payload(), originalId, replayId);
+            StompHeaders headers = new StompHeaders();
+            headers.setDestination(entry.destination());
+            if (payload.length > 0) {
+                headers.set(StompHeaders.CONTENT_TYPE, "application/json");
+            }
+            try {
+                session.send(headers, payload);
+            } catch (Exception e) {
+                metrics.recordError("전송 실패: " + e.getMessage());
+                continue;
+            }
+
+            if (!entry.destination().endsWith("/ping")) {
+                metrics.recordFrame(payload.length);
+                Double playTime = readPlayTime(payload);
+                if (playTime != null) {
+                    synchronized (sentFrames) {
+                        sentFrames.add(new double[]{playTime, System.nanoTime()});
+                    }
+                }
+            }
+        }
+
+        // 마지막 판정 응답 대기
+        try {
+            Thread.sleep(2000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        session.disconnect();
+    }
+
+    private void onBroadcast(byte[] payload) {
+        long receivedNanos = System.nanoTime();
+        try {
+            JsonNode message = objectMapper.readTree(payload);
+            if (!"FEEDBACK".equals(message.path("type").asText())) {
+                return;
+            }
+            double actionTime = message.path("data").path("timestamp").asDouble();
+            double triggerTime = actionTime - NETWORK_LATENCY_OFFSET_SECONDS + 60.0 / bpm;
+
+            synchronized (sentFrames) {
+                for (double[] frame : sentFrames) {
+                    if (frame[0] > triggerTime) {
+                        metrics.recordJudgmentLatency(receivedNanos - (long) frame[1]);
+                        return;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            metrics.recordError("브로드캐스트 파싱 실패: " + e.getMessage());
+        }
+    }
+
+    private Double readPlayTime(byte[] payload) {
+        try (JsonParser parser = jsonFactory.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("currentPlayTime".equals(field) && value.isNumeric()) {
+                    return parser.getDoubleValue();
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException ignored) {
+            // 재생 시간이 없는 메시지는 지연 측정에서 제외
+        }
+        return null;
+    }
+
+    /**
+     * payload의 첫 번째 원래 세션 ID를 새 세션 ID로 교체
+     */
+    static byte[] replaceFirst(byte[] payload, byte[] from, byte[] to) {
+        outer:
+        for (int i = 0; i + from.length <= payload.length; i++) {
+            for (int j = 0; j < from.length; j++) {
+                if (payload[i + j] != from[j]) {
+                    continue outer;
+                }
+            }
+            byte[] replaced = new byte[payload.length - from.length + to.length];
+            System.arraycopy(payload, 0, replaced, 0, i);
+            System.arraycopy(to, 0, replaced, i, to.length);
+            System.arraycopy(payload, i + from.length, replaced, i + to.length, payload.length - i - from.length);
+            return replaced;
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,64 @@
+package com.heungbuja.replay;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 재생 중 수집하는 지표 (여러 가상 클라이언트가 동시에 기록)
+ */
+class ReplayMetrics {
+
+    private final LongAdder frames = new LongAdder();
+    private final LongAdder frameBytes = new LongAdder();
+    private final List<Long> judgmentLatencies = Collections.synchronizedList(new ArrayList<>());
+    private final ConcurrentHashMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void recordFrame(int bytes) {
+        frames.increment();
+        frameBytes.add(bytes);
+    }
+
+    void recordJudgmentLatency(long nanos) {
+        judgmentLatencies.add(nanos);
+    }
+
+    void recordError(String message) {
+        errors.computeIfAbsent(message, key -> new LongAdder()).increment();
+    }
+
+    long getFrames() {
+        return frames.sum();
+    }
+
+    long getFrameBytes() {
+        return frameBytes.sum();
+    }
+
+    int getJudgmentCount() {
+        return judgmentLatencies.size();
+    }
+
+    /**
+     * @param percentile 0~100
+     * @return 판정 지연 (ms), 기록이 없으면 NaN
+     */
+    double judgmentLatencyMillis(double percentile) {
+        List<Long> sorted;
+        synchronized (judgmentLatencies) {
+            sorted = new ArrayList<>(judgmentLatencies);
+        }
+        if (sorted.isEmpty()) {
+            return Double.NaN;
+        }
+        Collections.sort(sorted);
+        int index = (int) Math.min(sorted.size() - 1, Math.ceil(percentile / 100.0 * sorted.size()) - 1);
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    ConcurrentHashMap<String, LongAdder> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,88 @@
+package com.heungbuja.replay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * motion-server / GPT 대체 로컬 스텁
+ *
+ * - POST /api/ai/brandnew/analyze, /api/ai/brandnew/analyze-pose: 요청한 actionCode로 PERFECT 판정
+ * - POST /v1/chat/completions: tool 호출 없는 고정 응답
+ *
+ * 응답 전 latencyMillis만큼 대기하여 실제 추론 지연을 흉내 낸다.
+ */
+class StubServer {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long latencyMillis;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(32);
+
+    StubServer(int port, long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/api/ai/brandnew/analyze", this::handleJudgment);
+        server.createContext("/api/ai/brandnew/analyze-pose", this::handleJudgment);
+        server.createContext("/v1/chat/completions", this::handleChat);
+        server.setExecutor(executor);
+    }
+
+    void start() {
+        server.start();
+    }
+
+    void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleJudgment(HttpExchange exchange) throws IOException {
+        int actionCode = 0;
+        try (InputStream body = exchange.getRequestBody()) {
+            JsonNode request = objectMapper.readTree(body);
+            if (request != null && request.has("actionCode")) {
+                actionCode = request.get("actionCode").asInt();
+            }
+        }
+        delay();
+        respond(exchange, "{\"actionCode\":" + actionCode + ",\"judgment\":3,\"predictedLabel\":\"stub\","
+                + "\"confidence\":1.0,\"targetProbability\":1.0}");
+    }
+
+    private void handleChat(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        delay();
+        respond(exchange, "{\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\",\"content\":\"{}\"},"
+                + "\"finish_reason\":\"stop\"}]}");
+    }
+
+    private void delay() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void respond(HttpExchange exchange, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
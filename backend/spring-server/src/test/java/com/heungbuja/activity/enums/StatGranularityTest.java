@@ -0,0 +1,31 @@
+package com.heungbuja.activity.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatGranularityTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2025, 3, 9, 14, 25, 30);
+
+    @Test
+    @DisplayName("truncate는 시각이 속한 버킷의 시작 시각을 돌려준다.")
+    void truncate() {
+        assertThat(StatGranularity.HOUR.truncate(TIME)).isEqualTo(LocalDateTime.of(2025, 3, 9, 14, 0));
+        assertThat(StatGranularity.DAY.truncate(TIME)).isEqualTo(LocalDateTime.of(2025, 3, 9, 0, 0));
+    }
+
+    @Test
+    @DisplayName("ceil은 다음 버킷 경계를 돌려주고, 경계 위의 시각은 그대로 둔다.")
+    void ceil() {
+        assertThat(StatGranularity.HOUR.ceil(TIME)).isEqualTo(LocalDateTime.of(2025, 3, 9, 15, 0));
+        assertThat(StatGranularity.DAY.ceil(TIME)).isEqualTo(LocalDateTime.of(2025, 3, 10, 0, 0));
+
+        LocalDateTime boundary = LocalDateTime.of(2025, 3, 9, 0, 0);
+        assertThat(StatGranularity.HOUR.ceil(boundary)).isEqualTo(boundary);
+        assertThat(StatGranularity.DAY.ceil(boundary)).isEqualTo(boundary);
+    }
+}
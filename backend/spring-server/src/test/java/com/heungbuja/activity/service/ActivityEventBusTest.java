@@ -0,0 +1,108 @@
+package com.heungbuja.activity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heungbuja.activity.service.ActivityEventBus.ActivityEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * spill 파일 복구 시 batch 실패 처리 (불량 행 → dead-letter, 일시 오류 → 다시 spill)
+ */
+class ActivityEventBusTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    /** 저장에 성공한 활동 요약 */
+    private final List<String> savedSummaries = new ArrayList<>();
+
+    private Path spillFile;
+    private Path deadLetterFile;
+    private ActivityEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        spillFile = tempDir.resolve("activity-spill.jsonl");
+        deadLetterFile = tempDir.resolve("activity-dead-letter.jsonl");
+
+        bus = new ActivityEventBus(jdbcTemplate, objectMapper,
+                mock(ActivityStatBucketService.class), mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(bus, "enabled", false);
+        ReflectionTestUtils.setField(bus, "batchSize", 200);
+        ReflectionTestUtils.setField(bus, "spillPath", spillFile.toString());
+        ReflectionTestUtils.setField(bus, "deadLetterPath", deadLetterFile.toString());
+    }
+
+    @Test
+    @DisplayName("제약 위반 행이 섞인 batch는 한 건씩 저장하고 실패한 행만 dead-letter에 남긴다.")
+    void isolatesPoisonRows() throws Exception {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            if (rows.stream().anyMatch(row -> "too-long".equals(row[2]))) {
+                throw new DataIntegrityViolationException("Data too long for column 'activity_summary'");
+            }
+            rows.forEach(row -> savedSummaries.add((String) row[2]));
+            return new int[rows.size()];
+        });
+        writeSpill(event("first"), event("too-long"), event("last"));
+
+        bus.start();
+
+        assertThat(savedSummaries).containsExactly("first", "last");
+        assertThat(bus.getDeadLetterCount()).isEqualTo(1);
+        List<String> deadLetters = Files.readAllLines(deadLetterFile, StandardCharsets.UTF_8);
+        assertThat(deadLetters).hasSize(1);
+        assertThat(deadLetters.get(0)).contains("too-long", "Data too long");
+        // 복구한 spill 파일은 지우고, 불량 행을 다시 spill하지 않음
+        assertThat(spillFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("DB 일시 오류로 실패한 batch는 dead-letter가 아니라 spill 파일에 다시 기록한다.")
+    void respillsOnTransientFailure() throws Exception {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new QueryTimeoutException("Lock wait timeout exceeded"));
+        writeSpill(event("first"), event("second"));
+
+        bus.start();
+
+        assertThat(Files.readAllLines(spillFile, StandardCharsets.UTF_8)).hasSize(2);
+        assertThat(bus.getSpilledCount()).isEqualTo(2);
+        assertThat(deadLetterFile).doesNotExist();
+    }
+
+    private ActivityEvent event(String summary) {
+        return new ActivityEvent(ActivityEvent.Kind.ACTIVITY, 1L, "MUSIC_PLAY", summary, LocalDateTime.now());
+    }
+
+    private void writeSpill(ActivityEvent... events) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (ActivityEvent event : events) {
+            lines.add(objectMapper.writeValueAsString(event));
+        }
+        Files.write(spillFile, lines, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,203 @@
+package com.heungbuja.activity.service;
+
+import com.heungbuja.activity.enums.ActivityType;
+import com.heungbuja.activity.enums.StatGranularity;
+import com.heungbuja.activity.repository.ActivityStatBucketRepository;
+import com.heungbuja.activity.repository.UserActivityLogRepository;
+import com.heungbuja.activity.service.ActivityEventBus.ActivityEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ActivityStatBucketServiceTest {
+
+    private final ActivityStatBucketRepository bucketRepository = mock(ActivityStatBucketRepository.class);
+    private final UserActivityLogRepository activityLogRepository = mock(UserActivityLogRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+
+    /** 조회한 구간 ("RAW|HOUR|DAY 시작~끝") */
+    private final List<String> queried = new ArrayList<>();
+    private ActivityStatBucketService service;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOps);
+        service = new ActivityStatBucketService(bucketRepository, activityLogRepository, jdbcTemplate,
+                stringRedisTemplate, mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(service, "rebuildDays", 2);
+        ReflectionTestUtils.setField(service, "lockTtlMinutes", 10L);
+
+        when(activityLogRepository.countByActivityTypeAndDateRange(any(), any())).thenAnswer(invocation ->
+                record("RAW", invocation.getArgument(0), invocation.getArgument(1)));
+        when(bucketRepository.sumByActivityType(any(), any(), any())).thenAnswer(invocation ->
+                record(invocation.<StatGranularity>getArgument(0).name(), invocation.getArgument(1), invocation.getArgument(2)));
+    }
+
+    // ===== 조회 구간 나누기 =====
+
+    @Test
+    @DisplayName("여러 날에 걸친 기간은 경계 밖 원본 + 시간 버킷 + 일 버킷 + 시간 버킷으로 나눠 합산한다.")
+    void splitsRangeIntoRawHourAndDayBuckets() {
+        Map<ActivityType, Long> totals = service.count(null,
+                LocalDateTime.of(2025, 3, 1, 10, 30), LocalDateTime.of(2025, 3, 4, 5, 15));
+
+        assertThat(queried).containsExactly(
+                "RAW 2025-03-01T10:30~2025-03-01T11:00",
+                "RAW 2025-03-04T05:00~2025-03-04T05:15",
+                "HOUR 2025-03-01T11:00~2025-03-02T00:00",
+                "DAY 2025-03-02T00:00~2025-03-04T00:00",
+                "HOUR 2025-03-04T00:00~2025-03-04T05:00");
+        assertThat(totals).containsEntry(ActivityType.MUSIC_PLAY, 5L);
+    }
+
+    @Test
+    @DisplayName("하루 경계를 넘지 않는 기간은 시간 버킷만 사용한다.")
+    void usesHourBucketsWithinADay() {
+        service.count(null, LocalDateTime.of(2025, 3, 1, 10, 0), LocalDateTime.of(2025, 3, 1, 18, 45));
+
+        assertThat(queried).containsExactly(
+                "RAW 2025-03-01T18:00~2025-03-01T18:45",
+                "HOUR 2025-03-01T10:00~2025-03-01T18:00");
+    }
+
+    @Test
+    @DisplayName("1시간 경계를 포함하지 않는 짧은 기간은 원본 로그만 조회한다.")
+    void usesRawLogsForShortRange() {
+        service.count(null, LocalDateTime.of(2025, 3, 1, 10, 5), LocalDateTime.of(2025, 3, 1, 10, 55));
+
+        assertThat(queried).containsExactly("RAW 2025-03-01T10:05~2025-03-01T10:55");
+    }
+
+    @Test
+    @DisplayName("시작이 끝보다 늦으면 조회하지 않는다.")
+    void emptyRange() {
+        LocalDateTime time = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+        assertThat(service.count(null, time, time)).isEmpty();
+        assertThat(queried).isEmpty();
+    }
+
+    // ===== 증분 =====
+
+    @Test
+    @DisplayName("배치의 활동 로그를 시간/일 버킷별로 합산해 upsert하고, 음성 명령은 제외한다.")
+    @SuppressWarnings("unchecked")
+    void accumulatesByBucket() {
+        LocalDateTime at = LocalDateTime.of(2025, 3, 1, 10, 20);
+        service.accumulate(List.of(
+                new ActivityEvent(ActivityEvent.Kind.ACTIVITY, 1L, "MUSIC_PLAY", "a", at),
+                new ActivityEvent(ActivityEvent.Kind.ACTIVITY, 1L, "MUSIC_PLAY", "b", at.plusMinutes(30)),
+                new ActivityEvent(ActivityEvent.Kind.ACTIVITY, 1L, "MUSIC_PLAY", "c", at.plusHours(1)),
+                new ActivityEvent(ActivityEvent.Kind.VOICE_COMMAND, 1L, "SELECT_BY_ARTIST", "d", at)));
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).extracting(row -> row[0] + " " + row[1] + " " + row[4])
+                .containsExactlyInAnyOrder(
+                        "HOUR " + Timestamp.valueOf(LocalDateTime.of(2025, 3, 1, 10, 0)) + " 2",
+                        "HOUR " + Timestamp.valueOf(LocalDateTime.of(2025, 3, 1, 11, 0)) + " 1",
+                        "DAY " + Timestamp.valueOf(LocalDateTime.of(2025, 3, 1, 0, 0)) + " 3");
+    }
+
+    // ===== 재집계 / 초기 채우기 =====
+
+    @Test
+    @DisplayName("초기 채우기는 버킷이 이미 있어도 완료 표시가 없으면 지난 날짜를 모두 다시 계산하고 표시를 남긴다.")
+    void backfillsUntilMarked() {
+        when(stringRedisTemplate.hasKey(anyString())).thenReturn(false);
+        acquireLock();
+        when(jdbcTemplate.queryForObject(anyString(), eq(LocalDateTime.class)))
+                .thenReturn(LocalDate.now().minusDays(3).atTime(9, 0));
+
+        service.backfillIfEmpty();
+
+        assertThat(rebuiltDays()).isEqualTo(3);
+        verify(valueOps).set(eq("activity:stats:backfill-done"), anyString());
+        verify(stringRedisTemplate).delete("activity:stats:lock");
+    }
+
+    @Test
+    @DisplayName("완료 표시가 있으면 초기 채우기를 건너뛴다.")
+    void skipsBackfillWhenMarked() {
+        when(stringRedisTemplate.hasKey("activity:stats:backfill-done")).thenReturn(true);
+
+        service.backfillIfEmpty();
+
+        assertThat(rebuiltDays()).isZero();
+        verify(valueOps, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 잡고 있으면 재집계하지 않는다.")
+    void skipsRebuildWithoutLock() {
+        when(valueOps.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        service.rebuildRecentDays();
+
+        assertThat(rebuiltDays()).isZero();
+        verify(stringRedisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("락을 잡으면 어제부터 rebuild-days일을 재집계한다.")
+    void rebuildsRecentDaysUnderLock() {
+        acquireLock();
+
+        service.rebuildRecentDays();
+
+        assertThat(rebuiltDays()).isEqualTo(2);
+        verify(stringRedisTemplate).delete("activity:stats:lock");
+    }
+
+    /** setIfAbsent로 저장한 owner를 get이 돌려주도록 */
+    private void acquireLock() {
+        String[] owner = new String[1];
+        when(valueOps.setIfAbsent(eq("activity:stats:lock"), anyString(), any(Duration.class))).thenAnswer(invocation -> {
+            owner[0] = invocation.getArgument(1);
+            return true;
+        });
+        when(valueOps.get("activity:stats:lock")).thenAnswer(invocation -> owner[0]);
+    }
+
+    /** 하루치 재집계마다 버킷 DELETE 한 번 */
+    private long rebuiltDays() {
+        return mockingDetails(jdbcTemplate).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("update"))
+                .filter(invocation -> invocation.getArgument(0).toString().startsWith("DELETE"))
+                .count();
+    }
+
+    private List<Object[]> record(String kind, LocalDateTime start, LocalDateTime end) {
+        queried.add(kind + " " + start + "~" + end);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{ActivityType.MUSIC_PLAY, 1L});
+        return rows;
+    }
+}
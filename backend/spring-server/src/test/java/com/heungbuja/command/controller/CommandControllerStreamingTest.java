@@ -0,0 +1,121 @@
+package com.heungbuja.command.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heungbuja.command.dto.CommandResponse;
+import com.heungbuja.command.service.CommandService;
+import com.heungbuja.command.service.VoiceCommandPipeline;
+import com.heungbuja.voice.service.SttService;
+import com.heungbuja.voice.service.TtsAudioStore;
+import com.heungbuja.voice.service.TtsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * POST /commands/process-stream TTS 대기 (비동기 응답, 제한 시간 / 취소 시 텍스트 응답)
+ */
+class CommandControllerStreamingTest {
+
+    private final SttService sttService = mock(SttService.class);
+    private final VoiceCommandPipeline voiceCommandPipeline = mock(VoiceCommandPipeline.class);
+    private final MockMultipartFile audioFile =
+            new MockMultipartFile("audioFile", "voice.webm", "audio/webm", new byte[10]);
+
+    private CommandController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new CommandController(mock(CommandService.class), sttService, mock(TtsService.class),
+                mock(TtsAudioStore.class), voiceCommandPipeline, new ObjectMapper());
+        ReflectionTestUtils.setField(controller, "ttsWaitTimeoutMs", 100L);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(1L, null, List.of()));
+        when(sttService.transcribe(any())).thenReturn("노래 틀어줘");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("합성이 끝나면 MP3를 보내고 대기 시간을 헤더로 알린다.")
+    void streamsAudio() throws Exception {
+        byte[] audio = new byte[40 * 1024];
+        givenAudio(CompletableFuture.completedFuture(audio));
+
+        ResponseEntity<StreamingResponseBody> response = controller.processVoiceCommandStreaming(audioFile)
+                .get(1, TimeUnit.SECONDS);
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.parseMediaType("audio/mpeg"));
+        assertThat(response.getHeaders().getFirst("X-Tts-Wait-Ms")).isNotNull();
+        assertThat(response.getHeaders().getFirst("X-Tts-Error")).isNull();
+        assertThat(body(response)).hasSize(audio.length);
+    }
+
+    @Test
+    @DisplayName("합성이 제한 시간을 넘으면 요청 스레드를 잡지 않고 텍스트 응답으로 대체한다.")
+    void fallsBackToTextOnTimeout() throws Exception {
+        givenAudio(new CompletableFuture<>());
+
+        CompletableFuture<ResponseEntity<StreamingResponseBody>> future =
+                controller.processVoiceCommandStreaming(audioFile);
+        assertThat(future).isNotDone();
+
+        ResponseEntity<StreamingResponseBody> response = future.get(1, TimeUnit.SECONDS);
+        assertTextFallback(response);
+    }
+
+    @Test
+    @DisplayName("합성이 취소되면 500 대신 텍스트 응답으로 대체한다.")
+    void fallsBackToTextOnCancellation() throws Exception {
+        CompletableFuture<byte[]> audio = new CompletableFuture<>();
+        audio.cancel(true);
+        givenAudio(audio);
+
+        assertTextFallback(controller.processVoiceCommandStreaming(audioFile).get(1, TimeUnit.SECONDS));
+    }
+
+    private void givenAudio(CompletableFuture<byte[]> audio) {
+        CommandResponse commandResponse = CommandResponse.builder()
+                .success(true)
+                .responseText("노래를 재생할게요")
+                .build();
+        when(voiceCommandPipeline.execute(anyLong(), anyString()))
+                .thenReturn(new VoiceCommandPipeline.Result(commandResponse, 5, false, audio));
+    }
+
+    private void assertTextFallback(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getFirst("X-Tts-Error")).isEqualTo("TTS_SERVICE_ERROR");
+        assertThat(new String(body(response), StandardCharsets.UTF_8)).contains("노래를 재생할게요");
+    }
+
+    private byte[] body(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,107 @@
+package com.heungbuja.command.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heungbuja.command.service.CommandService;
+import com.heungbuja.command.service.VoiceCommandPipeline;
+import com.heungbuja.voice.service.SttService;
+import com.heungbuja.voice.service.TtsAudioStore;
+import com.heungbuja.voice.service.TtsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /commands/tts/{fileId} (내용 주소 파일 ID, ETag / Range)
+ */
+class CommandControllerTtsAudioTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final TtsAudioStore ttsAudioStore = new TtsAudioStore();
+    private MockMvc mockMvc;
+    private String fileId;
+    private byte[] audio;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(ttsAudioStore, "storagePath", tempDir.toString());
+        CommandController controller = new CommandController(mock(CommandService.class), mock(SttService.class),
+                mock(TtsService.class), ttsAudioStore, mock(VoiceCommandPipeline.class), new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        audio = new byte[1000];
+        for (int i = 0; i < audio.length; i++) {
+            audio[i] = (byte) i;
+        }
+        fileId = ttsAudioStore.store("노래를 재생할게요", "default", () -> audio);
+    }
+
+    @Test
+    @DisplayName("같은 문구와 음성 타입은 항상 같은 파일 ID, 같은 상대 경로 URL이 된다.")
+    void contentAddressedUrl() {
+        assertThat(ttsAudioStore.fileId("노래를 재생할게요", "default")).isEqualTo(fileId);
+        assertThat(ttsAudioStore.fileId("노래를 재생할게요", "nova")).isNotEqualTo(fileId);
+        assertThat(ttsAudioStore.url(fileId)).isEqualTo("/commands/tts/" + fileId);
+    }
+
+    @Test
+    @DisplayName("전체 요청은 ETag, immutable 캐시 헤더와 함께 파일 전체를 보낸다.")
+    void servesWholeFileWithCacheHeaders() throws Exception {
+        mockMvc.perform(get("/commands/tts/{fileId}", fileId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + fileId + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL,
+                        allOf(containsString("max-age=31536000"), containsString("public"), containsString("immutable"))))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "audio/mpeg"))
+                .andExpect(content().bytes(audio));
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 ETag와 같으면 본문 없이 304를 보낸다.")
+    void notModifiedWhenETagMatches() throws Exception {
+        mockMvc.perform(get("/commands/tts/{fileId}", fileId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + fileId + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("Range 요청은 요청한 구간만 206으로 보낸다.")
+    void servesRange() throws Exception {
+        mockMvc.perform(get("/commands/tts/{fileId}", fileId)
+                        .header(HttpHeaders.RANGE, "bytes=100-199"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/1000"))
+                .andExpect(content().bytes(Arrays.copyOfRange(audio, 100, 200)));
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않거나 없는 파일 ID는 404를 보낸다.")
+    void notFound() throws Exception {
+        mockMvc.perform(get("/commands/tts/{fileId}", "not-a-file-id"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/commands/tts/{fileId}", "0".repeat(64)))
+                .andExpect(status().isNotFound());
+        assertThat(Files.exists(ttsAudioStore.path(fileId))).isTrue();
+    }
+}
@@ -0,0 +1,236 @@
+package com.heungbuja.common;
+
+import com.heungbuja.common.util.CircuitBreaker;
+import com.heungbuja.common.websocket.InboundMessageDispatcher;
+import com.heungbuja.common.websocket.InboundRateLimitInterceptor;
+import com.heungbuja.game.dto.ActionTimelineEvent;
+import com.heungbuja.game.service.FrameAdmissionController;
+import com.heungbuja.gpt.guard.AdaptiveConcurrencyLimiter;
+import com.heungbuja.gpt.guard.LatencyTracker;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 pinning 검사 (JFR jdk.VirtualThreadPinned 이벤트)
+ *
+ * 가상 스레드 모드에서 요청/프레임마다 지나가는 락(STOMP 세션 레인, 프레임 속도 제한, 프레임 수신 허용,
+ * GPT 호출 가드)을 가상 스레드 여러 개로 동시에 돌리고, carrier 스레드를 고정한 채 park한 기록이 없는지 본다.
+ * JFR은 monitor를 잡은 채 park/sleep할 때 이벤트를 남기므로, 락 안에서 블로킹하는 코드가 다시 들어오면 실패한다.
+ *
+ * Java 21 이상 런타임에서만 실행된다. (./gradlew test -PtestJavaVersion=21)
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int THREADS = 64;
+    private static final int ITERATIONS = 200;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("가상 스레드 모드의 핫 패스 락은 carrier 스레드를 고정하지 않는다.")
+    void hotPathsDoNotPin() throws Exception {
+        InboundRateLimitInterceptor rateLimiter = rateLimiter();
+        InboundMessageDispatcher dispatcher = dispatcher();
+        FrameAdmissionController admission = frameAdmission();
+        CircuitBreaker circuitBreaker = new CircuitBreaker(20, 10, 0.5, 1000);
+        LatencyTracker latencyTracker = new LatencyTracker(100);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 2, 8, 1000, 0.5, THREADS, 5000);
+        List<ActionTimelineEvent> timeline = IntStream.range(0, 50)
+                .mapToObj(i -> new ActionTimelineEvent(i * 0.5, 1, "손뼉 박수"))
+                .toList();
+
+        List<RecordedEvent> pinned = recordPinnedEvents(() -> runOnVirtualThreads(index -> {
+            String sessionId = "pinning-" + (index % 8);
+            for (int i = 0; i < ITERATIONS; i++) {
+                Message<byte[]> frame = frame(sessionId);
+                rateLimiter.preSend(frame, null);
+                dispatcher.execute(handlingTask(frame));
+
+                admission.sync(sessionId, "verse1", timeline, i % timeline.size(), 0.5, 0.2);
+                admission.admit(sessionId, i * 0.05);
+
+                if (circuitBreaker.tryAcquire() && limiter.acquire()) {
+                    long started = System.nanoTime();
+                    Thread.sleep(1);  // 업스트림 호출 (락 밖 블로킹)
+                    limiter.release(System.nanoTime() - started, true);
+                    circuitBreaker.onSuccess();
+                    latencyTracker.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+                }
+                latencyTracker.percentile(0.95, 10, 1000);
+            }
+        }));
+
+        dispatcher.shutdown();
+        assertThat(pinned)
+                .as("pinned 위치: %s", pinned.stream().map(VirtualThreadPinningTest::topAppFrame).toList())
+                .isEmpty();
+    }
+
+    /**
+     * 검사 자체가 동작하는지 확인 (monitor 안에서 sleep → 이벤트 발생)
+     * Java 24부터는 synchronized가 pinning을 일으키지 않으므로(JEP 491) 21~23에서만 확인한다.
+     */
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21, max = JRE.JAVA_23)
+    @DisplayName("monitor를 잡은 채 블로킹하면 pinning으로 감지한다.")
+    void detectsMonitorPinning() throws Exception {
+        Object monitor = new Object();
+
+        List<RecordedEvent> pinned = recordPinnedEvents(() -> runOnVirtualThreads(index -> {
+            synchronized (monitor) {
+                Thread.sleep(5);
+            }
+        }));
+
+        assertThat(pinned).isNotEmpty();
+    }
+
+    private List<RecordedEvent> recordPinnedEvents(ThrowingRunnable workload) throws Exception {
+        Path dump = tempDir.resolve("pinning-" + System.nanoTime() + ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            workload.run();
+            recording.stop();
+            recording.dump(dump);
+        }
+        return RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> PINNED_EVENT.equals(event.getEventType().getName()))
+                .filter(VirtualThreadPinningTest::fromApplicationCode)
+                .toList();
+    }
+
+    private void runOnVirtualThreads(ThrowingIntConsumer task) throws InterruptedException {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("pinning-test-");
+        executor.setVirtualThreads(true);
+
+        CountDownLatch done = new CountDownLatch(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            int index = t;
+            executor.execute(() -> {
+                try {
+                    task.accept(index);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static boolean fromApplicationCode(RecordedEvent event) {
+        return topAppFrame(event) != null;
+    }
+
+    private static String topAppFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return null;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith("com.heungbuja.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return null;
+    }
+
+    private InboundRateLimitInterceptor rateLimiter() {
+        InboundRateLimitInterceptor interceptor = new InboundRateLimitInterceptor();
+        ReflectionTestUtils.setField(interceptor, "maxFramesPerSecond", 30.0);
+        ReflectionTestUtils.setField(interceptor, "frameBurst", 10.0);
+        return interceptor;
+    }
+
+    private InboundMessageDispatcher dispatcher() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", "true");
+        InboundMessageDispatcher dispatcher = new InboundMessageDispatcher(environment);
+        ReflectionTestUtils.setField(dispatcher, "controlThreads", 2);
+        ReflectionTestUtils.setField(dispatcher, "workerThreads", 8);
+        ReflectionTestUtils.setField(dispatcher, "sessionQueueLimit", 4);
+        dispatcher.init();
+        return dispatcher;
+    }
+
+    private FrameAdmissionController frameAdmission() {
+        FrameAdmissionController controller = new FrameAdmissionController(
+                new SimpMessagingTemplate((message, timeout) -> true));
+        ReflectionTestUtils.setField(controller, "enabled", true);
+        ReflectionTestUtils.setField(controller, "targetSamples", 8);
+        ReflectionTestUtils.setField(controller, "keepaliveMs", 500L);
+        return controller;
+    }
+
+    private Message<byte[]> frame(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination("/app/game/frame");
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private MessageHandlingRunnable handlingTask(Message<byte[]> message) {
+        return new MessageHandlingRunnable() {
+            @Override
+            public Message<?> getMessage() {
+                return message;
+            }
+
+            @Override
+            public MessageHandler getMessageHandler() {
+                return msg -> {
+                };
+            }
+
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(1);  // 핸들러의 블로킹 I/O (레인 락 밖)
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingIntConsumer {
+        void accept(int index) throws Exception;
+    }
+}
@@ -0,0 +1,104 @@
+package com.heungbuja.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final long OPEN_MILLIS = 50;
+
+    @Test
+    @DisplayName("최소 호출 수 전에는 실패만 있어도 OPEN되지 않는다.")
+    void staysClosedBelowMinimumCalls() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 5, 0.5, OPEN_MILLIS);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onFailure();
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("실패율이 기준 이상이면 OPEN되어 호출을 거절한다.")
+    void opensAtFailureRateThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 4, 0.5, OPEN_MILLIS);
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.onFailure();  // 2/4 = 0.5
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 오래된 실패는 실패율에서 빠진다.")
+    void slidesWindow() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 0.75, OPEN_MILLIS);
+
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onSuccess();   // 2/4
+        breaker.onSuccess();   // 첫 실패가 밀려나 1/4
+        breaker.onFailure();   // 두 번째 실패가 밀려나고 새 실패 → 1/4
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("OPEN 시간이 지나면 HALF_OPEN에서 시험 호출 1개만 허용하고, 성공하면 CLOSED로 돌아간다.")
+    void halfOpenTrialSuccessCloses() throws InterruptedException {
+        CircuitBreaker breaker = openedBreaker();
+        Thread.sleep(OPEN_MILLIS * 2);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 실패하면 다시 OPEN된다.")
+    void halfOpenTrialFailureReopens() throws InterruptedException {
+        CircuitBreaker breaker = openedBreaker();
+        Thread.sleep(OPEN_MILLIS * 2);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출을 하지 않고 반납하면 다음 호출이 시험 호출이 된다.")
+    void ignoredTrialIsReturned() throws InterruptedException {
+        CircuitBreaker breaker = openedBreaker();
+        Thread.sleep(OPEN_MILLIS * 2);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onIgnored();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    private CircuitBreaker openedBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 2, 0.5, OPEN_MILLIS);
+        breaker.onFailure();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+}
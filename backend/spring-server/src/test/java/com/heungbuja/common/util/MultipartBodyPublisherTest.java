@@ -0,0 +1,112 @@
+package com.heungbuja.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MultipartBodyPublisherTest {
+
+    private static final String BOUNDARY = "test-boundary";
+
+    @Test
+    @DisplayName("텍스트 / 파일 파트를 multipart/form-data 형식으로 이어 붙인다.")
+    void writesMultipartBody() throws Exception {
+        byte[] audio = {1, 2, 3, 4, 5};
+
+        HttpRequest.BodyPublisher publisher = new MultipartBodyPublisher(BOUNDARY)
+                .addText("model", "whisper-1")
+                .addFile("file", "voice.webm", "audio/webm", audio.length, () -> new ByteArrayInputStream(audio))
+                .build();
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        expected.writeBytes(("--test-boundary\r\n"
+                + "Content-Disposition: form-data; name=\"model\"\r\n\r\n"
+                + "whisper-1\r\n"
+                + "--test-boundary\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"voice.webm\"\r\n"
+                + "Content-Type: audio/webm\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        expected.writeBytes(audio);
+        expected.writeBytes("\r\n--test-boundary--\r\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(readAll(publisher)).isEqualTo(expected.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Content-Length는 UTF-8 바이트 기준 전체 길이와 같다.")
+    void contentLengthMatchesBody() throws Exception {
+        byte[] audio = new byte[64 * 1024];
+
+        HttpRequest.BodyPublisher publisher = new MultipartBodyPublisher(BOUNDARY)
+                .addText("prompt", "노래 틀어줘")
+                .addFile("file", "voice.webm", "audio/webm", audio.length, () -> new ByteArrayInputStream(audio))
+                .build();
+
+        assertThat(publisher.contentLength()).isEqualTo(readAll(publisher).length);
+    }
+
+    @Test
+    @DisplayName("파일 InputStream은 전송(구독) 시점에 열린다.")
+    void opensFileLazily() throws Exception {
+        AtomicInteger opened = new AtomicInteger();
+        byte[] audio = {9, 9, 9};
+
+        HttpRequest.BodyPublisher publisher = new MultipartBodyPublisher(BOUNDARY)
+                .addFile("file", "a.webm", "audio/webm", audio.length, () -> {
+                    opened.incrementAndGet();
+                    return new ByteArrayInputStream(audio);
+                })
+                .build();
+        assertThat(opened).hasValue(0);
+
+        readAll(publisher);
+        assertThat(opened).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Content-Type에 boundary를 포함한다.")
+    void contentTypeContainsBoundary() {
+        assertThat(new MultipartBodyPublisher(BOUNDARY).getContentType())
+                .isEqualTo("multipart/form-data; boundary=test-boundary");
+    }
+
+    private byte[] readAll(HttpRequest.BodyPublisher publisher) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompletableFuture<byte[]> done = new CompletableFuture<>();
+
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                byte[] chunk = new byte[item.remaining()];
+                item.get(chunk);
+                out.writeBytes(chunk);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(out.toByteArray());
+            }
+        });
+        return done.get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,121 @@
+package com.heungbuja.common.websocket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InboundMessageDispatcherTest {
+
+    private InboundMessageDispatcher dispatcher;
+    private final List<String> executed = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new InboundMessageDispatcher(new MockEnvironment());
+        ReflectionTestUtils.setField(dispatcher, "controlThreads", 1);
+        ReflectionTestUtils.setField(dispatcher, "workerThreads", 1);
+        ReflectionTestUtils.setField(dispatcher, "sessionQueueLimit", 2);
+        dispatcher.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("세션 큐가 한도를 넘으면 가장 오래된 프레임부터 버리고, 나머지는 순서대로 실행한다.")
+    void dropsOldestFramesAndKeepsOrder() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        dispatcher.execute(task("s1", "/app/game/frame", "f0", started, release));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        dispatcher.execute(task("s1", "/app/game/frame", "f1"));
+        dispatcher.execute(task("s1", "/app/game/frame", "f2"));
+        dispatcher.execute(task("s1", "/app/game/frame", "f3"));      // f1 폐기
+        dispatcher.execute(task("s1", "/app/game/start", "start"));   // f2 폐기 (프레임이 아닌 메시지는 버리지 않음)
+
+        release.countDown();
+        awaitExecuted(3);
+
+        assertThat(executed).containsExactly("f0", "f3", "start");
+        assertThat(dispatcher.getDroppedFrames()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ping은 세션 레인이 막혀 있어도 제어 레인에서 바로 실행한다.")
+    void pingBypassesBlockedLane() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        dispatcher.execute(task("s1", "/app/game/frame", "f0", started, release));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        dispatcher.execute(task("s1", "/app/game/ping", "ping"));
+        awaitExecuted(1);
+        assertThat(executed).containsExactly("ping");
+
+        release.countDown();
+        awaitExecuted(2);
+    }
+
+    private void awaitExecuted(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (executed.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(executed).hasSizeGreaterThanOrEqualTo(count);
+    }
+
+    private MessageHandlingRunnable task(String sessionId, String destination, String name) {
+        return task(sessionId, destination, name, new CountDownLatch(1), new CountDownLatch(0));
+    }
+
+    private MessageHandlingRunnable task(String sessionId, String destination, String name,
+                                         CountDownLatch started, CountDownLatch release) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(destination);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        return new MessageHandlingRunnable() {
+            @Override
+            public Message<?> getMessage() {
+                return message;
+            }
+
+            @Override
+            public MessageHandler getMessageHandler() {
+                return msg -> {
+                };
+            }
+
+            @Override
+            public void run() {
+                started.countDown();
+                try {
+                    release.await(2, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                executed.add(name);
+            }
+        };
+    }
+}
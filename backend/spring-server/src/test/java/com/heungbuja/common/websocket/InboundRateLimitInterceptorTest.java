@@ -0,0 +1,80 @@
+package com.heungbuja.common.websocket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InboundRateLimitInterceptorTest {
+
+    private InboundRateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new InboundRateLimitInterceptor();
+        ReflectionTestUtils.setField(interceptor, "maxFramesPerSecond", 30.0);
+        ReflectionTestUtils.setField(interceptor, "frameBurst", 5.0);
+    }
+
+    @Test
+    @DisplayName("버킷 크기만큼은 바로 통과시키고, 초과한 프레임은 버린다.")
+    void dropsFramesBeyondBurst() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(interceptor.preSend(message("s1", "/app/game/frame"), null)).isNotNull();
+        }
+
+        assertThat(interceptor.preSend(message("s1", "/app/game/pose"), null)).isNull();
+        assertThat(interceptor.getRejectedFrames()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 허용량만큼 다시 채워진다.")
+    void refillsOverTime() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            interceptor.preSend(message("s1", "/app/game/frame"), null);
+        }
+        assertThat(interceptor.preSend(message("s1", "/app/game/frame"), null)).isNull();
+
+        Thread.sleep(100);  // 30fps → 약 3개
+
+        assertThat(interceptor.preSend(message("s1", "/app/game/frame"), null)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("세션마다 따로 제한하고, ping 등 다른 목적지는 제한하지 않는다.")
+    void limitsPerSessionAndOnlyFrames() {
+        for (int i = 0; i < 5; i++) {
+            interceptor.preSend(message("s1", "/app/game/frame"), null);
+        }
+
+        assertThat(interceptor.preSend(message("s1", "/app/game/ping"), null)).isNotNull();
+        assertThat(interceptor.preSend(message("s2", "/app/game/frame"), null)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 세션 버킷을 정리한다.")
+    void resetsOnDisconnect() {
+        for (int i = 0; i < 5; i++) {
+            interceptor.preSend(message("s1", "/app/game/frame"), null);
+        }
+
+        SimpMessageHeaderAccessor disconnect = SimpMessageHeaderAccessor.create(SimpMessageType.DISCONNECT);
+        disconnect.setSessionId("s1");
+        interceptor.preSend(MessageBuilder.createMessage(new byte[0], disconnect.getMessageHeaders()), null);
+
+        assertThat(interceptor.preSend(message("s1", "/app/game/frame"), null)).isNotNull();
+    }
+
+    private Message<byte[]> message(String sessionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
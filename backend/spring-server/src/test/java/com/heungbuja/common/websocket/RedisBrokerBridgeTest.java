@@ -0,0 +1,159 @@
+package com.heungbuja.common.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 노드 간 Redis STOMP 브릿지 전달 확인 (로컬 Redis 필요, test 프로필)
+ * 노드 두 개를 같은 JVM에 만들고, 각 노드의 로컬 브로커 채널 대신 수신 큐를 둔다.
+ */
+@DataRedisTest
+@ActiveProfiles("test")
+class RedisBrokerBridgeTest {
+
+    private static final String DESTINATION = "/topic/game/bridge-test-" + System.nanoTime();
+
+    @Autowired
+    private RedisConnectionFactory connectionFactory;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final BlockingQueue<Message<?>> nodeAReceived = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Message<?>> nodeBReceived = new LinkedBlockingQueue<>();
+
+    private RedisBrokerBridge nodeA;
+    private RedisBrokerBridge nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = bridge("node-a", nodeAReceived);
+        nodeB = bridge("node-b", nodeBReceived);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.shutdown();
+        nodeB.shutdown();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 보낸 메시지를 순서대로, 지연 없이 받는다.")
+    void deliversAcrossNodesInOrder() throws Exception {
+        nodeB.onSubscribe(subscribeEvent("session-b", "sub-1"));
+        awaitSubscribed();
+
+        int count = 200;
+        long started = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            nodeA.preSend(topicMessage("msg-" + i), null);
+        }
+
+        List<String> payloads = new ArrayList<>();
+        while (payloads.size() < count) {
+            Message<?> received = nodeBReceived.poll(5, TimeUnit.SECONDS);
+            assertThat(received).as("%d번째 메시지 수신", payloads.size()).isNotNull();
+            payloads.add(payloadOf(received));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertThat(payloads).containsExactlyElementsOf(
+                IntStream.range(0, count).mapToObj(i -> "msg-" + i).toList());
+        assertThat(elapsedMillis).isLessThan(2000);
+        // 발행 노드는 자기 메시지를 다시 받지 않음
+        assertThat(nodeAReceived).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구독을 해제한 노드로는 더 이상 전달하지 않는다.")
+    void stopsAfterUnsubscribe() throws Exception {
+        nodeB.onSubscribe(subscribeEvent("session-b", "sub-1"));
+        awaitSubscribed();
+
+        nodeB.onUnsubscribe(new SessionUnsubscribeEvent(this,
+                subscriptionMessage(SimpMessageType.UNSUBSCRIBE, "session-b", "sub-1")));
+        awaitUnsubscribed();
+
+        nodeA.preSend(topicMessage("after-unsubscribe"), null);
+        assertThat(nodeBReceived.poll(500, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    /** 채널 구독은 비동기로 반영되므로 probe 메시지가 도착할 때까지 기다림 */
+    private void awaitSubscribed() throws InterruptedException {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            nodeA.preSend(topicMessage("probe"), null);
+            if (nodeBReceived.poll(100, TimeUnit.MILLISECONDS) != null) {
+                Thread.sleep(100);
+                nodeBReceived.clear();
+                return;
+            }
+        }
+        throw new AssertionError("node-b 채널 구독이 반영되지 않음");
+    }
+
+    /** 채널 구독자 수(PUBLISH 응답)가 0이 될 때까지 기다림 */
+    private void awaitUnsubscribed() throws InterruptedException {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            Long receivers = stringRedisTemplate.convertAndSend("ws:topic:" + DESTINATION, "{}");
+            if (receivers != null && receivers == 0) {
+                nodeBReceived.clear();
+                return;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("node-b 채널 구독 해제가 반영되지 않음");
+    }
+
+    private RedisBrokerBridge bridge(String nodeId, BlockingQueue<Message<?>> received) {
+        RedisBrokerBridge bridge = new RedisBrokerBridge(connectionFactory, stringRedisTemplate,
+                (message, timeout) -> received.add(message), new ObjectMapper(), nodeId, "/topic");
+        bridge.init();
+        return bridge;
+    }
+
+    private Message<byte[]> topicMessage(String payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(DESTINATION);
+        return MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    private SessionSubscribeEvent subscribeEvent(String sessionId, String subscriptionId) {
+        return new SessionSubscribeEvent(this, subscriptionMessage(SimpMessageType.SUBSCRIBE, sessionId, subscriptionId));
+    }
+
+    private Message<byte[]> subscriptionMessage(SimpMessageType type, String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(DESTINATION);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private String payloadOf(Message<?> message) {
+        return new String((byte[]) message.getPayload(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,189 @@
+package com.heungbuja.common.websocket;
+
+import com.heungbuja.game.state.GameSession;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프레임 부하 중 /app/game/ping 왕복 시간 측정 (STOMP 클라이언트 부하 생성기, 로컬 인프라 필요, test 프로필)
+ *
+ * 연결 몇 개가 큰 Base64 프레임을 쉬지 않고 보내는 동안 별도 연결에서 ping → PONG 왕복 시간을 잰다.
+ * ping은 제어 레인에서 처리되고 프레임은 세션 레인 / 속도 제한을 거치므로, 부하 중에도 왕복 시간이 크게 늘지 않아야 한다.
+ * 절대 시간은 장비마다 다르므로 같은 실행의 부하 없음 대비 배율로 판단하고,
+ * 기본 test 태스크에서는 제외한다 (./gradlew benchmarkTest).
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class StompPingRttTest {
+
+    private static final int FLOOD_CONNECTIONS = 4;
+    private static final int FRAME_BYTES = 200 * 1024;
+    private static final int PINGS = 50;
+    /** 부하 중 p95 허용 배율 (부하 없음 p95 대비) */
+    private static final long MAX_LOADED_TO_IDLE_RATIO = 5;
+    /** 부하 없음 p95가 매우 작을 때의 여유 */
+    private static final long RTT_SLACK_MILLIS = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RedisTemplate<String, GameSession> gameSessionRedisTemplate;
+
+    private final List<StompSession> sessions = new ArrayList<>();
+    private final WebSocketStompClient stompClient = stompClient();
+
+    @AfterEach
+    void tearDown() {
+        sessions.forEach(StompSession::disconnect);
+        stompClient.stop();
+    }
+
+    @Test
+    @DisplayName("프레임 부하 중에도 ping 왕복 시간(p95)이 부하 없을 때에 비해 크게 늘지 않는다.")
+    void pingRttStaysLowUnderFrameLoad() throws Exception {
+        // PONG은 진행 중인 세션에만 오므로 ping용 세션을 만들어 둔다 (프레임은 없는 세션으로 보내 판정 처리 제외)
+        String gameSessionId = "rtt-test-" + System.nanoTime();
+        String floodSessionId = gameSessionId + "-flood";
+        gameSessionRedisTemplate.opsForValue().set("game_session:" + gameSessionId,
+                GameSession.initial(gameSessionId, -1L, -1L), Duration.ofMinutes(1));
+        BlockingQueue<Long> rtts = new LinkedBlockingQueue<>();
+        StompSession pingSession = connect();
+        pingSession.subscribe("/topic/game/" + gameSessionId, pongHandler(rtts));
+        awaitPong(pingSession, gameSessionId, rtts);
+
+        long idleP95 = p95(measure(pingSession, gameSessionId, rtts));
+
+        AtomicBoolean flooding = new AtomicBoolean(true);
+        AtomicLong framesSent = new AtomicLong();
+        CountDownLatch floodStopped = new CountDownLatch(FLOOD_CONNECTIONS);
+        String frameData = "A".repeat(FRAME_BYTES);
+        for (int i = 0; i < FLOOD_CONNECTIONS; i++) {
+            StompSession floodSession = connect();
+            Thread flood = new Thread(() -> {
+                try {
+                    while (flooding.get()) {
+                        floodSession.send("/app/game/frame",
+                                Map.of("sessionId", floodSessionId, "frameData", frameData, "currentPlayTime", 1.0));
+                        framesSent.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    log.warn("프레임 전송 중단: {}", e.getMessage());
+                } finally {
+                    floodStopped.countDown();
+                }
+            }, "frame-flood-" + i);
+            flood.start();
+        }
+
+        Thread.sleep(500);
+        long loadedP95;
+        try {
+            loadedP95 = p95(measure(pingSession, gameSessionId, rtts));
+        } finally {
+            flooding.set(false);
+            floodStopped.await(10, TimeUnit.SECONDS);
+            gameSessionRedisTemplate.delete("game_session:" + gameSessionId);
+        }
+
+        log.info("ping RTT p95: 부하 없음 {}ms, 프레임 부하 중 {}ms (프레임 {}개 전송)", idleP95, loadedP95, framesSent.get());
+        assertThat(framesSent.get()).isGreaterThan(PINGS);
+        assertThat(loadedP95).isLessThanOrEqualTo(idleP95 * MAX_LOADED_TO_IDLE_RATIO + RTT_SLACK_MILLIS);
+    }
+
+    private List<Long> measure(StompSession session, String gameSessionId, BlockingQueue<Long> rtts) throws Exception {
+        rtts.clear();
+        List<Long> samples = new ArrayList<>(PINGS);
+        for (int i = 0; i < PINGS; i++) {
+            session.send("/app/game/ping", Map.of("sessionId", gameSessionId, "sentAt", System.nanoTime()));
+            Long rtt = rtts.poll(5, TimeUnit.SECONDS);
+            assertThat(rtt).as("%d번째 PONG 수신", i).isNotNull();
+            samples.add(rtt);
+            Thread.sleep(20);
+        }
+        return samples;
+    }
+
+    /** 구독이 반영될 때까지 ping을 보내 첫 PONG을 기다림 */
+    private void awaitPong(StompSession session, String gameSessionId, BlockingQueue<Long> rtts) throws Exception {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            session.send("/app/game/ping", Map.of("sessionId", gameSessionId, "sentAt", System.nanoTime()));
+            if (rtts.poll(100, TimeUnit.MILLISECONDS) != null) {
+                return;
+            }
+        }
+        throw new AssertionError("PONG을 받지 못함");
+    }
+
+    private long p95(List<Long> samples) {
+        List<Long> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.ceil(sorted.size() * 0.95) - 1);
+    }
+
+    private StompFrameHandler pongHandler(BlockingQueue<Long> rtts) {
+        return new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                Map<?, ?> message = (Map<?, ?>) payload;
+                if ("PONG".equals(message.get("type")) && message.get("data") instanceof Map<?, ?> data
+                        && data.get("sentAt") instanceof Number sentAt) {
+                    rtts.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sentAt.longValue()));
+                }
+            }
+        };
+    }
+
+    private StompSession connect() throws Exception {
+        StompSession session = stompClient
+                .connectAsync("ws://localhost:" + port + "/ws/websocket", new StompSessionHandlerAdapter() {
+                })
+                .get(5, TimeUnit.SECONDS);
+        sessions.add(session);
+        return session;
+    }
+
+    private static WebSocketStompClient stompClient() {
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+        client.setInboundMessageSizeLimit(1024 * 1024);
+        return client;
+    }
+}
@@ -0,0 +1,136 @@
+package com.heungbuja.context.repository;
+
+import com.heungbuja.context.entity.ConversationContext;
+import com.heungbuja.song.enums.PlaybackMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대화 컨텍스트 필드 단위 저장 / 이전 방식 Hash 변환 (로컬 Redis 필요, test 프로필)
+ */
+@DataRedisTest
+@ActiveProfiles("test")
+@Import(ConversationContextStore.class)
+class ConversationContextStoreTest {
+
+    private static final Long USER_ID = 900_000L + (System.nanoTime() % 100_000);
+    private static final String KEY = "conversation_context:user:" + USER_ID;
+    private static final String QUEUE_KEY = KEY + ":queue";
+
+    @Autowired
+    private ConversationContextStore store;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        store.delete(USER_ID);
+    }
+
+    @Test
+    @DisplayName("대기열은 넣은 순서대로 꺼내고, 비어 있으면 null을 돌려준다.")
+    void pushAndPopInOrder() {
+        store.create(USER_ID);
+        store.pushToQueue(USER_ID, List.of(11L, 12L));
+        store.pushToQueue(USER_ID, List.of(13L));
+
+        assertThat(store.popQueue(USER_ID)).isEqualTo(11L);
+        assertThat(store.popQueue(USER_ID)).isEqualTo(12L);
+        assertThat(store.popQueue(USER_ID)).isEqualTo(13L);
+        assertThat(store.popQueue(USER_ID)).isNull();
+        assertThat(stringRedisTemplate.getExpire(KEY)).isPositive();
+    }
+
+    @Test
+    @DisplayName("필드 갱신은 다른 필드를 건드리지 않는다.")
+    void updatesFieldsIndependently() {
+        store.create(USER_ID);
+        store.updateCurrentSong(USER_ID, 42L);
+        store.updateMode(USER_ID, PlaybackMode.LISTENING);
+
+        ConversationContext context = store.find(USER_ID).orElseThrow();
+        assertThat(context.getCurrentMode()).isEqualTo(PlaybackMode.LISTENING);
+        assertThat(context.getCurrentSongId()).isEqualTo(42L);
+
+        store.updateCurrentSong(USER_ID, null);
+        assertThat(store.find(USER_ID).orElseThrow().getCurrentSongId()).isNull();
+    }
+
+    @Test
+    @DisplayName("이전 방식 Hash의 대기열은 첫 popQueue에서 인덱스 순서대로 List로 옮겨진다.")
+    void popMigratesLegacyQueue() {
+        writeLegacyHash(12);
+        stringRedisTemplate.opsForList().rightPush(QUEUE_KEY, "999");
+
+        assertThat(store.popQueue(USER_ID)).isEqualTo(100L);
+
+        // [10], [11]이 [1] 뒤가 아니라 [9] 뒤에 오고, 이전 대기열이 기존 List보다 앞
+        List<String> remaining = stringRedisTemplate.opsForList().range(QUEUE_KEY, 0, -1);
+        List<String> expected = new ArrayList<>(LongStream.range(101, 112).mapToObj(String::valueOf).toList());
+        expected.add("999");
+        assertThat(remaining).containsExactlyElementsOf(expected);
+        assertThat(stringRedisTemplate.<String, String>opsForHash().keys(KEY))
+                .noneMatch(field -> field.startsWith("playlistQueue.["))
+                .doesNotContain("_class", "id")
+                .contains("currentMode", "userId", "lastInteractionAt");
+    }
+
+    @Test
+    @DisplayName("동시에 조회해도 이전 방식 대기열은 한 번만 옮겨진다.")
+    void migratesLegacyQueueOnce() throws Exception {
+        writeLegacyHash(5);
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ConversationContext>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return store.find(USER_ID).orElseThrow();
+            }));
+        }
+        start.countDown();
+        for (Future<ConversationContext> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).getPlaylistQueue())
+                    .containsExactly(100L, 101L, 102L, 103L, 104L);
+        }
+        executor.shutdown();
+
+        assertThat(stringRedisTemplate.opsForList().range(QUEUE_KEY, 0, -1))
+                .containsExactly("100", "101", "102", "103", "104");
+    }
+
+    /** Spring Data Redis(@RedisHash)가 저장하던 형식 */
+    private void writeLegacyHash(int queueSize) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("_class", "com.heungbuja.context.entity.ConversationContext");
+        fields.put("id", ConversationContext.createKey(USER_ID));
+        fields.put("userId", String.valueOf(USER_ID));
+        fields.put("currentMode", PlaybackMode.LISTENING.name());
+        for (int i = 0; i < queueSize; i++) {
+            fields.put("playlistQueue.[" + i + "]", String.valueOf(100 + i));
+        }
+        stringRedisTemplate.opsForHash().putAll(KEY, fields);
+    }
+}
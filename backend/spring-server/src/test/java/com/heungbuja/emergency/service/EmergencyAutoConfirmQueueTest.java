@@ -0,0 +1,158 @@
+package com.heungbuja.emergency.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis ZSET 지연 큐 동작 확인 (로컬 Redis 필요, test 프로필)
+ * 재시작 / 두 노드는 같은 Redis를 쓰는 큐 인스턴스를 따로 만들어 흉내 낸다.
+ * 운영 신고와 겹치지 않도록 음수 reportId를 사용한다.
+ */
+@DataRedisTest
+@ActiveProfiles("test")
+@Import(EmergencyAutoConfirmQueue.class)
+@TestPropertySource(properties = {
+        "emergency.auto-confirm.visibility-timeout-ms=200",
+        "emergency.auto-confirm.claim-batch-size=20"
+})
+class EmergencyAutoConfirmQueueTest {
+
+    private static final Long DUE_REPORT = -1001L;
+    private static final Long LATER_REPORT = -1002L;
+    private static final int TWO_NODE_REPORTS = 100;
+
+    @Autowired
+    private EmergencyAutoConfirmQueue queue;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        queue.cancel(DUE_REPORT);
+        queue.cancel(LATER_REPORT);
+    }
+
+    @Test
+    @DisplayName("기한이 된 신고만 가져가고, 같은 신고는 한 번만 가져간다.")
+    void claimsOnlyDueReportsOnce() {
+        queue.schedule(DUE_REPORT, 0);
+        queue.schedule(LATER_REPORT, 60_000);
+
+        List<EmergencyAutoConfirmQueue.ClaimedReport> first = claimTestReports();
+        List<EmergencyAutoConfirmQueue.ClaimedReport> second = claimTestReports();
+
+        assertThat(first).containsExactly(new EmergencyAutoConfirmQueue.ClaimedReport(DUE_REPORT, 1));
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    @DisplayName("acknowledge 하지 않은 신고는 visibility timeout 이후 시도 횟수를 올려 다시 가져간다.")
+    void reclaimsUnacknowledgedAfterVisibilityTimeout() throws InterruptedException {
+        queue.schedule(DUE_REPORT, 0);
+        assertThat(claimTestReports()).extracting(EmergencyAutoConfirmQueue.ClaimedReport::attempts).containsExactly(1);
+
+        Thread.sleep(300);
+
+        assertThat(claimTestReports()).containsExactly(new EmergencyAutoConfirmQueue.ClaimedReport(DUE_REPORT, 2));
+
+        queue.acknowledge(DUE_REPORT);
+        Thread.sleep(300);
+        assertThat(claimTestReports()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("취소한 신고는 기한이 지나도 가져가지 않는다.")
+    void cancelledReportIsNeverClaimed() {
+        queue.schedule(DUE_REPORT, 0);
+
+        assertThat(queue.cancel(DUE_REPORT)).isTrue();
+        assertThat(queue.cancel(DUE_REPORT)).isFalse();
+        assertThat(claimTestReports()).isEmpty();
+        assertThat(stringRedisTemplate.opsForHash().hasKey("emergency:auto-confirm:attempts", "-1001")).isFalse();
+    }
+
+    @Test
+    @DisplayName("재시작 후 새로 뜬 노드가 재시작 전에 예약된 신고를 가져간다.")
+    void survivesRestart() throws InterruptedException {
+        // 재시작 전 노드: 예약만 하고 종료
+        newNode().schedule(DUE_REPORT, 100);
+
+        // 재시작 후 노드: Redis에 남은 예약을 기한에 가져감
+        EmergencyAutoConfirmQueue restarted = newNode();
+        assertThat(claimTestReports(restarted)).isEmpty();
+        Thread.sleep(200);
+        assertThat(claimTestReports(restarted)).containsExactly(new EmergencyAutoConfirmQueue.ClaimedReport(DUE_REPORT, 1));
+    }
+
+    @Test
+    @DisplayName("두 노드가 동시에 폴링해도 신고마다 한 노드만 가져간다.")
+    void twoNodesClaimEachReportOnce() throws Exception {
+        List<Long> reportIds = LongStream.rangeClosed(1, TWO_NODE_REPORTS).map(n -> -2000 - n).boxed().toList();
+        reportIds.forEach(reportId -> queue.schedule(reportId, 0));
+        try {
+            EmergencyAutoConfirmQueue nodeA = newNode();
+            EmergencyAutoConfirmQueue nodeB = newNode();
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<List<Long>> claimedByA = executor.submit(() -> drain(nodeA));
+                Future<List<Long>> claimedByB = executor.submit(() -> drain(nodeB));
+
+                List<Long> claimed = new ArrayList<>(claimedByA.get(10, TimeUnit.SECONDS));
+                claimed.addAll(claimedByB.get(10, TimeUnit.SECONDS));
+                assertThat(claimed).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(reportIds);
+            } finally {
+                executor.shutdownNow();
+            }
+        } finally {
+            reportIds.forEach(queue::cancel);
+        }
+    }
+
+    /** 기한이 된 테스트 신고가 더 없을 때까지 가져감 (visibility timeout 전에 끝남) */
+    private List<Long> drain(EmergencyAutoConfirmQueue node) {
+        List<Long> claimed = new ArrayList<>();
+        List<EmergencyAutoConfirmQueue.ClaimedReport> batch;
+        while (!(batch = claimTestReports(node)).isEmpty()) {
+            batch.forEach(report -> claimed.add(report.reportId()));
+        }
+        return claimed;
+    }
+
+    /** 같은 Redis를 쓰는 별도 노드 (재시작 / 다중 노드 흉내) */
+    private EmergencyAutoConfirmQueue newNode() {
+        EmergencyAutoConfirmQueue node = new EmergencyAutoConfirmQueue(stringRedisTemplate);
+        ReflectionTestUtils.setField(node, "visibilityTimeoutMs", 60_000L);
+        ReflectionTestUtils.setField(node, "claimBatchSize", 5);
+        return node;
+    }
+
+    private List<EmergencyAutoConfirmQueue.ClaimedReport> claimTestReports() {
+        return claimTestReports(queue);
+    }
+
+    /** 같은 Redis에 남아 있을 수 있는 다른 신고는 제외 */
+    private List<EmergencyAutoConfirmQueue.ClaimedReport> claimTestReports(EmergencyAutoConfirmQueue node) {
+        return node.claimDue().stream()
+                .filter(claimed -> claimed.reportId() < 0)
+                .toList();
+    }
+}
@@ -0,0 +1,56 @@
+package com.heungbuja.emergency.service;
+
+import com.heungbuja.emergency.entity.EmergencyReport;
+import com.heungbuja.emergency.repository.EmergencyReportRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 미처리 신고 카운터 초기값 채우기
+ */
+class EmergencyUnresolvedCounterTest {
+
+    private static final String KEY = "emergency:unresolved:1";
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final EmergencyReportRepository emergencyReportRepository = mock(EmergencyReportRepository.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+    private final EmergencyUnresolvedCounter counter =
+            new EmergencyUnresolvedCounter(stringRedisTemplate, emergencyReportRepository);
+
+    @Test
+    @DisplayName("다른 노드가 먼저 채운 뒤 증가시킨 값이 있으면 DB에서 센 값 대신 그 값을 돌려준다.")
+    void returnsValueSeededByOtherNode() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOps);
+        // 처음 조회: 키 없음 → DB 계산 중 다른 노드가 3으로 채우고 4로 증가
+        when(valueOps.get(KEY)).thenReturn(null, "4");
+        when(emergencyReportRepository.countByAdminIdAndStatus(1L, EmergencyReport.ReportStatus.CONFIRMED))
+                .thenReturn(3L);
+        when(valueOps.setIfAbsent(eq(KEY), eq("3"), any(Duration.class))).thenReturn(false);
+
+        assertThat(counter.get(1L)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("키가 없으면 DB에서 센 값으로 채운다.")
+    void seedsFromDatabase() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOps);
+        when(valueOps.get(KEY)).thenReturn(null, "3");
+        when(emergencyReportRepository.countByAdminIdAndStatus(1L, EmergencyReport.ReportStatus.CONFIRMED))
+                .thenReturn(3L);
+        when(valueOps.setIfAbsent(eq(KEY), eq("3"), any(Duration.class))).thenReturn(true);
+
+        assertThat(counter.get(1L)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,112 @@
+package com.heungbuja.emergency.service.impl;
+
+import com.heungbuja.admin.service.AdminService;
+import com.heungbuja.emergency.entity.EmergencyReport;
+import com.heungbuja.emergency.repository.EmergencyReportRepository;
+import com.heungbuja.emergency.service.EmergencyAutoConfirmQueue;
+import com.heungbuja.emergency.service.EmergencyNotificationService;
+import com.heungbuja.emergency.service.EmergencyUnresolvedCounter;
+import com.heungbuja.game.service.GameService;
+import com.heungbuja.session.service.SessionStateService;
+import com.heungbuja.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 자동 확정 알림은 커밋된 뒤에만 한 번 전송
+ */
+class EmergencyServiceImplTest {
+
+    private static final Long REPORT_ID = 10L;
+
+    private final EmergencyReportRepository emergencyReportRepository = mock(EmergencyReportRepository.class);
+    private final EmergencyNotificationService notificationService = mock(EmergencyNotificationService.class);
+    private final EmergencyUnresolvedCounter unresolvedCounter = mock(EmergencyUnresolvedCounter.class);
+
+    private final EmergencyServiceImpl service = new EmergencyServiceImpl(emergencyReportRepository,
+            mock(UserService.class), mock(AdminService.class), mock(SessionStateService.class),
+            notificationService, mock(EmergencyAutoConfirmQueue.class), unresolvedCounter, mock(GameService.class));
+
+    private final EmergencyReport report = EmergencyReport.builder()
+            .id(REPORT_ID)
+            .adminId(1L)
+            .status(EmergencyReport.ReportStatus.CONFIRMED)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(emergencyReportRepository.findByIdWithUserAndAdmin(REPORT_ID)).thenReturn(Optional.of(report));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("커밋 전에는 알림을 보내지 않고, 커밋 후 한 번 보낸다.")
+    void sendsAlertAfterCommit() {
+        when(emergencyReportRepository.updateStatusIfCurrent(eq(REPORT_ID), any(), any())).thenReturn(1);
+
+        service.autoConfirm(REPORT_ID);
+        verify(notificationService, never()).sendEmergencyAlert(any());
+
+        commit();
+        verify(notificationService, times(1)).sendEmergencyAlert(report);
+        verify(unresolvedCounter, times(1)).increment(1L);
+    }
+
+    @Test
+    @DisplayName("커밋에 실패하면 알림을 보내지 않고, 재시도에서 확정되면 그때 한 번만 보낸다.")
+    void retryAfterFailedCommitSendsOnce() {
+        // 첫 시도: 조건부 갱신은 됐지만 커밋 실패로 롤백
+        when(emergencyReportRepository.updateStatusIfCurrent(eq(REPORT_ID), any(), any())).thenReturn(1);
+        service.autoConfirm(REPORT_ID);
+        rollback();
+        verify(notificationService, never()).sendEmergencyAlert(any());
+
+        // 재시도: 롤백으로 PENDING이 유지되어 다시 확정 → 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        service.autoConfirm(REPORT_ID);
+        commit();
+
+        // 이미 확정된 뒤 중복 실행: 갱신 0건 → 알림 없음
+        when(emergencyReportRepository.updateStatusIfCurrent(eq(REPORT_ID), any(), any())).thenReturn(0);
+        TransactionSynchronizationManager.initSynchronization();
+        service.autoConfirm(REPORT_ID);
+        commit();
+
+        verify(notificationService, times(1)).sendEmergencyAlert(report);
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private void rollback() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    }
+}
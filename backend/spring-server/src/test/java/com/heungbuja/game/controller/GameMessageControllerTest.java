@@ -0,0 +1,58 @@
+package com.heungbuja.game.controller;
+
+import com.heungbuja.game.dto.GameWebSocketMessage;
+import com.heungbuja.game.service.GameService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * /app/game/ping → PONG (진행 중인 세션에만, 시각만 돌려줌)
+ */
+class GameMessageControllerTest {
+
+    private final GameService gameService = mock(GameService.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final GameMessageController controller = new GameMessageController(gameService, messagingTemplate);
+
+    @Test
+    @DisplayName("진행 중인 세션이면 보낸 시각과 서버 시각만 담아 PONG을 보낸다.")
+    void pongsWithTimestampOnly() {
+        when(gameService.isActiveSession("s1")).thenReturn(true);
+
+        controller.handlePing(Map.of("sessionId", "s1", "sentAt", 1234L, "text", "다른 세션에 보낼 내용"));
+
+        ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/game/s1"), message.capture());
+        GameWebSocketMessage<?> pong = (GameWebSocketMessage<?>) message.getValue();
+        assertThat(pong.getType()).isEqualTo("PONG");
+        assertThat((Map<?, ?>) pong.getData()).containsOnlyKeys("sentAt", "serverTime")
+                .containsEntry("sentAt", 1234L);
+    }
+
+    @Test
+    @DisplayName("없거나 끝난 세션, sentAt이 숫자가 아닌 요청에는 아무것도 보내지 않는다.")
+    void ignoresUnknownSessionOrInvalidPayload() {
+        when(gameService.isActiveSession("gone")).thenReturn(false);
+        when(gameService.isActiveSession("s1")).thenReturn(true);
+
+        controller.handlePing(Map.of("sessionId", "gone", "sentAt", 1L));
+        controller.handlePing(Map.of("sessionId", "s1", "sentAt", "<script>"));
+        controller.handlePing(Map.of("sentAt", 1L));
+        controller.handlePing(null);
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+}
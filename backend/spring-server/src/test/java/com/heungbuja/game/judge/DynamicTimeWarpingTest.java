@@ -0,0 +1,63 @@
+package com.heungbuja.game.judge;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DynamicTimeWarpingTest {
+
+    @Test
+    @DisplayName("같은 시퀀스의 거리는 0이다.")
+    void identicalSequences() {
+        float[][] sequence = {{0f, 0f}, {3f, 4f}, {1f, 1f}};
+
+        assertThat(DynamicTimeWarping.distance(sequence, sequence)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 동작을 느리게 수행해도(프레임 반복) 거리는 0이다.")
+    void absorbsTempoDifference() {
+        float[][] normal = frames(0, 1, 2);
+        float[][] slow = frames(0, 0, 1, 1, 2, 2);
+
+        assertThat(DynamicTimeWarping.distance(normal, slow)).isZero();
+        assertThat(DynamicTimeWarping.distance(slow, normal)).isZero();
+    }
+
+    @Test
+    @DisplayName("누적 비용이 가장 작은 정렬 경로의 평균 프레임 거리를 돌려준다.")
+    void averagesAlongBestPath() {
+        // (0,1) (1,1) (2,2) (2,3) → 비용 1 + 0 + 0 + 1, 경로 길이 4
+        assertThat(DynamicTimeWarping.distance(frames(0, 1, 2), frames(1, 2, 3))).isCloseTo(0.5, within(1e-9));
+        // 프레임 거리는 유클리드 거리
+        assertThat(DynamicTimeWarping.distance(new float[][]{{0f, 0f}}, new float[][]{{3f, 4f}})).isCloseTo(5.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("거리는 대칭이다.")
+    void symmetric() {
+        float[][] a = frames(0, 1, 2);
+        float[][] b = frames(2, 1, 0);
+
+        assertThat(DynamicTimeWarping.distance(a, b))
+                .isCloseTo(DynamicTimeWarping.distance(b, a), within(1e-9))
+                .isCloseTo(4.0 / 3, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("빈 시퀀스와의 거리는 무한대다.")
+    void emptySequence() {
+        assertThat(DynamicTimeWarping.distance(new float[0][], frames(1))).isInfinite();
+        assertThat(DynamicTimeWarping.distance(frames(1), new float[0][])).isInfinite();
+    }
+
+    private float[][] frames(float... values) {
+        float[][] frames = new float[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            frames[i] = new float[]{values[i]};
+        }
+        return frames;
+    }
+}
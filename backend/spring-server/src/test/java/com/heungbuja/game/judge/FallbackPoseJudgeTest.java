@@ -0,0 +1,130 @@
+package com.heungbuja.game.judge;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 템플릿 파일 로드 → 특징 추출 → DTW 비교로 이어지는 대체 판정 경로
+ */
+class FallbackPoseJudgeTest {
+
+    private static final int ARMS_UP = 1;
+    private static final int ARMS_DOWN = 2;
+
+    @TempDir
+    Path tempDir;
+
+    private FallbackPoseJudge judge;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path templateFile = tempDir.resolve("pose-templates.bin");
+        try (OutputStream out = Files.newOutputStream(templateFile)) {
+            new PoseTemplates(Map.of(
+                    ARMS_UP, PoseFeatures.extract(motion(true, 6)),
+                    ARMS_DOWN, PoseFeatures.extract(motion(false, 6))
+            )).write(out);
+        }
+
+        judge = new FallbackPoseJudge(new DefaultResourceLoader());
+        ReflectionTestUtils.setField(judge, "enabled", true);
+        ReflectionTestUtils.setField(judge, "templateLocation", templateFile.toUri().toString());
+        ReflectionTestUtils.setField(judge, "perfectDistance", 0.08);
+        ReflectionTestUtils.setField(judge, "goodDistance", 0.16);
+        ReflectionTestUtils.setField(judge, "circuitWindowSize", 20);
+        ReflectionTestUtils.setField(judge, "circuitMinimumCalls", 5);
+        ReflectionTestUtils.setField(judge, "circuitFailureRateThreshold", 0.5);
+        ReflectionTestUtils.setField(judge, "circuitOpenDurationMillis", 10_000L);
+        judge.init();
+    }
+
+    @Test
+    @DisplayName("목표 동작과 같은 움직임은 속도가 달라도(프레임 반복) PERFECT로 판정한다.")
+    void judgesMatchingMotionAsPerfect() {
+        List<List<List<Double>>> slow = new ArrayList<>();
+        for (List<List<Double>> frame : motion(true, 6)) {
+            slow.add(frame);
+            slow.add(frame);
+        }
+
+        assertThat(judge.judge(ARMS_UP, motion(true, 6))).hasValue(3);
+        assertThat(judge.judge(ARMS_UP, slow)).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("같은 동작이라도 기준과 자세가 조금씩 어긋나면 GOOD으로 판정한다.")
+    void judgesNearMotionAsGood() {
+        // 12프레임으로 촘촘히 찍으면 기준 6프레임 사이 자세가 섞여 DTW 거리 약 0.11
+        assertThat(judge.judge(ARMS_UP, motion(true, 12))).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("다른 동작 템플릿이 더 가까우면 BAD로 판정한다.")
+    void judgesOtherMotionAsBad() {
+        assertThat(judge.judge(ARMS_UP, motion(false, 6))).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("템플릿이 없는 동작이나 좌표가 부족한 입력은 판정하지 않는다.")
+    void skipsUnknownActionOrMissingLandmarks() {
+        assertThat(judge.judge(99, motion(true, 6))).isEmpty();
+        assertThat(judge.judge(ARMS_UP, List.of(List.of(List.of(0.5, 0.5))))).isEmpty();
+        assertThat(judge.judge(ARMS_UP, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("템플릿 파일이 없으면 대체 판정을 하지 않는다.")
+    void disabledWithoutTemplateFile() {
+        ReflectionTestUtils.setField(judge, "templateLocation", tempDir.resolve("missing.bin").toUri().toString());
+        judge.init();
+
+        assertThat(judge.judge(ARMS_UP, motion(true, 6))).isEmpty();
+    }
+
+    /**
+     * 팔을 내린 자세에서 올린 자세(또는 반대)로 움직이는 프레임 시퀀스
+     */
+    private List<List<List<Double>>> motion(boolean raise, int frames) {
+        List<List<List<Double>>> sequence = new ArrayList<>(frames);
+        for (int i = 0; i < frames; i++) {
+            double progress = (double) i / (frames - 1);
+            sequence.add(pose(raise ? progress : 1 - progress));
+        }
+        return sequence;
+    }
+
+    /**
+     * @param lift 0이면 팔을 내린 자세, 1이면 머리 위로 올린 자세
+     */
+    private List<List<Double>> pose(double lift) {
+        List<List<Double>> landmarks = new ArrayList<>(Collections.nCopies(33, List.of(0.5, 0.3)));
+        landmarks.set(11, List.of(0.40, 0.40));  // 어깨
+        landmarks.set(12, List.of(0.60, 0.40));
+        landmarks.set(23, List.of(0.42, 0.70));  // 골반
+        landmarks.set(24, List.of(0.58, 0.70));
+        landmarks.set(25, List.of(0.42, 0.90));  // 무릎
+        landmarks.set(26, List.of(0.58, 0.90));
+
+        double elbowY = 0.55 - 0.25 * lift;
+        double wristY = 0.68 - 0.53 * lift;
+        landmarks.set(13, List.of(0.37, elbowY));  // 팔꿈치
+        landmarks.set(14, List.of(0.63, elbowY));
+        landmarks.set(15, List.of(0.36, wristY));  // 손목
+        landmarks.set(16, List.of(0.64, wristY));
+        return landmarks;
+    }
+}
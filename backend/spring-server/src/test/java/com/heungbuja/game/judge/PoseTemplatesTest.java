@@ -0,0 +1,82 @@
+package com.heungbuja.game.judge;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PoseTemplatesTest {
+
+    @Test
+    @DisplayName("쓴 템플릿을 그대로 읽는다.")
+    void roundTrip() throws IOException {
+        float[][] clap = sequence(3, 0.25f);
+        float[][] stretch = sequence(5, 0.75f);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new PoseTemplates(Map.of(1, clap, 2, stretch)).write(out);
+
+        PoseTemplates read = PoseTemplates.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertThat(read.asMap()).containsOnlyKeys(1, 2);
+        assertThat(read.asMap().get(1)).isDeepEqualTo(clap);
+        assertThat(read.asMap().get(2)).isDeepEqualTo(stretch);
+    }
+
+    @Test
+    @DisplayName("프레임 수가 상한을 넘거나 음수이면 배열을 할당하지 않고 실패한다.")
+    void rejectsFrameCountOutOfRange() {
+        assertThatThrownBy(() -> PoseTemplates.read(header(1, 7, Integer.MAX_VALUE)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("프레임 수");
+        assertThatThrownBy(() -> PoseTemplates.read(header(1, 7, -1)))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> PoseTemplates.read(header(1, 7, PoseTemplates.MAX_FRAMES + 1)))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("동작 수가 상한을 넘으면 실패한다.")
+    void rejectsTemplateCountOutOfRange() {
+        assertThatThrownBy(() -> PoseTemplates.read(header(PoseTemplates.MAX_TEMPLATES + 1, 7, 1)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("동작 수");
+    }
+
+    @Test
+    @DisplayName("상한을 넘는 템플릿은 쓰지 않는다.")
+    void refusesToWriteOversizedTemplate() {
+        PoseTemplates oversized = new PoseTemplates(Map.of(1, sequence(PoseTemplates.MAX_FRAMES + 1, 0f)));
+
+        assertThatThrownBy(() -> oversized.write(new ByteArrayOutputStream())).isInstanceOf(IOException.class);
+    }
+
+    /** 헤더와 첫 템플릿의 actionCode/frames까지만 있는 입력 */
+    private ByteArrayInputStream header(int count, int actionCode, int frames) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0x48505431);
+        out.writeInt(1);
+        out.writeInt(PoseFeatures.DIMENSIONS);
+        out.writeInt(count);
+        out.writeInt(actionCode);
+        out.writeInt(frames);
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+
+    private float[][] sequence(int frames, float base) {
+        float[][] sequence = new float[frames][PoseFeatures.DIMENSIONS];
+        for (int i = 0; i < frames; i++) {
+            for (int k = 0; k < PoseFeatures.DIMENSIONS; k++) {
+                sequence[i][k] = base + i * 0.01f + k * 0.001f;
+            }
+        }
+        return sequence;
+    }
+}
@@ -0,0 +1,131 @@
+package com.heungbuja.game.service;
+
+import com.heungbuja.game.dto.ActionTimelineEvent;
+import com.heungbuja.game.dto.GameWebSocketMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrameAdmissionControllerTest {
+
+    private static final String SESSION = "session-1";
+
+    // 10초, 20초에 동작 (수집 구간 1초, 지연 보정 없음 → [10, 11], [20, 21])
+    private static final List<ActionTimelineEvent> TIMELINE = List.of(
+            new ActionTimelineEvent(10.0, 1, "손뼉 박수"),
+            new ActionTimelineEvent(20.0, 2, "팔 뻗기"));
+
+    private final List<Message<?>> sent = new CopyOnWriteArrayList<>();
+    private FrameAdmissionController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new FrameAdmissionController(new SimpMessagingTemplate((message, timeout) -> sent.add(message)));
+        ReflectionTestUtils.setField(controller, "enabled", true);
+        ReflectionTestUtils.setField(controller, "targetSamples", 4);
+        ReflectionTestUtils.setField(controller, "keepaliveMs", 500L);
+    }
+
+    @Test
+    @DisplayName("타임라인을 받기 전이거나 기능이 꺼져 있으면 모두 통과시킨다.")
+    void admitsAllWithoutTimeline() {
+        assertThat(controller.admit(SESSION, 3.0)).isTrue();
+        assertThat(controller.admit(SESSION, 3.0)).isTrue();
+
+        ReflectionTestUtils.setField(controller, "enabled", false);
+        controller.sync(SESSION, "verse1", TIMELINE, 0, 1.0, 0.0);
+        assertThat(controller.admit(SESSION, 3.0)).isTrue();
+        assertThat(controller.admit(SESSION, 3.0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("수집 구간 안에서는 시간 구간마다 프레임 1개만 통과시킨다.")
+    void admitsOneFramePerBin() {
+        controller.sync(SESSION, "verse1", TIMELINE, 0, 1.0, 0.0);
+
+        assertThat(controller.admit(SESSION, 10.10)).isTrue();   // 구간 0
+        assertThat(controller.admit(SESSION, 10.20)).isFalse();  // 구간 0 중복
+        assertThat(controller.admit(SESSION, 10.30)).isTrue();   // 구간 1
+        assertThat(controller.admit(SESSION, 10.60)).isTrue();   // 구간 2
+        assertThat(controller.admit(SESSION, 10.99)).isTrue();   // 구간 3
+        assertThat(controller.admit(SESSION, 11.00)).isFalse();  // 끝 시각은 마지막 구간
+    }
+
+    @Test
+    @DisplayName("수집 구간이 끝난 뒤 첫 프레임은 판정 트리거로 한 번만 통과시킨다.")
+    void admitsSingleTriggerAfterWindow() {
+        controller.sync(SESSION, "verse1", TIMELINE, 0, 1.0, 0.0);
+        controller.admit(SESSION, 10.1);
+
+        assertThat(controller.admit(SESSION, 11.2)).isTrue();
+        assertThat(controller.admit(SESSION, 11.3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("구간 밖 프레임은 keepalive 간격으로만 통과시킨다.")
+    void admitsKeepaliveOutsideWindow() throws InterruptedException {
+        controller.sync(SESSION, "verse1", TIMELINE, 0, 1.0, 0.0);
+
+        assertThat(controller.admit(SESSION, 5.0)).isTrue();
+        assertThat(controller.admit(SESSION, 5.1)).isFalse();
+
+        Thread.sleep(600);
+        assertThat(controller.admit(SESSION, 5.7)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다음 동작으로 넘어가면 새 구간으로 다시 세고, 지연 보정만큼 구간을 앞당긴다.")
+    void advancesToNextWindowWithLatencyOffset() {
+        controller.sync(SESSION, "verse1", TIMELINE, 0, 1.0, 0.2);
+        assertThat(controller.admit(SESSION, 9.85)).isTrue();    // [9.8, 10.8] 구간 0
+        assertThat(controller.admit(SESSION, 9.90)).isFalse();
+
+        controller.sync(SESSION, "verse1", TIMELINE, 1, 1.0, 0.2);
+        assertThat(controller.admit(SESSION, 19.85)).isTrue();   // [19.8, 20.8] 구간 0
+        assertThat(controller.admit(SESSION, 19.90)).isFalse();
+
+        // 이전 위치로 되돌리는 sync는 무시
+        controller.sync(SESSION, "verse1", TIMELINE, 0, 1.0, 0.2);
+        assertThat(controller.admit(SESSION, 19.95)).isFalse();
+    }
+
+    @Test
+    @DisplayName("위치가 바뀔 때만 FRAME_RATE_HINT를 보낸다.")
+    void sendsRateHintOnAdvance() {
+        controller.sync(SESSION, "verse1", TIMELINE, 0, 1.0, 0.0);
+        controller.sync(SESSION, "verse1", TIMELINE, 0, 1.0, 0.0);
+
+        assertThat(sent).hasSize(1);
+        assertThat(SimpMessageHeaderAccessor.getDestination(sent.get(0).getHeaders())).isEqualTo("/topic/game/" + SESSION);
+
+        GameWebSocketMessage<?> message = (GameWebSocketMessage<?>) sent.get(0).getPayload();
+        FrameAdmissionController.FrameRateHint hint = (FrameAdmissionController.FrameRateHint) message.getData();
+        assertThat(message.getType()).isEqualTo("FRAME_RATE_HINT");
+        assertThat(hint.windowStart()).isEqualTo(10.0);
+        assertThat(hint.windowEnd()).isEqualTo(11.0);
+        assertThat(hint.windowFps()).isEqualTo(4.0);
+        assertThat(hint.idleFps()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("게임이 끝나 정리한 세션은 다시 모두 통과시킨다.")
+    void releasesSession() {
+        controller.sync(SESSION, "verse1", TIMELINE, 0, 1.0, 0.0);
+        controller.admit(SESSION, 5.0);
+        assertThat(controller.getActiveSessionIds()).containsExactly(SESSION);
+
+        controller.release(SESSION);
+
+        assertThat(controller.getActiveSessionIds()).isEmpty();
+        assertThat(controller.admit(SESSION, 5.1)).isTrue();
+    }
+}
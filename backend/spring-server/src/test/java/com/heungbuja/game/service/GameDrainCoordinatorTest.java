@@ -0,0 +1,146 @@
+package com.heungbuja.game.service;
+
+import com.heungbuja.game.dto.ActionTimelineEvent;
+import com.heungbuja.game.dto.GameWebSocketMessage;
+import com.heungbuja.game.state.GameSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GameDrainCoordinatorTest {
+
+    private static final String SESSION = "session-1";
+    private static final String SESSION_KEY = "game_session:" + SESSION;
+    private static final String HANDOFF_KEY = "game_handoff:" + SESSION;
+
+    private final List<Message<?>> sent = new CopyOnWriteArrayList<>();
+    private RedisTemplate<String, GameSession> sessionRedisTemplate;
+    private ValueOperations<String, GameSession> sessionOps;
+    private ValueOperations<String, String> handoffOps;
+    private GameDrainCoordinator coordinator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate((message, timeout) -> sent.add(message));
+        FrameAdmissionController admission = new FrameAdmissionController(messagingTemplate);
+        ReflectionTestUtils.setField(admission, "enabled", true);
+        ReflectionTestUtils.setField(admission, "targetSamples", 4);
+        ReflectionTestUtils.setField(admission, "keepaliveMs", 500L);
+        admission.sync(SESSION, "verse1", List.of(new ActionTimelineEvent(10.0, 1, "손뼉 박수")), 0, 1.0, 0.0);
+
+        sessionRedisTemplate = mock(RedisTemplate.class);
+        sessionOps = mock(ValueOperations.class);
+        when(sessionRedisTemplate.opsForValue()).thenReturn(sessionOps);
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        handoffOps = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(handoffOps);
+
+        coordinator = new GameDrainCoordinator(admission, messagingTemplate, sessionRedisTemplate, stringRedisTemplate);
+        ReflectionTestUtils.setField(coordinator, "drainTimeoutMs", 2000L);
+        ReflectionTestUtils.setField(coordinator, "reconnectDelayMs", 3000L);
+        ReflectionTestUtils.setField(coordinator, "handoffGraceMs", 30000L);
+        coordinator.start();
+    }
+
+    @Test
+    @DisplayName("종료 시 새 게임을 막고 진행 중 세션에 SERVER_DRAINING을 보낸 뒤 AI 판정이 끝날 때까지 기다린다.")
+    void drainsUntilPendingJudgmentsFinish() throws Exception {
+        coordinator.beginJudgment();
+
+        CompletableFuture<Void> stopped = CompletableFuture.runAsync(coordinator::stop);
+        Thread.sleep(200);
+
+        assertThat(coordinator.isDraining()).isTrue();
+        assertThat(stopped).isNotDone();
+        assertThat(drainingMessages()).hasSize(1);
+
+        coordinator.endJudgment();
+        stopped.get(1, TimeUnit.SECONDS);
+        assertThat(coordinator.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("끝나지 않는 AI 판정은 timeout까지만 기다린다.")
+    void stopsWaitingAfterTimeout() throws Exception {
+        ReflectionTestUtils.setField(coordinator, "drainTimeoutMs", 300L);
+        coordinator.beginJudgment();
+
+        long startedAt = System.currentTimeMillis();
+        CompletableFuture.runAsync(coordinator::stop).get(2, TimeUnit.SECONDS);
+
+        assertThat(System.currentTimeMillis() - startedAt).isBetween(300L, 1500L);
+        assertThat(coordinator.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("체크포인트는 GameSession을 다시 쓰지 않고 별도 키에 handoff 기한(TTL)과 함께 저장한다.")
+    void checkpointStoresHandoffDeadline() {
+        when(sessionRedisTemplate.hasKey(SESSION_KEY)).thenReturn(true);
+
+        long before = System.currentTimeMillis();
+        coordinator.stop();
+
+        ArgumentCaptor<String> checkpointedAt = ArgumentCaptor.forClass(String.class);
+        verify(handoffOps).set(eq(HANDOFF_KEY), checkpointedAt.capture(), eq(Duration.ofMillis(33000L)));
+        assertThat(Long.parseLong(checkpointedAt.getValue())).isGreaterThanOrEqualTo(before);
+        verify(sessionOps, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("이미 정리된 세션은 체크포인트하지 않는다.")
+    void skipsMissingSession() {
+        when(sessionRedisTemplate.hasKey(SESSION_KEY)).thenReturn(false);
+
+        coordinator.stop();
+
+        verify(handoffOps, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("체크포인트 이후 프레임이 없으면 재연결 대기 중이고, 프레임이 들어오면 대기를 끝낸다.")
+    void awaitsHandoffUntilNextFrame() {
+        when(handoffOps.get(HANDOFF_KEY)).thenReturn("1000");
+        GameSession gameSession = GameSession.builder().sessionId(SESSION).lastFrameReceivedTime(900L).build();
+
+        assertThat(coordinator.isAwaitingHandoff(gameSession)).isTrue();
+
+        gameSession.setLastFrameReceivedTime(1500L);
+        assertThat(coordinator.isAwaitingHandoff(gameSession)).isFalse();
+
+        when(handoffOps.get(HANDOFF_KEY)).thenReturn(null);  // 기한(TTL) 만료
+        gameSession.setLastFrameReceivedTime(900L);
+        assertThat(coordinator.isAwaitingHandoff(gameSession)).isFalse();
+    }
+
+    private List<Message<?>> drainingMessages() {
+        return sent.stream()
+                .filter(message -> ("/topic/game/" + SESSION).equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders())))
+                .filter(message -> message.getPayload() instanceof GameWebSocketMessage<?> payload
+                        && "SERVER_DRAINING".equals(payload.getType()))
+                .toList();
+    }
+}
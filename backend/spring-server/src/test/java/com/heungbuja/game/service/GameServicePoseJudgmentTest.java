@@ -0,0 +1,112 @@
+package com.heungbuja.game.service;
+
+import com.heungbuja.game.dto.ActionTimelineEvent;
+import com.heungbuja.game.dto.FeedbackData;
+import com.heungbuja.game.dto.GameWebSocketMessage;
+import com.heungbuja.game.judge.FallbackPoseJudge;
+import com.heungbuja.game.state.GameSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * motion-server 판정 호출 (대체 판정 템플릿이 없을 때는 지연 예산/서킷을 적용하지 않음)
+ */
+class GameServicePoseJudgmentTest {
+
+    private static final String SESSION = "session-1";
+    private static final long LATENCY_BUDGET_MS = 100;
+    private static final long SLOW_REPLY_MS = 400;
+
+    @TempDir
+    Path tempDir;
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private FallbackPoseJudge fallbackPoseJudge;
+    private GameService gameService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // 템플릿 파일이 없는 배포 상태
+        fallbackPoseJudge = new FallbackPoseJudge(new DefaultResourceLoader());
+        ReflectionTestUtils.setField(fallbackPoseJudge, "enabled", true);
+        ReflectionTestUtils.setField(fallbackPoseJudge, "templateLocation",
+                tempDir.resolve("missing.bin").toUri().toString());
+        ReflectionTestUtils.setField(fallbackPoseJudge, "latencyBudgetMs", LATENCY_BUDGET_MS);
+        ReflectionTestUtils.setField(fallbackPoseJudge, "circuitWindowSize", 20);
+        ReflectionTestUtils.setField(fallbackPoseJudge, "circuitMinimumCalls", 1);
+        ReflectionTestUtils.setField(fallbackPoseJudge, "circuitFailureRateThreshold", 0.5);
+        ReflectionTestUtils.setField(fallbackPoseJudge, "circuitOpenDurationMillis", 10_000L);
+        fallbackPoseJudge.init();
+
+        RedisTemplate<String, GameSession> sessionRedisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, GameSession> sessionOps = mock(ValueOperations.class);
+        when(sessionRedisTemplate.opsForValue()).thenReturn(sessionOps);
+        when(sessionOps.get("game_session:" + SESSION)).thenReturn(GameSession.initial(SESSION, 1L, 1L));
+
+        // 지연 예산보다 늦게 오는 motion-server 응답
+        WebClient slowAiWebClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.delay(Duration.ofMillis(SLOW_REPLY_MS))
+                        .map(tick -> ClientResponse.create(HttpStatus.OK)
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .body("{\"actionCode\":1,\"judgment\":3}")
+                                .build()))
+                .build();
+
+        gameService = new GameService(null, null, null, null, null, null, sessionRedisTemplate, null, null, null,
+                messagingTemplate, null, null, null, null, null, null, null, fallbackPoseJudge,
+                mock(GameDrainCoordinator.class), null, slowAiWebClient);
+    }
+
+    @Test
+    @DisplayName("대체 판정 템플릿이 없으면 느린 motion-server 응답도 기다려 그 판정을 기록한다 (0점 처리하지 않음).")
+    void slowReplyIsNotScoredZeroWithoutFallback() {
+        assertThat(fallbackPoseJudge.isAvailable()).isFalse();
+        assertThat(fallbackPoseJudge.getLatencyBudget()).isEmpty();
+
+        ReflectionTestUtils.invokeMethod(gameService, "callAiServerForPoseJudgment", SESSION,
+                GameSession.initial(SESSION, 1L, 1L), new ActionTimelineEvent(10.0, 1, "손뼉 박수"),
+                List.of(List.of(List.of(0.5, 0.5))));
+
+        ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, timeout(SLOW_REPLY_MS * 5)).convertAndSend(eq("/topic/game/" + SESSION), message.capture());
+        GameWebSocketMessage<?> feedback = (GameWebSocketMessage<?>) message.getValue();
+        assertThat(feedback.getType()).isEqualTo("FEEDBACK");
+        assertThat(((FeedbackData) feedback.getData()).getJudgment()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("대체 판정 템플릿이 없으면 실패가 이어져도 서킷을 열지 않는다.")
+    void circuitStaysClosedWithoutFallback() {
+        for (int i = 0; i < 10; i++) {
+            fallbackPoseJudge.onRemoteFailure();
+        }
+
+        assertThat(fallbackPoseJudge.allowRemote()).isTrue();
+    }
+}
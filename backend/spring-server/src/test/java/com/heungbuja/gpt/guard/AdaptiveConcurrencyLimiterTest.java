@@ -0,0 +1,132 @@
+package com.heungbuja.gpt.guard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(2000);
+
+    @Test
+    @DisplayName("limit까지는 바로 허가하고, 대기열이 없으면 초과 요청을 바로 거절한다.")
+    void rejectsBeyondLimitWithoutQueue() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 0, 0);
+
+        assertThat(limiter.acquire()).isTrue();
+        assertThat(limiter.acquire()).isTrue();
+        assertThat(limiter.acquire()).isFalse();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기 중인 호출은 허가가 반납되면 진행하고, maxWait를 넘기면 실패한다.")
+    void queuedCallWaitsForRelease() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 1000);
+        assertThat(limiter.acquire()).isTrue();
+
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.acquire();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(50);
+        assertThat(waiter).isNotDone();
+
+        limiter.releaseWithoutSample();
+        assertThat(waiter.get(1, TimeUnit.SECONDS)).isTrue();
+
+        AdaptiveConcurrencyLimiter shortWait = limiter(1, 1, 30);
+        assertThat(shortWait.acquire()).isTrue();
+        assertThat(shortWait.acquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 거절한다.")
+    void rejectsWhenQueueFull() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 1000);
+        assertThat(limiter.acquire()).isTrue();
+
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.acquire();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(50);
+
+        long start = System.nanoTime();
+        assertThat(limiter.acquire()).isFalse();
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.MILLISECONDS.toNanos(500));
+
+        limiter.releaseWithoutSample();
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("느린 응답 / 실패는 limit을 backoffRatio만큼 줄이고 minLimit 아래로는 내려가지 않는다.")
+    void backsOffOnSlowOrFailedCalls() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 0, 0);
+
+        limiter.acquire();
+        limiter.release(SLOW, true);
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        limiter.acquire();
+        limiter.release(FAST, false);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        limiter.acquire();
+        limiter.release(FAST, false);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한도를 다 쓰고 있을 때의 빠른 응답만 limit을 늘린다.")
+    void growsOnlyWhenSaturated() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 0, 0);
+
+        // 여유가 있을 때: 그대로
+        limiter.acquire();
+        limiter.release(FAST, true);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        // 포화 상태에서 +1/limit씩 → 2.5 → 2.9 → 3.24
+        for (int i = 0; i < 3; i++) {
+            while (limiter.tryAcquire()) {
+                // 한도까지 채움
+            }
+            limiter.release(FAST, true);
+            while (limiter.getInFlight() > 0) {
+                limiter.releaseWithoutSample();
+            }
+        }
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("결과 없는 반납은 limit을 바꾸지 않는다.")
+    void releaseWithoutSampleKeepsLimit() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 0, 0);
+
+        limiter.acquire();
+        limiter.releaseWithoutSample();
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    /** latency 기준 1초, backoff 0.5, limit 범위 2~16 */
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, int maxQueueSize, long maxWaitMillis) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, 2, 16, 1000, 0.5, maxQueueSize, maxWaitMillis);
+    }
+}
@@ -0,0 +1,79 @@
+package com.heungbuja.gpt.prompt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PromptTemplateTest {
+
+    private final PromptTemplateEngine engine = new PromptTemplateEngine();
+
+    @Test
+    @DisplayName("{{slot}} 자리에 값을 채워 렌더링한다 (null은 빈 문자열).")
+    void rendersSlots() {
+        PromptTemplate template = engine.compile("안녕 {{ name }}, 오늘은 {{day}}입니다.{{tail}}");
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", "흥부");
+        values.put("day", 3);
+        values.put("tail", null);
+
+        assertThat(template.getSlotNames()).containsExactly("name", "day", "tail");
+        assertThat(template.render(values)).isEqualTo("안녕 흥부, 오늘은 3입니다.");
+    }
+
+    @Test
+    @DisplayName("bind로 고정 값을 채우면 첫 요청별 slot 전까지가 고정 prefix가 된다.")
+    void bindExtendsStaticPrefix() {
+        PromptTemplate template = engine.compile("[도구]\n{{tools}}\n[예시]\n{{examples}}\n[사용자]\n{{message}}");
+        assertThat(template.getStaticPrefix()).isEqualTo("[도구]\n");
+
+        PromptTemplate bound = template.bind(Map.of("tools", "play_song", "examples", "노래 틀어줘"));
+
+        assertThat(bound.getSlotNames()).containsExactly("message");
+        assertThat(bound.getStaticPrefix()).isEqualTo("[도구]\nplay_song\n[예시]\n노래 틀어줘\n[사용자]\n");
+        assertThat(bound.render(Map.of("message", "그만"))).isEqualTo(bound.getStaticPrefix() + "그만");
+    }
+
+    @Test
+    @DisplayName("같은 스레드에서 연속 렌더링해도 이전 결과가 섞이지 않는다.")
+    void reusesBufferSafely() {
+        PromptTemplate template = engine.compile("값={{v}}");
+
+        String first = template.render(Map.of("v", "아주 긴 첫 번째 값"));
+        String second = template.render(Map.of("v", "짧음"));
+
+        assertThat(first).isEqualTo("값=아주 긴 첫 번째 값");
+        assertThat(second).isEqualTo("값=짧음");
+    }
+
+    @Test
+    @DisplayName("slot 값이 없거나 템플릿이 잘못되면 예외가 발생한다.")
+    void rejectsMissingOrMalformedSlots() {
+        PromptTemplate template = engine.compile("{{a}}{{b}}");
+
+        assertThatThrownBy(() -> template.render(Map.of("a", "x")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("b");
+        assertThatThrownBy(() -> engine.compile("열림 {{slot"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine.compile("빈 {{ }}"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("토큰 예산 안에서 앞쪽 블록부터 고르고, 넘는 첫 블록에서 멈춘다.")
+    void fitsBlocksToBudget() {
+        List<String> blocks = List.of("가나다", "abcdefgh", "라마바사아", "자");
+
+        // 3 + 2 = 5 토큰까지만 포함, "라마바사아"(5)에서 멈추고 뒤의 "자"도 제외
+        assertThat(engine.fitToBudget(blocks, 7)).containsExactly("가나다", "abcdefgh");
+        assertThat(engine.fitToBudget(blocks, 0)).isEmpty();
+    }
+}
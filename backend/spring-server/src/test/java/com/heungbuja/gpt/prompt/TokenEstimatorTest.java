@@ -0,0 +1,32 @@
+package com.heungbuja.gpt.prompt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenEstimatorTest {
+
+    @Test
+    @DisplayName("한글은 1자당 1토큰, ASCII는 4자당 1토큰(올림)으로 센다.")
+    void estimatesByCharacterClass() {
+        assertThat(TokenEstimator.estimate("노래")).isEqualTo(2);
+        assertThat(TokenEstimator.estimate("play")).isEqualTo(1);
+        assertThat(TokenEstimator.estimate("play_song")).isEqualTo(3);
+        assertThat(TokenEstimator.estimate("노래 play")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("공백은 세지 않고, 이모지(서로게이트 쌍)는 1토큰으로 센다.")
+    void ignoresWhitespaceAndCountsSurrogatePairOnce() {
+        assertThat(TokenEstimator.estimate("  \n\t ")).isZero();
+        assertThat(TokenEstimator.estimate("😀")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("null과 빈 문자열은 0토큰이다.")
+    void emptyInput() {
+        assertThat(TokenEstimator.estimate(null)).isZero();
+        assertThat(TokenEstimator.estimate("")).isZero();
+    }
+}
@@ -0,0 +1,107 @@
+package com.heungbuja.retention.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetentionArchiveWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RetentionArchiveWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new RetentionArchiveWriter(objectMapper);
+        ReflectionTestUtils.setField(writer, "archiveDir", tempDir.toString());
+    }
+
+    @Test
+    @DisplayName("청크마다 sync한 행을 gzip NDJSON으로 다시 읽을 수 있다.")
+    void roundTrip() throws IOException {
+        Map<String, Object> first = row(1L, "MUSIC_PLAY", "노래 재생");
+        Map<String, Object> second = row(2L, "GAME_START", "게임 시작");
+        Map<String, Object> third = row(3L, "GAME_END", "게임 종료");
+
+        Path path;
+        try (RetentionArchiveWriter.Archive archive = writer.open("user_activity_logs")) {
+            archive.writeRow(first);
+            archive.writeRow(second);
+            archive.sync();
+            archive.writeRow(third);
+            archive.sync();
+            path = archive.getPath();
+            assertThat(archive.getCount()).isEqualTo(3);
+        }
+
+        assertThat(path.getParent()).isEqualTo(tempDir.resolve("user_activity_logs"));
+        assertThat(readRows(path)).containsExactly(first, second, third);
+    }
+
+    @Test
+    @DisplayName("아무 행도 쓰지 않은 보관 파일은 닫을 때 지운다.")
+    void deletesEmptyArchive() throws IOException {
+        Path path;
+        try (RetentionArchiveWriter.Archive archive = writer.open("voice_commands")) {
+            path = archive.getPath();
+        }
+
+        assertThat(path).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("보관 경로는 설정되어 있고 쓰기 가능한 절대 경로여야 한다.")
+    void checksArchiveDir() {
+        assertThat(writer.checkArchiveDir()).isNull();
+
+        ReflectionTestUtils.setField(writer, "archiveDir", "");
+        assertThat(writer.checkArchiveDir()).contains("설정되지 않음");
+
+        ReflectionTestUtils.setField(writer, "archiveDir", "./archive");
+        assertThat(writer.checkArchiveDir()).contains("절대 경로");
+    }
+
+    private Map<String, Object> row(long id, String type, String summary) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", id);
+        row.put("activity_type", type);
+        row.put("activity_summary", summary);
+        return row;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> readRows(Path path) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(path)), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .map(line -> {
+                        try {
+                            Map<String, Object> row = objectMapper.readValue(line, LinkedHashMap.class);
+                            row.computeIfPresent("id", (key, value) -> ((Number) value).longValue());
+                            return row;
+                        } catch (IOException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    })
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.heungbuja.retention.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heungbuja.retention.enums.RetentionTarget;
+import com.heungbuja.retention.service.RetentionService.RetentionPolicy;
+import com.mongodb.client.result.DeleteResult;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RetentionServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final FakeLogTable logTable = new FakeLogTable();
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private RetentionArchiveWriter archiveWriter;
+    private RetentionService service;
+
+    @BeforeEach
+    void setUp() {
+        archiveWriter = new RetentionArchiveWriter(new ObjectMapper());
+        ReflectionTestUtils.setField(archiveWriter, "archiveDir", tempDir.toString());
+
+        service = new RetentionService(logTable, mongoTemplate, stringRedisTemplate,
+                archiveWriter, new MockEnvironment());
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "initialChunkSize", 2);
+        ReflectionTestUtils.setField(service, "minChunkSize", 2);
+        ReflectionTestUtils.setField(service, "maxChunkSize", 8);
+        ReflectionTestUtils.setField(service, "targetChunkMillis", 200L);
+        ReflectionTestUtils.setField(service, "chunkPauseMillis", 0L);
+    }
+
+    @Test
+    @DisplayName("기준 시각 이전 행만 id 범위 청크로 삭제하고, 빠르면 청크 크기를 늘린다.")
+    void deletesExpiredRowsInGrowingChunks() {
+        LocalDateTime old = LocalDateTime.now().minusDays(100);
+        for (long id = 1; id <= 20; id++) {
+            logTable.rows.put(id, old);
+        }
+        logTable.rows.put(5L, LocalDateTime.now());  // 범위 안이지만 기간이 남은 행
+        for (long id = 21; id <= 30; id++) {
+            logTable.rows.put(id, LocalDateTime.now());
+        }
+
+        long deleted = service.purge(new RetentionPolicy(RetentionTarget.PERFORMANCE_LOGS, 30, false));
+
+        assertThat(deleted).isEqualTo(19);
+        assertThat(logTable.rows.keySet()).containsExactlyElementsOf(
+                Stream.concat(Stream.of(5L), Stream.iterate(21L, id -> id <= 30, id -> id + 1)).toList());
+        assertThat(logTable.chunkSizes).containsExactly(2, 4, 8, 8);
+    }
+
+    @Test
+    @DisplayName("청크 삭제가 목표 시간을 넘으면 청크 크기를 줄인다.")
+    void shrinksChunksWhenSlow() {
+        ReflectionTestUtils.setField(service, "initialChunkSize", 8);
+        ReflectionTestUtils.setField(service, "targetChunkMillis", 1L);
+        logTable.deleteDelayMillis = 5;
+        LocalDateTime old = LocalDateTime.now().minusDays(100);
+        for (long id = 1; id <= 20; id++) {
+            logTable.rows.put(id, old);
+        }
+
+        long deleted = service.purge(new RetentionPolicy(RetentionTarget.PERFORMANCE_LOGS, 30, false));
+
+        assertThat(deleted).isEqualTo(20);
+        assertThat(logTable.rows).isEmpty();
+        assertThat(logTable.chunkSizes).startsWith(8, 4, 2, 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("청크 사이에 실행 잠금을 연장하지 못하면 남은 청크와 대상을 정리하지 않고 멈춘다.")
+    void stopsWhenLockIsLost() {
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any())).thenReturn(true);
+        // 첫 청크 전에는 연장되고, 두 번째 청크 전에 다른 노드가 잠금을 가져감
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+                .thenReturn(1L, 0L);
+        when(valueOperations.get(anyString())).thenReturn("other-node");
+        LocalDateTime old = LocalDateTime.now().minusDays(100);
+        for (long id = 1; id <= 20; id++) {
+            logTable.rows.put(id, old);
+        }
+
+        service.purgeExpired();
+
+        assertThat(logTable.rows).hasSize(18);
+        assertThat(logTable.chunkSizes).containsExactly(2);
+        verify(mongoTemplate, never()).remove(any(Query.class), anyString());
+        verify(stringRedisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("보관하는 컬렉션은 보관 파일에 기록한 문서만 삭제하고, 보관 파일로 문서를 복원할 수 있다.")
+    void archivesMongoDocumentsBeforeDelete() throws IOException {
+        String collection = RetentionTarget.POSE_TRAINING_DATA.getName();
+        List<Document> expired = List.of(
+                new Document("_id", new ObjectId()).append("createdAt", new Date(1_700_000_000_000L)).append("actionCode", 1),
+                new Document("_id", new ObjectId()).append("createdAt", new Date(1_700_000_100_000L)).append("actionCode", 2));
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(collection)))
+                .thenReturn(expired, List.of());
+        when(mongoTemplate.remove(any(Query.class), eq(collection))).thenReturn(DeleteResult.acknowledged(2));
+
+        long deleted = service.purge(new RetentionPolicy(RetentionTarget.POSE_TRAINING_DATA, 365, true));
+
+        assertThat(deleted).isEqualTo(2);
+        List<Path> archives;
+        try (Stream<Path> files = Files.list(tempDir.resolve(collection))) {
+            archives = files.toList();
+        }
+        assertThat(archives).hasSize(1);
+        assertThat(readDocuments(archives.get(0))).containsExactlyElementsOf(expired);
+    }
+
+    @Test
+    @DisplayName("보관 경로가 절대 경로가 아니면 보존 정책을 켜지 않는다.")
+    void refusesRelativeArchiveDir() {
+        service.validateArchiveDir();
+        assertThat(service.isEnabled()).isTrue();
+
+        ReflectionTestUtils.setField(archiveWriter, "archiveDir", "./archive");
+        service.validateArchiveDir();
+        assertThat(service.isEnabled()).isFalse();
+    }
+
+    private List<Document> readDocuments(Path path) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(path)), StandardCharsets.UTF_8))) {
+            return reader.lines().map(Document::parse).toList();
+        }
+    }
+
+    /**
+     * id / created_at 컬럼만 가진 로그 테이블 (RetentionService가 쓰는 쿼리만 흉내)
+     */
+    private static class FakeLogTable extends JdbcTemplate {
+
+        final TreeMap<Long, LocalDateTime> rows = new TreeMap<>();
+        /** 청크마다 조회한 id 개수 상한 */
+        final List<Integer> chunkSizes = new ArrayList<>();
+        long deleteDelayMillis;
+
+        @Override
+        public <T> T queryForObject(String sql, Class<T> requiredType, Object... args) {
+            LocalDateTime cutoff = ((Timestamp) args[0]).toLocalDateTime();
+            Long maxId = rows.entrySet().stream()
+                    .filter(row -> row.getValue().isBefore(cutoff))
+                    .map(Map.Entry::getKey)
+                    .max(Long::compare)
+                    .orElse(null);
+            return requiredType.cast(maxId);
+        }
+
+        @Override
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            long afterId = (Long) args[0];
+            long maxId = (Long) args[1];
+            int limit = (Integer) args[2];
+            chunkSizes.add(limit);
+            return rows.subMap(afterId, false, maxId, true).keySet().stream()
+                    .limit(limit)
+                    .map(elementType::cast)
+                    .toList();
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            long fromId = (Long) args[0];
+            long toId = (Long) args[1];
+            LocalDateTime cutoff = ((Timestamp) args[2]).toLocalDateTime();
+            List<Long> expired = rows.subMap(fromId, true, toId, true).entrySet().stream()
+                    .filter(row -> row.getValue().isBefore(cutoff))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            expired.forEach(rows::remove);
+            if (deleteDelayMillis > 0) {
+                try {
+                    Thread.sleep(deleteDelayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return expired.size();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.heungbuja.s3.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.Part;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.paginators.ListPartsIterable;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 멀티파트 업로드 재개 (매니페스트에 기록되고 S3에 남아 있는 파트만 건너뜀)
+ */
+class S3UploadServiceTest {
+
+    private static final String S3_KEY = "song/resume-test.mp3";
+    private static final String MANIFEST_KEY = "s3:multipart:manifest:" + S3_KEY;
+    private static final String UPLOAD_ID = "upload-1";
+    private static final long PART_SIZE = 5L * 1024 * 1024;
+
+    private final S3Client s3Client = mock(S3Client.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final HashOperations<String, Object, Object> hashOps = mock(HashOperations.class);
+
+    private S3UploadService service;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        service = new S3UploadService(s3Client, stringRedisTemplate);
+        ReflectionTestUtils.setField(service, "bucket", "test-bucket");
+        ReflectionTestUtils.setField(service, "multipartThresholdMb", 1L);
+        ReflectionTestUtils.setField(service, "partSizeMb", 5L);
+        ReflectionTestUtils.setField(service, "parallelism", 2);
+        ReflectionTestUtils.setField(service, "maxPartAttempts", 1);
+        ReflectionTestUtils.setField(service, "abortIncompleteAfterDays", 7);
+        service.init();
+
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOps);
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(inv -> {
+            UploadPartRequest request = inv.getArgument(0);
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("3개 중 1번 파트가 올라가 있으면 2, 3번만 전송하고 1번은 기록된 ETag로 완료한다.")
+    void resumesPartiallyUploadedParts() throws IOException {
+        Path file = createFile(PART_SIZE * 2 + 1024);
+        Map<Object, Object> manifest = manifest(file);
+        manifest.put("part:1", "etag-1|null");
+        when(hashOps.entries(MANIFEST_KEY)).thenReturn(manifest);
+        givenUploadedParts(Part.builder().partNumber(1).eTag("etag-1").build());
+
+        service.uploadLocalFile(file, S3_KEY, "audio/mpeg");
+
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+        assertThat(uploadedPartNumbers()).containsExactlyInAnyOrder(2, 3);
+        assertThat(completedParts()).extracting(CompletedPart::partNumber, CompletedPart::eTag)
+                .containsExactly(
+                        tuple(1, "etag-1"),
+                        tuple(2, "etag-2"),
+                        tuple(3, "etag-3"));
+        verify(stringRedisTemplate).delete(MANIFEST_KEY);
+    }
+
+    @Test
+    @DisplayName("매니페스트에는 있지만 S3의 ETag와 다른 파트는 다시 전송한다.")
+    void reuploadsPartMissingFromS3() throws IOException {
+        Path file = createFile(PART_SIZE * 2 + 1024);
+        Map<Object, Object> manifest = manifest(file);
+        manifest.put("part:1", "etag-1|null");
+        manifest.put("part:2", "etag-2|null");
+        when(hashOps.entries(MANIFEST_KEY)).thenReturn(manifest);
+        givenUploadedParts(Part.builder().partNumber(1).eTag("etag-1").build(),
+                Part.builder().partNumber(2).eTag("other").build());
+
+        service.uploadLocalFile(file, S3_KEY, "audio/mpeg");
+
+        assertThat(uploadedPartNumbers()).containsExactlyInAnyOrder(2, 3);
+        verify(hashOps, times(2)).put(anyString(), any(), any());
+    }
+
+    private Path createFile(long size) throws IOException {
+        Path file = Files.createFile(tempDir.resolve("audio.mp3"));
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(size);
+        }
+        return file;
+    }
+
+    private Map<Object, Object> manifest(Path file) throws IOException {
+        Map<Object, Object> manifest = new HashMap<>();
+        manifest.put("uploadId", UPLOAD_ID);
+        manifest.put("s3Key", S3_KEY);
+        manifest.put("fileSize", String.valueOf(Files.size(file)));
+        manifest.put("modifiedAt", String.valueOf(Files.getLastModifiedTime(file).toMillis()));
+        manifest.put("partSize", String.valueOf(PART_SIZE));
+        return manifest;
+    }
+
+    private void givenUploadedParts(Part... parts) {
+        ListPartsIterable iterable = mock(ListPartsIterable.class);
+        when(iterable.parts()).thenReturn(() -> List.of(parts).iterator());
+        when(s3Client.listPartsPaginator(any(ListPartsRequest.class))).thenReturn(iterable);
+    }
+
+    private List<Integer> uploadedPartNumbers() {
+        ArgumentCaptor<UploadPartRequest> requests = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(2)).uploadPart(requests.capture(), any(RequestBody.class));
+        requests.getAllValues().forEach(request -> assertThat(request.uploadId()).isEqualTo(UPLOAD_ID));
+        return requests.getAllValues().stream().map(UploadPartRequest::partNumber).toList();
+    }
+
+    private List<CompletedPart> completedParts() {
+        ArgumentCaptor<CompleteMultipartUploadRequest> request =
+                ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(request.capture());
+        return request.getValue().multipartUpload().parts();
+    }
+}
@@ -0,0 +1,133 @@
+package com.heungbuja.song.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class BeatIndexTest {
+
+    // 10분, 180 BPM, 4/4 박자 합성 곡
+    private static final double DURATION_SEC = 600;
+    private static final double BPM = 180;
+
+    @Test
+    @DisplayName("마디 첫 비트 / 비트 시간 조회 결과가 비트 목록 선형 탐색과 같다.")
+    void matchesLinearScan() {
+        SongBeat songBeat = syntheticSong();
+        BeatIndex index = BeatIndex.of(songBeat);
+        List<SongBeat.Beat> beats = songBeat.getBeats();
+
+        assertThat(index.size()).isEqualTo(beats.size());
+        assertThat(index.lastBar()).isEqualTo(beats.get(beats.size() - 1).getBar());
+
+        for (int bar = 1; bar <= index.lastBar(); bar++) {
+            assertThat(index.firstBeatOfBar(bar)).isEqualTo(findBeatByBarLinear(beats, bar));
+        }
+        for (SongBeat.Beat beat : beats) {
+            assertThat(index.timeOfBeat(beat.getI(), -1.0)).isEqualTo(beat.getT());
+        }
+        assertThat(index.timeOfBeat(beats.size() + 10, -1.0)).isEqualTo(-1.0);
+    }
+
+    @Test
+    @DisplayName("시간으로 진행 중인 비트를 찾는다.")
+    void beatAtTime() {
+        BeatIndex index = BeatIndex.of(syntheticSong());
+        double beatSec = 60 / BPM;
+
+        assertThat(index.beatAt(-0.1)).isEqualTo(-1);
+        assertThat(index.beatAt(0)).isEqualTo(1);
+        assertThat(index.beatAt(beatSec * 10 + beatSec / 2)).isEqualTo(11);
+        assertThat(index.beatAt(DURATION_SEC + 5)).isEqualTo(index.size());
+    }
+
+    @Test
+    @DisplayName("tempoMap 지점 사이 BPM은 선형 보간한다.")
+    void interpolatesTempo() {
+        SongBeat songBeat = syntheticSong();
+        songBeat.setTempoMap(List.of(tempo(0, 120), tempo(100, 180)));
+        BeatIndex index = BeatIndex.of(songBeat);
+
+        assertThat(index.bpmAt(-1)).isEqualTo(120);
+        assertThat(index.bpmAt(50)).isCloseTo(150, within(1e-9));
+        assertThat(index.bpmAt(300)).isEqualTo(180);
+    }
+
+    @Test
+    @DisplayName("비트 번호 / 마디 범위가 비트 수보다 훨씬 넓으면 이진 탐색으로 조회한다.")
+    void looksUpSparseNumbers() {
+        SongBeat songBeat = new SongBeat();
+        songBeat.setBeats(List.of(
+                beat(Integer.MIN_VALUE, -1_000_000_000, 1, 0.0),
+                beat(1, 1, 1, 0.5),
+                beat(2, 1, 2, 1.0),
+                beat(Integer.MAX_VALUE, 1_000_000_000, 1, 1.5)));
+        BeatIndex index = BeatIndex.of(songBeat);
+
+        assertThat(index.timeOfBeat(Integer.MIN_VALUE, -1.0)).isEqualTo(0.0);
+        assertThat(index.timeOfBeat(2, -1.0)).isEqualTo(1.0);
+        assertThat(index.timeOfBeat(Integer.MAX_VALUE, -1.0)).isEqualTo(1.5);
+        assertThat(index.timeOfBeat(3, -1.0)).isEqualTo(-1.0);
+
+        assertThat(index.firstBeatOfBar(1)).isEqualTo(1);
+        assertThat(index.firstBeatOfBar(1_000_000_000)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(index.barStartTime(-1_000_000_000, -1.0)).isEqualTo(0.0);
+        assertThat(index.barStartTime(2, -1.0)).isEqualTo(-1.0);
+    }
+
+    private SongBeat.Beat beat(int i, int bar, int beatInBar, double t) {
+        SongBeat.Beat beat = new SongBeat.Beat();
+        beat.setI(i);
+        beat.setBar(bar);
+        beat.setBeat(beatInBar);
+        beat.setT(t);
+        return beat;
+    }
+
+    private SongBeat syntheticSong() {
+        double beatSec = 60 / BPM;
+        int beatCount = (int) (DURATION_SEC / beatSec);
+        List<SongBeat.Beat> beats = new ArrayList<>(beatCount);
+        for (int n = 0; n < beatCount; n++) {
+            SongBeat.Beat beat = new SongBeat.Beat();
+            beat.setI(n + 1);
+            beat.setBar(n / 4 + 1);
+            beat.setBeat(n % 4 + 1);
+            beat.setT(n * beatSec);
+            beats.add(beat);
+        }
+
+        SongBeat songBeat = new SongBeat();
+        songBeat.setSongId(1L);
+        songBeat.setBeats(beats);
+        songBeat.setTempoMap(List.of(tempo(0, BPM)));
+        return songBeat;
+    }
+
+    private SongBeat.Tempo tempo(double t, double bpm) {
+        SongBeat.Tempo tempo = new SongBeat.Tempo();
+        tempo.setT(t);
+        tempo.setBpm(bpm);
+        return tempo;
+    }
+
+    /** 기존 SongRegistrationService.findBeatByBar 와 같은 방식 */
+    private int findBeatByBarLinear(List<SongBeat.Beat> beats, int bar) {
+        for (SongBeat.Beat beat : beats) {
+            if (beat.getBar() == bar && beat.getBeat() == 1) {
+                return beat.getI();
+            }
+        }
+        for (SongBeat.Beat beat : beats) {
+            if (beat.getBar() == bar) {
+                return beat.getI();
+            }
+        }
+        return beats.isEmpty() ? 1 : beats.get(beats.size() - 1).getI();
+    }
+}
@@ -0,0 +1,129 @@
+package com.heungbuja.song.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heungbuja.common.config.RedisConfig;
+import com.heungbuja.s3.service.MediaService;
+import com.heungbuja.song.dto.SongAnalysisJob;
+import com.heungbuja.song.enums.SongAnalysisJobStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 멈춘 곡 분석 작업 정리 (로컬 Redis 필요, test 프로필)
+ * 운영 작업과 겹치지 않도록 test- 접두사 jobId를 사용한다.
+ */
+@DataRedisTest
+@ActiveProfiles("test")
+@Import(RedisConfig.class)
+class SongAnalysisJobServiceTest {
+
+    private static final String JOB_PREFIX = "song:analysis-job:";
+    private static final String ACTIVE_JOBS_KEY = "song:analysis-jobs:active";
+    private static final String STALE_JOB = "test-stale";
+    private static final String FINISHED_JOB = "test-finished";
+    private static final String RECENT_JOB = "test-recent";
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+
+    private SongAnalysisJobService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SongAnalysisJobService(mock(MusicServerClient.class), mock(MediaService.class),
+                mock(SongRegistrationService.class), redisTemplate, stringRedisTemplate,
+                messagingTemplate, new ObjectMapper());
+        ReflectionTestUtils.setField(service, "staleAfterSeconds", 60L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String jobId : List.of(STALE_JOB, FINISHED_JOB, RECENT_JOB)) {
+            redisTemplate.delete(JOB_PREFIX + jobId);
+            stringRedisTemplate.opsForZSet().remove(ACTIVE_JOBS_KEY, jobId);
+        }
+    }
+
+    @Test
+    @DisplayName("기준 시간 넘게 멈춘 진행 중 작업은 FAILED로 바꾸고 인덱스에서 뺀다.")
+    void failsStaleJob() {
+        putJob(STALE_JOB, SongAnalysisJobStatus.RUNNING, 120_000);
+
+        service.failStaleJobs();
+
+        assertThat(statusOf(STALE_JOB)).isEqualTo(SongAnalysisJobStatus.FAILED);
+        assertThat(stringRedisTemplate.opsForZSet().score(ACTIVE_JOBS_KEY, STALE_JOB)).isNull();
+        verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("인덱스에 남아 있어도 그 사이 SUCCEEDED가 된 작업은 덮어쓰지 않는다.")
+    void keepsJobThatSucceededMeanwhile() {
+        putJob(FINISHED_JOB, SongAnalysisJobStatus.RUNNING, 120_000);
+        // 다른 노드가 정리 직전에 완료 처리 (인덱스 제거 전)
+        redisTemplate.opsForValue().set(JOB_PREFIX + FINISHED_JOB, job(FINISHED_JOB, SongAnalysisJobStatus.SUCCEEDED));
+
+        service.failStaleJobs();
+
+        assertThat(statusOf(FINISHED_JOB)).isEqualTo(SongAnalysisJobStatus.SUCCEEDED);
+        assertThat(stringRedisTemplate.opsForZSet().score(ACTIVE_JOBS_KEY, FINISHED_JOB)).isNull();
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("최근에 갱신된 작업은 건드리지 않는다.")
+    void keepsRecentJob() {
+        putJob(RECENT_JOB, SongAnalysisJobStatus.RUNNING, 1_000);
+
+        service.failStaleJobs();
+
+        assertThat(statusOf(RECENT_JOB)).isEqualTo(SongAnalysisJobStatus.RUNNING);
+        assertThat(stringRedisTemplate.opsForZSet().score(ACTIVE_JOBS_KEY, RECENT_JOB)).isNotNull();
+    }
+
+    private void putJob(String jobId, SongAnalysisJobStatus status, long idleMillis) {
+        redisTemplate.opsForValue().set(JOB_PREFIX + jobId, job(jobId, status));
+        stringRedisTemplate.opsForZSet().add(ACTIVE_JOBS_KEY, jobId, System.currentTimeMillis() - idleMillis);
+    }
+
+    private SongAnalysisJob job(String jobId, SongAnalysisJobStatus status) {
+        return SongAnalysisJob.builder()
+                .jobId(jobId)
+                .adminId(1L)
+                .title("테스트 곡")
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private SongAnalysisJobStatus statusOf(String jobId) {
+        return ((SongAnalysisJob) redisTemplate.opsForValue().get(JOB_PREFIX + jobId)).getStatus();
+    }
+}
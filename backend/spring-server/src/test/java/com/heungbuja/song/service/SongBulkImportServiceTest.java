@@ -0,0 +1,322 @@
+package com.heungbuja.song.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heungbuja.common.exception.CustomException;
+import com.heungbuja.s3.service.S3UploadService;
+import com.heungbuja.song.dto.SongBulkImportJob;
+import com.heungbuja.song.dto.SongBulkImportJobResponse;
+import com.heungbuja.song.entity.Song;
+import com.heungbuja.song.enums.SongAnalysisJobStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 곡 대량 가져오기 파이프라인 (S3 / music-server / 등록 / Redis는 메모리 스텁)
+ */
+class SongBulkImportServiceTest {
+
+    private static final int SONGS = 200;
+    private static final int BATCH_SIZE = 20;
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final S3UploadService s3UploadService = mock(S3UploadService.class);
+    private final MusicServerClient musicServerClient = mock(MusicServerClient.class);
+    private final SongRegistrationService songRegistrationService = mock(SongRegistrationService.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+
+    /** Redis 스텁 상태 */
+    private final Map<String, String> locks = new ConcurrentHashMap<>();
+    private final Map<Object, Object> done = new ConcurrentHashMap<>();
+    private final Map<String, Object> jobs = new ConcurrentHashMap<>();
+
+    /** 등록 스텁 기록 */
+    private final List<List<String>> registeredBatches = new CopyOnWriteArrayList<>();
+    /** 커밋된 곡 (S3 키 → songId) */
+    private final Map<String, Long> registeredSongs = new ConcurrentHashMap<>();
+    private final AtomicLong songIds = new AtomicLong();
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    private SongBulkImportService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        ValueOperations<String, String> lockOps = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(lockOps);
+        when(lockOps.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(inv -> locks.putIfAbsent(inv.getArgument(0), inv.getArgument(1)) == null);
+        when(lockOps.get(anyString())).thenAnswer(inv -> locks.get((String) inv.getArgument(0)));
+        when(stringRedisTemplate.delete(anyString())).thenAnswer(inv -> locks.remove((String) inv.getArgument(0)) != null);
+
+        HashOperations<String, Object, Object> hashOps = mock(HashOperations.class);
+        when(stringRedisTemplate.<Object, Object>opsForHash()).thenReturn(hashOps);
+        when(hashOps.keys(anyString())).thenAnswer(inv -> new HashSet<>(done.keySet()));
+        doAnswer(inv -> {
+            done.putAll(inv.getArgument(1));
+            return null;
+        }).when(hashOps).putAll(anyString(), anyMap());
+
+        ValueOperations<String, Object> jobOps = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(jobOps);
+        doAnswer(inv -> jobs.put(inv.getArgument(0), inv.getArgument(1)))
+                .when(jobOps).set(anyString(), any(), any(Duration.class));
+        when(jobOps.get(anyString())).thenAnswer(inv -> jobs.get((String) inv.getArgument(0)));
+
+        doAnswer(inv -> {
+            SongBulkImportJobResponse response = inv.getArgument(1);
+            if (response.getStatus() == SongAnalysisJobStatus.SUCCEEDED
+                    || response.getStatus() == SongAnalysisJobStatus.FAILED) {
+                finished.countDown();
+            }
+            return null;
+        }).when(messagingTemplate).convertAndSend(anyString(), any(SongBulkImportJobResponse.class));
+
+        JsonNode analysis = objectMapper.readTree("""
+                {
+                  "beats": {"beats": [{"i": 1, "bar": 1, "beat": 1, "t": 0.0}, {"i": 2, "bar": 1, "beat": 2, "t": 0.5}]},
+                  "lyrics": {"title": "테스트", "lines": [{"lineIndex": 0, "text": "첫 줄", "start": 0.0, "end": 1.0}]}
+                }
+                """);
+        when(musicServerClient.analyzeAudioAsync(any(Resource.class), anyString(), anyString(), anyString()))
+                .thenAnswer(inv -> Mono.just(analysis));
+
+        when(songRegistrationService.registerAnalyzedSongs(any())).thenAnswer(inv -> {
+            List<SongRegistrationService.AnalyzedSong> batch = inv.getArgument(0);
+            registeredBatches.add(batch.stream().map(SongRegistrationService.AnalyzedSong::s3Key).toList());
+            List<Song> songs = new ArrayList<>(batch.size());
+            for (SongRegistrationService.AnalyzedSong song : batch) {
+                songs.add(Song.builder().id(songIds.incrementAndGet()).title(song.title()).artist(song.artist()).build());
+                registeredSongs.put(song.s3Key(), songs.get(songs.size() - 1).getId());
+            }
+            return songs;
+        });
+        when(songRegistrationService.findRegisteredSongIds(anyCollection())).thenAnswer(inv -> {
+            Map<String, Long> found = new ConcurrentHashMap<>();
+            for (Object s3Key : (Iterable<?>) inv.getArgument(0)) {
+                if (registeredSongs.containsKey(s3Key)) {
+                    found.put((String) s3Key, registeredSongs.get(s3Key));
+                }
+            }
+            return found;
+        });
+
+        service = new SongBulkImportService(s3UploadService, musicServerClient, songRegistrationService,
+                new SongJsonReader(objectMapper, 64 * 1024, 100, 10),
+                redisTemplate, stringRedisTemplate, messagingTemplate, objectMapper);
+        ReflectionTestUtils.setField(service, "parallelism", 8);
+        ReflectionTestUtils.setField(service, "persistBatchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(service, "workDir", tempDir.resolve("work").toString());
+        ReflectionTestUtils.setField(service, "sourceRoot", tempDir.resolve("sources").toString());
+        ReflectionTestUtils.setField(service, "lockTtlSeconds", 600L);
+        ReflectionTestUtils.setField(service, "maxZipEntries", 10000);
+        ReflectionTestUtils.setField(service, "maxExtractedBytes", 1024L * 1024);
+        ReflectionTestUtils.setField(service, "nodeId", "node-a");
+    }
+
+    @Test
+    @DisplayName("200곡을 배치 단위로 한 번씩만 등록하고 체크포인트 / 락을 정리한다.")
+    void importsTwoHundredSongs() throws Exception {
+        writeSources("batch", SONGS);
+
+        SongBulkImportJobResponse submitted = service.submitDirectory(1L, "batch");
+        assertThat(finished.await(30, TimeUnit.SECONDS)).isTrue();
+
+        SongBulkImportJobResponse job = service.getJob(submitted.getJobId(), 1L);
+        assertThat(job.getStatus()).isEqualTo(SongAnalysisJobStatus.SUCCEEDED);
+        assertThat(job.getTotal()).isEqualTo(SONGS);
+        assertThat(job.getCompleted()).isEqualTo(SONGS);
+        assertThat(job.getFailed()).isZero();
+
+        List<String> registered = registeredBatches.stream().flatMap(List::stream).toList();
+        assertThat(registered).hasSize(SONGS).doesNotHaveDuplicates();
+        assertThat(registeredBatches).hasSize(SONGS / BATCH_SIZE)
+                .allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(BATCH_SIZE));
+        assertThat(done).hasSize(SONGS);
+        // 락 해제는 완료 알림 뒤(doFinally)에 일어남
+        awaitUntil(locks::isEmpty);
+        assertThat(locks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실행 락을 다른 노드가 가져가면 다음 배치부터 등록하지 않는다.")
+    void stopsWhenLockIsLost() throws Exception {
+        writeSources("batch", SONGS);
+        when(songRegistrationService.registerAnalyzedSongs(any())).thenAnswer(inv -> {
+            List<SongRegistrationService.AnalyzedSong> batch = inv.getArgument(0);
+            registeredBatches.add(batch.stream().map(SongRegistrationService.AnalyzedSong::s3Key).toList());
+            // 첫 배치 등록 중 락 만료 → 다른 노드가 재개
+            locks.replaceAll((key, owner) -> "other-node");
+            return batch.stream()
+                    .map(song -> Song.builder().id(songIds.incrementAndGet()).title(song.title()).build())
+                    .toList();
+        });
+
+        SongBulkImportJobResponse submitted = service.submitDirectory(1L, "batch");
+        Map<?, ?> runningJobs = (Map<?, ?>) ReflectionTestUtils.getField(service, "runningJobs");
+        awaitUntil(runningJobs::isEmpty);
+        assertThat(runningJobs).isEmpty();
+
+        assertThat(registeredBatches).hasSize(1);
+        assertThat(locks).containsValue("other-node");
+        // 상태는 락을 가져간 노드가 관리하므로 덮어쓰지 않음
+        SongBulkImportJob job = (SongBulkImportJob) jobs.get("song:bulk-import:" + submitted.getJobId());
+        assertThat(job.getStatus()).isEqualTo(SongAnalysisJobStatus.RUNNING);
+    }
+
+    @Test
+    @DisplayName("커밋 후 체크포인트를 남기지 못한 곡은 재개할 때 다시 등록하지 않고 체크포인트만 기록한다.")
+    void resumesWithoutRegisteringCommittedSongsAgain() throws Exception {
+        writeSources("batch", SONGS);
+        // 첫 배치는 커밋됐지만 체크포인트 기록 전에 실패
+        AtomicBoolean failCheckpoint = new AtomicBoolean(true);
+        HashOperations<String, Object, Object> hashOps = stringRedisTemplate.opsForHash();
+        doAnswer(inv -> {
+            if (failCheckpoint.getAndSet(false)) {
+                throw new IllegalStateException("redis down");
+            }
+            done.putAll(inv.getArgument(1));
+            return null;
+        }).when(hashOps).putAll(anyString(), anyMap());
+
+        SongBulkImportJobResponse submitted = service.submitDirectory(1L, "batch");
+        awaitUntil(locks::isEmpty);
+        assertThat(service.getJob(submitted.getJobId(), 1L).getStatus()).isEqualTo(SongAnalysisJobStatus.FAILED);
+        assertThat(done).hasSize(SONGS - BATCH_SIZE);
+
+        service.resume(submitted.getJobId(), 1L);
+        awaitUntil(() -> service.getJob(submitted.getJobId(), 1L).getStatus() == SongAnalysisJobStatus.SUCCEEDED);
+
+        assertThat(service.getJob(submitted.getJobId(), 1L).getStatus()).isEqualTo(SongAnalysisJobStatus.SUCCEEDED);
+        assertThat(registeredBatches.stream().flatMap(List::stream).toList())
+                .hasSize(SONGS).doesNotHaveDuplicates();
+        assertThat(done).hasSize(SONGS);
+    }
+
+    @Test
+    @DisplayName("ZIP 작업은 작업 디렉터리가 공유 저장소가 아니면 압축을 푼 노드에서만 재개한다.")
+    void resumesZipJobOnlyOnExtractingNode() throws Exception {
+        Path dir = Files.createDirectories(tempDir.resolve("work").resolve("job-1"));
+        jobs.put("song:bulk-import:job-1", SongBulkImportJob.builder()
+                .jobId("job-1")
+                .adminId(1L)
+                .sourceDir(dir.toString())
+                .extracted(true)
+                .nodeId("node-b")
+                .status(SongAnalysisJobStatus.FAILED)
+                .build());
+
+        assertThatThrownBy(() -> service.resume("job-1", 1L))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("node-b");
+        assertThat(locks).isEmpty();
+
+        ReflectionTestUtils.setField(service, "sharedWorkDir", true);
+        // 공유 저장소면 다른 노드에서도 재개 (매니페스트가 없어 시작 단계에서 실패)
+        assertThatThrownBy(() -> service.resume("job-1", 1L))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("manifest.json");
+    }
+
+    @Test
+    @DisplayName("ZIP 항목 수나 압축 해제 크기가 제한을 넘으면 거절하고 작업 디렉터리를 지운다.")
+    void rejectsOversizedZip() throws Exception {
+        ReflectionTestUtils.setField(service, "maxZipEntries", 3);
+        MockMultipartFile tooManyEntries = zip(IntStream.range(0, 4)
+                .boxed()
+                .collect(Collectors.toMap(i -> "file-" + i + ".txt", i -> new byte[1])));
+        assertThatThrownBy(() -> service.submitZip(1L, tooManyEntries))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("ZIP 항목이 너무 많습니다");
+
+        ReflectionTestUtils.setField(service, "maxZipEntries", 10000);
+        ReflectionTestUtils.setField(service, "maxExtractedBytes", 1000L);
+        MockMultipartFile tooLarge = zip(Map.of("manifest.json", new byte[600], "song.mp3", new byte[600]));
+        assertThatThrownBy(() -> service.submitZip(1L, tooLarge))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("ZIP 압축 해제 크기가 너무 큽니다");
+
+        try (var leftovers = Files.list(tempDir.resolve("work"))) {
+            assertThat(leftovers).isEmpty();
+        }
+    }
+
+    private void writeSources(String directory, int count) throws Exception {
+        Path dir = Files.createDirectories(tempDir.resolve("sources").resolve(directory));
+        List<SongBulkImportService.SongImportEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = String.format("song-%03d", i);
+            Files.write(dir.resolve(name + ".mp3"), new byte[16]);
+            Files.writeString(dir.resolve(name + ".txt"), "첫 줄", StandardCharsets.UTF_8);
+            entries.add(new SongBulkImportService.SongImportEntry("곡 " + i, "가수", name + ".mp3", name + ".txt"));
+        }
+        objectMapper.writeValue(dir.resolve("manifest.json").toFile(), entries);
+    }
+
+    private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && !condition.getAsBoolean(); attempt++) {
+            Thread.sleep(50);
+        }
+    }
+
+    private MockMultipartFile zip(Map<String, byte[]> files) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (Map.Entry<String, byte[]> file : files.entrySet()) {
+                zip.putNextEntry(new ZipEntry(file.getKey()));
+                zip.write(file.getValue());
+                zip.closeEntry();
+            }
+        }
+        return new MockMultipartFile("file", "songs.zip", "application/zip", bytes.toByteArray());
+    }
+}
@@ -0,0 +1,177 @@
+package com.heungbuja.song.service;
+
+import com.heungbuja.common.exception.CustomException;
+import com.heungbuja.game.dto.ActionTimelineEvent;
+import com.heungbuja.song.domain.ChoreographyPattern;
+import com.heungbuja.song.domain.SongBeat;
+import com.heungbuja.song.domain.SongChoreography;
+import com.heungbuja.song.domain.SongGameReadModel;
+import com.heungbuja.song.domain.SongLyrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class SongGameReadModelAssemblerTest {
+
+    // 120 BPM, 4/4 박자, 200비트 (intro 1~16, verse1 17~96, break 97~112, verse2 113~200)
+    private static final double BEAT_SEC = 0.5;
+    private static final int BEAT_COUNT = 200;
+    private static final Map<Integer, String> ACTION_NAMES = Map.of(1, "손뼉 박수", 2, "팔 뻗기");
+
+    @Test
+    @DisplayName("섹션 시간, 카메라 구간, 기본 값을 계산한다.")
+    void assemblesSectionInfo() {
+        SongGameReadModel model = assemble(songBeat());
+
+        assertThat(model.getSongId()).isEqualTo(1L);
+        assertThat(model.getBpm()).isEqualTo(120.0);
+        assertThat(model.getDuration()).isEqualTo(100.0);
+        assertThat(model.getSectionStartTimes())
+                .containsEntry("intro", 0.0)
+                .containsEntry("verse1", 16 * BEAT_SEC)
+                .containsEntry("verse2", 112 * BEAT_SEC);
+
+        // 카메라 구간: 절 시작 32비트 후부터 96비트
+        assertThat(model.getSectionInfo().getVerse1StartTime()).isEqualTo(16 * BEAT_SEC);
+        assertThat(model.getSectionInfo().getVerse1cam().getStartTime()).isEqualTo((17 + 32 - 1) * BEAT_SEC);
+        assertThat(model.getSectionInfo().getVerse1cam().getEndTime()).isEqualTo((17 + 32 + 96 - 1) * BEAT_SEC);
+        // verse2 카메라 끝 비트(241)는 곡에 없어 0
+        assertThat(model.getSectionInfo().getVerse2cam().getEndTime()).isEqualTo(0.0);
+
+        assertThat(model.getLyricsLines()).extracting(SongLyrics.Line::getText).containsExactly("첫 줄");
+    }
+
+    @Test
+    @DisplayName("패턴을 병합해 섹션 전체 동작 타임라인을 만든다 (동작 코드 0은 제외).")
+    void assemblesTimelines() {
+        SongGameReadModel model = assemble(songBeat());
+
+        // verse1: [P1(1,0), P2(2,2)] x eachRepeat 1 → 1,0,2,2 반복, 80비트 중 60개
+        List<ActionTimelineEvent> verse1 = model.getVerse1Timeline();
+        assertThat(verse1).hasSize(60);
+        assertThat(verse1.get(0).getTime()).isEqualTo(16 * BEAT_SEC);
+        assertThat(verse1.get(0).getActionName()).isEqualTo("손뼉 박수");
+        assertThat(verse1.get(1).getTime()).isCloseTo(18 * BEAT_SEC, within(1e-9));
+        assertThat(verse1.get(1).getActionCode()).isEqualTo(2);
+
+        assertThat(model.getVerse2Timelines()).containsOnlyKeys("level1", "level2");
+        assertThat(model.getVerse2Timelines().get("level2")).hasSize(88);
+    }
+
+    @Test
+    @DisplayName("섹션 길이만큼 펼친 패턴 / 원본 패턴 / 영상 Key를 만든다.")
+    void assemblesPatternsAndVideoKeys() {
+        SongGameReadModel model = assemble(songBeat());
+
+        assertThat(model.getSectionPatterns().getVerse1()).hasSize(80).startsWith("P1", "P2", "P1", "P2");
+        assertThat(model.getSectionPatterns().getVerse2().getLevel1()).hasSize(88);
+        assertThat(model.getOriginalSectionPatterns().getVerse1()).containsExactly("P1", "P2");
+        assertThat(model.getOriginalSectionPatterns().getVerse2().getLevel3()).isNull();
+
+        assertThat(model.getVideoKeys())
+                .containsEntry("intro", "video/break.mp4")
+                .containsEntry("verse1", "video/part1.mp4")
+                .containsEntry("verse2_level2", "video/part2_level1.mp4");
+    }
+
+    @Test
+    @DisplayName("verse2 섹션이 없으면 GAME_METADATA_NOT_FOUND로 실패한다.")
+    void failsWithoutRequiredSection() {
+        SongBeat songBeat = songBeat();
+        songBeat.getSections().removeIf(section -> "verse2".equals(section.getLabel()));
+
+        assertThatThrownBy(() -> assemble(songBeat))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("'verse2' 섹션");
+    }
+
+    private SongGameReadModel assemble(SongBeat songBeat) {
+        return SongGameReadModelAssembler.assemble(songBeat, lyrics(), choreography(), patterns(), ACTION_NAMES);
+    }
+
+    private SongBeat songBeat() {
+        List<SongBeat.Beat> beats = new ArrayList<>(BEAT_COUNT);
+        for (int n = 0; n < BEAT_COUNT; n++) {
+            SongBeat.Beat beat = new SongBeat.Beat();
+            beat.setI(n + 1);
+            beat.setBar(n / 4 + 1);
+            beat.setBeat(n % 4 + 1);
+            beat.setT(n * BEAT_SEC);
+            beats.add(beat);
+        }
+
+        SongBeat.Audio audio = new SongBeat.Audio();
+        audio.setDurationSec(BEAT_COUNT * BEAT_SEC);
+        SongBeat.Tempo tempo = new SongBeat.Tempo();
+        tempo.setBpm(120);
+
+        SongBeat songBeat = new SongBeat();
+        songBeat.setSongId(1L);
+        songBeat.setAudio(audio);
+        songBeat.setBeats(beats);
+        songBeat.setTempoMap(List.of(tempo));
+        songBeat.setSections(new ArrayList<>(List.of(
+                section("intro", 1, 16),
+                section("verse1", 17, 96),
+                section("break", 97, 112),
+                section("verse2", 113, 200))));
+        return songBeat;
+    }
+
+    private SongBeat.Section section(String label, int startBeat, int endBeat) {
+        SongBeat.Section section = new SongBeat.Section();
+        section.setLabel(label);
+        section.setStartBeat(startBeat);
+        section.setEndBeat(endBeat);
+        section.setStartBar((startBeat - 1) / 4 + 1);
+        section.setEndBar((endBeat - 1) / 4 + 1);
+        return section;
+    }
+
+    private SongLyrics lyrics() {
+        SongLyrics.Line line = new SongLyrics.Line();
+        line.setText("첫 줄");
+        line.setEnd(2.0);
+
+        SongLyrics lyrics = new SongLyrics();
+        lyrics.setSongId(1L);
+        lyrics.setLines(List.of(line));
+        return lyrics;
+    }
+
+    private SongChoreography choreography() {
+        SongChoreography.VersePatternInfo verse1 = new SongChoreography.VersePatternInfo();
+        verse1.setPatternSequence(List.of("P1", "P2"));
+        verse1.setEachRepeat(1);
+
+        SongChoreography.Version version = new SongChoreography.Version();
+        version.setVerse1(verse1);
+        version.setVerse2(List.of(level(1, "P1"), level(2, "P2")));
+
+        SongChoreography choreography = new SongChoreography();
+        choreography.setSongId(1L);
+        choreography.setVersions(List.of(version));
+        return choreography;
+    }
+
+    private SongChoreography.VerseLevelPatternInfo level(int level, String patternId) {
+        SongChoreography.VerseLevelPatternInfo info = new SongChoreography.VerseLevelPatternInfo();
+        info.setLevel(level);
+        info.setPatternSequence(List.of(patternId));
+        info.setEachRepeat(2);
+        return info;
+    }
+
+    private ChoreographyPattern patterns() {
+        return new ChoreographyPattern(null, 1L, List.of(
+                new ChoreographyPattern.Pattern("P1", "손뼉", List.of(1, 0)),
+                new ChoreographyPattern.Pattern("P2", "팔", List.of(2, 2))));
+    }
+}
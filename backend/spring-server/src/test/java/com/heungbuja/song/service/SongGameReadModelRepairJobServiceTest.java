@@ -0,0 +1,152 @@
+package com.heungbuja.song.service;
+
+import com.heungbuja.common.exception.CustomException;
+import com.heungbuja.song.dto.SongGameReadModelRebuildResponse;
+import com.heungbuja.song.dto.SongGameReadModelRepairJob;
+import com.heungbuja.song.enums.SongAnalysisJobStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게임 읽기 모델 불일치 복구 작업 (곡 목록 / Redis는 메모리 스텁)
+ */
+class SongGameReadModelRepairJobServiceTest {
+
+    private final SongGameReadModelService songGameReadModelService = mock(SongGameReadModelService.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+
+    /** Redis 스텁 상태 */
+    private final Map<String, String> locks = new ConcurrentHashMap<>();
+    private final Map<String, Object> jobs = new ConcurrentHashMap<>();
+
+    private SongGameReadModelRepairJobService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ValueOperations<String, String> lockOps = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(lockOps);
+        when(lockOps.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(inv -> locks.putIfAbsent(inv.getArgument(0), inv.getArgument(1)) == null);
+        when(lockOps.get(anyString())).thenAnswer(inv -> locks.get((String) inv.getArgument(0)));
+        when(stringRedisTemplate.delete(anyString())).thenAnswer(inv -> locks.remove((String) inv.getArgument(0)) != null);
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+                .thenAnswer(inv -> inv.getArgument(2).equals(locks.get("song:game-read-model:repair:lock")) ? 1L : 0L);
+
+        ValueOperations<String, Object> jobOps = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(jobOps);
+        doAnswer(inv -> jobs.put(inv.getArgument(0), inv.getArgument(1)))
+                .when(jobOps).set(anyString(), any(), any(Duration.class));
+        when(jobOps.get(anyString())).thenAnswer(inv -> jobs.get((String) inv.getArgument(0)));
+
+        // 곡 1~5를 2곡씩 페이지로
+        when(songGameReadModelService.nextSongIdPage(anyLong(), anyInt())).thenAnswer(inv -> {
+            long afterSongId = inv.getArgument(0);
+            int size = inv.getArgument(1);
+            return LongStream.rangeClosed(afterSongId + 1, 5).limit(size).boxed().toList();
+        });
+
+        service = new SongGameReadModelRepairJobService(songGameReadModelService, redisTemplate, stringRedisTemplate);
+        ReflectionTestUtils.setField(service, "pageSize", 2);
+        ReflectionTestUtils.setField(service, "lockTtlSeconds", 600L);
+    }
+
+    @Test
+    @DisplayName("전체 곡을 페이지 단위로 복구하고 결과를 누적한 뒤 잠금을 푼다.")
+    void repairsPageByPage() {
+        when(songGameReadModelService.repairInconsistent(anyList())).thenAnswer(inv -> {
+            List<Long> songIds = inv.getArgument(0);
+            // 짝수 곡은 STALE이라 재생성, 곡 4는 재생성 실패
+            List<Long> targets = songIds.stream().filter(id -> id % 2 == 0).toList();
+            List<String> failures = targets.stream().filter(id -> id == 4).map(id -> id + ": 원본 없음").toList();
+            return SongGameReadModelRebuildResponse.builder()
+                    .total(targets.size())
+                    .rebuilt(targets.size() - failures.size())
+                    .failures(failures)
+                    .build();
+        });
+        SongGameReadModelRepairJob job = newJob("job-1");
+        locks.put("song:game-read-model:repair:lock", "job-1");
+
+        service.run(job);
+
+        verify(songGameReadModelService).repairInconsistent(List.of(1L, 2L));
+        verify(songGameReadModelService).repairInconsistent(List.of(3L, 4L));
+        verify(songGameReadModelService).repairInconsistent(List.of(5L));
+        SongGameReadModelRepairJob saved = service.getJob("job-1");
+        assertThat(saved.getStatus()).isEqualTo(SongAnalysisJobStatus.FAILED);
+        assertThat(saved.getChecked()).isEqualTo(5);
+        assertThat(saved.getTotal()).isEqualTo(2);
+        assertThat(saved.getRebuilt()).isEqualTo(1);
+        assertThat(saved.getFailures()).containsExactly("4: 원본 없음");
+        assertThat(locks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실행 잠금을 잃으면 남은 페이지를 처리하지 않고, 작업 상태를 덮어쓰지 않는다.")
+    void stopsWhenLockIsLost() {
+        when(songGameReadModelService.repairInconsistent(anyList())).thenAnswer(inv -> {
+            // 첫 페이지 처리 중 잠금 만료 → 다른 노드가 새 작업 시작
+            locks.put("song:game-read-model:repair:lock", "other-job");
+            return SongGameReadModelRebuildResponse.builder().total(0).rebuilt(0).failures(List.of()).build();
+        });
+        SongGameReadModelRepairJob job = newJob("job-1");
+        locks.put("song:game-read-model:repair:lock", "job-1");
+
+        service.run(job);
+
+        verify(songGameReadModelService).repairInconsistent(List.of(1L, 2L));
+        verify(songGameReadModelService, never()).repairInconsistent(List.of(3L, 4L));
+        assertThat(service.getJob("job-1").getStatus()).isEqualTo(SongAnalysisJobStatus.RUNNING);
+        assertThat(locks).containsEntry("song:game-read-model:repair:lock", "other-job");
+    }
+
+    @Test
+    @DisplayName("이미 실행 중인 복구 작업이 있으면 새 작업을 등록하지 않는다.")
+    void rejectsConcurrentRepair() {
+        locks.put("song:game-read-model:repair:lock", "job-1");
+
+        assertThatThrownBy(() -> service.submit(1L))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining("이미 실행 중인");
+        assertThat(jobs).isEmpty();
+        verify(songGameReadModelService, never()).nextSongIdPage(anyLong(), anyInt());
+    }
+
+    private SongGameReadModelRepairJob newJob(String jobId) {
+        return SongGameReadModelRepairJob.builder()
+                .jobId(jobId)
+                .adminId(1L)
+                .status(SongAnalysisJobStatus.QUEUED)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
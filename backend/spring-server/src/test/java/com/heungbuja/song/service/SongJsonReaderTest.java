@@ -0,0 +1,157 @@
+package com.heungbuja.song.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heungbuja.common.exception.CustomException;
+import com.heungbuja.common.exception.ErrorCode;
+import com.heungbuja.song.domain.SongBeat;
+import com.heungbuja.song.domain.SongLyrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SongJsonReaderTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SongJsonReader reader = new SongJsonReader(objectMapper, 64 * 1024, 100, 10);
+
+    @Test
+    @DisplayName("박자 JSON을 스트리밍으로 읽어 SongBeat로 만든다.")
+    void readsBeats() throws Exception {
+        SongBeat songBeat = reader.readBeats(file("""
+                {
+                  "audio": {"title": "테스트", "durationSec": 2.0},
+                  "sections": [{"label": "intro", "startBeat": 1, "endBeat": 4, "startBar": 1, "endBar": 1}],
+                  "beats": [
+                    {"i": 1, "bar": 1, "beat": 1, "t": 0.0},
+                    {"i": 2, "bar": 1, "beat": 2, "t": 0.5, "extra": [1, 2]},
+                    {"i": 3, "bar": 1, "beat": 3, "t": 1.0},
+                    {"i": 4, "bar": 1, "beat": 4, "t": 1.5}
+                  ],
+                  "tempoMap": [{"t": 0.0, "bpm": 120}],
+                  "unknown": {"nested": true}
+                }
+                """));
+
+        assertThat(songBeat.getAudio().getTitle()).isEqualTo("테스트");
+        assertThat(songBeat.getBeats()).hasSize(4);
+        assertThat(songBeat.getBeats().get(1).getT()).isEqualTo(0.5);
+        assertThat(songBeat.getBeats().get(3).getBeat()).isEqualTo(4);
+        assertThat(songBeat.getSections()).extracting(SongBeat.Section::getLabel).containsExactly("intro");
+        assertThat(songBeat.getTempoMap()).extracting(SongBeat.Tempo::getBpm).containsExactly(120.0);
+    }
+
+    @Test
+    @DisplayName("JsonNode로 받은 분석 결과도 같은 방식으로 읽는다.")
+    void readsBeatsFromTree() throws Exception {
+        SongBeat songBeat = reader.readBeats(objectMapper.readTree("""
+                {"beats": [{"i": 1, "bar": 1, "beat": 1, "t": 0.0}, {"i": 2, "bar": 1, "beat": 2, "t": 0.5}]}
+                """));
+
+        assertThat(songBeat.getBeats()).extracting(SongBeat.Beat::getI).containsExactly(1, 2);
+        assertThat(songBeat.getSections()).isNull();
+    }
+
+    @Test
+    @DisplayName("비트 시간이 역행하면 거절한다.")
+    void rejectsNonMonotonicBeats() {
+        assertInvalid(() -> reader.readBeats(file("""
+                {"beats": [{"i": 1, "bar": 1, "beat": 1, "t": 1.0}, {"i": 2, "bar": 1, "beat": 2, "t": 0.5}]}
+                """)), "beats[1].t");
+    }
+
+    @Test
+    @DisplayName("비트 번호 / 마디가 비트 수 한도를 벗어나면 거절한다.")
+    void rejectsBeatNumberOutOfRange() {
+        assertInvalid(() -> reader.readBeats(file("""
+                {"beats": [{"i": 1, "bar": 1, "beat": 1, "t": 0.0}, {"i": 2147483647, "bar": 1, "beat": 2, "t": 0.5}]}
+                """)), "beats[1].i 값이 범위(0~100)");
+
+        assertInvalid(() -> reader.readBeats(file("""
+                {"beats": [{"i": 1, "bar": -2147483648, "beat": 1, "t": 0.0}]}
+                """)), "beats[0].bar 값이 범위(0~100)");
+    }
+
+    @Test
+    @DisplayName("섹션이 곡 비트 / 마디 범위를 벗어나면 거절한다.")
+    void rejectsSectionOutOfRange() {
+        assertInvalid(() -> reader.readBeats(file("""
+                {
+                  "sections": [{"label": "verse1", "startBeat": 1, "endBeat": 9, "startBar": 1, "endBar": 1}],
+                  "beats": [{"i": 1, "bar": 1, "beat": 1, "t": 0.0}, {"i": 2, "bar": 1, "beat": 2, "t": 0.5}]
+                }
+                """)), "sections[0](verse1)의 비트 범위");
+
+        assertInvalid(() -> reader.readBeats(file("""
+                {
+                  "beats": [{"i": 1, "bar": 1, "beat": 1, "t": 0.0}, {"i": 2, "bar": 1, "beat": 2, "t": 0.5}],
+                  "sections": [{"label": "outro", "startBeat": 1, "endBeat": 2, "startBar": 1, "endBar": 3}]
+                }
+                """)), "마디 범위");
+
+        assertInvalid(() -> reader.readBeats(file("""
+                {"sections": [{"label": "intro", "startBeat": 4, "endBeat": 1, "startBar": 1, "endBar": 1}]}
+                """)), "시작이 끝보다 뒤");
+    }
+
+    @Test
+    @DisplayName("비트 수 / 파일 크기 한도를 넘으면 거절한다.")
+    void rejectsOversizedInput() {
+        StringBuilder json = new StringBuilder("{\"beats\": [");
+        for (int n = 0; n < 101; n++) {
+            json.append(n == 0 ? "" : ",")
+                    .append("{\"i\": ").append(n + 1).append(", \"bar\": 1, \"beat\": 1, \"t\": ").append(n).append("}");
+        }
+        json.append("]}");
+        assertInvalid(() -> reader.readBeats(file(json.toString())), "비트 수가 한도(100)");
+
+        byte[] large = new byte[64 * 1024 + 1];
+        assertInvalid(() -> reader.readBeats(new MockMultipartFile("beatJson", "beat.json", "application/json", large)),
+                "파일 크기가 한도");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 JSON은 INVALID_FILE_FORMAT으로 거절한다.")
+    void rejectsMalformedJson() {
+        assertInvalid(() -> reader.readBeats(file("[1, 2, 3]")), "최상위 값은 객체");
+        assertInvalid(() -> reader.readBeats(file("{\"beats\": {\"i\": 1}}")), "beats는 배열");
+        assertInvalid(() -> reader.readBeats(file("{\"beats\": [{\"i\": 1, \"t\": ")), "박자 JSON 형식 오류");
+        assertInvalid(() -> reader.readBeats(file("{\"tempoMap\": [{\"t\": 0, \"bpm\": 0}]}")), "tempoMap[0].bpm");
+    }
+
+    @Test
+    @DisplayName("가사 라인을 읽고 시간 범위를 검증한다.")
+    void readsAndValidatesLyrics() throws Exception {
+        SongLyrics lyrics = reader.readLyrics(file("""
+                {"title": "테스트", "lines": [{"lineIndex": 0, "text": "첫 줄", "start": 0.0, "end": 2.5}]}
+                """));
+        assertThat(lyrics.getTitle()).isEqualTo("테스트");
+        assertThat(lyrics.getLines()).extracting(SongLyrics.Line::getText).containsExactly("첫 줄");
+
+        assertInvalid(() -> reader.readLyrics(file("""
+                {"lines": [{"lineIndex": 0, "text": "역행", "start": 3.0, "end": 1.0}]}
+                """)), "lines[0]의 시간 범위");
+    }
+
+    private MockMultipartFile file(String json) {
+        return new MockMultipartFile("file", "file.json", "application/json", json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void assertInvalid(ThrowingRead read, String messagePart) {
+        assertThatThrownBy(read::run)
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(messagePart)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_FILE_FORMAT);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRead {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,153 @@
+package com.heungbuja.song.service;
+
+import com.heungbuja.common.exception.CustomException;
+import com.heungbuja.s3.entity.Media;
+import com.heungbuja.s3.service.MediaService;
+import com.heungbuja.song.domain.ChoreographyPattern;
+import com.heungbuja.song.domain.SongBeat;
+import com.heungbuja.song.domain.SongChoreography;
+import com.heungbuja.song.domain.SongLyrics;
+import com.heungbuja.song.entity.Song;
+import com.heungbuja.song.repository.jpa.SongRepository;
+import com.heungbuja.song.repository.mongo.ChoreographyPatternRepository;
+import com.heungbuja.song.repository.mongo.SongBeatRepository;
+import com.heungbuja.song.repository.mongo.SongChoreographyRepository;
+import com.heungbuja.song.repository.mongo.SongLyricsRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 곡 일괄 등록 실패 시 MongoDB 문서 정리
+ */
+class SongRegistrationServiceTest {
+
+    private static final List<Class<?>> DOCUMENT_TYPES = List.of(SongBeat.class, SongLyrics.class,
+            SongChoreography.class, ChoreographyPattern.class);
+
+    private final SongRepository songRepository = mock(SongRepository.class);
+    private final MediaService mediaService = mock(MediaService.class);
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final SongGameReadModelService songGameReadModelService = mock(SongGameReadModelService.class);
+
+    private SongRegistrationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SongRegistrationService(songRepository, mock(SongBeatRepository.class),
+                mock(SongLyricsRepository.class), mock(SongChoreographyRepository.class),
+                mock(ChoreographyPatternRepository.class), new DefaultChoreographyGenerator(),
+                mock(SongJsonReader.class), mediaService, mongoTemplate, songGameReadModelService);
+
+        when(mediaService.createMediaBatch(anyList(), anyString(), anyList(), anyLong()))
+                .thenAnswer(inv -> IntStream.range(0, ((List<?>) inv.getArgument(0)).size())
+                        .mapToObj(i -> new Media())
+                        .toList());
+        when(songRepository.saveAll(anyList())).thenAnswer(inv -> {
+            List<Song> songs = inv.getArgument(0);
+            return IntStream.range(0, songs.size())
+                    .mapToObj(i -> Song.builder().id(100L + i).title(songs.get(i).getTitle()).build())
+                    .toList();
+        });
+        // 박자는 들어간 뒤 가사 insertMany에서 실패
+        when(mongoTemplate.insert(anyCollection(), eq(SongLyrics.class)))
+                .thenThrow(new DataAccessResourceFailureException("mongo down"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 실패하면 이미 넣은 MongoDB 문서를 바로 지운다.")
+    void removesDocumentsImmediatelyWithoutTransaction() {
+        assertThatThrownBy(() -> service.registerAnalyzedSongs(analyzedSongs(3)))
+                .isInstanceOf(CustomException.class);
+
+        assertRemoved(List.of(100L, 101L, 102L));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 실패하면 롤백이 끝난 뒤 MongoDB 문서를 지운다.")
+    void removesDocumentsAfterRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertThatThrownBy(() -> service.registerAnalyzedSongs(analyzedSongs(2)))
+                .isInstanceOf(CustomException.class);
+        verify(mongoTemplate, never()).remove(any(Query.class), any(Class.class));
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertRemoved(List.of(100L, 101L));
+        verify(songGameReadModelService, never()).materializeNew(anyList(), anyList(), anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("커밋되면 MongoDB 문서를 지우지 않고, 그때 게임 읽기 모델을 만든다.")
+    void keepsDocumentsAndMaterializesAfterCommit() {
+        doAnswer(inv -> inv.getArgument(0)).when(mongoTemplate).insert(anyCollection(), eq(SongLyrics.class));
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertThat(service.registerAnalyzedSongs(analyzedSongs(2))).hasSize(2);
+        verify(songGameReadModelService, never()).materializeNew(anyList(), anyList(), anyList(), anyList());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        verify(mongoTemplate, never()).remove(any(Query.class), any(Class.class));
+        verify(songGameReadModelService).materializeNew(anyList(), anyList(), anyList(), anyList());
+    }
+
+    private void assertRemoved(List<Long> songIds) {
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Class<?>> type = ArgumentCaptor.forClass(Class.class);
+        verify(mongoTemplate, times(DOCUMENT_TYPES.size())).remove(query.capture(), type.capture());
+
+        assertThat(type.getAllValues()).containsExactlyInAnyOrderElementsOf(DOCUMENT_TYPES);
+        assertThat(query.getValue().getQueryObject().get("songId", Document.class).get("$in"))
+                .isEqualTo(songIds);
+    }
+
+    private List<SongRegistrationService.AnalyzedSong> analyzedSongs(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    SongBeat beat = new SongBeat();
+                    beat.setBeats(List.of());
+                    beat.setSections(List.of());
+                    return new SongRegistrationService.AnalyzedSong(
+                            "곡 " + i, "가수", "song/" + i + ".mp3", 1L, beat, new SongLyrics());
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,84 @@
+package com.heungbuja.voice.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TtsPreloadServiceTest {
+
+    /** TtsPreloadService.getFixedResponses 개수 */
+    private static final int FIXED_RESPONSES = 16;
+
+    @TempDir
+    Path tempDir;
+
+    private final TtsAudioStore ttsAudioStore = new TtsAudioStore();
+    private final TtsService ttsService = mock(TtsService.class);
+    private final TtsWarmSet ttsWarmSet = mock(TtsWarmSet.class);
+    private final List<String> synthesized = new CopyOnWriteArrayList<>();
+    private TtsPreloadService preloadService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(ttsAudioStore, "storagePath", tempDir.toString());
+        when(ttsService.synthesize(anyString(), anyString())).thenAnswer(invocation -> {
+            synthesized.add(invocation.getArgument(1) + "|" + invocation.getArgument(0));
+            return "file-id";
+        });
+        when(ttsWarmSet.withoutRecording(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+
+        preloadService = new TtsPreloadService(ttsAudioStore, ttsService, ttsWarmSet);
+        ReflectionTestUtils.setField(preloadService, "ratePerSecond", 10_000.0);
+        ReflectionTestUtils.setField(preloadService, "topK", 10);
+        ReflectionTestUtils.setField(preloadService, "executor", Executors.newFixedThreadPool(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        preloadService.shutdown();
+    }
+
+    @Test
+    @DisplayName("음성 파일이 없는 고정 응답과 warm set 상위 문구만 생성한다.")
+    void generatesOnlyMissingFiles() {
+        ttsAudioStore.store("일시정지할게요", "default", () -> new byte[]{1});
+        ttsAudioStore.store("'고향의 봄' 틀어드릴게요", "default", () -> new byte[]{1});
+        when(ttsWarmSet.top(anyInt())).thenReturn(List.of(
+                new TtsWarmSet.Entry("'고향의 봄' 틀어드릴게요", "default", 30),
+                new TtsWarmSet.Entry("'아리랑' 틀어드릴게요", "default", 20),
+                new TtsWarmSet.Entry("일시정지할게요", "default", 10)));
+
+        preloadService.preloadWarmSet();
+
+        assertThat(synthesized)
+                .hasSize(FIXED_RESPONSES - 1 + 1)
+                .contains("default|'아리랑' 틀어드릴게요", "urgent|괜찮으세요? 대답해주세요!")
+                .doesNotContain("default|일시정지할게요", "default|'고향의 봄' 틀어드릴게요");
+    }
+
+    @Test
+    @DisplayName("warm set 조회에 실패해도 고정 응답은 생성한다.")
+    void fallsBackToFixedResponses() {
+        when(ttsWarmSet.top(anyInt())).thenThrow(new IllegalStateException("redis down"));
+
+        preloadService.preloadWarmSet();
+
+        assertThat(synthesized).hasSize(FIXED_RESPONSES);
+    }
+}
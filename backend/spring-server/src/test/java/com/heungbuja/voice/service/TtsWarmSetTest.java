@@ -0,0 +1,131 @@
+package com.heungbuja.voice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TtsWarmSetTest {
+
+    private static final String KEY = "tts:warm-set";
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSetOps = mock(ZSetOperations.class);
+    /** Redis에 반영된 점수 */
+    private final Map<String, Double> scores = new ConcurrentHashMap<>();
+    private TtsWarmSet warmSet;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOps);
+        when(zSetOps.incrementScore(eq(KEY), anyString(), anyDouble())).thenAnswer(invocation ->
+                scores.merge(invocation.getArgument(1), invocation.<Double>getArgument(2), Double::sum));
+        warmSet = new TtsWarmSet(stringRedisTemplate);
+        ReflectionTestUtils.setField(warmSet, "maxTracked", 1000);
+    }
+
+    @Test
+    @DisplayName("flush와 동시에 들어온 기록도 빠짐없이 Redis 점수에 반영된다.")
+    void keepsCountsRecordedDuringFlush() throws Exception {
+        int threads = 8;
+        int recordsPerThread = 20_000;
+        List<String> texts = List.of("일시정지할게요", "다음 곡을 재생할게요", "'고향의 봄' 틀어드릴게요");
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean flushing = new AtomicBoolean(true);
+        executor.execute(() -> {
+            while (flushing.get()) {
+                warmSet.flush();
+            }
+        });
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < recordsPerThread; i++) {
+                    warmSet.record(texts.get(i % texts.size()), "default");
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        flushing.set(false);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        warmSet.flush();
+
+        double total = scores.values().stream().mapToDouble(Double::doubleValue).sum();
+        assertThat(total).isEqualTo((double) threads * recordsPerThread);
+        assertThat(scores).containsOnlyKeys(texts.stream().map(text -> "default|" + text).toList());
+    }
+
+    @Test
+    @DisplayName("Redis 반영에 실패한 빈도는 다음 flush에서 다시 반영한다.")
+    void retriesAfterRedisFailure() {
+        doThrow(new RedisConnectionFailureException("down"))
+                .doAnswer(invocation ->
+                        scores.merge(invocation.getArgument(1), invocation.<Double>getArgument(2), Double::sum))
+                .when(zSetOps).incrementScore(eq(KEY), anyString(), anyDouble());
+        warmSet.record("일시정지할게요", "default");
+        warmSet.record("일시정지할게요", "default");
+
+        warmSet.flush();
+        assertThat(scores).isEmpty();
+
+        warmSet.flush();
+        assertThat(scores).containsEntry("default|일시정지할게요", 2.0);
+    }
+
+    @Test
+    @DisplayName("사전 생성 중의 합성 요청과 빈 문구는 기록하지 않는다.")
+    void skipsSuppressedAndBlank() {
+        warmSet.withoutRecording(() -> {
+            warmSet.record("일시정지할게요", "default");
+            return null;
+        });
+        warmSet.record(" ", "default");
+        warmSet.record("종료할게요", null);
+
+        warmSet.flush();
+
+        assertThat(scores).containsOnlyKeys("default|종료할게요");
+    }
+
+    @Test
+    @DisplayName("top은 점수 높은 순 항목을 음성 타입과 문구로 나눠 돌려준다.")
+    void parsesTopEntries() {
+        Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+        tuples.add(new DefaultTypedTuple<>("calm|죄송합니다. 다시 한번 말씀해주세요", 12.0));
+        tuples.add(new DefaultTypedTuple<>("default|가수|제목이 들어간 문구", 3.0));
+        tuples.add(new DefaultTypedTuple<>("구분자 없는 항목", 1.0));
+        when(zSetOps.reverseRangeWithScores(eq(KEY), anyLong(), anyLong())).thenReturn(tuples);
+
+        assertThat(warmSet.top(10)).containsExactly(
+                new TtsWarmSet.Entry("죄송합니다. 다시 한번 말씀해주세요", "calm", 12.0),
+                new TtsWarmSet.Entry("가수|제목이 들어간 문구", "default", 3.0));
+    }
+}